@@ -0,0 +1,87 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.JcaCertManager;
+import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link CertManager} implementations when issuing a certificate signed by a CA,
+ * the way {@code Ca.generateSignedCert()} does for each user or broker certificate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CertManagerBenchmark {
+
+    @Param({"openssl", "jca"})
+    public String certManager;
+
+    private CertManager manager;
+    private File caKey;
+    private File caCert;
+    private File key;
+    private File csr;
+    private File cert;
+    private File keyStore;
+    private Subject subject;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        manager = "openssl".equals(certManager) ? new OpenSslCertManager() : new JcaCertManager();
+        caKey = File.createTempFile("ca-key-", ".key");
+        caCert = File.createTempFile("ca-crt-", ".crt");
+        key = File.createTempFile("key-", ".key");
+        csr = File.createTempFile("csr-", ".csr");
+        cert = File.createTempFile("crt-", ".crt");
+        keyStore = File.createTempFile("store-", ".p12");
+
+        Subject caSubject = new Subject();
+        caSubject.setOrganizationName("io.strimzi");
+        caSubject.setCommonName("clients-ca");
+        manager.generateSelfSignedCert(caKey, caCert, caSubject, 365);
+
+        subject = new Subject();
+        subject.setCommonName("my-user");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (File file : new File[] {caKey, caCert, key, csr, cert, keyStore}) {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    @Benchmark
+    public File generateSignedCert() throws IOException {
+        manager.generateCsr(key, csr, subject);
+        manager.generateCert(csr, caKey, caCert, cert, subject, 365);
+        manager.addKeyAndCertToKeyStore(key, cert, subject.commonName(), keyStore, "password");
+        return keyStore;
+    }
+}
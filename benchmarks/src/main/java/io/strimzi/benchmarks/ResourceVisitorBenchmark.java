@@ -0,0 +1,65 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaConnect;
+import io.strimzi.operator.common.model.ResourceVisitor;
+import io.strimzi.operator.common.model.ValidationVisitor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation of a custom resource the way {@code AbstractOperator.validate()} does it
+ * on every reconciliation, using the metrics examples as representative {@code Kafka} and {@code KafkaConnect} CRs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ResourceVisitorBenchmark {
+
+    private static final Logger LOGGER = LogManager.getLogger(ResourceVisitorBenchmark.class);
+
+    @Param({"Kafka", "KafkaConnect"})
+    public String kind;
+
+    private HasMetadata resource;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Class<? extends HasMetadata> cls = "Kafka".equals(kind) ? Kafka.class : KafkaConnect.class;
+        try (InputStream stream = ResourceVisitorBenchmark.class.getResourceAsStream(kind + ".yaml")) {
+            resource = new ObjectMapper(new YAMLFactory()).readValue(stream, cls);
+        }
+    }
+
+    @Benchmark
+    public HasMetadata validate() {
+        ResourceVisitor.visit(resource, new ValidationVisitor(resource, LOGGER));
+        return resource;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Minimal DER encoder and decoder, supporting just what is needed by the {@link JcaCertManager}
+ * for building certificates and certificate signing requests.
+ */
+class Der {
+    static final int BOOLEAN = 0x01;
+    static final int INTEGER = 0x02;
+    static final int BIT_STRING = 0x03;
+    static final int OCTET_STRING = 0x04;
+    static final int NULL = 0x05;
+    static final int OBJECT_IDENTIFIER = 0x06;
+    static final int UTF8_STRING = 0x0c;
+    static final int IA5_STRING = 0x16;
+    static final int UTC_TIME = 0x17;
+    static final int GENERALIZED_TIME = 0x18;
+    static final int SEQUENCE = 0x30;
+    static final int SET = 0x31;
+
+    private static final DateTimeFormatter UTC_TIME_FORMAT = DateTimeFormatter.ofPattern("yyMMddHHmmss'Z'");
+    private static final DateTimeFormatter GENERALIZED_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss'Z'");
+
+    private Der() { }
+
+    static byte[] tlv(int tag, byte[]... contents) {
+        int length = 0;
+        for (byte[] content : contents) {
+            length += content.length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length + 6);
+        out.write(tag);
+        if (length < 0x80) {
+            out.write(length);
+        } else {
+            int bytes = (Integer.SIZE - Integer.numberOfLeadingZeros(length) + 7) / 8;
+            out.write(0x80 | bytes);
+            for (int i = bytes - 1; i >= 0; i--) {
+                out.write(length >>> (8 * i));
+            }
+        }
+        for (byte[] content : contents) {
+            out.write(content, 0, content.length);
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] sequence(byte[]... contents) {
+        return tlv(SEQUENCE, contents);
+    }
+
+    static byte[] set(byte[]... contents) {
+        return tlv(SET, contents);
+    }
+
+    /**
+     * @param tag The tag number.
+     * @param contents The contents.
+     * @return A constructed context specific element, i.e. an explicit tag or an implicit tag of a constructed type.
+     */
+    static byte[] context(int tag, byte[]... contents) {
+        return tlv(0xa0 | tag, contents);
+    }
+
+    /**
+     * @param tag The tag number.
+     * @param contents The contents.
+     * @return A primitive context specific element, i.e. an implicit tag of a primitive type.
+     */
+    static byte[] contextPrimitive(int tag, byte[] contents) {
+        return tlv(0x80 | tag, contents);
+    }
+
+    static byte[] integer(BigInteger value) {
+        return tlv(INTEGER, value.toByteArray());
+    }
+
+    static byte[] integer(long value) {
+        return integer(BigInteger.valueOf(value));
+    }
+
+    static byte[] bool(boolean value) {
+        return tlv(BOOLEAN, new byte[] {(byte) (value ? 0xff : 0)});
+    }
+
+    static byte[] nul() {
+        return tlv(NULL);
+    }
+
+    static byte[] octetString(byte[] value) {
+        return tlv(OCTET_STRING, value);
+    }
+
+    static byte[] bitString(byte[] value) {
+        return tlv(BIT_STRING, new byte[] {0}, value);
+    }
+
+    static byte[] utf8String(String value) {
+        return tlv(UTF8_STRING, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static byte[] ia5String(String value) {
+        return tlv(IA5_STRING, value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param dateTime The time.
+     * @return The time encoded as UTCTime until 2049 and GeneralizedTime from 2050, as per RFC 5280.
+     */
+    static byte[] time(ZonedDateTime dateTime) {
+        ZonedDateTime utc = dateTime.withZoneSameInstant(ZoneOffset.UTC);
+        if (utc.getYear() < 2050) {
+            return tlv(UTC_TIME, UTC_TIME_FORMAT.format(utc).getBytes(StandardCharsets.US_ASCII));
+        } else {
+            return tlv(GENERALIZED_TIME, GENERALIZED_TIME_FORMAT.format(utc).getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    static byte[] oid(String oid) {
+        String[] arcs = oid.split("\\.");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeArc(out, Long.parseLong(arcs[0]) * 40 + Long.parseLong(arcs[1]));
+        for (int i = 2; i < arcs.length; i++) {
+            writeArc(out, Long.parseLong(arcs[i]));
+        }
+        return tlv(OBJECT_IDENTIFIER, out.toByteArray());
+    }
+
+    private static void writeArc(ByteArrayOutputStream out, long arc) {
+        int groups = Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(arc) + 6) / 7);
+        for (int i = groups - 1; i >= 0; i--) {
+            int group = (int) (arc >>> (7 * i)) & 0x7f;
+            out.write(i == 0 ? group : group | 0x80);
+        }
+    }
+
+    /**
+     * Decodes a single DER element.
+     * @param der The DER encoding.
+     * @return The element.
+     * @throws IllegalArgumentException If the encoding is not valid.
+     */
+    static Element decode(byte[] der) {
+        Element element = decode(der, 0);
+        if (element.end != der.length) {
+            throw new IllegalArgumentException("Trailing data after DER element");
+        }
+        return element;
+    }
+
+    private static Element decode(byte[] der, int offset) {
+        if (offset + 2 > der.length) {
+            throw new IllegalArgumentException("Truncated DER element");
+        }
+        int tag = der[offset] & 0xff;
+        int length = der[offset + 1] & 0xff;
+        int contentOffset = offset + 2;
+        if (length >= 0x80) {
+            int bytes = length & 0x7f;
+            if (bytes == 0 || bytes > 3) {
+                throw new IllegalArgumentException("Unsupported DER length");
+            }
+            length = 0;
+            for (int i = 0; i < bytes; i++) {
+                length = (length << 8) | (der[contentOffset++] & 0xff);
+            }
+        }
+        if (contentOffset + length > der.length) {
+            throw new IllegalArgumentException("Truncated DER element");
+        }
+        return new Element(der, tag, offset, contentOffset, contentOffset + length);
+    }
+
+    /**
+     * A decoded DER element, which refers to the encoding it was decoded from.
+     */
+    static class Element {
+        private final byte[] der;
+        final int tag;
+        private final int offset;
+        private final int contentOffset;
+        private final int end;
+
+        private Element(byte[] der, int tag, int offset, int contentOffset, int end) {
+            this.der = der;
+            this.tag = tag;
+            this.offset = offset;
+            this.contentOffset = contentOffset;
+            this.end = end;
+        }
+
+        /**
+         * @return The whole encoding of this element, including the tag and the length.
+         */
+        byte[] encoded() {
+            return Arrays.copyOfRange(der, offset, end);
+        }
+
+        /**
+         * @return The contents of this element.
+         */
+        byte[] contents() {
+            return Arrays.copyOfRange(der, contentOffset, end);
+        }
+
+        /**
+         * @return The elements contained in this constructed element.
+         */
+        List<Element> children() {
+            List<Element> children = new ArrayList<>();
+            int childOffset = contentOffset;
+            while (childOffset < end) {
+                Element child = decode(der, childOffset);
+                children.add(child);
+                childOffset = child.end;
+            }
+            return children;
+        }
+
+        /**
+         * @param expectedTag The expected tag.
+         * @return This element.
+         * @throws IllegalArgumentException If this element has a different tag.
+         */
+        Element expect(int expectedTag) {
+            if (tag != expectedTag) {
+                throw new IllegalArgumentException("Unexpected DER tag " + tag + ", expected " + expectedTag);
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A certificates manager which generates the keys, the certificate signing requests and the certificates
+ * in-process, using only the JCA, rather than running {@code openssl} like the {@link OpenSslCertManager}.
+ * No temporary files are used: only the given files are read and written.</p>
+ *
+ * <p>The output is compatible with the {@link OpenSslCertManager}: 2048 bit RSA keys in PEM encoded PKCS#8,
+ * PEM encoded certificates and certificate signing requests signed with SHA-256, and PKCS#12 stores.
+ * As with {@code openssl}, self-signed certificates are CA certificates, unless they have subject alternative
+ * names, and the subject alternative names are the only extensions of the other certificates.</p>
+ */
+public class JcaCertManager implements CertManager {
+    private static final String RSA_ENCRYPTION = "1.2.840.113549.1.1.1";
+    private static final String SHA256_WITH_RSA_ENCRYPTION = "1.2.840.113549.1.1.11";
+    private static final String EXTENSION_REQUEST = "1.2.840.113549.1.9.14";
+    private static final String ORGANIZATION_NAME = "2.5.4.10";
+    private static final String COMMON_NAME = "2.5.4.3";
+    private static final String SUBJECT_KEY_IDENTIFIER = "2.5.29.14";
+    private static final String SUBJECT_ALT_NAME = "2.5.29.17";
+    private static final String BASIC_CONSTRAINTS = "2.5.29.19";
+    private static final String AUTHORITY_KEY_IDENTIFIER = "2.5.29.35";
+
+    private static final int KEY_SIZE = 2048;
+    // Same number of random bits as openssl uses for the serial numbers
+    private static final int SERIAL_BITS = 159;
+
+    private static final String DEFAULT_ORGANIZATION_NAME = "io.strimzi";
+
+    private static final String PRIVATE_KEY = "PRIVATE KEY";
+    private static final String RSA_PRIVATE_KEY = "RSA PRIVATE KEY";
+    private static final String CERTIFICATE = "CERTIFICATE";
+    private static final String CERTIFICATE_REQUEST = "CERTIFICATE REQUEST";
+
+    private final SecureRandom random = new SecureRandom();
+
+    public JcaCertManager() {}
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, null, days);
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        try {
+            KeyPair keyPair = generateKeyPair();
+            byte[] cert = selfSignedCert(keyPair.getPrivate(), keyPair.getPublic(), sbj, days);
+            writePem(keyFile, PRIVATE_KEY, keyPair.getPrivate().getEncoded());
+            writePem(certFile, CERTIFICATE, cert);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to generate the self-signed certificate", e);
+        }
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        try {
+            PrivateKey privateKey = privateKey(Files.readAllBytes(keyFile.toPath()));
+            writePem(certFile, CERTIFICATE, selfSignedCert(privateKey, publicKey(privateKey), sbj, days));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to renew the self-signed certificate", e);
+        }
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        X509Certificate certificate;
+        try (InputStream is = new FileInputStream(certFile)) {
+            certificate = (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(is);
+        }
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        // the KeyStore class is able to create an empty store if the input stream is null
+        if (trustStoreFile.length() > 0) {
+            try (InputStream is = new FileInputStream(trustStoreFile)) {
+                trustStore.load(is, trustStorePassword.toCharArray());
+            }
+        } else {
+            trustStore.load(null, trustStorePassword.toCharArray());
+        }
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+        store(trustStore, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        try {
+            PrivateKey privateKey = privateKey(Files.readAllBytes(keyFile.toPath()));
+            Certificate certificate;
+            try (InputStream is = new FileInputStream(certFile)) {
+                certificate = CertificateFactory.getInstance("X.509").generateCertificate(is);
+            }
+
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(null, keyStorePassword.toCharArray());
+            keyStore.setKeyEntry(alias, privateKey, keyStorePassword.toCharArray(), new Certificate[] {certificate});
+            store(keyStore, keyStoreFile, keyStorePassword);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to create the keystore", e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        try (InputStream is = new FileInputStream(trustStoreFile)) {
+            trustStore.load(is, trustStorePassword.toCharArray());
+        }
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        store(trustStore, trustStoreFile, trustStorePassword);
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        try {
+            KeyPair keyPair = generateKeyPair();
+            byte[] attributes = new byte[0];
+            if (hasSubjectAltNames(sbj)) {
+                attributes = Der.sequence(Der.oid(EXTENSION_REQUEST), Der.set(Der.sequence(subjectAltNameExtension(sbj))));
+            }
+            byte[] certificationRequestInfo = Der.sequence(
+                    Der.integer(0),
+                    name(sbj),
+                    keyPair.getPublic().getEncoded(),
+                    Der.context(0, attributes));
+            byte[] csr = Der.sequence(
+                    certificationRequestInfo,
+                    signatureAlgorithm(),
+                    Der.bitString(sign(keyPair.getPrivate(), certificationRequestInfo)));
+            writePem(keyFile, PRIVATE_KEY, keyPair.getPrivate().getEncoded());
+            writePem(csrFile, CERTIFICATE_REQUEST, csr);
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to generate the certificate signing request", e);
+        }
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, int days) throws IOException {
+        generateCert(csrFile, caKey, caCert, crtFile, null, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        try {
+            // CertificationRequest ::= SEQUENCE { certificationRequestInfo, signatureAlgorithm, signature }
+            List<Der.Element> csr = Der.decode(pem(Files.readAllBytes(csrFile.toPath()), CERTIFICATE_REQUEST))
+                    .expect(Der.SEQUENCE).children();
+            Der.Element certificationRequestInfo = csr.get(0).expect(Der.SEQUENCE);
+            // CertificationRequestInfo ::= SEQUENCE { version, subject, subjectPKInfo, attributes }
+            List<Der.Element> info = certificationRequestInfo.children();
+            byte[] subject = info.get(1).expect(Der.SEQUENCE).encoded();
+            PublicKey publicKey = KeyFactory.getInstance("RSA")
+                    .generatePublic(new X509EncodedKeySpec(info.get(2).expect(Der.SEQUENCE).encoded()));
+            verify(publicKey, csr.get(1), certificationRequestInfo.encoded(), csr.get(2));
+
+            X509Certificate ca = (X509Certificate) CertificateFactory.getInstance("X.509")
+                    .generateCertificate(new ByteArrayInputStream(caCert));
+            List<byte[]> extensions = new ArrayList<>(1);
+            if (hasSubjectAltNames(sbj)) {
+                extensions.add(subjectAltNameExtension(sbj));
+            }
+            byte[] cert = cert(privateKey(caKey), ca.getSubjectX500Principal().getEncoded(), subject, publicKey, days, extensions);
+            writePem(crtFile, CERTIFICATE, cert);
+        } catch (GeneralSecurityException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("Failed to generate the certificate from " + csrFile, e);
+        }
+    }
+
+    private KeyPair generateKeyPair() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(KEY_SIZE, random);
+        return generator.generateKeyPair();
+    }
+
+    private byte[] selfSignedCert(PrivateKey privateKey, PublicKey publicKey, Subject sbj, int days) throws GeneralSecurityException {
+        List<byte[]> extensions = new ArrayList<>(3);
+        if (hasSubjectAltNames(sbj)) {
+            extensions.add(subjectAltNameExtension(sbj));
+        } else {
+            byte[] keyIdentifier = keyIdentifier(publicKey);
+            extensions.add(extension(SUBJECT_KEY_IDENTIFIER, false, Der.octetString(keyIdentifier)));
+            extensions.add(extension(AUTHORITY_KEY_IDENTIFIER, false, Der.sequence(Der.contextPrimitive(0, keyIdentifier))));
+            extensions.add(extension(BASIC_CONSTRAINTS, true, Der.sequence(Der.bool(true))));
+        }
+        byte[] name = name(sbj);
+        return cert(privateKey, name, name, publicKey, days, extensions);
+    }
+
+    /**
+     * Builds and signs a certificate, which is a version 3 certificate only if it has {@code extensions}.
+     */
+    private byte[] cert(PrivateKey issuerKey, byte[] issuer, byte[] subject, PublicKey publicKey, int days,
+                        List<byte[]> extensions) throws GeneralSecurityException {
+        ZonedDateTime notBefore = ZonedDateTime.now();
+        List<byte[]> tbsCertificate = new ArrayList<>(8);
+        if (!extensions.isEmpty()) {
+            tbsCertificate.add(Der.context(0, Der.integer(2)));
+        }
+        tbsCertificate.add(Der.integer(new BigInteger(SERIAL_BITS, random)));
+        tbsCertificate.add(signatureAlgorithm());
+        tbsCertificate.add(issuer);
+        tbsCertificate.add(Der.sequence(Der.time(notBefore), Der.time(notBefore.plusDays(days))));
+        tbsCertificate.add(subject);
+        tbsCertificate.add(publicKey.getEncoded());
+        if (!extensions.isEmpty()) {
+            tbsCertificate.add(Der.context(3, Der.sequence(extensions.toArray(new byte[0][]))));
+        }
+        byte[] tbs = Der.sequence(tbsCertificate.toArray(new byte[0][]));
+        return Der.sequence(tbs, signatureAlgorithm(), Der.bitString(sign(issuerKey, tbs)));
+    }
+
+    /**
+     * @return The name for the given subject, with the same attributes and order as {@code openssl -subj}.
+     * Without a subject, the name only has the {@value #DEFAULT_ORGANIZATION_NAME} organization, since certificates
+     * can't have an empty issuer.
+     */
+    private static byte[] name(Subject sbj) {
+        List<byte[]> rdns = new ArrayList<>(2);
+        if (sbj != null && sbj.organizationName() != null) {
+            rdns.add(Der.set(Der.sequence(Der.oid(ORGANIZATION_NAME), Der.utf8String(sbj.organizationName()))));
+        }
+        if (sbj != null && sbj.commonName() != null) {
+            rdns.add(Der.set(Der.sequence(Der.oid(COMMON_NAME), Der.utf8String(sbj.commonName()))));
+        }
+        if (rdns.isEmpty()) {
+            rdns.add(Der.set(Der.sequence(Der.oid(ORGANIZATION_NAME), Der.utf8String(DEFAULT_ORGANIZATION_NAME))));
+        }
+        return Der.sequence(rdns.toArray(new byte[0][]));
+    }
+
+    private static boolean hasSubjectAltNames(Subject sbj) {
+        return sbj != null && sbj.subjectAltNames() != null && sbj.subjectAltNames().size() > 0;
+    }
+
+    /**
+     * @return The subject alternative names extension, from names in the same {@code DNS.n} and {@code IP.n}
+     * format as in an openssl configuration file.
+     */
+    private static byte[] subjectAltNameExtension(Subject sbj) throws GeneralSecurityException {
+        List<byte[]> names = new ArrayList<>(sbj.subjectAltNames().size());
+        for (Map.Entry<String, String> entry : sbj.subjectAltNames().entrySet()) {
+            String type = entry.getKey().contains(".") ? entry.getKey().substring(0, entry.getKey().indexOf('.')) : entry.getKey();
+            if ("DNS".equals(type)) {
+                names.add(Der.contextPrimitive(2, entry.getValue().getBytes(StandardCharsets.US_ASCII)));
+            } else if ("IP".equals(type)) {
+                names.add(Der.contextPrimitive(7, ipAddress(entry.getValue())));
+            } else {
+                throw new GeneralSecurityException("Unsupported subject alternative name " + entry.getKey());
+            }
+        }
+        return extension(SUBJECT_ALT_NAME, false, Der.sequence(names.toArray(new byte[0][])));
+    }
+
+    private static byte[] ipAddress(String address) throws GeneralSecurityException {
+        // Only literal addresses are accepted, so that no name resolution happens
+        if (!address.matches("[0-9.]+|[0-9a-fA-F:.]*:[0-9a-fA-F:.]*")) {
+            throw new GeneralSecurityException("Invalid IP address " + address);
+        }
+        try {
+            return InetAddress.getByName(address).getAddress();
+        } catch (IOException e) {
+            throw new GeneralSecurityException("Invalid IP address " + address, e);
+        }
+    }
+
+    private static byte[] extension(String oid, boolean critical, byte[] value) {
+        if (critical) {
+            return Der.sequence(Der.oid(oid), Der.bool(true), Der.octetString(value));
+        } else {
+            return Der.sequence(Der.oid(oid), Der.octetString(value));
+        }
+    }
+
+    /**
+     * @return The SHA-1 hash of the public key, as used by openssl for the key identifiers.
+     */
+    private static byte[] keyIdentifier(PublicKey publicKey) throws NoSuchAlgorithmException {
+        // SubjectPublicKeyInfo ::= SEQUENCE { algorithm, subjectPublicKey BIT STRING }
+        byte[] bitString = Der.decode(publicKey.getEncoded()).children().get(1).expect(Der.BIT_STRING).contents();
+        MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+        // Skip the unused bits byte of the bit string
+        sha1.update(bitString, 1, bitString.length - 1);
+        return sha1.digest();
+    }
+
+    private static byte[] signatureAlgorithm() {
+        return Der.sequence(Der.oid(SHA256_WITH_RSA_ENCRYPTION), Der.nul());
+    }
+
+    private static byte[] sign(PrivateKey privateKey, byte[] data) throws GeneralSecurityException {
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(privateKey);
+        signature.update(data);
+        return signature.sign();
+    }
+
+    private static void verify(PublicKey publicKey, Der.Element algorithm, byte[] data, Der.Element signatureBits) throws GeneralSecurityException {
+        if (!Arrays.equals(Der.oid(SHA256_WITH_RSA_ENCRYPTION), algorithm.expect(Der.SEQUENCE).children().get(0).encoded())) {
+            throw new GeneralSecurityException("Unsupported certificate signing request signature algorithm");
+        }
+        byte[] bitString = signatureBits.expect(Der.BIT_STRING).contents();
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initVerify(publicKey);
+        signature.update(data);
+        if (!signature.verify(bitString, 1, bitString.length - 1)) {
+            throw new GeneralSecurityException("Invalid certificate signing request signature");
+        }
+    }
+
+    /**
+     * @return The private key, from either a PKCS#8 or a PKCS#1 PEM encoded RSA key.
+     */
+    private static PrivateKey privateKey(byte[] pem) throws GeneralSecurityException {
+        String text = new String(pem, StandardCharsets.US_ASCII);
+        byte[] pkcs8;
+        if (text.contains("-----BEGIN " + RSA_PRIVATE_KEY + "-----")) {
+            // PrivateKeyInfo ::= SEQUENCE { version, privateKeyAlgorithm, privateKey OCTET STRING }
+            pkcs8 = Der.sequence(Der.integer(0), Der.sequence(Der.oid(RSA_ENCRYPTION), Der.nul()),
+                    Der.octetString(pem(pem, RSA_PRIVATE_KEY)));
+        } else {
+            pkcs8 = pem(pem, PRIVATE_KEY);
+        }
+        return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(pkcs8));
+    }
+
+    private static PublicKey publicKey(PrivateKey privateKey) throws GeneralSecurityException {
+        if (!(privateKey instanceof RSAPrivateCrtKey)) {
+            throw new GeneralSecurityException("Unsupported private key");
+        }
+        RSAPrivateCrtKey key = (RSAPrivateCrtKey) privateKey;
+        return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(key.getModulus(), key.getPublicExponent()));
+    }
+
+    private static byte[] pem(byte[] pem, String type) throws GeneralSecurityException {
+        String text = new String(pem, StandardCharsets.US_ASCII);
+        String begin = "-----BEGIN " + type + "-----";
+        String end = "-----END " + type + "-----";
+        int beginIndex = text.indexOf(begin);
+        int endIndex = text.indexOf(end);
+        if (beginIndex < 0 || endIndex < beginIndex) {
+            throw new GeneralSecurityException("No PEM encoded " + type + " found");
+        }
+        return Base64.getMimeDecoder().decode(text.substring(beginIndex + begin.length(), endIndex));
+    }
+
+    private static void writePem(File file, String type, byte[] der) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("-----BEGIN " + type + "-----\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(Base64.getMimeEncoder(64, new byte[] {'\n'}).encode(der));
+        out.write(("\n-----END " + type + "-----\n").getBytes(StandardCharsets.US_ASCII));
+        Files.write(file.toPath(), out.toByteArray());
+    }
+
+    private static void store(KeyStore store, File file, String password)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        try (OutputStream os = new FileOutputStream(file)) {
+            store.store(os, password.toCharArray());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.security.KeyStore;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Runs the {@link OpenSslCertManagerTest} tests against the {@link JcaCertManager}.
+ */
+public class JcaCertManagerTest extends OpenSslCertManagerTest {
+
+    @BeforeAll
+    public static void before() throws CertificateException {
+        certFactory = CertificateFactory.getInstance("X.509");
+        ssl = new JcaCertManager();
+    }
+
+    @Test
+    public void testSelfSignedCertIsCa() throws Exception {
+        File key = File.createTempFile("key-", ".key");
+        File cert = File.createTempFile("crt-", ".crt");
+        Subject sbj = new Subject();
+        sbj.setCommonName("MyCommonName");
+
+        ssl.generateSelfSignedCert(key, cert, sbj, 365);
+        X509Certificate x509Certificate = (X509Certificate) certFactory.generateCertificate(new FileInputStream(cert));
+        assertThat(x509Certificate.getBasicConstraints(), is(Integer.MAX_VALUE));
+        assertThat(x509Certificate.getVersion(), is(3));
+
+        ssl.renewSelfSignedCert(key, cert, sbj, 365);
+        X509Certificate renewed = (X509Certificate) certFactory.generateCertificate(new FileInputStream(cert));
+        assertThat(renewed.getBasicConstraints(), is(Integer.MAX_VALUE));
+        assertThat(renewed.getPublicKey(), is(x509Certificate.getPublicKey()));
+        renewed.verify(x509Certificate.getPublicKey());
+
+        key.delete();
+        cert.delete();
+    }
+
+    @Test
+    public void testIpSubjectAltNames() throws Exception {
+        File caKey = File.createTempFile("ca-key-", ".key");
+        File caCert = File.createTempFile("ca-crt-", ".crt");
+        File key = File.createTempFile("key-", ".key");
+        File csr = File.createTempFile("csr-", ".csr");
+        File cert = File.createTempFile("crt-", ".crt");
+        Subject sbj = new Subject();
+        sbj.setCommonName("MyCommonName");
+        Map<String, String> subjectAltNames = new HashMap<>();
+        subjectAltNames.put("DNS.1", "example1.com");
+        subjectAltNames.put("IP.1", "10.0.0.1");
+        subjectAltNames.put("IP.2", "fd00::1");
+        sbj.setSubjectAltNames(subjectAltNames);
+
+        ssl.generateSelfSignedCert(caKey, caCert, 365);
+        ssl.generateCsr(key, csr, sbj);
+        ssl.generateCert(csr, caKey, caCert, cert, sbj, 365);
+
+        X509Certificate x509Certificate = (X509Certificate) certFactory.generateCertificate(new FileInputStream(cert));
+        Map<Object, Integer> sans = new HashMap<>();
+        for (List<?> san : x509Certificate.getSubjectAlternativeNames()) {
+            sans.put(san.get(1), (Integer) san.get(0));
+        }
+        assertThat(sans.get("example1.com"), is(2));
+        assertThat(sans.get("10.0.0.1"), is(7));
+        assertThat(sans.get("fd00:0:0:0:0:0:0:1"), is(7));
+
+        caKey.delete();
+        caCert.delete();
+        key.delete();
+        csr.delete();
+        cert.delete();
+    }
+
+    @Test
+    public void testInteroperabilityWithOpenSsl() throws Exception {
+        Assumptions.assumeTrue(System.getProperty("os.name").contains("nux"));
+        CertManager openSsl = new OpenSslCertManager();
+
+        File caKey = File.createTempFile("ca-key-", ".key");
+        File caCert = File.createTempFile("ca-crt-", ".crt");
+        File key = File.createTempFile("key-", ".key");
+        File csr = File.createTempFile("csr-", ".csr");
+        File cert = File.createTempFile("crt-", ".crt");
+        File store = File.createTempFile("store-", ".p12");
+        Subject caSbj = new Subject();
+        caSbj.setCommonName("CACommonName");
+        Subject sbj = new Subject();
+        sbj.setCommonName("MyCommonName");
+        sbj.setOrganizationName("MyOrganization");
+
+        // openssl signs a CSR generated by this cert manager
+        ssl.generateSelfSignedCert(caKey, caCert, caSbj, 365);
+        ssl.generateCsr(key, csr, sbj);
+        openSsl.generateCert(csr, caKey, caCert, cert, 365);
+        X509Certificate ca = (X509Certificate) certFactory.generateCertificate(new FileInputStream(caCert));
+        X509Certificate signed = (X509Certificate) certFactory.generateCertificate(new FileInputStream(cert));
+        signed.verify(ca.getPublicKey());
+        assertThat(signed.getSubjectDN().getName(), is("CN=MyCommonName, O=MyOrganization"));
+
+        // and this cert manager signs a CSR generated by openssl, with an openssl generated CA
+        openSsl.generateSelfSignedCert(caKey, caCert, caSbj, 365);
+        openSsl.generateCsr(key, csr, sbj);
+        ssl.generateCert(csr, caKey, caCert, cert, 365);
+        ca = (X509Certificate) certFactory.generateCertificate(new FileInputStream(caCert));
+        signed = (X509Certificate) certFactory.generateCertificate(new FileInputStream(cert));
+        signed.verify(ca.getPublicKey());
+        assertThat(signed.getIssuerX500Principal(), is(ca.getSubjectX500Principal()));
+
+        // the keys generated by openssl can be stored
+        ssl.addKeyAndCertToKeyStore(key, cert, "user", store, "123456");
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(new FileInputStream(store), "123456".toCharArray());
+        assertThat(keyStore.getKey("user", "123456".toCharArray()), is(notNullValue()));
+
+        caKey.delete();
+        caCert.delete();
+        key.delete();
+        csr.delete();
+        cert.delete();
+        store.delete();
+    }
+}
@@ -54,7 +54,7 @@ public class ClusterOperator extends AbstractVerticle {
 
     private final KubernetesClient client;
     private final String namespace;
-    private final long reconciliationInterval;
+    private final ClusterOperatorConfig config;
 
     private final Map<String, Watch> watchByKind = new ConcurrentHashMap<>();
 
@@ -68,7 +68,7 @@ public class ClusterOperator extends AbstractVerticle {
     private final KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator;
 
     public ClusterOperator(String namespace,
-                           long reconciliationInterval,
+                           ClusterOperatorConfig config,
                            KubernetesClient client,
                            KafkaAssemblyOperator kafkaAssemblyOperator,
                            KafkaConnectAssemblyOperator kafkaConnectAssemblyOperator,
@@ -80,7 +80,7 @@ public class ClusterOperator extends AbstractVerticle {
                            MetricsProvider metricsProvider) {
         log.info("Creating ClusterOperator for namespace {}", namespace);
         this.namespace = namespace;
-        this.reconciliationInterval = reconciliationInterval;
+        this.config = config;
         this.client = client;
         this.kafkaAssemblyOperator = kafkaAssemblyOperator;
         this.kafkaConnectAssemblyOperator = kafkaConnectAssemblyOperator;
@@ -101,13 +101,18 @@ public class ClusterOperator extends AbstractVerticle {
         getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", 10, TimeUnit.SECONDS.toNanos(120));
 
         List<Future> watchFutures = new ArrayList<>(8);
-        List<AbstractOperator<?, ?>> operators = new ArrayList<>(asList(
-                kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
-                kafkaConnectAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator));
-        if (kafkaConnectS2IAssemblyOperator != null) {
-            operators.add(kafkaConnectS2IAssemblyOperator);
-        }
-        for (AbstractOperator<?, ?> operator : operators) {
+        for (AbstractOperator<?, ?> operator : operators()) {
+            if (config.getResourceCacheResyncIntervalMs() > 0) {
+                // Best-effort: until the cache is synced, the reads go to the Kubernetes API
+                operator.startCache(namespace, config.getResourceCacheResyncIntervalMs()).onComplete(res -> {
+                    if (res.succeeded()) {
+                        log.info("Started resource cache for {} operator", operator.kind());
+                    } else {
+                        log.warn("Failed to start resource cache for {} operator, it will be retried on the next resync", operator.kind(), res.cause());
+                    }
+                });
+            }
+
             watchFutures.add(operator.createWatch(namespace, operator.recreateWatch(namespace)).compose(w -> {
                 log.info("Opened watch for {} operator", operator.kind());
                 watchByKind.put(operator.kind(), w);
@@ -121,7 +126,7 @@ public class ClusterOperator extends AbstractVerticle {
         CompositeFuture.join(watchFutures)
                 .compose(f -> {
                     log.info("Setting up periodic reconciliation for namespace {}", namespace);
-                    this.reconcileTimer = vertx.setPeriodic(this.reconciliationInterval, res2 -> {
+                    this.reconcileTimer = vertx.setPeriodic(config.getReconciliationIntervalMs(), res2 -> {
                         log.info("Triggering periodic reconciliation for namespace {}...", namespace);
                         reconcileAll("timer");
                     });
@@ -141,10 +146,23 @@ public class ClusterOperator extends AbstractVerticle {
             }
             // TODO remove the watch from the watchByKind
         }
+        for (AbstractOperator<?, ?> operator : operators()) {
+            operator.stopCache(namespace);
+        }
         client.close();
         stop.complete();
     }
 
+    private List<AbstractOperator<?, ?>> operators() {
+        List<AbstractOperator<?, ?>> operators = new ArrayList<>(asList(
+                kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
+                kafkaConnectAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator));
+        if (kafkaConnectS2IAssemblyOperator != null) {
+            operators.add(kafkaConnectS2IAssemblyOperator);
+        }
+        return operators;
+    }
+
     /**
       Periodical reconciliation (in case we lost some event)
      */
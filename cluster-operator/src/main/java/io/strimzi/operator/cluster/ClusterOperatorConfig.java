@@ -39,6 +39,10 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_CREATE_CLUSTER_ROLES = "STRIMZI_CREATE_CLUSTER_ROLES";
     public static final String STRIMZI_IMAGE_PULL_POLICY = "STRIMZI_IMAGE_PULL_POLICY";
     public static final String STRIMZI_IMAGE_PULL_SECRETS = "STRIMZI_IMAGE_PULL_SECRETS";
+    public static final String STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS = "STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS";
+    public static final String STRIMZI_RECONCILIATION_WORKERS = "STRIMZI_RECONCILIATION_WORKERS";
+    public static final String STRIMZI_FULL_RECONCILIATION_SWEEPS = "STRIMZI_FULL_RECONCILIATION_SWEEPS";
+    public static final String STRIMZI_KAFKA_ROLLING_BATCH_SIZE = "STRIMZI_KAFKA_ROLLING_BATCH_SIZE";
 
     // Env vars for configuring images
     public static final String STRIMZI_KAFKA_IMAGES = "STRIMZI_KAFKA_IMAGES";
@@ -59,6 +63,10 @@ public class ClusterOperatorConfig {
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final long DEFAULT_OPERATION_TIMEOUT_MS = 300_000;
     public static final boolean DEFAULT_CREATE_CLUSTER_ROLES = false;
+    public static final long DEFAULT_RESOURCE_CACHE_RESYNC_INTERVAL_MS = 0; // Cache is disabled by default
+    public static final int DEFAULT_RECONCILIATION_WORKERS = 0; // Reconciliation queue is disabled by default
+    public static final int DEFAULT_FULL_RECONCILIATION_SWEEPS = 0; // Unchanged clusters are never skipped by default
+    public static final int DEFAULT_KAFKA_ROLLING_BATCH_SIZE = 1; // Kafka pods are rolled one at a time by default
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -67,6 +75,10 @@ public class ClusterOperatorConfig {
     private final KafkaVersion.Lookup versions;
     private final ImagePullPolicy imagePullPolicy;
     private final List<LocalObjectReference> imagePullSecrets;
+    private final long resourceCacheResyncIntervalMs;
+    private final int reconciliationWorkers;
+    private final int fullReconciliationSweeps;
+    private final int kafkaRollingBatchSize;
 
     /**
      * Constructor
@@ -80,13 +92,149 @@ public class ClusterOperatorConfig {
      * @param imagePullSecrets Set of secrets for pulling container images from secured repositories
      */
     public ClusterOperatorConfig(Set<String> namespaces, long reconciliationIntervalMs, long operationTimeoutMs, boolean createClusterRoles, KafkaVersion.Lookup versions, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets) {
-        this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
-        this.reconciliationIntervalMs = reconciliationIntervalMs;
-        this.operationTimeoutMs = operationTimeoutMs;
-        this.createClusterRoles = createClusterRoles;
-        this.versions = versions;
-        this.imagePullPolicy = imagePullPolicy;
-        this.imagePullSecrets = imagePullSecrets;
+        this(new Builder()
+                .withNamespaces(namespaces)
+                .withReconciliationIntervalMs(reconciliationIntervalMs)
+                .withOperationTimeoutMs(operationTimeoutMs)
+                .withCreateClusterRoles(createClusterRoles)
+                .withVersions(versions)
+                .withImagePullPolicy(imagePullPolicy)
+                .withImagePullSecrets(imagePullSecrets));
+    }
+
+    private ClusterOperatorConfig(Builder builder) {
+        this.namespaces = unmodifiableSet(new HashSet<>(builder.namespaces));
+        this.reconciliationIntervalMs = builder.reconciliationIntervalMs;
+        this.operationTimeoutMs = builder.operationTimeoutMs;
+        this.createClusterRoles = builder.createClusterRoles;
+        this.versions = builder.versions;
+        this.imagePullPolicy = builder.imagePullPolicy;
+        this.imagePullSecrets = builder.imagePullSecrets;
+        this.resourceCacheResyncIntervalMs = builder.resourceCacheResyncIntervalMs;
+        this.reconciliationWorkers = builder.reconciliationWorkers;
+        this.fullReconciliationSweeps = builder.fullReconciliationSweeps;
+        this.kafkaRollingBatchSize = builder.kafkaRollingBatchSize;
+    }
+
+    /**
+     * Builder for the Cluster Operator configuration. The options which are not set have their default values.
+     */
+    public static class Builder {
+        private Set<String> namespaces = Collections.singleton(AbstractWatchableResourceOperator.ANY_NAMESPACE);
+        private long reconciliationIntervalMs = DEFAULT_FULL_RECONCILIATION_INTERVAL_MS;
+        private long operationTimeoutMs = DEFAULT_OPERATION_TIMEOUT_MS;
+        private boolean createClusterRoles = DEFAULT_CREATE_CLUSTER_ROLES;
+        private KafkaVersion.Lookup versions;
+        private ImagePullPolicy imagePullPolicy;
+        private List<LocalObjectReference> imagePullSecrets;
+        private long resourceCacheResyncIntervalMs = DEFAULT_RESOURCE_CACHE_RESYNC_INTERVAL_MS;
+        private int reconciliationWorkers = DEFAULT_RECONCILIATION_WORKERS;
+        private int fullReconciliationSweeps = DEFAULT_FULL_RECONCILIATION_SWEEPS;
+        private int kafkaRollingBatchSize = DEFAULT_KAFKA_ROLLING_BATCH_SIZE;
+
+        /**
+         * @param namespaces namespace in which the operator will run and create resources
+         * @return  This builder
+         */
+        public Builder withNamespaces(Set<String> namespaces) {
+            this.namespaces = namespaces;
+            return this;
+        }
+
+        /**
+         * @param reconciliationIntervalMs    specify every how many milliseconds the reconciliation runs
+         * @return  This builder
+         */
+        public Builder withReconciliationIntervalMs(long reconciliationIntervalMs) {
+            this.reconciliationIntervalMs = reconciliationIntervalMs;
+            return this;
+        }
+
+        /**
+         * @param operationTimeoutMs    timeout for internal operations specified in milliseconds
+         * @return  This builder
+         */
+        public Builder withOperationTimeoutMs(long operationTimeoutMs) {
+            this.operationTimeoutMs = operationTimeoutMs;
+            return this;
+        }
+
+        /**
+         * @param createClusterRoles true to create the cluster roles
+         * @return  This builder
+         */
+        public Builder withCreateClusterRoles(boolean createClusterRoles) {
+            this.createClusterRoles = createClusterRoles;
+            return this;
+        }
+
+        /**
+         * @param versions The configured Kafka versions
+         * @return  This builder
+         */
+        public Builder withVersions(KafkaVersion.Lookup versions) {
+            this.versions = versions;
+            return this;
+        }
+
+        /**
+         * @param imagePullPolicy Image pull policy configured by the user
+         * @return  This builder
+         */
+        public Builder withImagePullPolicy(ImagePullPolicy imagePullPolicy) {
+            this.imagePullPolicy = imagePullPolicy;
+            return this;
+        }
+
+        /**
+         * @param imagePullSecrets Set of secrets for pulling container images from secured repositories
+         * @return  This builder
+         */
+        public Builder withImagePullSecrets(List<LocalObjectReference> imagePullSecrets) {
+            this.imagePullSecrets = imagePullSecrets;
+            return this;
+        }
+
+        /**
+         * @param resourceCacheResyncIntervalMs Resync interval of the local resource caches in milliseconds (0 disables the caches)
+         * @return  This builder
+         */
+        public Builder withResourceCacheResyncIntervalMs(long resourceCacheResyncIntervalMs) {
+            this.resourceCacheResyncIntervalMs = resourceCacheResyncIntervalMs;
+            return this;
+        }
+
+        /**
+         * @param reconciliationWorkers Maximum number of reconciliations of each kind running in parallel (0 disables the reconciliation queue)
+         * @return  This builder
+         */
+        public Builder withReconciliationWorkers(int reconciliationWorkers) {
+            this.reconciliationWorkers = reconciliationWorkers;
+            return this;
+        }
+
+        /**
+         * @param fullReconciliationSweeps Every how many reconciliations an unchanged Kafka cluster is fully reconciled (0 disables skipping unchanged clusters).
+         *                                 Unchanged clusters are recognized only from the resource cache, so it requires the cache to be enabled.
+         * @return  This builder
+         */
+        public Builder withFullReconciliationSweeps(int fullReconciliationSweeps) {
+            this.fullReconciliationSweeps = fullReconciliationSweeps;
+            return this;
+        }
+
+        /**
+         * @param kafkaRollingBatchSize Maximum number of Kafka pods restarted at the same time during a rolling restart
+         * @return  This builder
+         */
+        public Builder withKafkaRollingBatchSize(int kafkaRollingBatchSize) {
+            this.kafkaRollingBatchSize = kafkaRollingBatchSize;
+            return this;
+        }
+
+        public ClusterOperatorConfig build() {
+            return new ClusterOperatorConfig(this);
+        }
     }
 
     /**
@@ -128,7 +276,23 @@ public class ClusterOperatorConfig {
         boolean createClusterRoles = parseCreateClusterRoles(map.get(ClusterOperatorConfig.STRIMZI_CREATE_CLUSTER_ROLES));
         ImagePullPolicy imagePullPolicy = parseImagePullPolicy(map.get(ClusterOperatorConfig.STRIMZI_IMAGE_PULL_POLICY));
         List<LocalObjectReference> imagePullSecrets = parseImagePullSecrets(map.get(ClusterOperatorConfig.STRIMZI_IMAGE_PULL_SECRETS));
-        return new ClusterOperatorConfig(namespaces, reconciliationInterval, operationTimeout, createClusterRoles, lookup, imagePullPolicy, imagePullSecrets);
+        long resourceCacheResyncInterval = parseResourceCacheResyncInterval(map.get(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS));
+        int reconciliationWorkers = parseReconciliationWorkers(map.get(ClusterOperatorConfig.STRIMZI_RECONCILIATION_WORKERS));
+        int fullReconciliationSweeps = parseFullReconciliationSweeps(map.get(ClusterOperatorConfig.STRIMZI_FULL_RECONCILIATION_SWEEPS));
+        int kafkaRollingBatchSize = parseKafkaRollingBatchSize(map.get(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_BATCH_SIZE));
+        return new Builder()
+                .withNamespaces(namespaces)
+                .withReconciliationIntervalMs(reconciliationInterval)
+                .withOperationTimeoutMs(operationTimeout)
+                .withCreateClusterRoles(createClusterRoles)
+                .withVersions(lookup)
+                .withImagePullPolicy(imagePullPolicy)
+                .withImagePullSecrets(imagePullSecrets)
+                .withResourceCacheResyncIntervalMs(resourceCacheResyncInterval)
+                .withReconciliationWorkers(reconciliationWorkers)
+                .withFullReconciliationSweeps(fullReconciliationSweeps)
+                .withKafkaRollingBatchSize(kafkaRollingBatchSize)
+                .build();
 
     }
 
@@ -171,6 +335,61 @@ public class ClusterOperatorConfig {
         return operationTimeout;
     }
 
+    private static long parseResourceCacheResyncInterval(String resourceCacheResyncIntervalEnvVar) {
+        long resourceCacheResyncInterval = DEFAULT_RESOURCE_CACHE_RESYNC_INTERVAL_MS;
+
+        if (resourceCacheResyncIntervalEnvVar != null) {
+            resourceCacheResyncInterval = Long.parseLong(resourceCacheResyncIntervalEnvVar);
+        }
+
+        return resourceCacheResyncInterval;
+    }
+
+    private static int parseReconciliationWorkers(String reconciliationWorkersEnvVar) {
+        int reconciliationWorkers = DEFAULT_RECONCILIATION_WORKERS;
+
+        if (reconciliationWorkersEnvVar != null) {
+            reconciliationWorkers = Integer.parseInt(reconciliationWorkersEnvVar);
+
+            if (reconciliationWorkers < 0) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_RECONCILIATION_WORKERS
+                        + " cannot be negative");
+            }
+        }
+
+        return reconciliationWorkers;
+    }
+
+    private static int parseFullReconciliationSweeps(String fullReconciliationSweepsEnvVar) {
+        int fullReconciliationSweeps = DEFAULT_FULL_RECONCILIATION_SWEEPS;
+
+        if (fullReconciliationSweepsEnvVar != null) {
+            fullReconciliationSweeps = Integer.parseInt(fullReconciliationSweepsEnvVar);
+
+            if (fullReconciliationSweeps < 0) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_FULL_RECONCILIATION_SWEEPS
+                        + " cannot be negative");
+            }
+        }
+
+        return fullReconciliationSweeps;
+    }
+
+    private static int parseKafkaRollingBatchSize(String kafkaRollingBatchSizeEnvVar) {
+        int kafkaRollingBatchSize = DEFAULT_KAFKA_ROLLING_BATCH_SIZE;
+
+        if (kafkaRollingBatchSizeEnvVar != null) {
+            kafkaRollingBatchSize = Integer.parseInt(kafkaRollingBatchSizeEnvVar);
+
+            if (kafkaRollingBatchSize < 1) {
+                throw new InvalidConfigurationException(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_BATCH_SIZE
+                        + " must be at least 1");
+            }
+        }
+
+        return kafkaRollingBatchSize;
+    }
+
     private static boolean parseCreateClusterRoles(String createClusterRolesEnvVar) {
         boolean createClusterRoles = DEFAULT_CREATE_CLUSTER_ROLES;
 
@@ -303,6 +522,34 @@ public class ClusterOperatorConfig {
         return imagePullSecrets;
     }
 
+    /**
+     * @return  How many milliseconds between the relists of the local custom resource cache. 0 if the cache is disabled.
+     */
+    public long getResourceCacheResyncIntervalMs() {
+        return resourceCacheResyncIntervalMs;
+    }
+
+    /**
+     * @return  Maximum number of reconciliations of each kind running in parallel. 0 if the reconciliation queue is disabled.
+     */
+    public int getReconciliationWorkers() {
+        return reconciliationWorkers;
+    }
+
+    /**
+     * @return  Every how many reconciliations an unchanged Kafka cluster is fully reconciled. 0 if unchanged clusters are never skipped.
+     */
+    public int getFullReconciliationSweeps() {
+        return fullReconciliationSweeps;
+    }
+
+    /**
+     * @return  Maximum number of Kafka pods restarted at the same time during a rolling restart.
+     */
+    public int getKafkaRollingBatchSize() {
+        return kafkaRollingBatchSize;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -313,6 +560,10 @@ public class ClusterOperatorConfig {
                 ",versions=" + versions +
                 ",imagePullPolicy=" + imagePullPolicy +
                 ",imagePullSecrets=" + imagePullSecrets +
+                ",resourceCacheResyncIntervalMs=" + resourceCacheResyncIntervalMs +
+                ",reconciliationWorkers=" + reconciliationWorkers +
+                ",fullReconciliationSweeps=" + fullReconciliationSweeps +
+                ",kafkaRollingBatchSize=" + kafkaRollingBatchSize +
                 ")";
     }
 }
@@ -19,6 +19,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
@@ -31,6 +32,10 @@ public class KafkaConfiguration extends AbstractConfiguration {
     public static final String INTERBROKER_PROTOCOL_VERSION = "inter.broker.protocol.version";
     public static final String LOG_MESSAGE_FORMAT_VERSION = "log.message.format.version";
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    /** The config models which have already been read, keyed by Kafka version */
+    private static final Map<String, Map<String, ConfigModel>> CONFIG_MODELS = new ConcurrentHashMap<>();
+
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
@@ -97,22 +102,26 @@ public class KafkaConfiguration extends AbstractConfiguration {
 
     /**
      * Gets the config model for the given version of the Kafka broker.
+     * The config model is read from the classpath only once for each version and the same, unmodifiable,
+     * map is returned by the subsequent calls.
      * @param kafkaVersion The broker version.
      * @return The config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
-        try {
-            try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
-                ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                if (!kafkaVersion.version().equals(configModels.getVersion())) {
-                    throw new RuntimeException("Incorrect version");
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion.version(), version -> {
+            String name = "/kafka-" + version + "-config-model.json";
+            try {
+                try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
+                    ConfigModels configModels = MAPPER.readValue(in, ConfigModels.class);
+                    if (!version.equals(configModels.getVersion())) {
+                        throw new RuntimeException("Incorrect version");
+                    }
+                    return Collections.unmodifiableMap(configModels.getConfigs());
                 }
-                return configModels.getConfigs();
+            } catch (IOException e) {
+                throw new RuntimeException("Error reading from classpath resource " + name, e);
             }
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading from classpath resource " + name, e);
-        }
+        });
     }
 
     /**
@@ -341,12 +341,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
         return CompositeFuture.join(
-                apiClient.list(host, port),
+                apiClient.listWithStatusAndInfo(host, port),
                 connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
                 apiClient.listConnectorPlugins(host, port),
                 apiClient.updateConnectLoggers(host, port, desiredLogging)
         ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+            Map<String, Map<String, Object>> runningConnectors = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
@@ -357,16 +357,16 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 connectorsResourceCounter.set(desiredConnectors.size());
             }
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(runningConnectors.keySet());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             log.debug("{}: {} cluster: delete connectors: {}", reconciliation, kind(), deleteConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
-                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null)
+                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null, runningConnectors)
             );
 
             log.debug("{}: {} cluster: required connectors: {}", reconciliation, kind(), desiredConnectors);
             Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector, runningConnectors));
 
             return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
         }).recover(error -> {
@@ -394,12 +394,31 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    /**
+     * Reconciles a single connector and records the result in the connector metrics.
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param useResources Whether the connectors are managed using KafkaConnector resources.
+     * @param connectorName The connector name.
+     * @param connector The KafkaConnector resource, or null if the connector should be deleted.
+     * @param runningConnectors The running connectors with their status and info, as returned by
+     *                          {@link KafkaConnectApi#listWithStatusAndInfo(String, int)}, or null to get the
+     *                          connector config and status from the REST API.
+     * @return A future which completes when the connector has been reconciled.
+     */
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                           boolean useResources, String connectorName, KafkaConnector connector,
+                                                           Map<String, Map<String, Object>> runningConnectors) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         connectorsReconciliationsCounter.increment();
         Timer.Sample connectorsReconciliationsTimerSample = Timer.start(metrics.meterRegistry());
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, runningConnectors)
                 .onComplete(result -> {
                     connectorsReconciliationsTimerSample.stop(connectorsReconciliationsTimer);
 
@@ -416,7 +435,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<Void> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector,
+                                             Map<String, Map<String, Object>> runningConnectors) {
         if (connector == null) {
             if (useResources) {
                 log.info("{}: deleting connector: {}", reconciliation, connectorName);
@@ -435,7 +455,10 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                         new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
                 Promise<Void> promise = Promise.promise();
-                maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec())
+                Future<Map<String, Object>> createOrUpdate = runningConnectors != null
+                        ? maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), runningConnectors)
+                        : maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec());
+                createOrUpdate
                         .onComplete(result -> {
                             if (result.succeeded()) {
                                 maybeUpdateConnectorStatus(reconciliation, connector, result.result(), null)
@@ -488,6 +511,47 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             });
     }
 
+    /**
+     * Like {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec)},
+     * but takes the current connector config and status from a snapshot of all the running connectors instead of
+     * requesting them from the REST API. So the REST API is only called for connectors which need to be created,
+     * reconfigured, paused or resumed.
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param runningConnectors The running connectors with their status and info, as returned by
+     *                          {@link KafkaConnectApi#listWithStatusAndInfo(String, int)}.
+     * @return A Future whose result, when successfully completed, is a map of the current connector state.
+     */
+    @SuppressWarnings("unchecked")
+    protected Future<Map<String, Object>> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                       String connectorName, KafkaConnectorSpec connectorSpec,
+                                                                       Map<String, Map<String, Object>> runningConnectors) {
+        Map<String, Object> running = runningConnectors.get(connectorName);
+        if (running == null) {
+            log.debug("{}: Connector {} does not exist", reconciliation, connectorName);
+            return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec);
+        }
+
+        Map<String, Object> info = (Map<String, Object>) running.get("info");
+        Map<String, Object> status = (Map<String, Object>) running.get("status");
+        if (info == null || !(info.get("config") instanceof Map) || status == null) {
+            // The connector was listed while it was being created or deleted => ask for it directly
+            return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec);
+        }
+
+        Map<String, String> config = (Map<String, String>) info.get("config");
+        if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
+            log.debug("{}: Connector {} exists and has desired config, {}=={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
+            return pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status);
+        } else {
+            log.debug("{}: Connector {} exists but does not have desired config, {}!={}", reconciliation, connectorName, connectorSpec.getConfig(), config);
+            return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec);
+        }
+    }
+
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> actual) {
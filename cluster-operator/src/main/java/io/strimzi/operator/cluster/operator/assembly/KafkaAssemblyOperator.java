@@ -6,8 +6,12 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
 import io.fabric8.kubernetes.api.model.LoadBalancerIngress;
 import io.fabric8.kubernetes.api.model.Node;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
@@ -25,8 +29,12 @@ import io.fabric8.kubernetes.api.model.rbac.RoleBinding;
 import io.fabric8.kubernetes.api.model.storage.StorageClass;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.openshift.api.model.Route;
 import io.fabric8.openshift.api.model.RouteIngress;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.model.CertAndKeySecretSource;
 import io.strimzi.api.kafka.model.CertificateAuthority;
@@ -87,9 +95,12 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationSteps;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.AbstractScalableResourceOperator;
+import io.strimzi.operator.common.operator.resource.AbstractWatchableResourceOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.DeploymentOperator;
 import io.strimzi.operator.common.operator.resource.IngressOperator;
@@ -125,10 +136,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.function.Function;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -172,6 +187,12 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final ZookeeperScalerProvider zkScalerProvider;
     private final AdminClientProvider adminClientProvider;
 
+    private final int fullReconciliationSweeps;
+    private final int kafkaRollingBatchSize;
+    private final Map<NamespaceAndName, ReconciliationFingerprint> fingerprints = new ConcurrentHashMap<>();
+    private final Counter skippedReconciliationsCounter;
+    private final Counter fullReconciliationsCounter;
+
     /**
      * @param vertx The Vertx instance
      * @param pfa Platform features availability properties
@@ -200,17 +221,68 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.nodeOperator = supplier.nodeOperator;
         this.zkScalerProvider = supplier.zkScalerProvider;
         this.adminClientProvider = supplier.adminClientProvider;
+        this.fullReconciliationSweeps = config.getFullReconciliationSweeps();
+        this.kafkaRollingBatchSize = config.getKafkaRollingBatchSize();
+
+        Tags metricTags = Tags.of(Tag.of("kind", kind()));
+
+        skippedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.skipped",
+                "Number of reconciliations skipped because neither the resource nor the resources it owns changed",
+                metricTags);
+
+        fullReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.full",
+                "Number of reconciliations which went through all the reconciliation steps",
+                metricTags);
     }
 
     @Override
     public Future<Void> createOrUpdate(Reconciliation reconciliation, Kafka kafkaAssembly) {
-        Promise<Void> createOrUpdatePromise = Promise.promise();
-
         if (kafkaAssembly.getSpec() == null) {
             log.error("{} spec cannot be null", kafkaAssembly.getMetadata().getName());
             return Future.failedFuture("Spec cannot be null");
         }
 
+        if (fullReconciliationSweeps <= 0) {
+            fullReconciliationsCounter.increment();
+            return fullReconciliation(reconciliation, kafkaAssembly);
+        }
+
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+
+        ReconciliationFingerprint current = fingerprint(reconciliation, kafkaAssembly);
+        ReconciliationFingerprint last = fingerprints.remove(key);
+
+        if (current != null && current.equals(last) && last.skipped + 1 < fullReconciliationSweeps) {
+            log.info("{}: Kafka cluster and the resources it owns did not change since the last reconciliation, skipping it", reconciliation);
+            current.skipped = last.skipped + 1;
+            fingerprints.put(key, current);
+            skippedReconciliationsCounter.increment();
+            return Future.succeededFuture();
+        }
+
+        fullReconciliationsCounter.increment();
+        return fullReconciliation(reconciliation, kafkaAssembly)
+                .map(i -> {
+                    // The reconciliation changes the owned resources, so the fingerprint is taken only once it is done
+                    ReconciliationFingerprint fingerprint = fingerprint(reconciliation, kafkaAssembly);
+                    if (fingerprint != null) {
+                        fingerprints.put(key, fingerprint);
+                    }
+                    return i;
+                });
+    }
+
+    /**
+     * Runs all the reconciliation steps and updates the status of the Kafka resource.
+     *
+     * @param reconciliation    The reconciliation
+     * @param kafkaAssembly     The Kafka resource
+     *
+     * @return  Future which completes when the reconciliation is done
+     */
+    Future<Void> fullReconciliation(Reconciliation reconciliation, Kafka kafkaAssembly) {
+        Promise<Void> createOrUpdatePromise = Promise.promise();
+
         ReconciliationState reconcileState = createReconciliationState(reconciliation, kafkaAssembly);
         reconcile(reconcileState).onComplete(reconcileResult -> {
             KafkaStatus status = reconcileState.kafkaStatus;
@@ -259,111 +331,220 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return createOrUpdatePromise.future();
     }
 
+    @Override
+    protected Future<Boolean> delete(Reconciliation reconciliation) {
+        fingerprints.remove(new NamespaceAndName(reconciliation.namespace(), reconciliation.name()));
+        return super.delete(reconciliation);
+    }
+
+    /**
+     * Starts the cache of the Kafka resources and, when unchanged Kafka clusters are skipped, also the caches of
+     * the resources owned by the Kafka clusters, which are used to recognize the unchanged clusters.
+     *
+     * @param namespace Namespace where to cache the resources.
+     * @param resyncIntervalMs Interval in which the cache is relisted from the Kubernetes API.
+     *
+     * @return A future which completes when the cache of the Kafka resources has been synced for the first time.
+     */
+    @Override
+    public Future<Void> startCache(String namespace, long resyncIntervalMs) {
+        if (fullReconciliationSweeps > 0) {
+            Optional<LabelSelector> ownedSelector = Optional.of(new LabelSelectorBuilder()
+                    .withMatchLabels(Labels.forStrimziKind(Kafka.RESOURCE_KIND).toMap())
+                    .build());
+
+            for (AbstractWatchableResourceOperator<?, ?, ?, ?, ?> operator : ownedResourceOperators()) {
+                // Best-effort: until the cache is synced, no reconciliation is skipped
+                operator.startCache(namespace, ownedSelector, resyncIntervalMs, metrics).onComplete(res -> {
+                    if (res.failed()) {
+                        log.warn("Failed to start resource cache for resources owned by Kafka clusters, it will be retried on the next resync", res.cause());
+                    }
+                });
+            }
+        }
+
+        return super.startCache(namespace, resyncIntervalMs);
+    }
+
+    @Override
+    public void stopCache(String namespace) {
+        super.stopCache(namespace);
+
+        if (fullReconciliationSweeps > 0) {
+            for (AbstractWatchableResourceOperator<?, ?, ?, ?, ?> operator : ownedResourceOperators()) {
+                operator.stopCache(namespace);
+            }
+        }
+    }
+
+    private List<AbstractWatchableResourceOperator<?, ?, ?, ?, ?>> ownedResourceOperators() {
+        return Arrays.<AbstractWatchableResourceOperator<?, ?, ?, ?, ?>>asList(kafkaSetOperations, deploymentOperations, podOperations, pvcOperations,
+                serviceOperations, configMapOperations, secretOperations);
+    }
+
+    /**
+     * Collects what the outcome of the reconciliation depends on: the generation and the desired state of the Kafka
+     * resource and the resource versions of the resources owned by the Kafka cluster. The owned resources are read
+     * only from the resource cache, so that checking whether the cluster changed doesn't call the Kubernetes API.
+     *
+     * @param reconciliation    The reconciliation
+     * @param kafkaAssembly     The Kafka resource
+     *
+     * @return  The fingerprint of the Kafka cluster or null if some of the owned resources are not cached
+     */
+    ReconciliationFingerprint fingerprint(Reconciliation reconciliation, Kafka kafkaAssembly) {
+        String namespace = reconciliation.namespace();
+        Labels selector = Labels.forStrimziCluster(reconciliation.name()).withStrimziKind(Kafka.RESOURCE_KIND);
+        Map<String, String> resourceVersions = new TreeMap<>();
+
+        for (AbstractWatchableResourceOperator<?, ?, ?, ?, ?> operator : ownedResourceOperators()) {
+            List<? extends HasMetadata> resources = operator.listFromCache(namespace, selector);
+            if (resources == null) {
+                log.debug("{}: Resources owned by the Kafka cluster are not cached, the cluster will be fully reconciled", reconciliation);
+                return null;
+            }
+
+            for (HasMetadata resource : resources) {
+                resourceVersions.put(resource.getKind() + "/" + resource.getMetadata().getName(), resource.getMetadata().getResourceVersion());
+            }
+        }
+
+        ObjectMeta metadata = kafkaAssembly.getMetadata();
+        String desiredState = Serialization.asJson(kafkaAssembly.getSpec())
+                + Serialization.asJson(metadata.getLabels())
+                + Serialization.asJson(metadata.getAnnotations());
+
+        return new ReconciliationFingerprint(metadata.getGeneration(), Util.stringHash(desiredState), resourceVersions);
+    }
+
     Future<Void> reconcile(ReconciliationState reconcileState)  {
         Promise<Void> chainPromise = Promise.promise();
 
-        reconcileState.initialStatus()
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
-                .compose(state -> state.getKafkaClusterDescription())
+        // The steps are executed as soon as all the steps they depend on are done. Steps which do not depend on each
+        // other (for example reconciliation of independent resources) are executed concurrently.
+        new ReconciliationSteps<ReconciliationState>(reconcileState.reconciliation, metrics)
+                .add("initialStatus", state -> state.initialStatus())
+                .add("reconcileCas", state -> state.reconcileCas(this::dateSupplier), "initialStatus")
+                .add("clusterOperatorSecret", state -> state.clusterOperatorSecret(this::dateSupplier), "reconcileCas")
+                .add("getKafkaClusterDescription", state -> state.getKafkaClusterDescription(), "clusterOperatorSecret")
                 // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-                .compose(state -> state.getZookeeperDescription())
-                .compose(state -> state.zkModelWarnings())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret(this::dateSupplier))
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScalingDown())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp())
-                .compose(state -> state.zkScalingCheck())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.checkKafkaSpec())
-                .compose(state -> state.kafkaModelWarnings())
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaVersionChange())
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaService())
-                .compose(state -> state.kafkaHeadlessService())
-                .compose(state -> state.kafkaExternalBootstrapService())
-                .compose(state -> state.kafkaReplicaServices())
-                .compose(state -> state.kafkaBootstrapRoute())
-                .compose(state -> state.kafkaReplicaRoutes())
-                .compose(state -> state.kafkaBootstrapIngress())
-                .compose(state -> state.kafkaReplicaIngress())
-                .compose(state -> state.kafkaExternalBootstrapServiceReady())
-                .compose(state -> state.kafkaReplicaServicesReady())
-                .compose(state -> state.kafkaBootstrapRouteReady())
-                .compose(state -> state.kafkaReplicaRoutesReady())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customTlsListenerCertificate())
-                .compose(state -> state.customExternalListenerCertificate())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaNodePortExternalListenerStatus())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
-                .compose(state -> state.kafkaTlsListenerCertificatesToStatus())
-                .compose(state -> state.kafkaExternalListenerCertificatesToStatus())
-
-                .compose(state -> state.checkUnsupportedTopicOperator())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBinding())
-                .compose(state -> state.entityOperatorUserOpRoleBinding())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret(this::dateSupplier))
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getCruiseControlDescription())
-                .compose(state -> state.cruiseControlNetPolicy())
-                .compose(state -> state.cruiseControlServiceAccount())
-                .compose(state -> state.cruiseControlAncillaryCm())
-                .compose(state -> state.cruiseControlSecret(this::dateSupplier))
-                .compose(state -> state.cruiseControlDeployment())
-                .compose(state -> state.cruiseControlService())
-                .compose(state -> state.cruiseControlReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
-
-                .compose(state -> state.getJmxTransDescription())
-                .compose(state -> state.jmxTransServiceAccount())
-                .compose(state -> state.jmxTransConfigMap())
-                .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
-
+                .add("rollingUpdateForNewCaKey", state -> state.rollingUpdateForNewCaKey(), "getKafkaClusterDescription")
+                .add("getZookeeperDescription", state -> state.getZookeeperDescription(), "rollingUpdateForNewCaKey")
+                .add("zkModelWarnings", state -> state.zkModelWarnings(), "getZookeeperDescription")
+
+                // ZooKeeper resources which do not influence each other
+                .add("zkNetPolicy", state -> state.zkNetPolicy(), "zkModelWarnings")
+                .add("zookeeperServiceAccount", state -> state.zookeeperServiceAccount(), "zkModelWarnings")
+                .add("zkService", state -> state.zkService(), "zkModelWarnings")
+                .add("zkHeadlessService", state -> state.zkHeadlessService(), "zkModelWarnings")
+                .add("zkAncillaryCm", state -> state.zkAncillaryCm(), "zkModelWarnings")
+                .add("zkNodesSecret", state -> state.zkNodesSecret(this::dateSupplier), "zkModelWarnings")
+                .add("zkPodDisruptionBudget", state -> state.zkPodDisruptionBudget(), "zkModelWarnings")
+                // ZooKeeper pods and storage
+                .add("zkManualPodCleaning", state -> state.zkManualPodCleaning(), "zkModelWarnings")
+                .add("zkManualRollingUpdate", state -> state.zkManualRollingUpdate(), "zkManualPodCleaning")
+                .add("zkVersionChange", state -> state.zkVersionChange(), "zkManualRollingUpdate")
+                .add("zkPvcs", state -> state.zkPvcs(), "zkVersionChange")
+                .add("zkStatefulSet", state -> state.zkStatefulSet(), "zkPvcs", "zkNetPolicy", "zookeeperServiceAccount",
+                        "zkService", "zkHeadlessService", "zkAncillaryCm", "zkNodesSecret", "zkPodDisruptionBudget")
+                .add("zkScalingDown", state -> state.zkScalingDown(), "zkStatefulSet")
+                .add("zkRollingUpdate", state -> state.zkRollingUpdate(), "zkScalingDown")
+                .add("zkPodsReady", state -> state.zkPodsReady(), "zkRollingUpdate")
+                .add("zkScalingUp", state -> state.zkScalingUp(), "zkPodsReady")
+                .add("zkScalingCheck", state -> state.zkScalingCheck(), "zkScalingUp")
+                .add("zkServiceEndpointReadiness", state -> state.zkServiceEndpointReadiness(), "zkScalingCheck")
+                .add("zkHeadlessServiceEndpointReadiness", state -> state.zkHeadlessServiceEndpointReadiness(), "zkScalingCheck")
+                .add("zkPersistentClaimDeletion", state -> state.zkPersistentClaimDeletion(), "zkScalingCheck")
+
+                // Kafka is reconciled only once ZooKeeper is ready
+                .add("checkKafkaSpec", state -> state.checkKafkaSpec(), "zkServiceEndpointReadiness",
+                        "zkHeadlessServiceEndpointReadiness", "zkPersistentClaimDeletion")
+                .add("kafkaModelWarnings", state -> state.kafkaModelWarnings(), "checkKafkaSpec")
+                // Kafka resources which do not influence each other
+                .add("kafkaNetPolicy", state -> state.kafkaNetPolicy(), "kafkaModelWarnings")
+                .add("kafkaInitServiceAccount", state -> state.kafkaInitServiceAccount(), "kafkaModelWarnings")
+                .add("kafkaInitClusterRoleBinding", state -> state.kafkaInitClusterRoleBinding(), "kafkaModelWarnings")
+                .add("kafkaHeadlessService", state -> state.kafkaHeadlessService(), "kafkaModelWarnings")
+                .add("kafkaExternalBootstrapService", state -> state.kafkaExternalBootstrapService(), "kafkaModelWarnings")
+                .add("kafkaReplicaServices", state -> state.kafkaReplicaServices(), "kafkaModelWarnings")
+                .add("kafkaBootstrapRoute", state -> state.kafkaBootstrapRoute(), "kafkaModelWarnings")
+                .add("kafkaReplicaRoutes", state -> state.kafkaReplicaRoutes(), "kafkaModelWarnings")
+                .add("customTlsListenerCertificate", state -> state.customTlsListenerCertificate(), "kafkaModelWarnings")
+                .add("customExternalListenerCertificate", state -> state.customExternalListenerCertificate(), "kafkaModelWarnings")
+                .add("kafkaJmxSecret", state -> state.kafkaJmxSecret(), "kafkaModelWarnings")
+                .add("kafkaPodDisruptionBudget", state -> state.kafkaPodDisruptionBudget(), "kafkaModelWarnings")
+                // Kafka pods and storage
+                .add("kafkaManualPodCleaning", state -> state.kafkaManualPodCleaning(), "kafkaModelWarnings")
+                .add("kafkaManualRollingUpdate", state -> state.kafkaManualRollingUpdate(), "kafkaManualPodCleaning")
+                .add("kafkaVersionChange", state -> state.kafkaVersionChange(), "kafkaManualRollingUpdate")
+                .add("kafkaPvcs", state -> state.kafkaPvcs(), "kafkaVersionChange")
+                .add("kafkaScaleDown", state -> state.kafkaScaleDown(), "kafkaPvcs")
+                // Listener addresses and statuses have to be collected in order because they share the state
+                .add("kafkaService", state -> state.kafkaService(), "kafkaVersionChange")
+                .add("kafkaBootstrapIngress", state -> state.kafkaBootstrapIngress(), "kafkaService")
+                .add("kafkaReplicaIngress", state -> state.kafkaReplicaIngress(), "kafkaBootstrapIngress")
+                .add("kafkaExternalBootstrapServiceReady", state -> state.kafkaExternalBootstrapServiceReady(), "kafkaReplicaIngress",
+                        "kafkaExternalBootstrapService", "kafkaReplicaServices", "kafkaBootstrapRoute", "kafkaReplicaRoutes")
+                .add("kafkaReplicaServicesReady", state -> state.kafkaReplicaServicesReady(), "kafkaExternalBootstrapServiceReady")
+                .add("kafkaBootstrapRouteReady", state -> state.kafkaBootstrapRouteReady(), "kafkaReplicaServicesReady")
+                .add("kafkaReplicaRoutesReady", state -> state.kafkaReplicaRoutesReady(), "kafkaBootstrapRouteReady")
+                .add("kafkaGenerateCertificates", state -> state.kafkaGenerateCertificates(this::dateSupplier), "kafkaReplicaRoutesReady")
+                .add("kafkaAncillaryCm", state -> state.kafkaAncillaryCm(), "kafkaGenerateCertificates")
+                .add("kafkaBrokersSecret", state -> state.kafkaBrokersSecret(), "kafkaGenerateCertificates")
+                .add("kafkaStatefulSet", state -> state.kafkaStatefulSet(), "kafkaScaleDown", "kafkaAncillaryCm",
+                        "kafkaBrokersSecret", "kafkaNetPolicy", "kafkaInitServiceAccount", "kafkaInitClusterRoleBinding",
+                        "kafkaHeadlessService", "customTlsListenerCertificate", "customExternalListenerCertificate",
+                        "kafkaJmxSecret", "kafkaPodDisruptionBudget")
+                .add("kafkaRollingUpdate", state -> state.kafkaRollingUpdate(), "kafkaStatefulSet")
+                .add("kafkaScaleUp", state -> state.kafkaScaleUp(), "kafkaRollingUpdate")
+                .add("kafkaPodsReady", state -> state.kafkaPodsReady(), "kafkaScaleUp")
+                .add("kafkaServiceEndpointReady", state -> state.kafkaServiceEndpointReady(), "kafkaPodsReady")
+                .add("kafkaHeadlessServiceEndpointReady", state -> state.kafkaHeadlessServiceEndpointReady(), "kafkaPodsReady")
+                .add("kafkaPersistentClaimDeletion", state -> state.kafkaPersistentClaimDeletion(), "kafkaPodsReady")
+                .add("kafkaNodePortExternalListenerStatus", state -> state.kafkaNodePortExternalListenerStatus(),
+                        "kafkaServiceEndpointReady", "kafkaHeadlessServiceEndpointReady")
+                .add("kafkaTlsListenerCertificatesToStatus", state -> state.kafkaTlsListenerCertificatesToStatus(), "kafkaNodePortExternalListenerStatus")
+                .add("kafkaExternalListenerCertificatesToStatus", state -> state.kafkaExternalListenerCertificatesToStatus(), "kafkaTlsListenerCertificatesToStatus")
+
+                // The other components are reconciled only once Kafka is ready, but independently of each other
+                .add("checkUnsupportedTopicOperator", state -> state.checkUnsupportedTopicOperator(),
+                        "kafkaExternalListenerCertificatesToStatus", "kafkaPersistentClaimDeletion")
+
+                .add("getEntityOperatorDescription", state -> state.getEntityOperatorDescription(), "checkUnsupportedTopicOperator")
+                .add("entityOperatorServiceAccount", state -> state.entityOperatorServiceAccount(), "getEntityOperatorDescription")
+                .add("entityOperatorTopicOpRoleBinding", state -> state.entityOperatorTopicOpRoleBinding(), "getEntityOperatorDescription")
+                .add("entityOperatorUserOpRoleBinding", state -> state.entityOperatorUserOpRoleBinding(), "getEntityOperatorDescription")
+                .add("entityOperatorTopicOpAncillaryCm", state -> state.entityOperatorTopicOpAncillaryCm(), "getEntityOperatorDescription")
+                .add("entityOperatorUserOpAncillaryCm", state -> state.entityOperatorUserOpAncillaryCm(), "getEntityOperatorDescription")
+                .add("entityOperatorSecret", state -> state.entityOperatorSecret(this::dateSupplier), "getEntityOperatorDescription")
+                .add("entityOperatorDeployment", state -> state.entityOperatorDeployment(), "entityOperatorServiceAccount",
+                        "entityOperatorTopicOpRoleBinding", "entityOperatorUserOpRoleBinding", "entityOperatorTopicOpAncillaryCm",
+                        "entityOperatorUserOpAncillaryCm", "entityOperatorSecret")
+                .add("entityOperatorReady", state -> state.entityOperatorReady(), "entityOperatorDeployment")
+
+                .add("getCruiseControlDescription", state -> state.getCruiseControlDescription(), "checkUnsupportedTopicOperator")
+                .add("cruiseControlNetPolicy", state -> state.cruiseControlNetPolicy(), "getCruiseControlDescription")
+                .add("cruiseControlServiceAccount", state -> state.cruiseControlServiceAccount(), "getCruiseControlDescription")
+                .add("cruiseControlAncillaryCm", state -> state.cruiseControlAncillaryCm(), "getCruiseControlDescription")
+                .add("cruiseControlSecret", state -> state.cruiseControlSecret(this::dateSupplier), "getCruiseControlDescription")
+                .add("cruiseControlService", state -> state.cruiseControlService(), "getCruiseControlDescription")
+                .add("cruiseControlDeployment", state -> state.cruiseControlDeployment(), "cruiseControlNetPolicy",
+                        "cruiseControlServiceAccount", "cruiseControlAncillaryCm", "cruiseControlSecret")
+                .add("cruiseControlReady", state -> state.cruiseControlReady(), "cruiseControlDeployment", "cruiseControlService")
+
+                .add("getKafkaExporterDescription", state -> state.getKafkaExporterDescription(), "checkUnsupportedTopicOperator")
+                .add("kafkaExporterServiceAccount", state -> state.kafkaExporterServiceAccount(), "getKafkaExporterDescription")
+                .add("kafkaExporterSecret", state -> state.kafkaExporterSecret(this::dateSupplier), "getKafkaExporterDescription")
+                .add("kafkaExporterDeployment", state -> state.kafkaExporterDeployment(), "kafkaExporterServiceAccount", "kafkaExporterSecret")
+                .add("kafkaExporterReady", state -> state.kafkaExporterReady(), "kafkaExporterDeployment")
+
+                .add("getJmxTransDescription", state -> state.getJmxTransDescription(), "checkUnsupportedTopicOperator")
+                .add("jmxTransServiceAccount", state -> state.jmxTransServiceAccount(), "getJmxTransDescription")
+                .add("jmxTransConfigMap", state -> state.jmxTransConfigMap(), "getJmxTransDescription")
+                .add("jmxTransDeployment", state -> state.jmxTransDeployment(), "jmxTransServiceAccount", "jmxTransConfigMap")
+                .add("jmxTransDeploymentReady", state -> state.jmxTransDeploymentReady(), "jmxTransDeployment")
+
+                .execute(reconcileState)
                 .map((Void) null)
                 .onComplete(chainPromise);
 
@@ -729,7 +910,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         .compose(i -> kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
                         .compose(sts -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                             () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
-                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion())
+                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), kafkaRollingBatchSize)
                             .rollingRestart(rollPodAndLogReason))
                         .compose(i -> rollDeploymentIfExists(EntityOperator.entityOperatorName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(KafkaExporter.kafkaExporterName(name), reason.toString()))
@@ -1280,7 +1461,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return adminClientSecrets()
                 .compose(compositeFuture -> new KafkaRoller(vertx, reconciliation, podOperations, 1_000, operationTimeoutMs,
                     () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
-                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion())
+                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), kafkaRollingBatchSize)
                     .rollingRestart(podNeedsRestart));
         }
 
@@ -3473,6 +3654,44 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
     }
 
+    /**
+     * What the outcome of the reconciliation of a Kafka cluster depends on. When it did not change, the reconciliation
+     * can be skipped.
+     */
+    static class ReconciliationFingerprint {
+        private final Long generation;
+        private final String desiredStateHash;
+        private final Map<String, String> resourceVersions;
+
+        // Number of consecutive reconciliations skipped with this fingerprint
+        private int skipped = 0;
+
+        ReconciliationFingerprint(Long generation, String desiredStateHash, Map<String, String> resourceVersions) {
+            this.generation = generation;
+            this.desiredStateHash = desiredStateHash;
+            this.resourceVersions = resourceVersions;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ReconciliationFingerprint that = (ReconciliationFingerprint) o;
+            return Objects.equals(generation, that.generation) &&
+                    Objects.equals(desiredStateHash, that.desiredStateHash) &&
+                    Objects.equals(resourceVersions, that.resourceVersions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(generation, desiredStateHash, resourceVersions);
+        }
+    }
+
     /* test */ Date dateSupplier() {
         return new Date();
     }
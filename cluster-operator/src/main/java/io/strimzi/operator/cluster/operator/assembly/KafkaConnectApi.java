@@ -106,6 +106,16 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info}.
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns a map from the connector name to its {@code status} (as returned by
+     * {@link #status(String, int, String)}) and {@code info} (as returned by {@link #getConnector(String, int, String)}).
+     */
+    Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param host The host to make the request to.
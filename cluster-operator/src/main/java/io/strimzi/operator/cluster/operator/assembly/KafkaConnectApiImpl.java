@@ -8,6 +8,7 @@ package io.strimzi.operator.cluster.operator.assembly;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
+import io.strimzi.operator.cluster.operator.resource.SharedHttpClients;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.vertx.core.Future;
@@ -15,7 +16,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.LogManager;
@@ -42,14 +43,27 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public static final TypeReference<Map<String, String>> MAP_OF_STRINGS = new TypeReference<Map<String, String>>() {
     };
 
+    public static final TypeReference<Map<String, Map<String, Object>>> MAP_OF_TREES = new TypeReference<Map<String, Map<String, Object>>>() {
+    };
+
     public static final TypeReference<Map<String, Map<String, String>>> MAP_OF_MAP_OF_STRINGS = new TypeReference<Map<String, Map<String, String>>>() {
 
     };
+    /**
+     * Timeout for a single REST request, longer than the 90 seconds Kafka Connect itself allows
+     * for forwarding a request to the leader worker
+     */
+    static final long REQUEST_TIMEOUT_MS = 120_000;
+    private static final String HTTP_CLIENT_NAME = "kafka-connect-api";
+
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final HttpClient httpClient;
 
     public KafkaConnectApiImpl(Vertx vertx) {
         this.vertx = vertx;
+        this.httpClient = SharedHttpClients.get(vertx, HTTP_CLIENT_NAME,
+            () -> SharedHttpClients.pooledOptions().setLogActivity(true));
     }
 
     @Override
@@ -58,11 +72,10 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             String host, int port,
             String connectorName, JsonObject configJson) {
         Promise<Map<String, Object>> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         log.debug("Making PUT request to {} with body {}", path, configJson);
-        vertx.createHttpClient(options)
+        httpClient
                 .put(port, host, path, response -> {
                     response.exceptionHandler(error -> {
                         result.fail(error);
@@ -87,6 +100,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                     }
                 })
                 .exceptionHandler(result::fail)
+                .setTimeout(REQUEST_TIMEOUT_MS)
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .putHeader("Content-Type", "application/json")
@@ -108,9 +122,8 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @SuppressWarnings("unchecked")
     private <T> Future<T> doGet(String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
         Promise<T> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
         log.debug("Making GET request to {}", path);
-        vertx.createHttpClient(options)
+        httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(error -> {
                         result.fail(error);
@@ -135,6 +148,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                     }
                 })
                 .exceptionHandler(result::fail)
+                .setTimeout(REQUEST_TIMEOUT_MS)
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .end();
@@ -159,9 +173,8 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Void> delete(String host, int port, String connectorName) {
         Promise<Void> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
         String path = "/connectors/" + connectorName;
-        vertx.createHttpClient(options)
+        httpClient
                 .delete(port, host, path, response -> {
                     if (response.statusCode() == 204) {
                         result.complete();
@@ -174,6 +187,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                     }
                 })
                 .exceptionHandler(result::fail)
+                .setTimeout(REQUEST_TIMEOUT_MS)
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .putHeader("Content-Type", "application/json")
@@ -259,8 +273,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private Future<Void> pauseResume(String host, int port, String path) {
         Promise<Void> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
-        vertx.createHttpClient(options)
+        httpClient
                 .put(port, host, path, response -> {
                     response.exceptionHandler(error -> {
                         result.fail(error);
@@ -273,6 +286,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                     }
                 })
                 .exceptionHandler(result::fail)
+                .setTimeout(REQUEST_TIMEOUT_MS)
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .end();
@@ -283,9 +297,8 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<List<String>> list(String host, int port) {
         String path = "/connectors";
         Promise<List<String>> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
 
-        vertx.createHttpClient(options)
+        httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(error -> {
                         result.fail(error);
@@ -308,18 +321,23 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                     }
                 })
                 .exceptionHandler(result::fail)
+                .setTimeout(REQUEST_TIMEOUT_MS)
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .end();
         return result.future();
     }
 
+    @Override
+    public Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(String host, int port) {
+        return doGet(host, port, "/connectors?expand=status&expand=info", Collections.singleton(200), MAP_OF_TREES);
+    }
+
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(String host, int port) {
         Promise<List<ConnectorPlugin>> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
         String path = "/connector-plugins";
-        vertx.createHttpClient(options)
+        httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(error -> {
                         result.fail(error);
@@ -338,6 +356,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                     }
                 })
                 .exceptionHandler(result::fail)
+                .setTimeout(REQUEST_TIMEOUT_MS)
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .end();
@@ -346,12 +365,11 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private Future<Void> updateConnectorLogger(String host, int port, String logger, String level) {
         Promise<Void> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
         String path = "/admin/loggers/" + logger;
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         log.debug("Making PUT request to {} with body {}", path, levelJO);
-        vertx.createHttpClient(options)
+        httpClient
                 .put(port, host, path, response -> {
                     response.exceptionHandler(error -> {
                         result.fail(error);
@@ -367,6 +385,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                     }
                 })
                 .exceptionHandler(result::fail)
+                .setTimeout(REQUEST_TIMEOUT_MS)
                 .putHeader("Content-Type", "application/json")
                 .putHeader("Content-Length", String.valueOf(levelJO.toBuffer().length()))
                 .setFollowRedirects(true)
@@ -379,9 +398,8 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Map<String, Map<String, String>>> listConnectLoggers(String host, int port) {
         Promise<Map<String, Map<String, String>>> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(true);
         String path = "/admin/loggers/";
-        vertx.createHttpClient(options)
+        httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(error -> {
                         result.fail(error);
@@ -401,6 +419,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                     }
                 })
                 .exceptionHandler(result::fail)
+                .setTimeout(REQUEST_TIMEOUT_MS)
                 .setFollowRedirects(true)
                 .putHeader("Accept", "application/json")
                 .end();
@@ -31,6 +31,7 @@ import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControl
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApiImpl;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlResponse;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlTaskTracker;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskStatus;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RebalanceOptions;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
@@ -51,6 +52,7 @@ import org.apache.logging.log4j.Logger;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -134,6 +136,7 @@ public class KafkaRebalanceAssemblyOperator
     private final CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList, DoneableKafkaRebalance> kafkaRebalanceOperator;
     private final CrdOperator<KubernetesClient, Kafka, KafkaList, DoneableKafka> kafkaOperator;
     private final PlatformFeaturesAvailability pfa;
+    private final Map<String, CruiseControlTaskTracker> taskTrackers = new ConcurrentHashMap<>();
 
     /**
      * @param vertx The Vertx instance
@@ -157,6 +160,18 @@ public class KafkaRebalanceAssemblyOperator
         return new CruiseControlApiImpl(vertx);
     }
 
+    /**
+     * Gets the tracker of the user tasks of the Cruise Control instance with the given hostname
+     *
+     * @param host the Cruise Control hostname
+     * @param apiClient Cruise Control REST API client instance used when creating the tracker
+     * @return the Cruise Control user task tracker
+     */
+    protected CruiseControlTaskTracker taskTracker(String host, CruiseControlApi apiClient) {
+        return taskTrackers.computeIfAbsent(host,
+            h -> new CruiseControlTaskTracker(vertx, apiClient, h, CruiseControl.REST_API_PORT, metrics));
+    }
+
     /**
      * The Cruise Control hostname to connect to
      *
@@ -582,116 +597,163 @@ public class KafkaRebalanceAssemblyOperator
                                                        KafkaRebalanceAnnotation rebalanceAnnotation) {
         Promise<KafkaRebalanceStatus> p = Promise.promise();
         if (rebalanceAnnotation == KafkaRebalanceAnnotation.none) {
-            log.info("{}: Arming Cruise Control rebalance user task status timer", reconciliation);
+            log.info("{}: Tracking Cruise Control rebalance user task status", reconciliation);
+            CruiseControlTaskTracker tracker = taskTracker(host, apiClient);
             String sessionId = kafkaRebalance.getStatus().getSessionId();
-            AtomicInteger ccApiErrorCount = new AtomicInteger();
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t -> {
-                // Check that we have not already failed to contact the API beyond the allowed number of times.
-                if (ccApiErrorCount.get() >= MAX_API_RETRIES) {
-                    vertx.cancelTimer(t);
-                    p.fail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
+            trackRebalance(reconciliation, host, apiClient, tracker, kafkaRebalance, sessionId, null, new AtomicInteger(), p);
+            p.future().onComplete(ignored -> releaseTask(host, tracker, sessionId));
+        } else {
+            p.complete(kafkaRebalance.getStatus());
+        }
+        return p.future();
+    }
+
+    /**
+     * Stops tracking the given user task, and drops the tracker of the Cruise Control instance once it doesn't
+     * track any task anymore.
+     *
+     * @param host Cruise Control service of the tracker
+     * @param tracker The tracker of the Cruise Control user tasks
+     * @param sessionId The ID of the rebalance user task
+     */
+    private void releaseTask(String host, CruiseControlTaskTracker tracker, String sessionId) {
+        tracker.release(sessionId);
+        taskTrackers.computeIfPresent(host, (h, t) -> t.isIdle() ? null : t);
+    }
+
+    /**
+     * Waits for the next status of the rebalance user task from the task tracker and handles it. This is repeated
+     * until the rebalance is finished, the ongoing task is stopped or any error is raised, at which point the promise
+     * is completed.
+     * The tracker polls a task which is being executed with an increasing interval, so the resource is checked for
+     * deletion and for the stop annotation every {@code REBALANCE_POLLING_TIMER_MS} while waiting for the next status.
+     *
+     * @param reconciliation Reconciliation information
+     * @param host Cruise Control service to which sending the REST API requests
+     * @param apiClient Cruise Control REST API client instance
+     * @param tracker The tracker of the Cruise Control user tasks
+     * @param kafkaRebalance Current {@code KafkaRebalance} resource
+     * @param sessionId The ID of the rebalance user task
+     * @param pendingStatus The status still awaited from the tracker, or null to wait for the next one
+     * @param ccApiErrorCount The number of consecutive failures to get the user task status
+     * @param p The promise to complete with the next {@code KafkaRebalanceStatus}
+     */
+    private void trackRebalance(Reconciliation reconciliation, String host, CruiseControlApi apiClient,
+                                CruiseControlTaskTracker tracker, KafkaRebalance kafkaRebalance, String sessionId,
+                                Future<CruiseControlResponse> pendingStatus, AtomicInteger ccApiErrorCount,
+                                Promise<KafkaRebalanceStatus> p) {
+        Future<CruiseControlResponse> userTaskResult = pendingStatus != null ? pendingStatus : tracker.nextStatus(sessionId);
+        Promise<Void> wakeUp = Promise.promise();
+        long timerId = vertx.setTimer(REBALANCE_POLLING_TIMER_MS, id -> wakeUp.tryComplete());
+        userTaskResult.onComplete(ignored -> {
+            vertx.cancelTimer(timerId);
+            wakeUp.tryComplete();
+        });
+
+        wakeUp.future().onComplete(ignored -> {
+            kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName()).onComplete(getResult -> {
+                if (getResult.failed()) {
+                    log.error("{}: Cruise Control getting rebalance resource failed", reconciliation, getResult.cause());
+                    p.fail(getResult.cause());
+                    return;
                 }
-                kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName()).onComplete(getResult -> {
-                    if (getResult.succeeded()) {
-                        KafkaRebalance freshKafkaRebalance = getResult.result();
-                        // checking that the resource wasn't delete meanwhile the timer wasn't raised
-                        if (freshKafkaRebalance != null) {
-                            // checking it is in the right state because the timer could be called again (from a delayed timer firing)
-                            // and the previous execution set the status and completed the future
-                            if (state(freshKafkaRebalance) == KafkaRebalanceState.Rebalancing) {
-                                if (rebalanceAnnotation(freshKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
-                                    log.debug("{}: Stopping current Cruise Control rebalance user task", reconciliation);
-                                    vertx.cancelTimer(t);
-                                    apiClient.stopExecution(host, CruiseControl.REST_API_PORT).onComplete(stopResult -> {
-                                        if (stopResult.succeeded()) {
-                                            p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped));
-                                        } else {
-                                            log.error("{}: Cruise Control stopping execution failed", reconciliation, stopResult.cause());
-                                            p.fail(stopResult.cause());
-                                        }
-                                    });
-                                } else {
-                                    log.info("{}: Getting Cruise Control rebalance user task status", reconciliation);
-                                    apiClient.getUserTaskStatus(host, CruiseControl.REST_API_PORT, sessionId).onComplete(userTaskResult -> {
-                                        if (userTaskResult.succeeded()) {
-                                            CruiseControlResponse response = userTaskResult.result();
-                                            JsonObject taskStatusJson = response.getJson();
-                                            CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
-                                            switch (taskStatus) {
-                                                case COMPLETED:
-                                                    vertx.cancelTimer(t);
-                                                    log.info("{}: Rebalance ({}) is now complete", reconciliation, sessionId);
-                                                    p.complete(buildRebalanceStatus(
-                                                        null, KafkaRebalanceState.Ready, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap()));
-                                                    break;
-                                                case COMPLETED_WITH_ERROR:
-                                                    // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
-                                                    //       We may need to propose an upstream PR for this.
-                                                    // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
-                                                    //       details of any issues while rebalancing.
-                                                    log.error("{}: Rebalance ({}) optimization proposal has failed to complete", reconciliation, sessionId);
-                                                    vertx.cancelTimer(t);
-                                                    p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady));
-                                                    break;
-                                                case IN_EXECUTION: // Rebalance is still in progress
-                                                    // We need to check that the status has been updated with the ongoing optimisation proposal
-                                                    // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
-                                                    // proposal was still being prepared (in progress). In that case the rebalance will start when
-                                                    // the proposal is complete but the optimisation proposal summary will be missing.
-                                                    if (freshKafkaRebalance.getStatus().getOptimizationResult() == null ||
-                                                            freshKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
-                                                        log.info("{}: Rebalance ({}) optimization proposal is now ready and has been added to the status", reconciliation, sessionId);
-                                                        // Cancel the timer so that the status is returned and updated.
-                                                        vertx.cancelTimer(t);
-                                                        p.complete(buildRebalanceStatus(
-                                                            sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap()));
-                                                    }
-                                                    ccApiErrorCount.set(0);
-                                                    // TODO: Find out if there is any way to check the progress of a rebalance.
-                                                    //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
-                                                    //       We can then update the status at this point.
-                                                    break;
-                                                case ACTIVE: // Rebalance proposal is still being calculated
-                                                    // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
-                                                    // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
-                                                    // check that the optimisation proposal is added to the status on the next reconcile.
-                                                    log.info("{}: Rebalance ({}) optimization proposal is still being prepared", reconciliation, sessionId);
-                                                    ccApiErrorCount.set(0);
-                                                    break;
-                                                default:
-                                                    log.error("{}: Unexpected state {}", reconciliation, taskStatus);
-                                                    vertx.cancelTimer(t);
-                                                    p.fail("Unexpected state " + taskStatus);
-                                                    break;
-                                            }
-                                        } else {
-                                            log.error("{}: Cruise Control getting rebalance task status failed", reconciliation, userTaskResult.cause());
-                                            // To make sure this error is not just a temporary problem with the network we retry several times.
-                                            // If the number of errors pass the MAX_API_ERRORS limit then the period method will fail the promise.
-                                            ccApiErrorCount.getAndIncrement();
-                                        }
-                                    });
-                                }
-                            } else {
-                                p.complete(freshKafkaRebalance.getStatus());
-                            }
+
+                KafkaRebalance freshKafkaRebalance = getResult.result();
+                if (freshKafkaRebalance == null) {
+                    // checking that the resource wasn't deleted meanwhile we were waiting for the task status
+                    log.debug("{}: Rebalance resource was deleted, stopping the user task tracking", reconciliation);
+                    p.complete();
+                } else if (state(freshKafkaRebalance) != KafkaRebalanceState.Rebalancing) {
+                    // checking it is still in the right state because it could have been changed meanwhile
+                    p.complete(freshKafkaRebalance.getStatus());
+                } else if (rebalanceAnnotation(freshKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
+                    log.debug("{}: Stopping current Cruise Control rebalance user task", reconciliation);
+                    apiClient.stopExecution(host, CruiseControl.REST_API_PORT).onComplete(stopResult -> {
+                        if (stopResult.succeeded()) {
+                            p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped));
                         } else {
-                            log.debug("{}: Rebalance resource was deleted, stopping the request time", reconciliation);
-                            vertx.cancelTimer(t);
-                            p.complete();
+                            log.error("{}: Cruise Control stopping execution failed", reconciliation, stopResult.cause());
+                            p.fail(stopResult.cause());
                         }
+                    });
+                } else if (!userTaskResult.isComplete()) {
+                    // Nothing happened to the resource, keep waiting for the status
+                    trackRebalance(reconciliation, host, apiClient, tracker, kafkaRebalance, sessionId, userTaskResult, ccApiErrorCount, p);
+                } else if (userTaskResult.failed()) {
+                    log.error("{}: Cruise Control getting rebalance task status failed", reconciliation, userTaskResult.cause());
+                    // To make sure this error is not just a temporary problem with the network we retry several times.
+                    if (ccApiErrorCount.incrementAndGet() >= MAX_API_RETRIES) {
+                        p.fail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
                     } else {
-                        log.error("{}: Cruise Control getting rebalance resource failed", reconciliation, getResult.cause());
-                        vertx.cancelTimer(t);
-                        p.fail(getResult.cause());
+                        trackRebalance(reconciliation, host, apiClient, tracker, kafkaRebalance, sessionId, null, ccApiErrorCount, p);
                     }
-                });
-
+                } else {
+                    ccApiErrorCount.set(0);
+                    try {
+                        KafkaRebalanceStatus nextStatus = onUserTaskStatus(reconciliation, freshKafkaRebalance, sessionId, userTaskResult.result());
+                        if (nextStatus != null) {
+                            p.complete(nextStatus);
+                        } else {
+                            trackRebalance(reconciliation, host, apiClient, tracker, kafkaRebalance, sessionId, null, ccApiErrorCount, p);
+                        }
+                    } catch (IllegalStateException e) {
+                        p.fail(e);
+                    }
+                }
             });
-        } else {
-            p.complete(kafkaRebalance.getStatus());
+        });
+    }
+
+    /**
+     * Computes the next status of a rebalancing {@code KafkaRebalance} from the status of its Cruise Control user task.
+     *
+     * @param reconciliation Reconciliation information
+     * @param kafkaRebalance Current {@code KafkaRebalance} resource
+     * @param sessionId The ID of the rebalance user task
+     * @param response The status of the rebalance user task
+     * @return The next {@code KafkaRebalanceStatus} or null when the user task should be tracked further
+     */
+    private KafkaRebalanceStatus onUserTaskStatus(Reconciliation reconciliation, KafkaRebalance kafkaRebalance,
+                                                  String sessionId, CruiseControlResponse response) {
+        JsonObject taskStatusJson = response.getJson();
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
+        switch (taskStatus) {
+            case COMPLETED:
+                log.info("{}: Rebalance ({}) is now complete", reconciliation, sessionId);
+                return buildRebalanceStatus(
+                        null, KafkaRebalanceState.Ready, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap());
+            case COMPLETED_WITH_ERROR:
+                // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
+                //       We may need to propose an upstream PR for this.
+                // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
+                //       details of any issues while rebalancing.
+                log.error("{}: Rebalance ({}) optimization proposal has failed to complete", reconciliation, sessionId);
+                return buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady);
+            case IN_EXECUTION: // Rebalance is still in progress
+                // We need to check that the status has been updated with the ongoing optimisation proposal
+                // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
+                // proposal was still being prepared (in progress). In that case the rebalance will start when
+                // the proposal is complete but the optimisation proposal summary will be missing.
+                if (kafkaRebalance.getStatus().getOptimizationResult() == null ||
+                        kafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
+                    log.info("{}: Rebalance ({}) optimization proposal is now ready and has been added to the status", reconciliation, sessionId);
+                    return buildRebalanceStatus(
+                            sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson.getJsonObject(CC_REST_API_SUMMARY).getMap());
+                }
+                // TODO: Find out if there is any way to check the progress of a rebalance.
+                //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
+                //       We can then update the status at this point.
+                return null;
+            case ACTIVE: // Rebalance proposal is still being calculated
+                // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
+                // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
+                // check that the optimisation proposal is added to the status on the next reconcile.
+                log.info("{}: Rebalance ({}) optimization proposal is still being prepared", reconciliation, sessionId);
+                return null;
+            default:
+                log.error("{}: Unexpected state {}", reconciliation, taskStatus);
+                throw new IllegalStateException("Unexpected state " + taskStatus);
         }
-        return p.future();
     }
 
     /**
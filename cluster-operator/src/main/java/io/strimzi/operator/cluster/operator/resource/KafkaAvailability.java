@@ -12,42 +12,102 @@ import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.lang.Integer.parseInt;
 
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>An instance is meant to be reused for all the brokers of a rolling restart.
+ * It keeps an index of the partitions with a replica on each broker, which is built by describing all the topics
+ * and then refreshed incrementally by each {@link #canRoll(int)}: new topics are described, deleted topics are dropped,
+ * and the topics on the given broker and the topics being reassigned are described again. The reassigned topics are
+ * included because a reassignment can add a replica on the given broker. The index is rebuilt completely once it is
+ * older than the cache TTL, or when the reassignments can't be listed.
+ * The {@code min.insync.replicas} of the topics are cached for the same TTL.</p>
  */
 class KafkaAvailability {
 
     private static final Logger log = LogManager.getLogger(KafkaAvailability.class.getName());
 
+    static final long DEFAULT_CACHE_TTL_MS = 300_000L;
+
     private final Admin ac;
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final long cacheTtlNs;
+
+    /** The state of the partitions of each indexed topic */
+    private final Map<String, PartitionState[]> partitionsByTopic = new ConcurrentHashMap<>();
+    /** For each broker, the topics with a replica on it and the sorted indexes of those partitions in {@link #partitionsByTopic} */
+    private final Map<Integer, Map<String, int[]>> partitionsByBroker = new ConcurrentHashMap<>();
+    private final Map<String, MinIsr> minIsrByTopic = new ConcurrentHashMap<>();
+    private volatile boolean indexed = false;
+    private volatile long indexedAt;
+
+    /**
+     * The replicas and ISR of a partition, as sorted broker ids.
+     */
+    private static class PartitionState {
+        final int partition;
+        final int[] replicas;
+        final int[] isr;
+
+        PartitionState(TopicPartitionInfo pi) {
+            this.partition = pi.partition();
+            this.replicas = brokerIds(pi.replicas());
+            this.isr = brokerIds(pi.isr());
+        }
+
+        private static int[] brokerIds(List<Node> nodes) {
+            int[] ids = new int[nodes.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = nodes.get(i).id();
+            }
+            Arrays.sort(ids);
+            return ids;
+        }
+    }
+
+    /**
+     * The {@code min.insync.replicas} of a topic (or -1 if it lacks it) and when it was fetched.
+     */
+    private static class MinIsr {
+        final int value;
+        final long fetchedAt;
+
+        MinIsr(int value, long fetchedAt) {
+            this.value = value;
+            this.fetchedAt = fetchedAt;
+        }
+    }
 
     KafkaAvailability(Admin ac) {
+        this(ac, DEFAULT_CACHE_TTL_MS);
+    }
+
+    KafkaAvailability(Admin ac, long cacheTtlMs) {
         this.ac = ac;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            log.debug("Got {} topic names", names.size());
-            log.trace("Topic names {}", names);
-            return describeTopics(names);
-        });
+        this.cacheTtlNs = TimeUnit.MILLISECONDS.toNanos(cacheTtlMs);
     }
 
     /**
@@ -56,28 +116,32 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         log.debug("Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
+        return canRollBroker(podId, new int[0]);
+    }
+
+    /**
+     * Determine whether the given broker can be rolled while the given other brokers are being rolled too,
+     * without affecting producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+     * The brokers being rolled are considered out of the ISR of all their partitions.
+     */
+    Future<Boolean> canRoll(int podId, Set<Integer> restartingPodIds) {
+        log.debug("Determining whether broker {} can be rolled while brokers {} are being rolled", podId, restartingPodIds);
+        return canRollBroker(podId, restartingPodIds.stream().mapToInt(Integer::intValue).toArray());
     }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    log.debug("Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
+    private Future<Boolean> canRollBroker(int podId, int[] restartingPodIds) {
+        Future<Map<String, int[]>> partitionsOnGivenBroker = refreshIndex(podId)
+                .recover(error -> {
                     log.warn(error);
                     return Future.failedFuture(error);
                 });
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+        // Get min.insync.replicas (for the topics on $broker)
+        Future<Map<String, Integer>> minIsrOnGivenBroker = partitionsOnGivenBroker.compose(partitions -> minIsr(partitions.keySet()));
 
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
-            Collection<TopicDescription> tds = topicsOnGivenBroker.result();
-            boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
+        return minIsrOnGivenBroker.map(topicNameToMinIsr -> {
+            boolean canRoll = partitionsOnGivenBroker.result().entrySet().stream().noneMatch(
+                entry -> wouldAffectAvailability(podId, restartingPodIds, entry.getKey(), entry.getValue(), topicNameToMinIsr.get(entry.getKey())));
             if (!canRoll) {
                 log.debug("Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
             }
@@ -88,62 +152,187 @@ class KafkaAvailability {
         });
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
+    /**
+     * Brings the index up to date for the given broker.
+     * @return A future completed with the partitions on the given broker, as the sorted indexes of each topic's partitions.
+     */
+    private Future<Map<String, int[]>> refreshIndex(int podId) {
+        long now = System.nanoTime();
+        boolean expired = !indexed || now - indexedAt >= cacheTtlNs;
+        Future<Set<String>> reassigning = expired ? Future.succeededFuture(null) : reassigningTopics()
+                .recover(error -> {
+                    log.debug("Error listing the partition reassignments, describing all the topics", error);
+                    return Future.succeededFuture(null);
+                });
+        return reassigning.compose(reassigningNames -> topicNames().compose(names -> {
+            log.debug("Got {} topic names", names.size());
+            log.trace("Topic names {}", names);
+            boolean full = reassigningNames == null;
+            Set<String> toDescribe;
+            if (full) {
+                toDescribe = names;
+            } else {
+                for (String topicName : new ArrayList<>(partitionsByTopic.keySet())) {
+                    if (!names.contains(topicName)) {
+                        unindex(topicName);
+                        minIsrByTopic.remove(topicName);
+                    }
+                }
+                toDescribe = new HashSet<>(names);
+                toDescribe.removeAll(partitionsByTopic.keySet());
+                toDescribe.addAll(partitionsByBroker.getOrDefault(podId, Collections.emptyMap()).keySet());
+                for (String topicName : reassigningNames) {
+                    if (names.contains(topicName)) {
+                        toDescribe.add(topicName);
+                    }
+                }
+                log.debug("Describing {} of {} topics", toDescribe.size(), names.size());
+            }
+            Future<Collection<TopicDescription>> descriptions = toDescribe.isEmpty()
+                    ? Future.succeededFuture(Collections.emptyList()) : describeTopics(toDescribe);
+            return descriptions.map(tds -> {
+                log.debug("Got {} topic descriptions", tds.size());
+                if (full) {
+                    partitionsByTopic.clear();
+                    partitionsByBroker.clear();
+                    minIsrByTopic.keySet().retainAll(names);
+                    indexedAt = now;
+                    indexed = true;
+                }
+                for (TopicDescription td : tds) {
+                    log.trace("{}", td);
+                    index(td);
+                }
+                return new HashMap<>(partitionsByBroker.getOrDefault(podId, Collections.emptyMap()));
+            });
+        }));
+    }
+
+    private void index(TopicDescription td) {
+        unindex(td.name());
+        PartitionState[] partitions = new PartitionState[td.partitions().size()];
+        Map<Integer, IntStream.Builder> partitionsOnBroker = new HashMap<>();
+        int i = 0;
+        for (TopicPartitionInfo pi : td.partitions()) {
+            PartitionState partition = new PartitionState(pi);
+            for (int broker : partition.replicas) {
+                partitionsOnBroker.computeIfAbsent(broker, b -> IntStream.builder()).add(i);
+            }
+            partitions[i++] = partition;
+        }
+        partitionsByTopic.put(td.name(), partitions);
+        for (Map.Entry<Integer, IntStream.Builder> entry : partitionsOnBroker.entrySet()) {
+            partitionsByBroker.computeIfAbsent(entry.getKey(), b -> new ConcurrentHashMap<>())
+                    .put(td.name(), entry.getValue().build().toArray());
+        }
+    }
+
+    private void unindex(String topicName) {
+        PartitionState[] partitions = partitionsByTopic.remove(topicName);
+        if (partitions != null) {
+            for (PartitionState partition : partitions) {
+                for (int broker : partition.replicas) {
+                    Map<String, int[]> topics = partitionsByBroker.get(broker);
+                    if (topics != null) {
+                        topics.remove(topicName);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the {@code min.insync.replicas} of the given topics, describing the configs only of those
+     * which are not cached or whose cache entry is expired.
+     */
+    private Future<Map<String, Integer>> minIsr(Set<String> topicNames) {
+        long now = System.nanoTime();
+        Map<String, Integer> result = new HashMap<>(topicNames.size());
+        List<String> toDescribe = new ArrayList<>();
+        for (String topicName : topicNames) {
+            MinIsr cached = minIsrByTopic.get(topicName);
+            if (cached != null && now - cached.fetchedAt < cacheTtlNs) {
+                result.put(topicName, cached.value);
+            } else {
+                toDescribe.add(topicName);
+            }
+        }
+        if (toDescribe.isEmpty()) {
+            return Future.succeededFuture(result);
+        }
+        return topicConfigs(toDescribe).map(topicNameToConfig -> {
+            for (Map.Entry<String, Config> entry : topicNameToConfig.entrySet()) {
+                int minIsr = minIsr(entry.getKey(), entry.getValue());
+                minIsrByTopic.put(entry.getKey(), new MinIsr(minIsr, now));
+                result.put(entry.getKey(), minIsr);
+            }
+            return result;
+        });
+    }
+
+    private int minIsr(String topicName, Config config) {
         ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
         if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
-            log.debug("{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+            int minIsr = parseInt(minIsrConfig.value());
+            log.debug("{} has {}={}.", topicName, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+            return minIsr;
         } else {
-            minIsr = -1;
-            log.debug("{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            log.debug("{} lacks {}.", topicName, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            return -1;
         }
+    }
 
-        for (TopicPartitionInfo pi : td.partitions()) {
-            List<Node> isr = pi.isr();
-            if (minIsr >= 0) {
-                if (pi.replicas().size() <= minIsr) {
-                    log.debug("{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
-                            td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                            pi.replicas().size());
-                } else if (isr.size() < minIsr
-                        && contains(pi.replicas(), broker)) {
-                    logIsrReplicas(td, pi, isr);
-                    log.info("{}/{} is already underreplicated (|ISR|={}, {}={}); broker {} has a replica, " +
-                                    "so should not be restarted right now (it might be first to catch up).",
-                            td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                    return true;
-                } else if (isr.size() == minIsr
-                        && contains(isr, broker)) {
-                    if (minIsr < pi.replicas().size()) {
-                        logIsrReplicas(td, pi, isr);
-                        log.info("{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted.",
-                                td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                        return true;
-                    } else {
-                        log.debug("{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                pi.replicas().size());
-                    }
-                }
+    private boolean wouldAffectAvailability(int broker, int[] restartingBrokers, String topicName, int[] partitionsOnBroker, Integer minIsrOrNull) {
+        PartitionState[] partitions = partitionsByTopic.get(topicName);
+        int minIsr = minIsrOrNull != null ? minIsrOrNull : -1;
+        if (partitions == null || minIsr < 0) {
+            return false;
+        }
+
+        // Only the partitions with a replica on the broker can be affected by restarting it
+        for (int partition : partitionsOnBroker) {
+            PartitionState pi = partitions[partition];
+            int isrSize = isrSize(pi, restartingBrokers);
+            if (pi.replicas.length <= minIsr) {
+                log.debug("{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
+                        topicName, pi.partition, isrSize, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                        pi.replicas.length);
+            } else if (isrSize < minIsr
+                    && contains(pi.replicas, broker)) {
+                logIsrReplicas(topicName, pi);
+                log.info("{}/{} is already underreplicated (|ISR|={}, {}={}); broker {} has a replica, " +
+                                "so should not be restarted right now (it might be first to catch up).",
+                        topicName, pi.partition, isrSize, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                return true;
+            } else if (isrSize == minIsr
+                    && contains(pi.isr, broker)) {
+                logIsrReplicas(topicName, pi);
+                log.info("{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted.",
+                        topicName, pi.partition, isrSize, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                return true;
             }
         }
         return false;
     }
 
-    private void logIsrReplicas(TopicDescription td, TopicPartitionInfo pi, List<Node> isr) {
-        if (log.isDebugEnabled()) {
-            log.debug("{}/{} has ISR={}, replicas={}", td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()));
+    private static int isrSize(PartitionState pi, int[] restartingBrokers) {
+        int isrSize = pi.isr.length;
+        for (int restartingBroker : restartingBrokers) {
+            if (contains(pi.isr, restartingBroker)) {
+                isrSize--;
+            }
         }
+        return isrSize;
     }
 
-    String nodeList(List<Node> nodes) {
-        return nodes.stream().map(n -> String.valueOf(n.id())).collect(Collectors.joining(",", "[", "]"));
+    private void logIsrReplicas(String topicName, PartitionState pi) {
+        if (log.isDebugEnabled()) {
+            log.debug("{}/{} has ISR={}, replicas={}", topicName, pi.partition, Arrays.toString(pi.isr), Arrays.toString(pi.replicas));
+        }
     }
 
-    private boolean contains(List<Node> isr, int broker) {
-        return isr.stream().anyMatch(node -> node.id() == broker);
+    private static boolean contains(int[] sortedBrokerIds, int broker) {
+        return Arrays.binarySearch(sortedBrokerIds, broker) >= 0;
     }
 
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
@@ -166,21 +355,6 @@ class KafkaAvailability {
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            log.trace("{}", td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
-        }
-        return topicPartitionInfos;
-    }
-
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).all()
@@ -195,6 +369,25 @@ class KafkaAvailability {
         return descPromise.future();
     }
 
+    /**
+     * @return A future completed with the names of the topics with partitions being reassigned.
+     */
+    protected Future<Set<String>> reassigningTopics() {
+        Promise<Set<String>> namesPromise = Promise.promise();
+        ac.listPartitionReassignments().reassignments()
+                .whenComplete((reassignments, error) -> {
+                    if (error != null) {
+                        namesPromise.fail(error);
+                    } else {
+                        log.debug("Got {} partition reassignments", reassignments.size());
+                        namesPromise.complete(reassignments.keySet().stream()
+                                .map(TopicPartition::topic)
+                                .collect(Collectors.toSet()));
+                    }
+                });
+        return namesPromise.future();
+    }
+
     protected Future<Set<String>> topicNames() {
         Promise<Set<String>> namesPromise = Promise.promise();
         ac.listTopics(new ListTopicsOptions().listInternal(true)).names()
@@ -10,16 +10,21 @@ import java.net.Socket;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -54,6 +59,7 @@ import org.apache.kafka.common.Node;
 import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.SslAuthenticationException;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -96,6 +102,21 @@ import static java.util.Collections.singletonList;
  *     <li>even pods which aren't candidates for rolling are checked for readiness which partly avoids
  *     successive reconciliations each restarting a pod which never becomes ready</li>
  * </ul>
+ *
+ * <p>By default the pods are considered one at a time. With a {@code maxBatchSize} greater than 1, up to that many pods
+ * are considered concurrently and pods can be restarted together when:</p>
+ * <ul>
+ *     <li>restarting all of them at the same time would not impact any topic's min.isr, according to {@link KafkaAvailability}, and</li>
+ *     <li>they are all in the same rack, when the brokers have a rack.</li>
+ * </ul>
+ * <p>A pod which can't be restarted together with the pods being restarted is deferred until they're ready.
+ * The controller is still restarted last.</p>
+ *
+ * <p>Before any pod is considered, the roll is planned for all the brokers at once: their broker and broker logger
+ * configs are fetched with a single {@code describeConfigs} call and the brokers which only need to be reconfigured,
+ * and which could be rolled, are updated with a single {@code incrementalAlterConfigs} call. Brokers missing from
+ * that snapshot aren't planned up front. The per-pod steps still describe the config of their broker, as proof that
+ * it is responding, but take its logging config from the snapshot.</p>
  */
 @SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class KafkaRoller {
@@ -117,7 +138,18 @@ public class KafkaRoller {
     private final String kafkaLogging;
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
+    private final ScheduledExecutorService executor;
     private Admin allClient;
+    private KafkaAvailability kafkaAvailability;
+    /** The last availability check, which the next one waits for, because KafkaAvailability isn't thread safe */
+    private Future<Boolean> lastAvailabilityCheck = Future.succeededFuture();
+    private volatile Map<Integer, String> brokerRacks;
+    /** The pods which are currently being restarted */
+    private final Set<Integer> restartingPods = new HashSet<>();
+    /** The broker and broker logger configs of all brokers, fetched when planning the roll */
+    private final Map<ConfigResource, Config> configSnapshot = new ConcurrentHashMap<>();
+    /** The pods which have been reconfigured dynamically when planning the roll */
+    private final Set<Integer> reconfiguredPods = ConcurrentHashMap.newKeySet();
 
     public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
             long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -132,6 +164,19 @@ public class KafkaRoller {
                        StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
                        String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion) {
+        this(vertx, reconciliation, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                sts, clusterCaCertSecret, coKeySecret, adminClientProvider, kafkaConfig, kafkaLogging, kafkaVersion, 1);
+    }
+
+    @SuppressWarnings({"checkstyle:ParameterNumber"})
+    public KafkaRoller(Vertx vertx, Reconciliation reconciliation, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                       StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                       AdminClientProvider adminClientProvider,
+                       String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
         this.namespace = sts.getMetadata().getNamespace();
         this.cluster = Labels.cluster(sts);
         this.numPods = sts.getSpec().getReplicas();
@@ -147,6 +192,9 @@ public class KafkaRoller {
         this.kafkaLogging = kafkaLogging;
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(maxBatchSize,
+            runnable -> new Thread(runnable, maxBatchSize == 1 ? "kafka-roller" : "kafka-roller-" + threadIndex.getAndIncrement()));
     }
 
     /**
@@ -157,9 +205,6 @@ public class KafkaRoller {
         return podOperations.getAsync(namespace, KafkaCluster.kafkaPodName(cluster, podId));
     }
 
-    private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
-        runnable -> new Thread(runnable, "kafka-roller"));
-
     private ConcurrentHashMap<Integer, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, List<String>> podNeedsRestart;
 
@@ -186,12 +231,28 @@ public class KafkaRoller {
             podIds.add(podOperations.isReady(namespace, podName(podId)) ? podIds.size() : 0, podId);
         }
         log.debug("{}: Initial order for rolling restart {}", reconciliation, podIds);
+        // Create all the contexts before scheduling any pod, so that the pods which are already being considered
+        // (e.g. when deferring the controller) see all the pods still to roll
+        for (Integer podId: podIds) {
+            podToContext.computeIfAbsent(podId, k -> new RestartContext(backoffSupplier));
+        }
         for (Integer podId: podIds) {
-            futures.add(schedule(podId, 0, TimeUnit.MILLISECONDS));
+            futures.add(podToContext.get(podId).promise.future());
         }
+        executor.execute(() -> {
+            try {
+                planRoll(podIds);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                for (Integer podId: podIds) {
+                    schedule(podId, 0, TimeUnit.MILLISECONDS);
+                }
+            }
+        });
         Promise<Void> result = Promise.promise();
         CompositeFuture.join(futures).onComplete(ar -> {
-            singleExecutor.shutdown();
+            executor.shutdown();
             try {
                 allClient.close(Duration.ofSeconds(30));
             } catch (RuntimeException e) {
@@ -240,7 +301,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * Pods will be rolled at most {@code maxBatchSize} at a time so the delay may be overrun.
      * @param podId The pod to roll.
      * @param delay The delay.
      * @param unit The unit of the delay.
@@ -249,7 +310,7 @@ public class KafkaRoller {
     private Future<Void> schedule(int podId, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(podId,
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        Runnable task = () -> {
             log.debug("{}: Considering restart of pod {} after delay of {} {}", reconciliation, podId, delay, unit);
             try {
                 restartIfNecessary(podId, ctx);
@@ -257,11 +318,15 @@ public class KafkaRoller {
             } catch (InterruptedException e) {
                 // Let the executor deal with interruption.
                 Thread.currentThread().interrupt();
+            } catch (DeferredRestart e) {
+                // Not an error, so the back off is left untouched
+                log.debug("{}: Deferring restart of pod {}: {}", reconciliation, podId, e.getMessage());
+                schedule(podId, pollingIntervalMs, TimeUnit.MILLISECONDS);
             } catch (FatalProblem e) {
                 log.info("{}: Could not restart pod {}, giving up after {} attempts/{}ms",
                         reconciliation, podId, ctx.backOff.maxAttempts(), ctx.backOff.totalDelayMs(), e);
                 ctx.promise.fail(e);
-                singleExecutor.shutdownNow();
+                executor.shutdownNow();
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> {
                     f.promise.tryFail(e);
                 });
@@ -278,11 +343,114 @@ public class KafkaRoller {
                             reconciliation, podId, e, delay1);
                     schedule(podId, delay1, TimeUnit.MILLISECONDS);
                 }
+            } finally {
+                releaseRestart(podId);
             }
-        }, delay, unit);
+        };
+        try {
+            executor.schedule(task, delay, unit);
+        } catch (RejectedExecutionException e) {
+            // Rolling was already aborted by a fatal problem with another pod
+            ctx.promise.tryFail(e);
+        }
         return ctx.promise.future();
     }
 
+    /**
+     * Plan the roll of all the given pods at once: fetch the configs of all the brokers and dynamically reconfigure
+     * those which don't need a restart. Problems with individual pods are left for their per-pod steps to deal with.
+     * This method blocks.
+     * @param podIds The ids of the pods to roll.
+     * @throws InterruptedException Interrupted while waiting.
+     */
+    private void planRoll(List<Integer> podIds) throws InterruptedException {
+        configSnapshot.putAll(describeBrokerConfigs(podIds));
+
+        Map<Integer, RestartPlan> reconfigurations = new HashMap<>();
+        for (Integer podId : podIds) {
+            if (!configSnapshot.containsKey(Util.getBrokersConfig(podId))
+                    || !configSnapshot.containsKey(Util.getBrokersLogging(podId))) {
+                // Not described again here one by one, the per-pod step describes the broker anyway
+                log.debug("{}: Pod {} is missing from the config snapshot, so its roll is not planned up front", reconciliation, podId);
+                continue;
+            }
+            try {
+                Pod pod = podOperations.get(namespace, podName(podId));
+                RestartContext restartContext = podToContext.get(podId);
+                RestartPlan restartPlan = restartPlan(podId, pod, restartContext, true);
+                if (restartPlan.needsReconfig && !restartPlan.needsRestart
+                        && !deferController(podId, restartContext)
+                        && canReconfigure(podId)) {
+                    reconfigurations.put(podId, restartPlan);
+                }
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                log.debug("{}: Could not plan the roll of pod {} up front", reconciliation, podId, e);
+            }
+        }
+
+        if (!reconfigurations.isEmpty()) {
+            reconfiguredPods.addAll(dynamicUpdateBrokerConfigs(reconfigurations));
+        }
+    }
+
+    /**
+     * Like the per-pod steps, a broker is only reconfigured when it could be rolled, so that a failed reconfiguration
+     * can be followed by a restart. The brokers are reconfigured together without being restarted,
+     * so each of them is checked on its own.
+     */
+    private boolean canReconfigure(int podId) throws Exception {
+        try {
+            return canRoll(podId, 60_000, TimeUnit.MILLISECONDS, false);
+        } finally {
+            releaseRestart(podId);
+        }
+    }
+
+    /**
+     * Returns the broker and broker logger configs of the given brokers, fetched with a single request.
+     * Brokers which did not respond in time are omitted.
+     * @param brokerIds The ids of the brokers.
+     * @return The configs by their resource.
+     */
+    protected Map<ConfigResource, Config> describeBrokerConfigs(List<Integer> brokerIds) throws InterruptedException {
+        List<ConfigResource> resources = new ArrayList<>(2 * brokerIds.size());
+        for (Integer brokerId : brokerIds) {
+            resources.add(Util.getBrokersConfig(brokerId));
+            resources.add(Util.getBrokersLogging(brokerId));
+        }
+
+        Map<ConfigResource, KafkaFuture<Config>> futures;
+        try {
+            futures = allClient.describeConfigs(resources).values();
+        } catch (RuntimeException e) {
+            log.debug("{}: Could not describe the broker configs", reconciliation, e);
+            return Collections.emptyMap();
+        }
+
+        Map<ConfigResource, Config> configs = new HashMap<>(resources.size());
+        long deadline = System.currentTimeMillis() + 30_000L;
+        for (Map.Entry<ConfigResource, KafkaFuture<Config>> entry : futures.entrySet()) {
+            try {
+                configs.put(entry.getKey(), await(Util.kafkaFutureToVertxFuture(vertx, entry.getValue()),
+                    Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS,
+                    error -> new ForceableProblem("Error getting broker config", error)));
+            } catch (ForceableProblem e) {
+                log.debug("{}: Could not describe {}", reconciliation, entry.getKey(), e);
+            }
+        }
+        return configs;
+    }
+
+    /**
+     * Forget the configs of the given broker fetched when planning the roll, so that any later attempt describes it again.
+     */
+    private void forgetSnapshotConfigs(int podId) {
+        configSnapshot.remove(Util.getBrokersConfig(podId));
+        configSnapshot.remove(Util.getBrokersLogging(podId));
+    }
+
     /** Described how the "restart" (which might actually just be a reconfigure) will be performed. */
     static class RestartPlan {
         private final boolean needsRestart;
@@ -318,7 +486,15 @@ public class KafkaRoller {
         }
 
         try {
-            RestartPlan restartPlan = restartPlan(podId, pod, restartContext);
+            if (reconfiguredPods.remove(podId)) {
+                log.debug("{}: Pod {} was reconfigured when planning the roll", reconciliation, podId);
+                // Proof that the reconfigured broker is still responding
+                brokerConfig(podId);
+                awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
+                return;
+            }
+
+            RestartPlan restartPlan = restartPlan(podId, pod, restartContext, false);
             if (restartPlan.needsRestart || restartPlan.needsReconfig) {
                 if (deferController(podId, restartContext)) {
                     log.debug("{}: Pod {} is controller and there are other pods to roll", reconciliation, podId);
@@ -359,6 +535,8 @@ public class KafkaRoller {
             } else {
                 throw e;
             }
+        } finally {
+            forgetSnapshotConfigs(podId);
         }
     }
 
@@ -385,8 +563,11 @@ public class KafkaRoller {
 
     /**
      * Determine whether the pod should be restarted, or the broker reconfigured.
+     * When planning the roll, the broker config comes from the snapshot and the plan is only logged at debug level,
+     * because it is logged again by the per-pod step unless the broker is reconfigured up front.
      */
-    private RestartPlan restartPlan(int podId, Pod pod, RestartContext restartContext) throws ForceableProblem, InterruptedException, FatalProblem {
+    private RestartPlan restartPlan(int podId, Pod pod, RestartContext restartContext, boolean planning) throws ForceableProblem, InterruptedException, FatalProblem {
+        Level planLevel = planning ? Level.DEBUG : Level.INFO;
         List<String> reasonToRestartPod = podNeedsRestart.apply(pod);
         if (pod != null
                 && pod.getStatus() != null
@@ -410,7 +591,7 @@ public class KafkaRoller {
         // connect to the broker and that it's capable of responding.
         Config brokerConfig;
         try {
-            brokerConfig = brokerConfig(podId);
+            brokerConfig = planning ? configSnapshot.get(Util.getBrokersConfig(podId)) : brokerConfig(podId);
         } catch (ForceableProblem e) {
             if (restartContext.backOff.done()) {
                 needsRestart = true;
@@ -425,19 +606,19 @@ public class KafkaRoller {
             loggingDiff = logging(podId);
             if (diff.getDiffSize() > 0) {
                 if (diff.canBeUpdatedDynamically()) {
-                    log.info("{}: Pod {} needs to be reconfigured.", reconciliation, podId);
+                    log.log(planLevel, "{}: Pod {} needs to be reconfigured.", reconciliation, podId);
                     needsReconfig = true;
                 } else {
-                    log.info("{}: Pod {} needs to be restarted, because reconfiguration cannot be done dynamically", reconciliation, podId);
+                    log.log(planLevel, "{}: Pod {} needs to be restarted, because reconfiguration cannot be done dynamically", reconciliation, podId);
                     needsRestart = true;
                 }
             }
             if (loggingDiff.getDiffSize() > 0) {
-                log.info("{}: Pod {} logging needs to be reconfigured.", reconciliation, podId);
+                log.log(planLevel, "{}: Pod {} logging needs to be reconfigured.", reconciliation, podId);
                 needsReconfig = true;
             }
         } else {
-            log.info("{}: Pod {} needs to be restarted. Reason: {}", reconciliation, podId, reasonToRestartPod);
+            log.log(planLevel, "{}: Pod {} needs to be restarted. Reason: {}", reconciliation, podId, reasonToRestartPod);
         }
         return new RestartPlan(needsRestart, needsReconfig, diff, loggingDiff);
     }
@@ -448,7 +629,7 @@ public class KafkaRoller {
      * @return a Future which completes with the config of the given broker.
      */
     protected Config brokerConfig(int brokerId) throws ForceableProblem, InterruptedException {
-        ConfigResource resource = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId));
+        ConfigResource resource = Util.getBrokersConfig(brokerId);
         return await(Util.kafkaFutureToVertxFuture(vertx, allClient.describeConfigs(singletonList(resource)).values().get(resource)),
             30, TimeUnit.SECONDS,
             error -> new ForceableProblem("Error getting broker config", error)
@@ -488,9 +669,54 @@ public class KafkaRoller {
         log.info("{}: Dynamic AlterConfig for broker {} was successful.", reconciliation, podId);
     }
 
+    /**
+     * Dynamically update the configs of all the given brokers with a single request.
+     * @param restartPlans The restart plans of the brokers to update, by broker id.
+     * @return The ids of the brokers which were updated successfully.
+     */
+    protected Set<Integer> dynamicUpdateBrokerConfigs(Map<Integer, RestartPlan> restartPlans) throws InterruptedException {
+        Map<ConfigResource, Collection<AlterConfigOp>> updatedConfig = new HashMap<>(2 * restartPlans.size());
+        for (Map.Entry<Integer, RestartPlan> entry : restartPlans.entrySet()) {
+            updatedConfig.put(Util.getBrokersConfig(entry.getKey()), entry.getValue().diff.getConfigDiff());
+            updatedConfig.put(Util.getBrokersLogging(entry.getKey()), entry.getValue().logDiff.getLoggingDiff());
+        }
+
+        log.info("{}: Altering brokers {}", reconciliation, restartPlans.keySet());
+        log.debug("{}: Altering brokers {} with {}", reconciliation, restartPlans.keySet(), updatedConfig);
+
+        AlterConfigsResult alterConfigResult;
+        try {
+            alterConfigResult = allClient.incrementalAlterConfigs(updatedConfig);
+        } catch (RuntimeException e) {
+            log.debug("{}: Brokers {} could not be updated dynamically", reconciliation, restartPlans.keySet(), e);
+            return Collections.emptySet();
+        }
+
+        Set<Integer> updated = new HashSet<>(restartPlans.size());
+        long deadline = System.currentTimeMillis() + 30_000L;
+        for (Integer podId : restartPlans.keySet()) {
+            try {
+                await(Util.kafkaFutureToVertxFuture(vertx, alterConfigResult.values().get(Util.getBrokersConfig(podId))),
+                    Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS,
+                    error -> new ForceableProblem("Error doing dynamic update", error));
+                await(Util.kafkaFutureToVertxFuture(vertx, alterConfigResult.values().get(Util.getBrokersLogging(podId))),
+                    Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS,
+                    error -> new ForceableProblem("Error performing dynamic logging update for pod " + podId, error));
+                log.info("{}: Dynamic AlterConfig for broker {} was successful.", reconciliation, podId);
+                updated.add(podId);
+            } catch (ForceableProblem e) {
+                log.debug("{}: Pod {} could not be updated dynamically ({}), will be considered again", reconciliation, podId, e);
+            }
+        }
+        return updated;
+    }
+
     private KafkaBrokerLoggingConfigurationDiff logging(int podId)
             throws ForceableProblem, InterruptedException {
-        Config brokerLogging = brokerLogging(podId);
+        Config brokerLogging = configSnapshot.get(Util.getBrokersLogging(podId));
+        if (brokerLogging == null) {
+            brokerLogging = brokerLogging(podId);
+        }
         log.trace("{}: Broker {}: logging description {}", reconciliation, podId, brokerLogging);
         return new KafkaBrokerLoggingConfigurationDiff(brokerLogging, kafkaLogging, podId);
     }
@@ -526,6 +752,13 @@ public class KafkaRoller {
         }
     }
 
+    /** Defers the restart of a pod which can't be restarted together with the pods being restarted */
+    static final class DeferredRestart extends Exception {
+        DeferredRestart(String msg) {
+            super(msg);
+        }
+    }
+
     /** Immediately aborts rolling */
     static final class FatalProblem extends Exception {
         public FatalProblem(String message) {
@@ -537,19 +770,113 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Determine whether the given pod can be restarted, taking into account the pods being restarted concurrently.
+     * If it can, it's added to the pods being restarted until {@link #releaseRestart(int)}.
+     * @throws DeferredRestart If the pod can't be restarted together with the pods being restarted.
+     */
     private boolean canRoll(int podId, long timeout, TimeUnit unit, boolean ignoreSslError)
-            throws ForceableProblem, InterruptedException {
-        try {
-            return await(availability(allClient).canRoll(podId), timeout, unit,
-                t -> new ForceableProblem("An error while trying to determine rollability", t));
-        } catch (ForceableProblem e) {
-            // If we're not able to connect then roll
-            if (ignoreSslError && e.getCause() instanceof SslAuthenticationException) {
-                return true;
-            } else {
-                throw e;
+            throws ForceableProblem, InterruptedException, DeferredRestart {
+        while (true) {
+            // The check runs outside the lock, against a snapshot of the pods being restarted
+            Set<Integer> restarting;
+            Future<Boolean> availability = null;
+            synchronized (restartingPods) {
+                if (!restartingPods.isEmpty() && brokerRacks != null && !sameRack(podId, restartingPods)) {
+                    throw new DeferredRestart("Pods " + restartingPods + " in a different rack are being restarted");
+                }
+                restarting = new HashSet<>(restartingPods);
+                if (restarting.isEmpty() || brokerRacks != null) {
+                    availability = availabilityCheck(podId, restarting);
+                }
+            }
+            if (availability == null) {
+                // The racks are only needed for restarting pods together, and they're fetched outside the lock
+                brokerRacks = brokerRacks();
+                continue;
+            }
+            boolean canRoll;
+            try {
+                canRoll = await(availability, timeout, unit,
+                    t -> new ForceableProblem("An error while trying to determine rollability", t));
+            } catch (ForceableProblem e) {
+                // If we're not able to connect then roll
+                if (ignoreSslError && e.getCause() instanceof SslAuthenticationException) {
+                    canRoll = true;
+                } else {
+                    throw e;
+                }
+            }
+            synchronized (restartingPods) {
+                if (!restartingPods.equals(restarting)) {
+                    // Other pods started or finished restarting in the meantime, so check again with them
+                    continue;
+                }
+                if (canRoll) {
+                    restartingPods.add(podId);
+                } else if (!restartingPods.isEmpty()) {
+                    throw new DeferredRestart("Pod " + podName(podId) + " is not rollable while pods " + restartingPods + " are being restarted");
+                }
+                return canRoll;
+            }
+        }
+    }
+
+    /**
+     * Starts checking whether the given pod can be restarted together with the {@code restarting} pods
+     * once the previous check completed, even if its caller stopped waiting for it.
+     * The same KafkaAvailability is reused for all the pods, so that it can refresh its state incrementally.
+     */
+    private Future<Boolean> availabilityCheck(int podId, Set<Integer> restarting) {
+        if (kafkaAvailability == null) {
+            kafkaAvailability = availability(allClient);
+        }
+        KafkaAvailability availability = kafkaAvailability;
+        Function<Object, Future<Boolean>> check = ignored -> restarting.isEmpty()
+                ? availability.canRoll(podId)
+                : availability.canRoll(podId, restarting);
+        lastAvailabilityCheck = lastAvailabilityCheck.compose(check::apply, check::apply);
+        return lastAvailabilityCheck;
+    }
+
+    private void releaseRestart(int podId) {
+        synchronized (restartingPods) {
+            restartingPods.remove(podId);
+        }
+    }
+
+    /**
+     * Return true if the given pod is in the same rack as all the given other pods,
+     * or if the rack of some of them isn't known.
+     */
+    private boolean sameRack(int podId, Set<Integer> otherPodIds) {
+        String rack = brokerRacks.get(podId);
+        if (rack == null) {
+            return true;
+        }
+        for (Integer otherPodId : otherPodIds) {
+            String otherRack = brokerRacks.get(otherPodId);
+            if (otherRack != null && !rack.equals(otherRack)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the racks of the brokers, by broker id. Brokers without a rack are omitted.
+     */
+    protected Map<Integer, String> brokerRacks() throws ForceableProblem, InterruptedException {
+        Collection<Node> nodes = await(Util.kafkaFutureToVertxFuture(vertx, allClient.describeCluster().nodes()),
+            30, TimeUnit.SECONDS,
+            error -> new ForceableProblem("Error getting broker racks", error));
+        Map<Integer, String> racks = new HashMap<>(nodes.size());
+        for (Node node : nodes) {
+            if (node.hasRack()) {
+                racks.put(node.id(), node.rack());
             }
         }
+        return racks;
     }
 
     /**
@@ -36,6 +36,7 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.PooledAdminClientProvider;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
@@ -98,7 +99,7 @@ public class ResourceOperatorSupplier {
             new ZookeeperLeaderFinder(vertx, new SecretOperator(vertx, client),
             // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
                 () -> new BackOff(5_000, 2, 4)),
-                    new DefaultAdminClientProvider(),
+                    new PooledAdminClientProvider(vertx, new DefaultAdminClientProvider(), new MicrometerMetricsProvider()),
                     new DefaultZookeeperScalerProvider(),
                     new MicrometerMetricsProvider(),
                     pfa, operationTimeoutMs);
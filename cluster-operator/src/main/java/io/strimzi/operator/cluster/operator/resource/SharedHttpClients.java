@@ -0,0 +1,80 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+
+import java.util.function.Supplier;
+
+/**
+ * Long-lived HTTP clients shared by all the users of a given Vert.x instance, in the same way as
+ * {@link Vertx#createSharedWorkerExecutor(String)} shares worker pools by name.
+ * The REST API clients (Kafka Connect, Cruise Control) are created per reconciliation, so creating an
+ * {@link HttpClient} for each of them would throw the connection pool away after every request.
+ * A shared client keeps a bounded pool of keep-alive connections for each host and port it talks to.
+ * Connection pool usage is reported through the Vert.x HTTP client metrics.
+ */
+public class SharedHttpClients {
+    private static final String SHARED_HTTP_CLIENTS = "strimzi.shared-http-clients";
+
+    /**
+     * Default maximum number of connections kept per host and port
+     */
+    public static final int DEFAULT_MAX_POOL_SIZE = 5;
+    /**
+     * Default number of seconds after which an unused pooled connection is closed
+     */
+    public static final int DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS = 60;
+    /**
+     * Default connection timeout in milliseconds
+     */
+    public static final int DEFAULT_CONNECT_TIMEOUT_MS = 10_000;
+
+    private SharedHttpClients() { }
+
+    /**
+     * Returns the default options for pooled REST API clients: keep-alive connections, a bounded number of
+     * connections per host and port, and a connect timeout. Unused connections are closed after the keep-alive timeout.
+     * Pipelining is disabled, so that a slow request (such as a Cruise Control proposal) doesn't hold up the requests
+     * queued behind it on the same connection.
+     *
+     * @return The HTTP client options.
+     */
+    public static HttpClientOptions pooledOptions() {
+        return new HttpClientOptions()
+                .setKeepAlive(true)
+                .setPipelining(false)
+                .setMaxPoolSize(DEFAULT_MAX_POOL_SIZE)
+                .setKeepAliveTimeout(DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS)
+                .setConnectTimeout(DEFAULT_CONNECT_TIMEOUT_MS);
+    }
+
+    /**
+     * Gets the HTTP client with the given name, creating it with the given options the first time it is requested.
+     * The client lives as long as the Vert.x instance.
+     *
+     * @param vertx The Vert.x instance.
+     * @param name The name of the client.
+     * @param options The supplier of the options for creating the client.
+     *
+     * @return The shared HTTP client.
+     */
+    public static HttpClient get(Vertx vertx, String name, Supplier<HttpClientOptions> options) {
+        LocalMap<String, Holder> clients = vertx.sharedData().getLocalMap(SHARED_HTTP_CLIENTS);
+        return clients.computeIfAbsent(name, ignored -> new Holder(vertx.createHttpClient(options.get()))).client;
+    }
+
+    private static class Holder implements Shareable {
+        private final HttpClient client;
+
+        Holder(HttpClient client) {
+            this.client = client;
+        }
+    }
+}
@@ -14,11 +14,13 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.PemKeyCertOptions;
@@ -29,9 +31,12 @@ import org.apache.logging.log4j.Logger;
 import java.io.ByteArrayInputStream;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -49,9 +54,19 @@ public class ZookeeperLeaderFinder {
 
     public static final int UNKNOWN_LEADER = -1;
 
+    /**
+     * For how long the client and the last known leader of a cluster are kept after its leader was last looked for,
+     * so that deleted clusters don't keep them for the life of the operator
+     */
+    static final long IDLE_TIMEOUT_MS = 300_000;
+
     private final Vertx vertx;
     final SecretOperator secretOperator;
     private final Supplier<BackOff> backOffSupplier;
+    private final Map<String, ClusterNetClient> netClients = new ConcurrentHashMap<>();
+    private final Map<String, LeaderPod> leaders = new ConcurrentHashMap<>();
+    /*test*/ long idleTimeoutMs = IDLE_TIMEOUT_MS;
+    private long idleTimerId = -1;
 
     public ZookeeperLeaderFinder(Vertx vertx, SecretOperator secretOperator, Supplier<BackOff> backOffSupplier) {
         this.vertx = vertx;
@@ -147,22 +162,87 @@ public class ZookeeperLeaderFinder {
                 return Future.failedFuture(Util.missingSecretException(namespace, clusterCaSecretName));
             }
             try {
-                NetClientOptions netClientOptions = clientOptions(coKeySecret, clusterCaCertificateSecret);
-                return zookeeperLeader(cluster, namespace, pods, netClientOptions);
+                String key = namespace + "/" + cluster;
+                ClusterNetClient netClient = netClient(key, coKeySecret, clusterCaCertificateSecret);
+                return zookeeperLeader(cluster, namespace, pods, netClient.netClient)
+                        .onComplete(ignored -> release(key, netClient));
             } catch (Throwable e) {
                 return Future.failedFuture(e);
             }
         });
 
     }
+
+    /**
+     * Returns the NetClient for connecting to the Zookeeper nodes of the given cluster. The client, and so its SSL context,
+     * is reused for as long as the CO certificate and the cluster CA certificates don't change.
+     */
+    private ClusterNetClient netClient(String key, Secret coKeySecret, Secret clusterCaCertificateSecret) {
+        ClusterNetClient netClient = netClients.compute(key, (k, current) -> {
+            if (current == null || !current.usesCertificates(coKeySecret, clusterCaCertificateSecret)) {
+                if (current != null) {
+                    log.debug("Certificates of {} changed, recreating the Zookeeper client", key);
+                    current.netClient.close();
+                }
+                current = new ClusterNetClient(coKeySecret, clusterCaCertificateSecret,
+                        vertx.createNetClient(clientOptions(coKeySecret, clusterCaCertificateSecret)));
+            }
+            current.users++;
+            return current;
+        });
+        scheduleIdleEviction();
+        return netClient;
+    }
+
+    private void release(String key, ClusterNetClient netClient) {
+        netClients.computeIfPresent(key, (k, current) -> {
+            if (current == netClient) {
+                current.users--;
+                current.lastUsedMs = System.currentTimeMillis();
+            }
+            return current;
+        });
+    }
+
+    private synchronized void scheduleIdleEviction() {
+        if (idleTimerId == -1) {
+            idleTimerId = vertx.setTimer(idleTimeoutMs, id -> evictIdle());
+        }
+    }
+
+    /**
+     * Closes the clients, and forgets the leaders, of the clusters whose leader wasn't looked for within the idle timeout.
+     */
+    private void evictIdle() {
+        synchronized (this) {
+            idleTimerId = -1;
+        }
+        long now = System.currentTimeMillis();
+        for (String key : netClients.keySet()) {
+            netClients.computeIfPresent(key, (k, current) -> {
+                if (current.users > 0 || now - current.lastUsedMs < idleTimeoutMs) {
+                    return current;
+                }
+                log.debug("Closing the idle Zookeeper client of {}", key);
+                current.netClient.close();
+                leaders.remove(key);
+                return null;
+            });
+        }
+        if (!netClients.isEmpty()) {
+            scheduleIdleEviction();
+        }
+    }
+
     private Future<Integer> zookeeperLeader(String cluster, String namespace, List<Pod> pods,
-                                            NetClientOptions netClientOptions) {
+                                            NetClient netClient) {
         Promise<Integer> result = Promise.promise();
         BackOff backOff = backOffSupplier.get();
+        String key = namespace + "/" + cluster;
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long tid) {
-                zookeeperLeader(pods, netClientOptions).onComplete(leader -> {
+                zookeeperLeader(key, pods, netClient).onComplete(leader -> {
                     if (leader.succeeded()) {
                         if (leader.result() != UNKNOWN_LEADER) {
                             result.complete(leader.result());
@@ -204,90 +284,132 @@ public class ZookeeperLeaderFinder {
     }
 
     /**
-     * Synchronously find the leader by testing each pod in the given list
-     * using {@link #isLeader(Pod, NetClientOptions)}.
+     * Find the leader by testing the pods in the given list using {@link #isLeader(Pod, NetClient)}.
+     * The last known leader is tested first. If it is not the leader anymore, all the other pods are tested concurrently.
      */
-    private Future<Integer> zookeeperLeader(List<Pod> pods, NetClientOptions netClientOptions) {
+    private Future<Integer> zookeeperLeader(String key, List<Pod> pods, NetClient netClient) {
         try {
-            Future<Integer> f = Future.succeededFuture(UNKNOWN_LEADER);
-            for (int i = 0; i < pods.size(); i++) {
-                final int podNum = i;
-                Pod pod = pods.get(i);
-                String podName = pod.getMetadata().getName();
-                f = f.compose(leader -> {
-                    if (leader == UNKNOWN_LEADER) {
-                        log.debug("Checker whether {} is leader", podName);
-                        return isLeader(pod, netClientOptions).map(isLeader -> {
-                            if (isLeader != null && isLeader) {
-                                log.info("Pod {} is leader", podName);
-                                return podNum;
-                            } else {
-                                log.info("Pod {} is not a leader", podName);
-                                return UNKNOWN_LEADER;
-                            }
-                        });
-                    } else {
-                        return Future.succeededFuture(leader);
+            int lastLeader = lastKnownLeader(key, pods);
+            Future<Integer> f;
+            if (lastLeader != UNKNOWN_LEADER) {
+                log.debug("Checking whether the last known leader {} is still leader", pods.get(lastLeader).getMetadata().getName());
+                f = isLeader(pods, lastLeader, netClient).map(isLeader -> isLeader ? lastLeader : UNKNOWN_LEADER);
+            } else {
+                f = Future.succeededFuture(UNKNOWN_LEADER);
+            }
+
+            return f.compose(leader -> {
+                if (leader != UNKNOWN_LEADER) {
+                    return Future.succeededFuture(leader);
+                }
+
+                List<Future> checks = new ArrayList<>(pods.size());
+                for (int i = 0; i < pods.size(); i++) {
+                    checks.add(i != lastLeader ? isLeader(pods, i, netClient) : Future.succeededFuture(Boolean.FALSE));
+                }
+                // isLeader() never fails, so all the checks are complete once joined
+                return CompositeFuture.join(checks).map(ignored -> {
+                    for (int i = 0; i < checks.size(); i++) {
+                        if (Boolean.TRUE.equals(checks.get(i).result())) {
+                            return i;
+                        }
                     }
+                    return UNKNOWN_LEADER;
                 });
-            }
-            return f;
+            }).map(leader -> {
+                if (leader != UNKNOWN_LEADER) {
+                    leaders.put(key, new LeaderPod(pods.get(leader)));
+                } else {
+                    leaders.remove(key);
+                }
+                return leader;
+            });
         } catch (Throwable t) {
             return Future.failedFuture(t);
         }
     }
 
+    /**
+     * Returns the index of the last known leader in the given list of pods, or {@link #UNKNOWN_LEADER} when it is not
+     * known or when the pod changed since, for example because it was restarted.
+     */
+    private int lastKnownLeader(String key, List<Pod> pods) {
+        LeaderPod leader = leaders.get(key);
+        if (leader != null) {
+            for (int i = 0; i < pods.size(); i++) {
+                if (leader.is(pods.get(i))) {
+                    return i;
+                }
+            }
+            leaders.remove(key);
+        }
+        return UNKNOWN_LEADER;
+    }
+
+    private Future<Boolean> isLeader(List<Pod> pods, int podNum, NetClient netClient) {
+        String podName = pods.get(podNum).getMetadata().getName();
+        log.debug("Checker whether {} is leader", podName);
+        return isLeader(pods.get(podNum), netClient).map(isLeader -> {
+            if (isLeader != null && isLeader) {
+                log.info("Pod {} is leader", podName);
+                return true;
+            } else {
+                log.info("Pod {} is not a leader", podName);
+                return false;
+            }
+        });
+    }
+
     /**
      * Returns whether the given pod is the zookeeper leader.
      */
-    protected Future<Boolean> isLeader(Pod pod, NetClientOptions netClientOptions) {
+    protected Future<Boolean> isLeader(Pod pod, NetClient netClient) {
 
         Promise<Boolean> promise = Promise.promise();
         String host = host(pod);
         int port = port(pod);
         log.debug("Connecting to zookeeper on {}:{}", host, port);
-        vertx.createNetClient(netClientOptions)
-            .connect(port, host, ar -> {
-                if (ar.failed()) {
-                    log.warn("ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
-                    promise.fail(ar.cause());
-                } else {
-                    log.debug("ZK {}:{}: connected", host, port);
-                    NetSocket socket = ar.result();
-                    socket.exceptionHandler(ex -> {
-                        if (!promise.tryFail(ex)) {
-                            log.debug("ZK {}:{}: Ignoring error, since leader status of pod {} is already known: {}",
-                                    host, port, pod.getMetadata().getName(), ex);
-                        }
-                    });
-                    StringBuilder sb = new StringBuilder();
-                    // We could use socket idle timeout, but this times out even if the server just responds
-                    // very slowly
-                    long timerId = vertx.setTimer(10_000, tid -> {
-                        log.debug("ZK {}:{}: Timeout waiting for Zookeeper {} to close socket",
-                                host, port, socket.remoteAddress());
-                        socket.close();
-                    });
-                    socket.closeHandler(v -> {
-                        vertx.cancelTimer(timerId);
-                        Matcher matcher = LEADER_MODE_PATTERN.matcher(sb);
-                        boolean isLeader = matcher.find();
-                        log.debug("ZK {}:{}: {} leader", host, port, isLeader ? "is" : "is not");
-                        if (!promise.tryComplete(isLeader)) {
-                            log.debug("ZK {}:{}: Ignoring leader result: Future is already complete",
-                                    host, port);
-                        }
-                    });
-                    log.debug("ZK {}:{}: upgrading to TLS", host, port);
-                    socket.handler(buffer -> {
-                        log.trace("buffer: {}", buffer);
-                        sb.append(buffer.toString());
-                    });
-                    log.debug("ZK {}:{}: sending stat", host, port);
-                    socket.write("stat");
-                }
+        netClient.connect(port, host, ar -> {
+            if (ar.failed()) {
+                log.warn("ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
+                promise.fail(ar.cause());
+            } else {
+                log.debug("ZK {}:{}: connected", host, port);
+                NetSocket socket = ar.result();
+                socket.exceptionHandler(ex -> {
+                    if (!promise.tryFail(ex)) {
+                        log.debug("ZK {}:{}: Ignoring error, since leader status of pod {} is already known: {}",
+                                host, port, pod.getMetadata().getName(), ex);
+                    }
+                });
+                StringBuilder sb = new StringBuilder();
+                // We could use socket idle timeout, but this times out even if the server just responds
+                // very slowly
+                long timerId = vertx.setTimer(10_000, tid -> {
+                    log.debug("ZK {}:{}: Timeout waiting for Zookeeper {} to close socket",
+                            host, port, socket.remoteAddress());
+                    socket.close();
+                });
+                socket.closeHandler(v -> {
+                    vertx.cancelTimer(timerId);
+                    Matcher matcher = LEADER_MODE_PATTERN.matcher(sb);
+                    boolean isLeader = matcher.find();
+                    log.debug("ZK {}:{}: {} leader", host, port, isLeader ? "is" : "is not");
+                    if (!promise.tryComplete(isLeader)) {
+                        log.debug("ZK {}:{}: Ignoring leader result: Future is already complete",
+                                host, port);
+                    }
+                });
+                log.debug("ZK {}:{}: upgrading to TLS", host, port);
+                socket.handler(buffer -> {
+                    log.trace("buffer: {}", buffer);
+                    sb.append(buffer.toString());
+                });
+                log.debug("ZK {}:{}: sending stat", host, port);
+                socket.write("stat");
+            }
 
-            });
+        });
         return promise.future().recover(error -> {
             log.debug("ZK {}:{}: Error trying to determine whether leader ({}) => not leader", host, port, error);
             return Future.succeededFuture(Boolean.FALSE);
@@ -311,4 +433,44 @@ public class ZookeeperLeaderFinder {
     protected int port(Pod pod) {
         return ZookeeperCluster.CLIENT_TLS_PORT;
     }
+
+    /**
+     * The NetClient used for connecting to the Zookeeper nodes of a cluster, with the certificates it was created with.
+     */
+    private static class ClusterNetClient {
+        private final Map<String, String> coKeyData;
+        private final Map<String, String> clusterCaCertificateData;
+        private final NetClient netClient;
+        /** The number of leader searches using the client, guarded by the map of the clients */
+        private int users = 0;
+        private long lastUsedMs = System.currentTimeMillis();
+
+        ClusterNetClient(Secret coKeySecret, Secret clusterCaCertificateSecret, NetClient netClient) {
+            this.coKeyData = coKeySecret.getData();
+            this.clusterCaCertificateData = clusterCaCertificateSecret.getData();
+            this.netClient = netClient;
+        }
+
+        boolean usesCertificates(Secret coKeySecret, Secret clusterCaCertificateSecret) {
+            return Objects.equals(coKeyData, coKeySecret.getData())
+                    && Objects.equals(clusterCaCertificateData, clusterCaCertificateSecret.getData());
+        }
+    }
+
+    /**
+     * Identifies the pod which was found to be the leader. A restarted pod has the same name, but a different UID.
+     */
+    private static class LeaderPod {
+        private final String name;
+        private final String uid;
+
+        LeaderPod(Pod pod) {
+            this.name = pod.getMetadata().getName();
+            this.uid = pod.getMetadata().getUid();
+        }
+
+        boolean is(Pod pod) {
+            return name.equals(pod.getMetadata().getName()) && Objects.equals(uid, pod.getMetadata().getUid());
+        }
+    }
 }
@@ -6,6 +6,9 @@ package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
 import io.vertx.core.Future;
 
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Cruise Control REST API interface definition
  */
@@ -50,6 +53,16 @@ public interface CruiseControlApi {
      */
     Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskID);
 
+    /**
+     *  Get the state of several tasks from the Cruise Control server with a single request.
+     *
+     * @param host The address of the Cruise Control server.
+     * @param port The port the Cruise Control Server is listening on.
+     * @param userTaskIds The unique IDs of the tasks whose state should be retrieved.
+     * @return A future for the state of each of the requested tasks known to Cruise Control, keyed by the user task ID.
+     */
+    Future<Map<String, CruiseControlResponse>> getUserTasksStatus(String host, int port, Set<String> userTaskIds);
+
     /**
      *  Issue a stop command to the Cruise Control server. This will halt any task (e.g. a rebalance) which is currently
      *  in execution.
@@ -4,25 +4,37 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.strimzi.operator.cluster.operator.resource.SharedHttpClients;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
 
 public class CruiseControlApiImpl implements CruiseControlApi {
+    private static final Logger log = LogManager.getLogger(CruiseControlApiImpl.class.getName());
 
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     private static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1; // use default internal HTTP client timeout
     private static final String STATUS_KEY = "Status";
     private static final String SUMMARY_KEY = "summary";
+    private static final String USER_TASK_ID_KEY = "UserTaskId";
+    private static final String HTTP_CLIENT_NAME = "cruise-control-api";
 
-    private final Vertx vertx;
+    private final HttpClient httpClient;
     private final long idleTimeout;
 
     public CruiseControlApiImpl(Vertx vertx) {
@@ -30,7 +42,8 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     }
 
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout) {
-        this.vertx = vertx;
+        this.httpClient = SharedHttpClients.get(vertx, HTTP_CLIENT_NAME,
+            () -> SharedHttpClients.pooledOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING));
         this.idleTimeout = idleTimeout;
     }
 
@@ -43,14 +56,13 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     public Future<CruiseControlResponse> getCruiseControlState(String host, int port, boolean verbose, String userTaskId) {
 
         Promise<CruiseControlResponse> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
 
         String path = new PathBuilder(CruiseControlEndpoints.STATE)
                 .addParameter(CruiseControlParameters.JSON, "true")
                 .addParameter(CruiseControlParameters.VERBOSE, String.valueOf(verbose))
                 .build();
 
-        HttpClientRequest request = vertx.createHttpClient(options)
+        HttpClientRequest request = httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(result::fail);
                     if (response.statusCode() == 200 || response.statusCode() == 201) {
@@ -97,14 +109,13 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         }
 
         Promise<CruiseControlRebalanceResponse> result = Promise.promise();
-        HttpClientOptions httpOptions = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
 
         String path = new PathBuilder(CruiseControlEndpoints.REBALANCE)
                 .addParameter(CruiseControlParameters.JSON, "true")
                 .addRebalanceParameters(rbOptions)
                 .build();
 
-        HttpClientRequest request = vertx.createHttpClient(httpOptions)
+        HttpClientRequest request = httpClient
                 .post(port, host, path, response -> {
                     response.exceptionHandler(result::fail);
                     if (response.statusCode() == 200 || response.statusCode() == 201) {
@@ -177,7 +188,6 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     public Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskId) {
 
         Promise<CruiseControlResponse> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
 
         PathBuilder pathBuilder = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
                         .addParameter(CruiseControlParameters.JSON, "true")
@@ -189,7 +199,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         String path = pathBuilder.build();
 
-        HttpClientRequest request = vertx.createHttpClient(options)
+        HttpClientRequest request = httpClient
                 .get(port, host, path, response -> {
                     response.exceptionHandler(result::fail);
                     if (response.statusCode() == 200 || response.statusCode() == 201) {
@@ -203,29 +213,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                                         "Error for request: " + host + ":" + port + path + ". Server returned: " +
                                                 json.getString(CC_REST_API_ERROR_KEY)));
                             }
-                            JsonObject statusJson = new JsonObject();
-                            String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
-                            statusJson.put(STATUS_KEY, taskStatusStr);
-                            CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
-                            switch (taskStatus) {
-                                case ACTIVE:
-                                    // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
-                                    break;
-                                case IN_EXECUTION:
-                                    // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
-                                    // We handle these in the same way as COMPLETED tasks so we drop down to that case.
-                                case COMPLETED:
-                                    // Completed tasks will have the original rebalance proposal summary in their original response
-                                    statusJson.put(SUMMARY_KEY, ((JsonObject) Json.decodeValue(jsonUserTask.getString("originalResponse"))).getJsonObject(SUMMARY_KEY));
-                                    break;
-                                case COMPLETED_WITH_ERROR:
-                                    // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
-                                    statusJson.put(SUMMARY_KEY, jsonUserTask.getString("originalResponse"));
-                                    break;
-                                default:
-                                    throw new IllegalStateException("Unexpected user task status: " + taskStatus);
-                            }
-                            result.complete(new CruiseControlResponse(userTaskID, statusJson));
+                            result.complete(new CruiseControlResponse(userTaskID, userTaskStatusJson(jsonUserTask)));
                         });
                     } else if (response.statusCode() == 500) {
                         response.bodyHandler(buffer -> {
@@ -256,17 +244,103 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         return result.future();
     }
 
+    @Override
+    @SuppressWarnings("deprecation")
+    public Future<Map<String, CruiseControlResponse>> getUserTasksStatus(String host, int port, Set<String> userTaskIds) {
+
+        Promise<Map<String, CruiseControlResponse>> result = Promise.promise();
+
+        List<String> sortedUserTaskIds = new ArrayList<>(userTaskIds);
+        Collections.sort(sortedUserTaskIds);
+        String path = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
+                .addParameter(CruiseControlParameters.JSON, "true")
+                .addParameter(CruiseControlParameters.FETCH_COMPLETE, "true")
+                .addParameter(CruiseControlParameters.USER_TASK_IDS, sortedUserTaskIds)
+                .build();
+
+        HttpClientRequest request = httpClient
+                .get(port, host, path, response -> {
+                    response.exceptionHandler(result::fail);
+                    if (response.statusCode() == 200 || response.statusCode() == 201) {
+                        response.bodyHandler(buffer -> {
+                            try {
+                                Map<String, CruiseControlResponse> statuses = new HashMap<>();
+                                for (Object userTask : buffer.toJsonObject().getJsonArray("userTasks")) {
+                                    try {
+                                        JsonObject jsonUserTask = (JsonObject) userTask;
+                                        String userTaskId = jsonUserTask.getString(USER_TASK_ID_KEY);
+                                        statuses.put(userTaskId, new CruiseControlResponse(userTaskId, userTaskStatusJson(jsonUserTask)));
+                                    } catch (RuntimeException e) {
+                                        // A malformed task is left out, so that only its own waiters fail
+                                        log.warn("Ignoring unexpected user task {} in the response for request: {}:{}{}", userTask, host, port, path, e);
+                                    }
+                                }
+                                result.complete(statuses);
+                            } catch (RuntimeException e) {
+                                result.fail(new CruiseControlRestException(
+                                        "Unexpected response for request: " + host + ":" + port + path + ": " + e.getMessage()));
+                            }
+                        });
+                    } else {
+                        result.fail(new CruiseControlRestException(
+                                "Unexpected status code " + response.statusCode() + " for GET request to " +
+                                host + ":" + port + path));
+                    }
+                })
+                .exceptionHandler(t -> httpExceptionHandler(result, t));
+
+        if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
+            request.setTimeout(idleTimeout * 1000);
+        }
+
+        request.end();
+
+        return result.future();
+    }
+
+    /**
+     * Builds the status JSON of a user task, containing its status and, when available, the summary of the
+     * rebalance it has computed or executed.
+     *
+     * @param jsonUserTask The user task, as returned by the user tasks endpoint.
+     * @return The status JSON.
+     */
+    private static JsonObject userTaskStatusJson(JsonObject jsonUserTask) {
+        JsonObject statusJson = new JsonObject();
+        String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
+        statusJson.put(STATUS_KEY, taskStatusStr);
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
+        switch (taskStatus) {
+            case ACTIVE:
+                // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
+                break;
+            case IN_EXECUTION:
+                // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
+                // We handle these in the same way as COMPLETED tasks so we drop down to that case.
+            case COMPLETED:
+                // Completed tasks will have the original rebalance proposal summary in their original response
+                statusJson.put(SUMMARY_KEY, ((JsonObject) Json.decodeValue(jsonUserTask.getString("originalResponse"))).getJsonObject(SUMMARY_KEY));
+                break;
+            case COMPLETED_WITH_ERROR:
+                // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
+                statusJson.put(SUMMARY_KEY, jsonUserTask.getString("originalResponse"));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected user task status: " + taskStatus);
+        }
+        return statusJson;
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public Future<CruiseControlResponse> stopExecution(String host, int port) {
 
         Promise<CruiseControlResponse> result = Promise.promise();
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
 
         String path = new PathBuilder(CruiseControlEndpoints.STOP)
                         .addParameter(CruiseControlParameters.JSON, "true").build();
 
-        HttpClientRequest request = vertx.createHttpClient(options)
+        HttpClientRequest request = httpClient
                 .post(port, host, path, response -> {
                     response.exceptionHandler(result::fail);
                     if (response.statusCode() == 200 || response.statusCode() == 201) {
@@ -298,7 +372,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         return result.future();
     }
 
-    private void httpExceptionHandler(Promise<? extends CruiseControlResponse> result, Throwable t) {
+    private void httpExceptionHandler(Promise<?> result, Throwable t) {
         if (t instanceof TimeoutException) {
             // Vert.x throws a NoStackTraceTimeoutException (inherits from TimeoutException) when the request times out
             // goint to catch and raise a TimeoutException instead
@@ -0,0 +1,237 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the user tasks of a single Cruise Control instance on behalf of the KafkaRebalance resources waiting for them.
+ * Instead of each waiting resource polling the status of its own task, the tracker gets the status of all the tasks
+ * which are due with a single request to the user tasks endpoint and hands the results out to the waiters.
+ * Each task is polled with an interval which depends on its state: tasks whose proposal is still being computed are
+ * polled at the minimum interval, while the interval of tasks which are being executed backs off exponentially up to
+ * the maximum interval for as long as their state does not change.
+ */
+public class CruiseControlTaskTracker {
+    private static final Logger log = LogManager.getLogger(CruiseControlTaskTracker.class.getName());
+
+    /**
+     * The minimum interval between two polls of the same task
+     */
+    public static final long MIN_POLL_INTERVAL_MS = 5_000;
+    /**
+     * The maximum interval between two polls of the same task
+     */
+    public static final long MAX_POLL_INTERVAL_MS = 60_000;
+    /**
+     * Tasks which are due within this time after a poll are included in it, instead of being polled on their own
+     */
+    public static final long POLL_COALESCING_MS = 1_000;
+
+    private final Vertx vertx;
+    private final CruiseControlApi apiClient;
+    private final String host;
+    private final int port;
+
+    private final Map<String, TrackedTask> tasks = new HashMap<>();
+    private long timerId = -1;
+    private long timerDueAt;
+
+    private final MetricsProvider metrics;
+    private final AtomicInteger trackedTasksGauge;
+    private final Timer pollTimer;
+
+    /**
+     * @param vertx         Vertx instance
+     * @param apiClient     Cruise Control REST API client
+     * @param host          Cruise Control host
+     * @param port          Cruise Control port
+     * @param metrics       Metrics provider
+     */
+    public CruiseControlTaskTracker(Vertx vertx, CruiseControlApi apiClient, String host, int port, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.apiClient = apiClient;
+        this.host = host;
+        this.port = port;
+        this.metrics = metrics;
+
+        Tags metricTags = Tags.of(Tag.of("host", host));
+
+        trackedTasksGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "cruisecontrol.tasks.tracked",
+                "Number of Cruise Control user tasks tracked by the operator",
+                metricTags);
+
+        pollTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "cruisecontrol.tasks.poll.duration",
+                "The time it takes to get the status of the tracked Cruise Control user tasks",
+                metricTags);
+    }
+
+    /**
+     * Waits for the next poll of the given user task.
+     *
+     * @param userTaskId    The ID of the Cruise Control user task
+     * @return A future which completes with the status of the task once it has been polled, or fails when the poll
+     * fails or Cruise Control does not know the task.
+     */
+    public synchronized Future<CruiseControlResponse> nextStatus(String userTaskId) {
+        long now = System.currentTimeMillis();
+        TrackedTask task = tasks.computeIfAbsent(userTaskId, id -> new TrackedTask(now));
+        Promise<CruiseControlResponse> promise = Promise.promise();
+        task.waiters.add(promise);
+        trackedTasksGauge.set(tasks.size());
+        schedule(now);
+        return promise.future();
+    }
+
+    /**
+     * Stops tracking the given user task. Its waiters, if any, are not completed anymore.
+     *
+     * @param userTaskId    The ID of the Cruise Control user task
+     */
+    public synchronized void release(String userTaskId) {
+        tasks.remove(userTaskId);
+        trackedTasksGauge.set(tasks.size());
+    }
+
+    /**
+     * @return True when the tracker doesn't track any task
+     */
+    public synchronized boolean isIdle() {
+        return tasks.isEmpty();
+    }
+
+    /**
+     * Makes sure a poll is scheduled for the earliest due task with waiters.
+     */
+    private synchronized void schedule(long now) {
+        long dueAt = Long.MAX_VALUE;
+        for (TrackedTask task : tasks.values()) {
+            if (!task.waiters.isEmpty()) {
+                dueAt = Math.min(dueAt, task.nextPollAt);
+            }
+        }
+
+        if (dueAt == Long.MAX_VALUE || (timerId != -1 && timerDueAt <= dueAt)) {
+            return;
+        }
+
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+        }
+        timerDueAt = dueAt;
+        // Vert.x timers need a delay of at least 1ms
+        timerId = vertx.setTimer(Math.max(1, dueAt - now), id -> poll());
+    }
+
+    private void poll() {
+        long now = System.currentTimeMillis();
+        Map<String, List<Promise<CruiseControlResponse>>> due = new HashMap<>();
+
+        synchronized (this) {
+            timerId = -1;
+
+            for (Iterator<Map.Entry<String, TrackedTask>> it = tasks.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<String, TrackedTask> entry = it.next();
+                TrackedTask task = entry.getValue();
+                if (task.waiters.isEmpty()) {
+                    // Nobody asked for this task for a while => stop tracking it
+                    if (now - task.lastPolledAt > MAX_POLL_INTERVAL_MS) {
+                        it.remove();
+                    }
+                } else if (task.nextPollAt <= now + POLL_COALESCING_MS) {
+                    due.put(entry.getKey(), new ArrayList<>(task.waiters));
+                    task.waiters.clear();
+                }
+            }
+
+            trackedTasksGauge.set(tasks.size());
+        }
+
+        if (due.isEmpty()) {
+            schedule(now);
+            return;
+        }
+
+        log.debug("Getting status of Cruise Control user tasks {} from {}", due.keySet(), host);
+        Timer.Sample pollSample = Timer.start(metrics.meterRegistry());
+        apiClient.getUserTasksStatus(host, port, due.keySet()).onComplete(result -> {
+            pollSample.stop(pollTimer);
+            long polledAt = System.currentTimeMillis();
+
+            synchronized (this) {
+                for (String userTaskId : due.keySet()) {
+                    TrackedTask task = tasks.get(userTaskId);
+                    if (task != null) {
+                        task.polled(polledAt, result.succeeded() ? result.result().get(userTaskId) : null);
+                    }
+                }
+                schedule(polledAt);
+            }
+
+            // Complete the waiters outside of the lock, as they usually ask for the next status straight away
+            for (Map.Entry<String, List<Promise<CruiseControlResponse>>> entry : due.entrySet()) {
+                String userTaskId = entry.getKey();
+                CruiseControlResponse status = result.succeeded() ? result.result().get(userTaskId) : null;
+                for (Promise<CruiseControlResponse> waiter : entry.getValue()) {
+                    if (result.failed()) {
+                        waiter.fail(result.cause());
+                    } else if (status == null) {
+                        waiter.fail(new CruiseControlRestException("Cruise Control user task " + userTaskId + " was not found on " + host + " or its status could not be parsed"));
+                    } else {
+                        waiter.complete(status);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * The polling state of a single user task
+     */
+    private static class TrackedTask {
+        private final List<Promise<CruiseControlResponse>> waiters = new ArrayList<>();
+        private CruiseControlUserTaskStatus lastStatus;
+        private long interval = MIN_POLL_INTERVAL_MS;
+        private long lastPolledAt;
+        private long nextPollAt;
+
+        TrackedTask(long now) {
+            this.lastPolledAt = now;
+            this.nextPollAt = now + MIN_POLL_INTERVAL_MS;
+        }
+
+        void polled(long now, CruiseControlResponse response) {
+            CruiseControlUserTaskStatus status = response != null
+                    ? CruiseControlUserTaskStatus.lookup(response.getJson().getString("Status")) : null;
+
+            if (status == CruiseControlUserTaskStatus.IN_EXECUTION && status == lastStatus) {
+                // The rebalance is being executed and nothing changed since the last poll => back off
+                interval = Math.min(interval * 2, MAX_POLL_INTERVAL_MS);
+            } else {
+                interval = MIN_POLL_INTERVAL_MS;
+            }
+
+            lastStatus = status;
+            lastPolledAt = now;
+            nextPollAt = now + interval;
+        }
+    }
+}
@@ -87,6 +87,53 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(ClusterOperatorConfig.DEFAULT_FULL_RECONCILIATION_INTERVAL_MS));
         assertThat(config.getOperationTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_OPERATION_TIMEOUT_MS));
+        assertThat(config.getResourceCacheResyncIntervalMs(), is(ClusterOperatorConfig.DEFAULT_RESOURCE_CACHE_RESYNC_INTERVAL_MS));
+        assertThat(config.getReconciliationWorkers(), is(ClusterOperatorConfig.DEFAULT_RECONCILIATION_WORKERS));
+        assertThat(config.getFullReconciliationSweeps(), is(ClusterOperatorConfig.DEFAULT_FULL_RECONCILIATION_SWEEPS));
+        assertThat(config.getKafkaRollingBatchSize(), is(ClusterOperatorConfig.DEFAULT_KAFKA_ROLLING_BATCH_SIZE));
+    }
+
+    @Test
+    public void testReconciliationWorkers() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_WORKERS, "4");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getReconciliationWorkers(), is(4));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_RECONCILIATION_WORKERS, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testFullReconciliationSweeps() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_FULL_RECONCILIATION_SWEEPS, "5");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getFullReconciliationSweeps(), is(5));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_FULL_RECONCILIATION_SWEEPS, "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testKafkaRollingBatchSize() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_BATCH_SIZE, "3");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getKafkaRollingBatchSize(), is(3));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_BATCH_SIZE, "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testResourceCacheResyncInterval() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_RESOURCE_CACHE_RESYNC_INTERVAL_MS, "600000");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+
+        assertThat(config.getResourceCacheResyncIntervalMs(), is(600_000L));
     }
 
     private Map<String, String> envWithImages() {
@@ -92,7 +92,7 @@ import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.strimzi.test.TestUtils;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
-import io.vertx.core.net.NetClientOptions;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
 import org.apache.kafka.clients.admin.Admin;
@@ -100,10 +100,13 @@ import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListPartitionReassignmentsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.PartitionReassignment;
 import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
 
 import java.io.IOException;
@@ -593,7 +596,7 @@ public class ResourceUtils {
         return new ZookeeperLeaderFinder(vertx, new SecretOperator(vertx, client),
             () -> new BackOff(5_000, 2, 4)) {
                 @Override
-                protected Future<Boolean> isLeader(Pod pod, NetClientOptions options) {
+                protected Future<Boolean> isLeader(Pod pod, NetClient netClient) {
                     return Future.succeededFuture(true);
                 }
 
@@ -655,6 +658,17 @@ public class ResourceUtils {
                     throw new RuntimeException(e);
                 }
                 when(mock.describeConfigs(any())).thenReturn(dcfr);
+
+                ListPartitionReassignmentsResult lprr;
+                try {
+                    Constructor<ListPartitionReassignmentsResult> declaredConstructor = ListPartitionReassignmentsResult.class.getDeclaredConstructor(KafkaFuture.class);
+                    declaredConstructor.setAccessible(true);
+                    KafkaFuture<Map<TopicPartition, PartitionReassignment>> future = KafkaFutureImpl.completedFuture(emptyMap());
+                    lprr = declaredConstructor.newInstance(future);
+                } catch (ReflectiveOperationException e) {
+                    throw new RuntimeException(e);
+                }
+                when(mock.listPartitionReassignments()).thenReturn(lprr);
                 return mock;
             }
         };
@@ -20,6 +20,8 @@ import io.strimzi.api.kafka.model.KafkaConnectResources;
 import io.strimzi.api.kafka.model.KafkaConnectS2I;
 import io.strimzi.api.kafka.model.KafkaConnector;
 import io.strimzi.api.kafka.model.KafkaConnectorBuilder;
+import io.strimzi.api.kafka.model.KafkaConnectorSpec;
+import io.strimzi.api.kafka.model.KafkaConnectorSpecBuilder;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
 import io.strimzi.api.kafka.model.connect.ConnectorPluginBuilder;
 import io.strimzi.api.kafka.model.status.HasStatus;
@@ -62,7 +64,6 @@ import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static io.strimzi.test.TestUtils.map;
 import static io.strimzi.test.TestUtils.waitFor;
@@ -130,6 +131,28 @@ public class ConnectorMockTest {
         return connectorState != null ? Future.succeededFuture(statusNode) : Future.failedFuture("No such connector " + connectorName);
     }
 
+    private Future<Map<String, Map<String, Object>>> kafkaConnectApiListMock(String host)   {
+        String matchingKeyPrefix = host + "##";
+        Map<String, Map<String, Object>> connectors = new HashMap<>();
+        for (Map.Entry<String, ConnectorState> running : runningConnectors.entrySet()) {
+            if (running.getKey().startsWith(matchingKeyPrefix)) {
+                String connectorName = running.getKey().substring(matchingKeyPrefix.length());
+                Map<String, Object> config = new HashMap<>();
+                for (Map.Entry<String, Object> entry : running.getValue().config) {
+                    config.put(entry.getKey(), entry.getValue());
+                }
+                Map<String, Object> info = new HashMap<>();
+                info.put("name", connectorName);
+                info.put("config", config);
+                Map<String, Object> connector = new HashMap<>();
+                connector.put("status", kafkaConnectApiStatusMock(host, connectorName).result());
+                connector.put("info", info);
+                connectors.put(connectorName, connector);
+            }
+        }
+        return Future.succeededFuture(connectors);
+    }
+
     @BeforeAll
     public static void before() {
         vertx = Vertx.vertx();
@@ -156,14 +179,7 @@ public class ConnectorMockTest {
         api = mock(KafkaConnectApi.class);
         runningConnectors = new HashMap<>();
 
-        when(api.list(any(), anyInt())).thenAnswer(i -> {
-            String host = i.getArgument(0);
-            String matchingKeyPrefix = host + "##";
-            return Future.succeededFuture(runningConnectors.keySet().stream()
-                    .filter(s -> s.startsWith(matchingKeyPrefix))
-                    .map(s -> s.substring(matchingKeyPrefix.length()))
-                    .collect(Collectors.toList()));
-        });
+        when(api.listWithStatusAndInfo(any(), anyInt())).thenAnswer(i -> kafkaConnectApiListMock(i.getArgument(0)));
         when(api.listConnectorPlugins(any(), anyInt())).thenAnswer(i -> {
             ConnectorPlugin connectorPlugin = new ConnectorPluginBuilder()
                     .withConnectorClass("io.strimzi.MyClass")
@@ -496,7 +512,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(
@@ -517,7 +533,7 @@ public class ConnectorMockTest {
             .done();
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -556,7 +572,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
             "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
+        verify(api, never()).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -576,7 +592,7 @@ public class ConnectorMockTest {
                 .done();
         waitForConnectReady(connectName);
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered three times (Connect creation, Connector Status update, Connect Status update)
         verify(api, times(3)).createOrUpdatePutRequest(
@@ -616,7 +632,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -637,7 +653,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered twice (Connect creation, Connector Status update)
         verify(api, times(2)).createOrUpdatePutRequest(
@@ -677,7 +693,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
                 "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
+        verify(api, never()).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -698,7 +714,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered at least two times (Connect creation, Connector Status update)
         verify(api, atLeast(2)).createOrUpdatePutRequest(
@@ -837,7 +853,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered atleast once (Connect creation)
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -856,7 +872,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName,
                 "ConnectRestException", "GET /foo returned 500 (Internal server error): Bad stuff happened");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -884,7 +900,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (Connect creation, Connector Status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -905,7 +921,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -970,7 +986,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(
@@ -991,14 +1007,14 @@ public class ConnectorMockTest {
                 .done();
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
-        when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listWithStatusAndInfo(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -1034,7 +1050,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered twice (creation followed by status update)
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(
@@ -1055,14 +1071,14 @@ public class ConnectorMockTest {
                 .done();
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(2)).listWithStatusAndInfo(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(2)).createOrUpdatePutRequest(
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
-        when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listWithStatusAndInfo(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -1079,4 +1095,76 @@ public class ConnectorMockTest {
         waitForConnectNotReady(connectName, "ConnectTimeoutException", "connection timed out");
         waitForConnectorNotReady(connectorName, "ConnectTimeoutException", "connection timed out");
     }
+
+    private static KafkaConnectorSpec connectorSpec() {
+        return new KafkaConnectorSpecBuilder()
+                .withClassName("Dummy")
+                .withTasksMax(1)
+                .withConfig(Collections.singletonMap("topic", "my-topic"))
+                .build();
+    }
+
+    private static Map<String, Object> connectorConfig(String connectorName) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("name", connectorName);
+        config.put("connector.class", "Dummy");
+        config.put("tasks.max", "1");
+        config.put("topic", "my-topic");
+        return config;
+    }
+
+    private Map<String, Map<String, Object>> listed(String host, String connectorName, boolean withInfo) {
+        Map<String, Object> connector = new HashMap<>();
+        connector.put("status", kafkaConnectApiStatusMock(host, connectorName).result());
+        if (withInfo) {
+            Map<String, Object> info = new HashMap<>();
+            info.put("name", connectorName);
+            info.put("config", connectorConfig(connectorName));
+            connector.put("info", info);
+        }
+        return Collections.singletonMap(connectorName, connector);
+    }
+
+    /** A connector listed with the desired config and state needs no further REST API calls */
+    @Test
+    public void testUnchangedConnectorIsNotRequested(VertxTestContext context) {
+        String host = KafkaConnectResources.qualifiedServiceName("cluster", NAMESPACE);
+        String connectorName = "connector";
+
+        runningConnectors.put(key(host, connectorName), new ConnectorState(false, new JsonObject(connectorConfig(connectorName))));
+        Map<String, Map<String, Object>> listed = listed(host, connectorName, true);
+
+        Checkpoint async = context.checkpoint();
+        kafkaConnectOperator.maybeCreateOrUpdateConnector(new Reconciliation("test", "KafkaConnect", NAMESPACE, "cluster"),
+                host, api, connectorName, connectorSpec(), listed)
+            .onComplete(context.succeeding(status -> context.verify(() -> {
+                assertThat(((Map) status.get("connector")).get("state"), is("RUNNING"));
+                verify(api, never()).getConnectorConfig(any(), any(), anyInt(), any());
+                verify(api, never()).status(any(), anyInt(), anyString());
+                verify(api, never()).statusWithBackOff(any(), any(), anyInt(), anyString());
+                verify(api, never()).createOrUpdatePutRequest(any(), anyInt(), anyString(), any());
+                async.flag();
+            })));
+    }
+
+    /** A connector listed without its config or status is requested from the REST API */
+    @Test
+    public void testConnectorListedWithoutInfoIsRequested(VertxTestContext context) {
+        String host = KafkaConnectResources.qualifiedServiceName("cluster", NAMESPACE);
+        String connectorName = "connector";
+
+        runningConnectors.put(key(host, connectorName), new ConnectorState(false, new JsonObject(connectorConfig(connectorName))));
+        Map<String, Map<String, Object>> listed = listed(host, connectorName, false);
+
+        Checkpoint async = context.checkpoint();
+        kafkaConnectOperator.maybeCreateOrUpdateConnector(new Reconciliation("test", "KafkaConnect", NAMESPACE, "cluster"),
+                host, api, connectorName, connectorSpec(), listed)
+            .onComplete(context.succeeding(status -> context.verify(() -> {
+                assertThat(((Map) status.get("connector")).get("state"), is("RUNNING"));
+                verify(api).getConnectorConfig(any(), eq(host), anyInt(), eq(connectorName));
+                verify(api).status(eq(host), anyInt(), eq(connectorName));
+                verify(api, never()).createOrUpdatePutRequest(any(), anyInt(), anyString(), any());
+                async.flag();
+            })));
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.operator.KubernetesVersion;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaAssemblyOperatorFingerprintTest {
+    private static final String NAMESPACE = "testns";
+    private static final String NAME = "testkafka";
+
+    private final ClusterOperatorConfig config = new ClusterOperatorConfig.Builder()
+            .withNamespaces(singleton(NAMESPACE))
+            .withReconciliationIntervalMs(60_000)
+            .withVersions(KafkaVersionTestUtils.getKafkaVersionLookup())
+            .withFullReconciliationSweeps(3)
+            .build();
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private Kafka kafka(long generation) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                    .withGeneration(generation)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+    }
+
+    private Pod pod(String resourceVersion) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(NAME + "-kafka-0")
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    private static void cached(ResourceOperatorSupplier supplier) {
+        when(supplier.kafkaSetOperations.listFromCache(eq(NAMESPACE), any(Labels.class))).thenReturn(emptyList());
+        when(supplier.deploymentOperations.listFromCache(eq(NAMESPACE), any(Labels.class))).thenReturn(emptyList());
+        when(supplier.podOperations.listFromCache(eq(NAMESPACE), any(Labels.class))).thenReturn(emptyList());
+        when(supplier.pvcOperations.listFromCache(eq(NAMESPACE), any(Labels.class))).thenReturn(emptyList());
+        when(supplier.serviceOperations.listFromCache(eq(NAMESPACE), any(Labels.class))).thenReturn(emptyList());
+        when(supplier.configMapOperations.listFromCache(eq(NAMESPACE), any(Labels.class))).thenReturn(emptyList());
+        when(supplier.secretOperations.listFromCache(eq(NAMESPACE), any(Labels.class))).thenReturn(emptyList());
+    }
+
+    private KafkaAssemblyOperator operator(ResourceOperatorSupplier supplier, AtomicInteger fullReconciliations) {
+        return new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_11),
+                new MockCertManager(), new PasswordGenerator(10, "a", "a"), supplier, config) {
+            @Override
+            Future<Void> fullReconciliation(Reconciliation reconciliation, Kafka kafkaAssembly) {
+                fullReconciliations.incrementAndGet();
+                return Future.succeededFuture();
+            }
+        };
+    }
+
+    @Test
+    public void testUnchangedClusterIsSkipped(VertxTestContext context) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        Labels selector = Labels.forStrimziCluster(NAME).withStrimziKind(Kafka.RESOURCE_KIND);
+
+        cached(supplier);
+        when(supplier.podOperations.listFromCache(eq(NAMESPACE), eq(selector))).thenReturn(singletonList(pod("1")));
+
+        AtomicInteger fullReconciliations = new AtomicInteger();
+        KafkaAssemblyOperator kao = operator(supplier, fullReconciliations);
+
+        Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+        Checkpoint async = context.checkpoint();
+
+        kao.createOrUpdate(reconciliation, kafka(1))
+            .compose(i -> kao.createOrUpdate(reconciliation, kafka(1)))
+            .compose(i -> kao.createOrUpdate(reconciliation, kafka(1)))
+            .compose(i -> {
+                // Unchanged cluster is skipped twice and then fully reconciled again
+                context.verify(() -> assertThat(fullReconciliations.get(), is(1)));
+                return kao.createOrUpdate(reconciliation, kafka(1));
+            })
+            .compose(i -> {
+                context.verify(() -> assertThat(fullReconciliations.get(), is(2)));
+
+                // Changed owned resource
+                when(supplier.podOperations.listFromCache(eq(NAMESPACE), eq(selector))).thenReturn(singletonList(pod("2")));
+                return kao.createOrUpdate(reconciliation, kafka(1));
+            })
+            .compose(i -> {
+                context.verify(() -> assertThat(fullReconciliations.get(), is(3)));
+
+                // Changed generation
+                return kao.createOrUpdate(reconciliation, kafka(2));
+            })
+            .onComplete(context.succeeding(i -> context.verify(() -> {
+                assertThat(fullReconciliations.get(), is(4));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testClusterIsNotSkippedWithoutCache(VertxTestContext context) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+
+        cached(supplier);
+        // Pods are not cached
+        when(supplier.podOperations.listFromCache(eq(NAMESPACE), any(Labels.class))).thenReturn(null);
+
+        AtomicInteger fullReconciliations = new AtomicInteger();
+        KafkaAssemblyOperator kao = operator(supplier, fullReconciliations);
+
+        Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+        Checkpoint async = context.checkpoint();
+
+        kao.createOrUpdate(reconciliation, kafka(1))
+            .compose(i -> kao.createOrUpdate(reconciliation, kafka(1)))
+            .onComplete(context.succeeding(i -> context.verify(() -> {
+                assertThat(fullReconciliations.get(), is(2));
+                // Checking whether the cluster changed never lists the owned resources from the Kubernetes API
+                verify(supplier.podOperations, never()).listAsync(anyString(), any(Labels.class));
+                async.flag();
+            })));
+    }
+}
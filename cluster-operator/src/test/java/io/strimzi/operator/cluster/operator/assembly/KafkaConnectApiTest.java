@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -193,6 +194,18 @@ public class KafkaConnectApiTest {
                         "name", "test",
                         "topic", "my-topic")));
             })))
+            .compose(config -> client.listWithStatusAndInfo("localhost", PORT))
+            .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                assertThat(connectors.keySet(), is(singleton("test")));
+                Map<String, Object> info = (Map<String, Object>) connectors.get("test").get("info");
+                assertThat(info.get("config"), is(TestUtils.map("connector.class", "FileStreamSource",
+                        "file", "/dev/null",
+                        "tasks.max", "1",
+                        "name", "test",
+                        "topic", "my-topic")));
+                Map<String, Object> status = (Map<String, Object>) connectors.get("test").get("status");
+                assertThat(((Map<String, Object>) status.get("connector")).get("state"), is("RUNNING"));
+            })))
             .compose(config -> client.getConnectorConfig(new BackOff(10), "localhost", PORT, "does-not-exist"))
             .onComplete(context.failing(error -> context.verify(() -> {
                 assertThat(error, instanceOf(ConnectRestException.class));
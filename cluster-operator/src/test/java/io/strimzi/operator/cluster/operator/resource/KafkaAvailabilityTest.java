@@ -13,10 +13,13 @@ import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.DescribeConfigsResult;
 import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListPartitionReassignmentsResult;
 import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.PartitionReassignment;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
@@ -33,15 +36,21 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -52,6 +61,7 @@ public class KafkaAvailabilityTest {
         private Throwable listTopicsResult;
         private Map<String, Throwable> describeTopicsResult = new HashMap<>(1);
         private Map<ConfigResource, Throwable> describeConfigsResult = new HashMap<>(1);
+        private Set<TopicPartition> reassigning = new HashSet<>();
 
         class TSB {
             class PSB {
@@ -164,6 +174,23 @@ public class KafkaAvailabilityTest {
             return ltr;
         }
 
+        KSB reassigning(String topic, int partition) {
+            reassigning.add(new TopicPartition(topic, partition));
+            return this;
+        }
+
+        void mockListPartitionReassignments(Admin mockAc) {
+            when(mockAc.listPartitionReassignments()).thenAnswer(invocation -> {
+                ListPartitionReassignmentsResult lprr = mock(ListPartitionReassignmentsResult.class);
+                Map<TopicPartition, PartitionReassignment> reassignments = new HashMap<>();
+                for (TopicPartition tp : reassigning) {
+                    reassignments.put(tp, new PartitionReassignment(emptyList(), emptyList(), emptyList()));
+                }
+                when(lprr.reassignments()).thenReturn(KafkaFuture.completedFuture(reassignments));
+                return lprr;
+            });
+        }
+
         KSB listTopicsResult(Throwable t) {
             listTopicsResult = t;
             return this;
@@ -266,6 +293,8 @@ public class KafkaAvailabilityTest {
 
             mockDescribeConfigs(ac);
 
+            mockListPartitionReassignments(ac);
+
             return ac;
         }
     }
@@ -639,4 +668,100 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testStateIsRefreshedIncrementally(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2, 3)
+                        .leader(1)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, having all the replicas in the ISR"));
+                // broker 1 drops out of the ISR of A/0
+                ksb.topics.get("A").partitions.get(0).isr(0, 2);
+                return kafkaAvailability.canRoll(0);
+            })
+            .compose(canRoll -> {
+                context.verify(() -> assertFalse(canRoll, "broker 0 should not be rollable, A/0 would be below min isr"));
+                return kafkaAvailability.canRoll(3);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertTrue(canRoll, "broker 3 should be rollable, having all the replicas in the ISR");
+                // The initial full description, then the topics on the given broker
+                verify(ac).describeTopics(new HashSet<>(asList("A", "B")));
+                verify(ac).describeTopics(singleton("A"));
+                verify(ac).describeTopics(singleton("B"));
+                // min.insync.replicas of A is cached
+                verify(ac, times(2)).describeConfigs(any());
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testReassignedTopicIsRefreshed(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2, 3)
+                        .leader(1)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("C", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2, 3)
+                        .leader(1)
+                        .isr(1, 2, 3)
+                    .endPartition()
+                .endTopic();
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(ac);
+
+        Checkpoint a = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, having all the replicas in the ISR"));
+                // A/0 is being reassigned to broker 0, which is already in its ISR of min isr size
+                ksb.topics.get("A").partitions.get(0).replicaOn(0, 1, 2, 3).isr(0, 1);
+                ksb.reassigning("A", 0);
+                return kafkaAvailability.canRoll(0);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertFalse(canRoll, "broker 0 should not be rollable, A/0 would be below min isr");
+                // The initial full description, then the topics on the given broker and the reassigned ones
+                verify(ac).describeTopics(new HashSet<>(asList("A", "B", "C")));
+                verify(ac).describeTopics(new HashSet<>(asList("A", "B")));
+                a.flag();
+            })));
+    }
 }
@@ -7,13 +7,17 @@ package io.strimzi.operator.cluster.operator.resource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -24,11 +28,14 @@ import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -36,7 +43,9 @@ import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.config.ConfigResource;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterAll;
@@ -440,6 +449,178 @@ public class KafkaRollerTest {
             asList(0, 1, 4));
     }
 
+    @Test
+    public void testParallelRollDoesNotRestartConflictingPodsTogether(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps, 3,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true), -1);
+        // Pods 0 and 1 share partitions which would go below min.isr
+        kafkaRoller.canRollTogether = (podId, restarting) -> !(podId == 0 && restarting.contains(1) || podId == 1 && restarting.contains(0));
+        kafkaRoller.restartDelayMs = 100;
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted().stream().sorted().collect(Collectors.toList()), is(asList(0, 1, 2, 3, 4)));
+                assertThat(kafkaRoller.concurrentRestarts.stream().anyMatch(pods -> pods.size() > 1), is(true));
+                assertThat(kafkaRoller.concurrentRestarts.stream().allMatch(pods -> pods.size() <= 3), is(true));
+                assertThat(kafkaRoller.concurrentRestarts.stream().noneMatch(pods -> pods.contains(0) && pods.contains(1)), is(true));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testParallelRollChecksAvailabilityOneAtATime(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        AtomicInteger checking = new AtomicInteger();
+        AtomicInteger maxChecking = new AtomicInteger();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps, 3,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> {
+                // A slow check, so that the pods restarted together check their availability at the same time
+                maxChecking.accumulateAndGet(checking.incrementAndGet(), Math::max);
+                Promise<Boolean> canRoll = Promise.promise();
+                vertx.setTimer(50, id -> {
+                    checking.decrementAndGet();
+                    canRoll.complete(true);
+                });
+                return canRoll.future();
+            }, -1);
+        kafkaRoller.restartDelayMs = 100;
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted().stream().sorted().collect(Collectors.toList()), is(asList(0, 1, 2, 3, 4)));
+                assertThat(kafkaRoller.concurrentRestarts.stream().anyMatch(pods -> pods.size() > 1), is(true));
+                // The KafkaAvailability isn't thread safe, so its checks don't overlap
+                assertThat(maxChecking.get(), is(1));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testParallelRollRestartsPodsOfTheSameRackTogether(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps, 5,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true), -1);
+        kafkaRoller.racks.put(0, "a");
+        kafkaRoller.racks.put(1, "a");
+        kafkaRoller.racks.put(2, "b");
+        kafkaRoller.racks.put(3, "b");
+        kafkaRoller.racks.put(4, "b");
+        kafkaRoller.restartDelayMs = 100;
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> singletonList("roll"))
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted().stream().sorted().collect(Collectors.toList()), is(asList(0, 1, 2, 3, 4)));
+                assertThat(kafkaRoller.concurrentRestarts.stream().anyMatch(pods -> pods.size() > 1), is(true));
+                assertThat(kafkaRoller.concurrentRestarts.stream()
+                        .allMatch(pods -> pods.stream().map(kafkaRoller.racks::get).distinct().count() == 1), is(true));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testPlannedReconfigurationIsBatched(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2);
+        snapshotLoggingToReconfigure(kafkaRoller, 0, 1, 2, 3, 4);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> emptyList())
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(emptyList()));
+                // The controller is still reconfigured last, on its own
+                assertThat(kafkaRoller.batchedReconfigurations, is(singletonList(new HashSet<>(asList(0, 1, 3, 4)))));
+                // Each broker is still described as proof that it's responding, but its logging comes from the snapshot.
+                // Only the controller, deferred by its first attempt, is described again, logging included.
+                assertThat(kafkaRoller.brokerConfigCalls.get(), is(6));
+                assertThat(kafkaRoller.brokerLoggingCalls.get(), is(1));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testPodsMissingFromTheSnapshotAreNotPlanned(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, -1);
+        snapshotLoggingToReconfigure(kafkaRoller, 0, 1);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> emptyList())
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(emptyList()));
+                assertThat(kafkaRoller.batchedReconfigurations, is(singletonList(new HashSet<>(asList(0, 1)))));
+                // The other brokers are only described by their per-pod steps
+                assertThat(kafkaRoller.brokerConfigCalls.get(), is(5));
+                assertThat(kafkaRoller.brokerLoggingCalls.get(), is(3));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testPlannedReconfigurationSkipsPodsWhichCannotRoll(VertxTestContext testContext) throws InterruptedException {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(brokerId != 1),
+            -1);
+        snapshotLoggingToReconfigure(kafkaRoller, 0, 1, 2, 3, 4);
+
+        doFailingRollingRestart(testContext, kafkaRoller,
+            emptyList(),
+            KafkaRoller.UnforceableProblem.class, "Pod c-kafka-1 is currently not rollable",
+            emptyList());
+        assertThat(kafkaRoller.batchedReconfigurations, is(singletonList(new HashSet<>(asList(0, 2, 3, 4)))));
+    }
+
+    @Test
+    public void testPodReconfiguredUpFrontIsStillCheckedForLiveness(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+                noException(), null, noException(), noException(), podId -> podId == 1 ? new KafkaRoller.ForceableProblem("could not get config exception") : null,
+            brokerId -> succeededFuture(true),
+            -1);
+        snapshotLoggingToReconfigure(kafkaRoller, 0, 1, 2, 3, 4);
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> emptyList())
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(kafkaRoller.batchedReconfigurations, is(singletonList(new HashSet<>(asList(0, 1, 2, 3, 4)))));
+                // The broker which doesn't respond is eventually force-rolled
+                assertThat(restarted(), is(singletonList(1)));
+                assertNoUnclosedAdminClient(testContext, kafkaRoller);
+                async.flag();
+            })));
+    }
+
+    /**
+     * Makes the config snapshot contain the given brokers, with a logger which needs to be reconfigured dynamically.
+     */
+    private static void snapshotLoggingToReconfigure(TestingKafkaRoller kafkaRoller, int... brokerIds) {
+        for (int brokerId : brokerIds) {
+            kafkaRoller.describedConfigs.put(Util.getBrokersConfig(brokerId), new Config(emptyList()));
+            kafkaRoller.describedConfigs.put(Util.getBrokersLogging(brokerId),
+                    new Config(singletonList(new ConfigEntry("kafka.server.KafkaApis", "INFO"))));
+        }
+    }
+
     private TestingKafkaRoller rollerWithControllers(StatefulSet sts, PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(sts, null, null, podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -513,7 +694,7 @@ public class KafkaRollerTest {
 
     @BeforeEach
     public void clearRestarted() {
-        restarted = new ArrayList<>();
+        restarted = Collections.synchronizedList(new ArrayList<>());
     }
 
     private PodOperator mockPodOps(Function<Integer, Future<Void>> readiness) {
@@ -570,6 +751,15 @@ public class KafkaRollerTest {
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
         private final int[] controllers;
+        private BiPredicate<Integer, Set<Integer>> canRollTogether = (podId, restarting) -> true;
+        private final Map<Integer, String> racks = new HashMap<>();
+        private long restartDelayMs = 0;
+        private final Set<Integer> restarting = new HashSet<>();
+        private final List<Set<Integer>> concurrentRestarts = new ArrayList<>();
+        private final Map<ConfigResource, Config> describedConfigs = new HashMap<>();
+        private final AtomicInteger brokerConfigCalls = new AtomicInteger();
+        private final AtomicInteger brokerLoggingCalls = new AtomicInteger();
+        private final List<Set<Integer>> batchedReconfigurations = new ArrayList<>();
 
         private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                                    PodOperator podOps,
@@ -580,9 +770,24 @@ public class KafkaRollerTest {
                                    Function<Integer, ForceableProblem> getConfigsException,
                                    Function<Integer, Future<Boolean>> canRollFn,
                                   int... controllers) {
+            this(sts, clusterCaCertSecret, coKeySecret, podOps, 1, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, controllers);
+        }
+
+        private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                                   PodOperator podOps,
+                                   int maxBatchSize,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   int... controllers) {
             super(KafkaRollerTest.vertx, new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), podOps, 500, 1000,
                 () -> new BackOff(10L, 2, 4),
-                sts, clusterCaCertSecret, coKeySecret, "", "", KafkaVersionTestUtils.getLatestVersion());
+                sts, clusterCaCertSecret, coKeySecret, new DefaultAdminClientProvider(), "", "", KafkaVersionTestUtils.getLatestVersion(),
+                maxBatchSize);
             this.controllers = controllers;
             this.controllerCall = 0;
             Objects.requireNonNull(acOpenException);
@@ -633,9 +838,19 @@ public class KafkaRollerTest {
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
                 }
+
+                @Override
+                Future<Boolean> canRoll(int podId, Set<Integer> restartingPodIds) {
+                    return canRollTogether.test(podId, restartingPodIds) ? canRollFn.apply(podId) : succeededFuture(false);
+                }
             };
         }
 
+        @Override
+        protected Map<Integer, String> brokerRacks() {
+            return racks;
+        }
+
         @Override
         int controller(int podId, long timeout, TimeUnit unit, RestartContext restartContext) throws ForceableProblem {
             Throwable throwable = controllerException.apply(podId);
@@ -655,6 +870,7 @@ public class KafkaRollerTest {
 
         @Override
         protected Config brokerConfig(int brokerId) throws ForceableProblem, InterruptedException {
+            brokerConfigCalls.incrementAndGet();
             ForceableProblem problem = getConfigsException.apply(brokerId);
             if (problem != null) {
                 throw problem;
@@ -663,7 +879,28 @@ public class KafkaRollerTest {
 
         @Override
         protected Config brokerLogging(int brokerId) throws ForceableProblem, InterruptedException {
-            return new Config(emptyList());
+            brokerLoggingCalls.incrementAndGet();
+            return describedConfigs.getOrDefault(Util.getBrokersLogging(brokerId), new Config(emptyList()));
+        }
+
+        @Override
+        protected Map<ConfigResource, Config> describeBrokerConfigs(List<Integer> brokerIds) {
+            return new HashMap<>(describedConfigs);
+        }
+
+        @Override
+        protected Set<Integer> dynamicUpdateBrokerConfigs(Map<Integer, RestartPlan> restartPlans) throws InterruptedException {
+            batchedReconfigurations.add(new HashSet<>(restartPlans.keySet()));
+            Set<Integer> updated = new HashSet<>();
+            for (Map.Entry<Integer, RestartPlan> entry : restartPlans.entrySet()) {
+                try {
+                    dynamicUpdateBrokerConfig(entry.getKey(), null, null, null);
+                    updated.add(entry.getKey());
+                } catch (ForceableProblem e) {
+                    // The pod will be considered again
+                }
+            }
+            return updated;
         }
 
         @Override
@@ -677,7 +914,22 @@ public class KafkaRollerTest {
         @Override
         protected Future<Void> restart(Pod pod) {
             restarted.add(pod.getMetadata().getName());
-            return succeededFuture();
+            if (restartDelayMs == 0) {
+                return succeededFuture();
+            }
+            int podId = podName2Number(pod.getMetadata().getName());
+            synchronized (restarting) {
+                restarting.add(podId);
+                concurrentRestarts.add(new HashSet<>(restarting));
+            }
+            Promise<Void> restart = Promise.promise();
+            vertx.setTimer(restartDelayMs, timerId -> {
+                synchronized (restarting) {
+                    restarting.remove(podId);
+                }
+                restart.complete();
+            });
+            return restart.future();
         }
 
     }
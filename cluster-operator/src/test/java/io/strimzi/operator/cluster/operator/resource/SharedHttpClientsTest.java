@@ -0,0 +1,62 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SharedHttpClientsTest {
+
+    private Vertx vertx;
+
+    @BeforeEach
+    public void setup() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void teardown() {
+        vertx.close();
+    }
+
+    @Test
+    public void testClientIsSharedByName() {
+        AtomicInteger created = new AtomicInteger();
+        HttpClient client = SharedHttpClients.get(vertx, "my-client", () -> {
+            created.incrementAndGet();
+            return SharedHttpClients.pooledOptions();
+        });
+
+        assertThat(SharedHttpClients.get(vertx, "my-client", () -> {
+            created.incrementAndGet();
+            return SharedHttpClients.pooledOptions();
+        }), is(sameInstance(client)));
+        assertThat(created.get(), is(1));
+
+        assertThat(SharedHttpClients.get(vertx, "my-other-client", SharedHttpClients::pooledOptions), is(not(sameInstance(client))));
+    }
+
+    @Test
+    public void testPooledOptions() {
+        HttpClientOptions options = SharedHttpClients.pooledOptions();
+
+        assertThat(options.isKeepAlive(), is(true));
+        assertThat(options.isPipelining(), is(false));
+        assertThat(options.getMaxPoolSize(), is(SharedHttpClients.DEFAULT_MAX_POOL_SIZE));
+        assertThat(options.getKeepAliveTimeout(), is(SharedHttpClients.DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS));
+        assertThat(options.getConnectTimeout(), is(SharedHttpClients.DEFAULT_CONNECT_TIMEOUT_MS));
+    }
+}
@@ -466,10 +466,98 @@ public class ZookeeperLeaderFinderTest {
             })));
     }
 
+    @Test
+    public void testLastKnownLeaderIsCheckedFirst(VertxTestContext context) throws InterruptedException {
+        int leader = 2;
+        when(mock.getAsync(eq(NAMESPACE), eq(KafkaResources.clusterCaCertificateSecretName(CLUSTER))))
+                .thenAnswer(i -> Future.succeededFuture(
+                        new SecretBuilder()
+                                .withNewMetadata()
+                                .withName(KafkaResources.clusterCaCertificateSecretName(CLUSTER))
+                                .withNamespace(NAMESPACE)
+                                .endMetadata()
+                                .withData(map(Ca.CA_CRT, "notacert"))
+                                .build()));
+
+        int[] ports = startMockZks(context, 3, (id, attempt) -> id == leader);
+
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+        List<Pod> pods = asList(createPodWithId(0), createPodWithId(1), createPodWithId(2));
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(CLUSTER, NAMESPACE, pods, coKeySecret())
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is(leader));
+                for (FakeZk zk : zks) {
+                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(1));
+                }
+            })))
+            .compose(ignored -> finder.findZookeeperLeader(CLUSTER, NAMESPACE, pods, coKeySecret()))
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                // Only the last known leader was checked
+                assertThat(l, is(leader));
+                assertThat(zks.get(0).attempts.get(), is(1));
+                assertThat(zks.get(1).attempts.get(), is(1));
+                assertThat(zks.get(2).attempts.get(), is(2));
+            })))
+            .compose(ignored -> {
+                // The leader pod was restarted
+                Pod restartedLeader = createPodWithId(leader);
+                restartedLeader.getMetadata().setUid("restarted-uid");
+                return finder.findZookeeperLeader(CLUSTER, NAMESPACE, asList(pods.get(0), pods.get(1), restartedLeader), coKeySecret());
+            })
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is(leader));
+                for (FakeZk zk : zks) {
+                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(zk.id == leader ? 3 : 2));
+                }
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testIdleClusterIsForgotten(VertxTestContext context) throws InterruptedException {
+        int leader = 2;
+        when(mock.getAsync(eq(NAMESPACE), eq(KafkaResources.clusterCaCertificateSecretName(CLUSTER))))
+                .thenAnswer(i -> Future.succeededFuture(
+                        new SecretBuilder()
+                                .withNewMetadata()
+                                .withName(KafkaResources.clusterCaCertificateSecretName(CLUSTER))
+                                .withNamespace(NAMESPACE)
+                                .endMetadata()
+                                .withData(map(Ca.CA_CRT, "notacert"))
+                                .build()));
+
+        int[] ports = startMockZks(context, 3, (id, attempt) -> id == leader);
+
+        TestingZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+        finder.idleTimeoutMs = 100;
+        List<Pod> pods = asList(createPodWithId(0), createPodWithId(1), createPodWithId(2));
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(CLUSTER, NAMESPACE, pods, coKeySecret())
+            .compose(ignored -> {
+                // No further search happens within the idle timeout, so the client is closed and the leader forgotten
+                Promise<Void> idle = Promise.promise();
+                vertx.setTimer(500, id -> idle.complete());
+                return idle.future();
+            })
+            .compose(ignored -> finder.findZookeeperLeader(CLUSTER, NAMESPACE, pods, coKeySecret()))
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is(leader));
+                // All the pods were checked again, as there was no last known leader
+                for (FakeZk zk : zks) {
+                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(2));
+                }
+                a.flag();
+            })));
+    }
+
     Pod createPodWithId(int id) {
         return new PodBuilder()
                 .withNewMetadata()
                     .withName("my-cluster-kafka-" + id)
+                    .withUid("uid-" + id)
                 .endMetadata()
                 .build();
     }
@@ -17,8 +17,11 @@ import org.mockserver.integration.ClientAndServer;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.HashSet;
 
 import static io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi.CC_REST_API_SUMMARY;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.is;
@@ -169,4 +172,39 @@ public class CruiseControlClientTest {
         }));
     }
 
+    @Test
+    public void testCCGetUserTasksStatus(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
+
+        MockCruiseControl.setupCCUserTasksResponseNoGoals(ccServer, 0, 0);
+
+        CruiseControlApi client = new CruiseControlApiImpl(vertx);
+        String userTaskID = MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID;
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.getUserTasksStatus(HOST, PORT, singleton(userTaskID)).onComplete(context.succeeding(result -> {
+            context.verify(() -> assertThat(result.keySet(), is(singleton(userTaskID))));
+            context.verify(() -> assertThat(result.get(userTaskID).getUserTaskId(), is(userTaskID)));
+            context.verify(() -> assertThat(result.get(userTaskID).getJson().getString("Status"), is(CruiseControlUserTaskStatus.COMPLETED.toString())));
+            context.verify(() -> assertThat(result.get(userTaskID).getJson().getJsonObject(CC_REST_API_SUMMARY), is(notNullValue())));
+            checkpoint.flag();
+        }));
+    }
+
+    @Test
+    public void testCCGetUserTasksStatusWithMalformedTask(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
+
+        MockCruiseControl.setupCCUserTasksWithMalformedTask(ccServer);
+
+        CruiseControlApi client = new CruiseControlApiImpl(vertx);
+        String userTaskID = MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID;
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.getUserTasksStatus(HOST, PORT, new HashSet<>(asList(userTaskID, MockCruiseControl.REBALANCE_NO_GOALS_VERBOSE_RESPONSE_UTID)))
+            .onComplete(context.succeeding(result -> {
+                // Only the malformed task is left out
+                context.verify(() -> assertThat(result.keySet(), is(singleton(userTaskID))));
+                context.verify(() -> assertThat(result.get(userTaskID).getJson().getString("Status"), is(CruiseControlUserTaskStatus.ACTIVE.toString())));
+                checkpoint.flag();
+            }));
+    }
 }
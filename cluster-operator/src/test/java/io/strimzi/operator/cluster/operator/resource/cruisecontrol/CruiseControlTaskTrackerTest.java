@@ -0,0 +1,106 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class CruiseControlTaskTrackerTest {
+
+    private static final String HOST = "my-cluster-cruise-control";
+    private static final int PORT = 9090;
+
+    private static CruiseControlResponse response(String userTaskId, CruiseControlUserTaskStatus status) {
+        return new CruiseControlResponse(userTaskId, new JsonObject().put("Status", status.toString()));
+    }
+
+    @Test
+    public void testDueTasksArePolledTogether(Vertx vertx, VertxTestContext context) {
+        Map<String, CruiseControlResponse> statuses = new HashMap<>();
+        statuses.put("task-1", response("task-1", CruiseControlUserTaskStatus.ACTIVE));
+        statuses.put("task-2", response("task-2", CruiseControlUserTaskStatus.IN_EXECUTION));
+
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), anySet())).thenReturn(Future.succeededFuture(statuses));
+
+        CruiseControlTaskTracker tracker = new CruiseControlTaskTracker(vertx, apiClient, HOST, PORT, ResourceUtils.metricsProvider());
+
+        Checkpoint checkpoint = context.checkpoint();
+        CompositeFuture.join(tracker.nextStatus("task-1"), tracker.nextStatus("task-2"))
+            .onComplete(context.succeeding(result -> context.verify(() -> {
+                CruiseControlResponse task1 = result.resultAt(0);
+                CruiseControlResponse task2 = result.resultAt(1);
+                assertThat(task1.getUserTaskId(), is("task-1"));
+                assertThat(task2.getUserTaskId(), is("task-2"));
+
+                Set<String> expectedIds = new HashSet<>(asList("task-1", "task-2"));
+                verify(apiClient, times(1)).getUserTasksStatus(eq(HOST), eq(PORT), eq(expectedIds));
+                checkpoint.flag();
+            })));
+    }
+
+    @Test
+    public void testUnknownTaskFails(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), anySet())).thenReturn(Future.succeededFuture(new HashMap<>()));
+
+        CruiseControlTaskTracker tracker = new CruiseControlTaskTracker(vertx, apiClient, HOST, PORT, ResourceUtils.metricsProvider());
+
+        Checkpoint checkpoint = context.checkpoint();
+        tracker.nextStatus("unknown-task").onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e, instanceOf(CruiseControlRestException.class));
+            verify(apiClient, times(1)).getUserTasksStatus(eq(HOST), eq(PORT), eq(singleton("unknown-task")));
+            checkpoint.flag();
+        })));
+    }
+
+    @Test
+    public void testReleasedTasksAreNotTracked(Vertx vertx, VertxTestContext context) {
+        Map<String, CruiseControlResponse> statuses = new HashMap<>();
+        statuses.put("task-1", response("task-1", CruiseControlUserTaskStatus.IN_EXECUTION));
+
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), anySet())).thenReturn(Future.succeededFuture(statuses));
+
+        CruiseControlTaskTracker tracker = new CruiseControlTaskTracker(vertx, apiClient, HOST, PORT, ResourceUtils.metricsProvider());
+        assertThat(tracker.isIdle(), is(true));
+
+        Checkpoint checkpoint = context.checkpoint();
+        tracker.nextStatus("task-1").onComplete(context.succeeding(result -> context.verify(() -> {
+            assertThat(tracker.isIdle(), is(false));
+            tracker.release("task-1");
+            assertThat(tracker.isIdle(), is(true));
+            checkpoint.flag();
+        })));
+    }
+}
@@ -390,6 +390,25 @@ public class MockCruiseControl {
                                 .withDelay(TimeUnit.SECONDS, RESPONSE_DELAY_SEC));
     }
 
+    public static void setupCCUserTasksWithMalformedTask(ClientAndServer ccServer) throws IOException, URISyntaxException {
+
+        // The status of one of the two tasks is not known
+        JsonBody malformedJson = getJsonFromResource("CC-User-task-status-malformed-task.json");
+
+        ccServer
+                .when(
+                        request()
+                                .withMethod("GET")
+                                .withQueryStringParameter(Parameter.param(CruiseControlParameters.JSON.key, "true"))
+                                .withQueryStringParameter(Parameter.param(CruiseControlParameters.FETCH_COMPLETE.key, "true"))
+                                .withPath(CruiseControlEndpoints.USER_TASKS.path))
+                .respond(
+                        response()
+                                .withBody(malformedJson)
+                                .withStatusCode(200)
+                                .withDelay(TimeUnit.SECONDS, RESPONSE_DELAY_SEC));
+    }
+
     public static void setupCCStopResponse(ClientAndServer ccServer) throws IOException, URISyntaxException {
 
         JsonBody jsonStop = getJsonFromResource("CC-Stop.json");
@@ -4,12 +4,14 @@
  */
 package io.strimzi.kafka.config.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -20,6 +22,9 @@ import static java.util.Collections.singletonList;
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ConfigModel {
+    private static final Pattern BOOLEAN_PATTERN = Pattern.compile("true|false");
+    private static final Pattern LIST_SEPARATOR_PATTERN = Pattern.compile(" *, *");
+
     private Scope scope;
     private Type type;
     private Number minimum;
@@ -28,6 +33,8 @@ public class ConfigModel {
     @JsonProperty("enum")
     private List<String> values;
     private String pattern;
+    @JsonIgnore
+    private Pattern compiledPattern;
 
     /**
      * @return The scope of the parameter.
@@ -101,6 +108,8 @@ public class ConfigModel {
 
     public void setPattern(String pattern) {
         this.pattern = pattern;
+        // Compiled once, rather than on each validation
+        this.compiledPattern = pattern == null ? null : Pattern.compile(pattern);
     }
 
     public List<String> validate(String configName, String value) {
@@ -136,7 +145,7 @@ public class ConfigModel {
             errors.add(configName + " has value '" + value + "' which is not one of the allowed values: " + getValues());
         }
         if (getPattern() != null
-                && !value.matches(getPattern())) {
+                && !compiledPattern.matcher(value).matches()) {
             if (errors.isEmpty()) {
                 errors = new ArrayList<>(1);
             }
@@ -146,14 +155,14 @@ public class ConfigModel {
     }
 
     private List<String> validateBoolean(String configName, String value) {
-        if (!value.matches("true|false")) {
+        if (!BOOLEAN_PATTERN.matcher(value).matches()) {
             return singletonList(configName + " has value '" + value + "' which is not a boolean");
         }
         return emptyList();
     }
 
     private List<String> validateList(String configName, String value) {
-        List<String> l = asList(value.trim().split(" *, *", -1));
+        List<String> l = asList(LIST_SEPARATOR_PATTERN.split(value.trim(), -1));
         if (getItems() != null) {
             HashSet<String> items = new HashSet<>(l);
             items.removeAll(getItems());
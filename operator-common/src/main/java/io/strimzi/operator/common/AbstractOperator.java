@@ -31,6 +31,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static io.strimzi.operator.common.Util.async;
@@ -74,6 +75,8 @@ public abstract class AbstractOperator<
     private final AtomicInteger resourceCounter;
     private final Timer reconciliationsTimer;
 
+    private volatile ReconciliationQueue queue;
+
     public AbstractOperator(Vertx vertx, String kind, S resourceOperator, MetricsProvider metrics) {
         this.vertx = vertx;
         this.kind = kind;
@@ -200,6 +203,29 @@ public abstract class AbstractOperator<
         return result.future();
     }
 
+    /**
+     * Requests the reconciliation of the resource identified by the given reconciliation. When the reconciliation
+     * queue is {@linkplain #enableReconciliationQueue(int, Supplier) enabled}, the request is merged with other
+     * pending requests for the same resource. Otherwise the resource is reconciled straight away.
+     * @param reconciliation The reconciliation.
+     * @return A Future which is completed with the result of the reconciliation.
+     */
+    @Override
+    public Future<Void> enqueue(Reconciliation reconciliation) {
+        ReconciliationQueue queue = this.queue;
+        return queue != null ? queue.enqueue(reconciliation) : reconcile(reconciliation);
+    }
+
+    /**
+     * Route the reconciliations triggered by watch events and by the periodic reconciliation through a
+     * {@link ReconciliationQueue} with the given number of workers.
+     * @param workers The maximum number of reconciliations of this kind which run in parallel.
+     * @param backOffSupplier The back-off used for retrying failed reconciliations.
+     */
+    public void enableReconciliationQueue(int workers, Supplier<BackOff> backOffSupplier) {
+        this.queue = new ReconciliationQueue(vertx, kind, workers, this::reconcile, backOffSupplier, metrics);
+    }
+
     /**
      * The exception by which Futures returned by {@link #withLock(Reconciliation, long, Callable)} are failed when
      * the lock cannot be acquired within the timeout.
@@ -290,7 +316,30 @@ public abstract class AbstractOperator<
      * @return A future which completes when the watcher has been created.
      */
     public Future<Watch> createWatch(String namespace, Consumer<KubernetesClientException> onClose) {
-        return async(vertx, () -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, onClose)));
+        return async(vertx, () -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, resourceOperator::cacheEvent, onClose)));
+    }
+
+    /**
+     * Start the local cache of the resources consumed by this operator. Once synced, the reads done during
+     * reconciliations are served from the cache instead of the Kubernetes API.
+     *
+     * @param namespace Namespace where to cache the resources.
+     * @param resyncIntervalMs Interval in which the cache is relisted from the Kubernetes API.
+     *
+     * @return A future which completes when the cache has been synced for the first time. When it fails, the reads
+     * go to the Kubernetes API until a later resync succeeds.
+     */
+    public Future<Void> startCache(String namespace, long resyncIntervalMs) {
+        return resourceOperator.startCache(namespace, selector(), resyncIntervalMs, metrics);
+    }
+
+    /**
+     * Stop the local cache of the resources consumed by this operator.
+     *
+     * @param namespace Namespace where the resources are cached.
+     */
+    public void stopCache(String namespace) {
+        resourceOperator.stopCache(namespace);
     }
 
     public Consumer<KubernetesClientException> recreateWatch(String namespace) {
@@ -9,17 +9,18 @@ import io.strimzi.operator.cluster.model.Ca;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.common.config.SslConfigs;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.Properties;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.util.HashMap;
+import java.util.Map;
 
 public class DefaultAdminClientProvider implements AdminClientProvider {
 
-    private static final Logger LOGGER = LogManager.getLogger(DefaultAdminClientProvider.class);
-
     /**
      * Create a Kafka Admin interface instance handling the following different scenarios:
      *
@@ -43,58 +44,54 @@ public class DefaultAdminClientProvider implements AdminClientProvider {
      */
     @Override
     public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
-        Admin ac;
-        String trustStorePassword = null;
-        File truststoreFile = null;
+        Map<String, Object> config = new HashMap<>();
+        config.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapHostnames);
+
         // provided Secret with cluster CA certificate for TLS encryption
         if (clusterCaCertSecret != null) {
-            PasswordGenerator pg = new PasswordGenerator(12);
-            trustStorePassword = pg.generate();
-            truststoreFile = Util.createFileTrustStore(getClass().getName(), "ts", Ca.cert(clusterCaCertSecret, Ca.CA_CRT), trustStorePassword.toCharArray());
-        }
+            config.put(AdminClientConfig.SECURITY_PROTOCOL_CONFIG, "SSL");
+            // the stores are passed in memory, so no truststore or keystore files are needed
+            config.put(SslConfigs.SSL_ENGINE_FACTORY_CLASS_CONFIG, InMemorySslEngineFactory.class);
+            config.put(SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG, InMemorySslEngineFactory.register(trustStore(Ca.cert(clusterCaCertSecret, Ca.CA_CRT))));
 
-        try {
-            String keyStorePassword = null;
-            File keystoreFile = null;
             // provided Secret and related key for getting the private key for TLS client authentication
             if (keyCertSecret != null && keyCertName != null && !keyCertName.isEmpty()) {
-                keyStorePassword = new String(Util.decodeFromSecret(keyCertSecret, keyCertName + ".password"), StandardCharsets.US_ASCII);
-                keystoreFile = Util.createFileStore(getClass().getName(), "ts", Util.decodeFromSecret(keyCertSecret, keyCertName + ".p12"));
+                String keyStorePassword = new String(Util.decodeFromSecret(keyCertSecret, keyCertName + ".password"), StandardCharsets.US_ASCII);
+                config.put(SslConfigs.SSL_KEYSTORE_LOCATION_CONFIG, InMemorySslEngineFactory.register(keyStore(Util.decodeFromSecret(keyCertSecret, keyCertName + ".p12"), keyStorePassword)));
+                config.put(SslConfigs.SSL_KEYSTORE_PASSWORD_CONFIG, keyStorePassword);
             }
+        }
 
-            try {
-                Properties p = new Properties();
-                p.setProperty(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapHostnames);
-
-                // configuring TLS encryption if requested
-                if (truststoreFile != null && trustStorePassword != null) {
-                    p.setProperty(AdminClientConfig.SECURITY_PROTOCOL_CONFIG, "SSL");
-
-                    p.setProperty(SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG, truststoreFile.getAbsolutePath());
-                    p.setProperty(SslConfigs.SSL_TRUSTSTORE_TYPE_CONFIG, "PKCS12");
-                    p.setProperty(SslConfigs.SSL_TRUSTSTORE_PASSWORD_CONFIG, trustStorePassword);
-                }
+        config.put(AdminClientConfig.METADATA_MAX_AGE_CONFIG, "30000");
 
-                // configuring TLS client authentication
-                if (keystoreFile != null && keyStorePassword != null) {
-                    p.setProperty(SslConfigs.SSL_KEYSTORE_LOCATION_CONFIG, keystoreFile.getAbsolutePath());
-                    p.setProperty(SslConfigs.SSL_KEYSTORE_TYPE_CONFIG, "PKCS12");
-                    p.setProperty(SslConfigs.SSL_KEYSTORE_PASSWORD_CONFIG, keyStorePassword);
-                }
+        try {
+            return Admin.create(config);
+        } catch (RuntimeException e) {
+            // the stores are otherwise unregistered when the client is closed
+            InMemorySslEngineFactory.unregister((String) config.get(SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG));
+            InMemorySslEngineFactory.unregister((String) config.get(SslConfigs.SSL_KEYSTORE_LOCATION_CONFIG));
+            throw e;
+        }
+    }
 
-                p.setProperty(AdminClientConfig.METADATA_MAX_AGE_CONFIG, "30000");
+    private static KeyStore trustStore(X509Certificate certificate) {
+        try {
+            KeyStore trustStore = KeyStore.getInstance("PKCS12");
+            trustStore.load(null, null);
+            trustStore.setEntry(certificate.getSubjectDN().getName(), new KeyStore.TrustedCertificateEntry(certificate), null);
+            return trustStore;
+        } catch (GeneralSecurityException | IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-                ac = Admin.create(p);
-            } finally {
-                if (keystoreFile != null && !keystoreFile.delete()) {
-                    LOGGER.warn("Unable to delete keystore file {}", keystoreFile);
-                }
-            }
-        } finally {
-            if (truststoreFile != null && !truststoreFile.delete()) {
-                LOGGER.warn("Unable to delete truststore file {}", truststoreFile);
-            }
+    private static KeyStore keyStore(byte[] bytes, String password) {
+        try {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(new ByteArrayInputStream(bytes), password.toCharArray());
+            return keyStore;
+        } catch (GeneralSecurityException | IOException e) {
+            throw new RuntimeException(e);
         }
-        return ac;
     }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.config.SslClientAuth;
+import org.apache.kafka.common.config.SslConfigs;
+import org.apache.kafka.common.config.internals.BrokerSecurityConfigs;
+import org.apache.kafka.common.config.types.Password;
+import org.apache.kafka.common.security.auth.SslEngineFactory;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Kafka {@link SslEngineFactory} which uses truststores and keystores kept in memory, so that they don't have to be
+ * written to files first. It is enabled by setting {@link SslConfigs#SSL_ENGINE_FACTORY_CLASS_CONFIG} to this class.
+ *
+ * <p>The stores are registered with {@link #register(KeyStore)} and the returned locations are passed to the client
+ * as {@link SslConfigs#SSL_TRUSTSTORE_LOCATION_CONFIG} and {@link SslConfigs#SSL_KEYSTORE_LOCATION_CONFIG}, so that
+ * no custom options are needed. The stores are unregistered when the factory is closed together with the client.</p>
+ */
+public class InMemorySslEngineFactory implements SslEngineFactory {
+    /**
+     * Prefix of the locations of the registered stores
+     */
+    public static final String LOCATION_PREFIX = "memory:";
+
+    private static final Map<String, KeyStore> STORES = new ConcurrentHashMap<>();
+    private static final AtomicLong STORE_COUNTER = new AtomicLong();
+
+    private String truststoreLocation;
+    private String keystoreLocation;
+    private KeyStore truststore;
+    private KeyStore keystore;
+    private SslClientAuth clientAuth;
+    private SSLContext sslContext;
+
+    /**
+     * Registers the store so that it can be used by the clients.
+     *
+     * @param store The truststore or keystore
+     *
+     * @return  The location of the store which should be passed to the client
+     */
+    public static String register(KeyStore store) {
+        String location = LOCATION_PREFIX + STORE_COUNTER.incrementAndGet();
+        STORES.put(location, store);
+        return location;
+    }
+
+    /**
+     * Unregisters the store. It is only needed when the client using it could not be created.
+     *
+     * @param location  The location of the store
+     */
+    public static void unregister(String location) {
+        if (location != null) {
+            STORES.remove(location);
+        }
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        truststoreLocation = (String) configs.get(SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG);
+        keystoreLocation = (String) configs.get(SslConfigs.SSL_KEYSTORE_LOCATION_CONFIG);
+        truststore = store(truststoreLocation);
+        keystore = store(keystoreLocation);
+        Object password = configs.get(SslConfigs.SSL_KEYSTORE_PASSWORD_CONFIG);
+        Object protocol = configs.get(SslConfigs.SSL_PROTOCOL_CONFIG);
+        Object clientAuthConfig = configs.get(BrokerSecurityConfigs.SSL_CLIENT_AUTH_CONFIG);
+        clientAuth = clientAuthConfig != null ? SslClientAuth.forConfig(clientAuthConfig.toString()) : SslClientAuth.NONE;
+
+        try {
+            KeyManager[] keyManagers = null;
+            if (keystore != null) {
+                KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+                kmf.init(keystore, password != null ? password(password).toCharArray() : null);
+                keyManagers = kmf.getKeyManagers();
+            }
+
+            TrustManager[] trustManagers = null;
+            if (truststore != null) {
+                TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+                tmf.init(truststore);
+                trustManagers = tmf.getTrustManagers();
+            }
+
+            sslContext = SSLContext.getInstance(protocol != null ? protocol.toString() : SslConfigs.DEFAULT_SSL_PROTOCOL);
+            sslContext.init(keyManagers, trustManagers, new SecureRandom());
+        } catch (GeneralSecurityException e) {
+            throw new KafkaException("Failed to create the SSL context", e);
+        }
+    }
+
+    private static KeyStore store(String location) {
+        if (location == null) {
+            return null;
+        }
+
+        KeyStore store = STORES.get(location);
+        if (store == null) {
+            throw new KafkaException("No store is registered at location " + location);
+        }
+        return store;
+    }
+
+    private static String password(Object password) {
+        return password instanceof Password ? ((Password) password).value() : password.toString();
+    }
+
+    @Override
+    public SSLEngine createClientSslEngine(String peerHost, int peerPort, String endpointIdentification) {
+        SSLEngine engine = sslContext.createSSLEngine(peerHost, peerPort);
+        engine.setUseClientMode(true);
+
+        SSLParameters parameters = engine.getSSLParameters();
+        parameters.setEndpointIdentificationAlgorithm(endpointIdentification);
+        engine.setSSLParameters(parameters);
+
+        return engine;
+    }
+
+    @Override
+    public SSLEngine createServerSslEngine(String peerHost, int peerPort) {
+        SSLEngine engine = sslContext.createSSLEngine(peerHost, peerPort);
+        engine.setUseClientMode(false);
+
+        switch (clientAuth) {
+            case REQUIRED:
+                engine.setNeedClientAuth(true);
+                break;
+            case REQUESTED:
+                engine.setWantClientAuth(true);
+                break;
+            default:
+                engine.setNeedClientAuth(false);
+        }
+
+        return engine;
+    }
+
+    @Override
+    public boolean shouldBeRebuilt(Map<String, Object> nextConfigs) {
+        return !Objects.equals(nextConfigs.get(SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG), truststoreLocation)
+                || !Objects.equals(nextConfigs.get(SslConfigs.SSL_KEYSTORE_LOCATION_CONFIG), keystoreLocation);
+    }
+
+    @Override
+    public Set<String> reconfigurableConfigs() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public KeyStore keystore() {
+        return keystore;
+    }
+
+    @Override
+    public KeyStore truststore() {
+        return truststore;
+    }
+
+    @Override
+    public void close() {
+        unregister(truststoreLocation);
+        unregister(keystoreLocation);
+    }
+}
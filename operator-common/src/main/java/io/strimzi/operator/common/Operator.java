@@ -42,6 +42,17 @@ public interface Operator {
      */
     Future<Void> reconcile(Reconciliation reconciliation);
 
+    /**
+     * Request the reconciliation of the resource identified by the given reconciliation.
+     * Operators which use a {@link ReconciliationQueue} merge the request with other pending requests
+     * for the same resource. Other operators reconcile the resource straight away.
+     * @param reconciliation The resource.
+     * @return A Future is completed once the resource has been reconciled.
+     */
+    default Future<Void> enqueue(Reconciliation reconciliation) {
+        return reconcile(reconciliation);
+    }
+
     /**
      * Triggers the asynchronous reconciliation of all resources which this operator consumes.
      * The resources to reconcile are identified by {@link #allResourceNames(String)}.
@@ -67,7 +78,7 @@ public interface Operator {
 
             for (NamespaceAndName resourceRef : desiredNames) {
                 Reconciliation reconciliation = new Reconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName());
-                futures.add(reconcile(reconciliation));
+                futures.add(enqueue(reconciliation));
             }
             CompositeFuture.join(futures).map((Void) null).onComplete(handler);
         } else {
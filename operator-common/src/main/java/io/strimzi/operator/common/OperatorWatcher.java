@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.client.Watcher;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -18,12 +19,20 @@ import java.util.function.Consumer;
  */
 class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
     private final String namespace;
+    private final BiConsumer<Action, T> onEvent;
     private final Consumer<KubernetesClientException> onClose;
     private Operator operator;
     private static final Logger log = LogManager.getLogger(OperatorWatcher.class);
 
-    OperatorWatcher(Operator operator, String namespace, Consumer<KubernetesClientException> onClose) {
+    /**
+     * @param operator The operator which reconciles the resources.
+     * @param namespace The watched namespace.
+     * @param onEvent Called with each event before the reconciliation is enqueued.
+     * @param onClose Called when the watch is closed.
+     */
+    OperatorWatcher(Operator operator, String namespace, BiConsumer<Action, T> onEvent, Consumer<KubernetesClientException> onClose) {
         this.namespace = namespace;
+        this.onEvent = onEvent;
         this.onClose = onClose;
         this.operator = operator;
     }
@@ -36,9 +45,10 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
             case ADDED:
             case DELETED:
             case MODIFIED:
+                onEvent.accept(action, resource);
                 Reconciliation reconciliation = new Reconciliation("watch", operator.kind(), namespace, name);
                 log.info("{}: {} {} in namespace {} was {}", reconciliation, operator.kind(), name, namespace, action);
-                operator.reconcile(reconciliation);
+                operator.enqueue(reconciliation);
                 break;
             case ERROR:
                 log.error("Failed {} {} in namespace{} ", operator.kind(), name, namespace);
@@ -0,0 +1,270 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.cluster.model.Ca;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AdminClientProvider which keeps the Admin clients it creates and shares them between callers, instead of creating a
+ * new client (with a new metadata bootstrap and new TLS handshakes) for every use.
+ *
+ * The clients are pooled by the bootstrap address and the name of the key used for TLS client authentication. Each
+ * pooled client remembers the credential generation it was created for, which is the content of the cluster CA
+ * certificate and of the client certificate. When a caller passes a different generation, because the CA or the key
+ * Secret changed, the pooled client is replaced and closed as soon as all its leases have been released.
+ *
+ * The returned Admin is a lease of the pooled client: closing it releases the lease instead of closing the client.
+ * Clients without any lease are closed once they have been idle for the idle timeout, by a timer which runs while
+ * there are idle clients, so that the client of a deleted cluster doesn't stay open.
+ */
+public class PooledAdminClientProvider implements AdminClientProvider {
+    private static final Logger LOGGER = LogManager.getLogger(PooledAdminClientProvider.class);
+
+    /**
+     * Default time for which a pooled client without leases is kept
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 300_000L;
+
+    private final Vertx vertx;
+    private final AdminClientProvider delegate;
+    private final long idleTimeoutMs;
+    private final Map<String, Pooled> pool = new HashMap<>();
+    private long evictionTimerId = -1;
+
+    private final AtomicInteger poolSizeGauge;
+    private final Timer creationTimer;
+    private final Counter invalidationsCounter;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vertx instance used for evicting the idle clients
+     * @param delegate          Provider used for creating the pooled clients
+     * @param metrics           Metrics provider
+     */
+    public PooledAdminClientProvider(Vertx vertx, AdminClientProvider delegate, MetricsProvider metrics) {
+        this(vertx, delegate, metrics, DEFAULT_IDLE_TIMEOUT_MS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vertx instance used for evicting the idle clients
+     * @param delegate          Provider used for creating the pooled clients
+     * @param metrics           Metrics provider
+     * @param idleTimeoutMs     Time for which a pooled client without leases is kept before it is closed
+     */
+    public PooledAdminClientProvider(Vertx vertx, AdminClientProvider delegate, MetricsProvider metrics, long idleTimeoutMs) {
+        this.vertx = vertx;
+        this.delegate = delegate;
+        this.idleTimeoutMs = idleTimeoutMs;
+
+        poolSizeGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "admin.client.pool.size",
+                "Number of Kafka Admin clients in the pool",
+                Tags.empty());
+
+        creationTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "admin.client.creation",
+                "The time it takes to create a new Kafka Admin client",
+                Tags.empty());
+
+        invalidationsCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "admin.client.pool.invalidations",
+                "Number of pooled Kafka Admin clients replaced because the CA or the client certificate changed",
+                Tags.empty());
+    }
+
+    /**
+     * Returns a lease of the pooled Admin client for the given bootstrap address and credentials, creating the client
+     * when there is none or when the credentials changed. The lease has to be closed when it is not needed anymore.
+     */
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        String key = bootstrapHostnames + "#" + keyCertName;
+        List<String> generation = generation(clusterCaCertSecret, keyCertSecret, keyCertName);
+
+        Pooled pooled;
+        synchronized (this) {
+            evictIdle(System.currentTimeMillis());
+
+            pooled = pool.get(key);
+            if (pooled != null && !pooled.generation.equals(generation)) {
+                LOGGER.debug("Credentials of the Admin client for {} changed, replacing it", bootstrapHostnames);
+                invalidationsCounter.increment();
+                retire(pooled);
+                pooled = null;
+            }
+
+            if (pooled == null) {
+                long start = System.nanoTime();
+                Admin admin = delegate.createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName);
+                creationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+                pooled = new Pooled(key, generation, admin);
+                pool.put(key, pooled);
+                poolSizeGauge.set(pool.size());
+            }
+
+            pooled.leases++;
+        }
+
+        return lease(pooled);
+    }
+
+    /**
+     * Closes all pooled clients which don't have any lease. Clients which are still leased are closed when their last
+     * lease is released.
+     */
+    public synchronized void close() {
+        if (evictionTimerId != -1) {
+            vertx.cancelTimer(evictionTimerId);
+            evictionTimerId = -1;
+        }
+        for (Pooled pooled : pool.values().toArray(new Pooled[0])) {
+            retire(pooled);
+        }
+    }
+
+    /**
+     * @return The number of clients in the pool
+     */
+    synchronized int size() {
+        return pool.size();
+    }
+
+    private static List<String> generation(Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        String caCert = clusterCaCertSecret != null && clusterCaCertSecret.getData() != null ? clusterCaCertSecret.getData().get(Ca.CA_CRT) : null;
+        String keyCert = null;
+        String keyCertPassword = null;
+        if (keyCertSecret != null && keyCertSecret.getData() != null && keyCertName != null) {
+            keyCert = keyCertSecret.getData().get(keyCertName + ".p12");
+            keyCertPassword = keyCertSecret.getData().get(keyCertName + ".password");
+        }
+        return Arrays.asList(caCert, keyCert, keyCertPassword);
+    }
+
+    private void evictIdle(long now) {
+        Iterator<Pooled> iterator = pool.values().iterator();
+        while (iterator.hasNext()) {
+            Pooled pooled = iterator.next();
+            if (pooled.leases == 0 && now - pooled.idleSince >= idleTimeoutMs) {
+                LOGGER.debug("Closing idle Admin client {}", pooled.key);
+                iterator.remove();
+                closeQuietly(pooled);
+            }
+        }
+        poolSizeGauge.set(pool.size());
+    }
+
+    /**
+     * Schedules the eviction of the idle clients, unless it is scheduled already.
+     */
+    private void scheduleEviction() {
+        if (evictionTimerId == -1) {
+            evictionTimerId = vertx.setTimer(Math.max(1, idleTimeoutMs), id -> {
+                // Closing the clients waits for their network threads, so it doesn't run on the event loop
+                vertx.executeBlocking(future -> {
+                    evictIdleAndReschedule();
+                    future.complete();
+                }, false, ignored -> { });
+            });
+        }
+    }
+
+    private synchronized void evictIdleAndReschedule() {
+        evictionTimerId = -1;
+        evictIdle(System.currentTimeMillis());
+        if (pool.values().stream().anyMatch(pooled -> pooled.leases == 0)) {
+            scheduleEviction();
+        }
+    }
+
+    private void retire(Pooled pooled) {
+        pool.remove(pooled.key, pooled);
+        poolSizeGauge.set(pool.size());
+        pooled.retired = true;
+        if (pooled.leases == 0) {
+            closeQuietly(pooled);
+        }
+    }
+
+    private synchronized void release(Pooled pooled) {
+        pooled.leases--;
+        if (pooled.leases == 0) {
+            if (pooled.retired) {
+                closeQuietly(pooled);
+            } else {
+                pooled.idleSince = System.currentTimeMillis();
+                scheduleEviction();
+            }
+        }
+    }
+
+    private static void closeQuietly(Pooled pooled) {
+        try {
+            pooled.admin.close(Duration.ZERO);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to close Admin client {}", pooled.key, e);
+        }
+    }
+
+    /**
+     * Creates an Admin which delegates to the pooled client and releases its lease (just once) on close.
+     */
+    private Admin lease(Pooled pooled) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, (proxy, method, args) -> {
+            if ("close".equals(method.getName())) {
+                if (released.compareAndSet(false, true)) {
+                    release(pooled);
+                }
+                return null;
+            }
+
+            try {
+                return method.invoke(pooled.admin, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    /**
+     * A pooled client with its lease count
+     */
+    private static class Pooled {
+        private final String key;
+        private final List<String> generation;
+        private final Admin admin;
+
+        private int leases = 0;
+        private long idleSince = System.currentTimeMillis();
+        private boolean retired = false;
+
+        Pooled(String key, List<String> generation, Admin admin) {
+            this.key = key;
+            this.generation = generation;
+            this.admin = admin;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>A work queue of reconciliations keyed by the {@link NamespaceAndName} of the reconciled resource.</p>
+ *
+ * <ul>
+ * <li>A key which is already waiting in the queue is not added again. The pending reconciliation is reused and
+ *     the duplicate is counted as merged.</li>
+ * <li>A key is never reconciled by more than one worker at the same time. When it is enqueued while it is being
+ *     reconciled, it is reconciled once more after the current reconciliation completes.</li>
+ * <li>At most {@code workers} reconciliations run at the same time.</li>
+ * <li>Failed reconciliations are retried with a per-key exponential {@link BackOff}. Once the back-off is exhausted,
+ *     the key is left for the next periodic reconciliation.</li>
+ * </ul>
+ */
+public class ReconciliationQueue {
+    private static final Logger log = LogManager.getLogger(ReconciliationQueue.class);
+
+    private final Vertx vertx;
+    private final String kind;
+    private final int workers;
+    private final Function<Reconciliation, Future<Void>> reconciler;
+    private final Supplier<BackOff> backOffSupplier;
+
+    private final Map<NamespaceAndName, Pending> pending = new LinkedHashMap<>();
+    private final Map<NamespaceAndName, Pending> requeued = new HashMap<>();
+    private final Set<NamespaceAndName> running = new HashSet<>();
+    private final Map<NamespaceAndName, BackOff> backOffs = new HashMap<>();
+
+    private final AtomicInteger queueDepthGauge;
+    private final Counter mergedCounter;
+    private final Counter retriesCounter;
+    private final Timer timeInQueueTimer;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vertx instance
+     * @param kind              Kind of the reconciled resources (used for logging and metrics)
+     * @param workers           Maximum number of reconciliations running in parallel
+     * @param reconciler        Function doing the reconciliation
+     * @param backOffSupplier   Supplier of the BackOff used for retrying failed reconciliations of a key
+     * @param metrics           Metrics provider
+     */
+    public ReconciliationQueue(Vertx vertx, String kind, int workers, Function<Reconciliation, Future<Void>> reconciler,
+                               Supplier<BackOff> backOffSupplier, MetricsProvider metrics) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("The number of workers has to be positive");
+        }
+
+        this.vertx = vertx;
+        this.kind = kind;
+        this.workers = workers;
+        this.reconciler = reconciler;
+        this.backOffSupplier = backOffSupplier;
+
+        Tags metricTags = Tags.of(Tag.of("kind", kind));
+
+        queueDepthGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.depth",
+                "Number of reconciliations waiting in the queue",
+                metricTags);
+
+        mergedCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.merged",
+                "Number of reconciliation requests merged with a reconciliation which was already waiting in the queue",
+                metricTags);
+
+        retriesCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.retries",
+                "Number of failed reconciliations which were enqueued again after a back-off",
+                metricTags);
+
+        timeInQueueTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.time",
+                "The time the reconciliations spend waiting in the queue",
+                metricTags);
+    }
+
+    /**
+     * Enqueue the reconciliation of the resource identified by the given reconciliation.
+     *
+     * @param reconciliation    The reconciliation
+     *
+     * @return  A future which completes when the resource has been reconciled. Merged reconciliations share the same
+     *          future.
+     */
+    public Future<Void> enqueue(Reconciliation reconciliation) {
+        NamespaceAndName key = new NamespaceAndName(reconciliation.namespace(), reconciliation.name());
+        Pending added;
+
+        synchronized (this) {
+            Map<NamespaceAndName, Pending> queue = running.contains(key) ? requeued : pending;
+
+            Pending existing = queue.get(key);
+            if (existing != null) {
+                log.debug("{}: Merged with {} waiting in the queue", reconciliation, existing.reconciliation);
+                mergedCounter.increment();
+                return existing.promise.future();
+            }
+
+            added = new Pending(reconciliation);
+            queue.put(key, added);
+            queueDepthGauge.set(pending.size() + requeued.size());
+        }
+
+        dispatch();
+
+        return added.promise.future();
+    }
+
+    /**
+     * @return  The number of reconciliations waiting in the queue
+     */
+    public synchronized int size() {
+        return pending.size() + requeued.size();
+    }
+
+    private void dispatch() {
+        Map<NamespaceAndName, Pending> toStart = new LinkedHashMap<>();
+
+        synchronized (this) {
+            Iterator<Map.Entry<NamespaceAndName, Pending>> iterator = pending.entrySet().iterator();
+
+            while (running.size() < workers && iterator.hasNext()) {
+                Map.Entry<NamespaceAndName, Pending> entry = iterator.next();
+                iterator.remove();
+                running.add(entry.getKey());
+                toStart.put(entry.getKey(), entry.getValue());
+            }
+
+            queueDepthGauge.set(pending.size() + requeued.size());
+        }
+
+        // The reconciliations are started outside of the lock because their futures might complete synchronously
+        for (Map.Entry<NamespaceAndName, Pending> entry : toStart.entrySet()) {
+            NamespaceAndName key = entry.getKey();
+            Pending next = entry.getValue();
+            timeInQueueTimer.record(System.nanoTime() - next.enqueuedNanos, TimeUnit.NANOSECONDS);
+
+            Future<Void> result;
+            try {
+                result = reconciler.apply(next.reconciliation);
+            } catch (Throwable t) {
+                result = Future.failedFuture(t);
+            }
+
+            result.onComplete(res -> {
+                completed(key, next, res.succeeded(), res.cause());
+                next.promise.handle(res);
+                dispatch();
+            });
+        }
+    }
+
+    private synchronized void completed(NamespaceAndName key, Pending done, boolean succeeded, Throwable cause) {
+        running.remove(key);
+
+        Pending again = requeued.remove(key);
+        if (again != null) {
+            // Enqueued while running => it has to run once more, the retry is not needed
+            pending.put(key, again);
+        } else if (succeeded) {
+            backOffs.remove(key);
+        } else if (!(cause instanceof AbstractOperator.UnableToAcquireLockException)) {
+            scheduleRetry(key, done.reconciliation);
+        }
+    }
+
+    private void scheduleRetry(NamespaceAndName key, Reconciliation failed) {
+        BackOff backOff = backOffs.computeIfAbsent(key, k -> {
+            BackOff newBackOff = backOffSupplier.get();
+            // The first delay is always 0 and belongs to the attempt which just failed
+            newBackOff.delayMs();
+            return newBackOff;
+        });
+
+        if (backOff.done()) {
+            log.warn("{}: Reconciliation failed {} times, it will be retried in the next periodic reconciliation", failed, backOff.maxAttempts());
+            backOffs.remove(key);
+        } else {
+            long delay = backOff.delayMs();
+            log.info("{}: Reconciliation failed, it will be retried in {}ms", failed, delay);
+            retriesCounter.increment();
+            vertx.setTimer(delay, timer -> enqueue(new Reconciliation("retry", kind, key.getNamespace(), key.getName())));
+        }
+    }
+
+    /**
+     * A reconciliation waiting in the queue
+     */
+    private static class Pending {
+        private final Reconciliation reconciliation;
+        private final Promise<Void> promise = Promise.promise();
+        private final long enqueuedNanos = System.nanoTime();
+
+        private Pending(Reconciliation reconciliation) {
+            this.reconciliation = reconciliation;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * <p>Reconciliation steps with declared dependencies between them.</p>
+ *
+ * <p>Each step is started as soon as all the steps it depends on succeeded, so steps which do not depend on each
+ * other run concurrently. A step can depend only on steps which were added before it, which keeps the graph acyclic.
+ * When a step fails, the steps depending on it (directly or transitively) are not started, but the independent steps
+ * which are already running are allowed to finish. The returned future completes only when no step is running
+ * anymore and it fails with the cause of the first failed step in the order in which the steps were added.</p>
+ *
+ * <p>The steps are expected to complete their futures on the same Vert.x context, so they never run on different
+ * threads at the same time. They might still interleave, so steps which modify the same state should depend on each
+ * other.</p>
+ *
+ * <p>The duration of every step is recorded in the {@code strimzi.reconciliations.step.duration} timer.</p>
+ *
+ * @param <S> The type of the reconciliation state passed to the steps
+ */
+public class ReconciliationSteps<S> {
+    private static final Logger log = LogManager.getLogger(ReconciliationSteps.class);
+
+    private final Reconciliation reconciliation;
+    private final MetricsProvider metrics;
+    private final Map<String, Step<S>> steps = new LinkedHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation    Reconciliation marker (used for logging and metrics)
+     * @param metrics           Metrics provider
+     */
+    public ReconciliationSteps(Reconciliation reconciliation, MetricsProvider metrics) {
+        this.reconciliation = reconciliation;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Adds a new step.
+     *
+     * @param name      Name of the step
+     * @param step      Function executing the step
+     * @param dependsOn Names of the steps which have to succeed before this step is started
+     *
+     * @return  This instance to allow chaining
+     */
+    public ReconciliationSteps<S> add(String name, Function<S, Future<S>> step, String... dependsOn) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " already exists");
+        }
+
+        for (String dependency : dependsOn) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Step " + name + " depends on unknown step " + dependency);
+            }
+        }
+
+        steps.put(name, new Step<>(name, step, Arrays.asList(dependsOn)));
+        return this;
+    }
+
+    /**
+     * Executes the steps.
+     *
+     * @param state     State passed to the steps
+     *
+     * @return  Future which completes with the state once all the steps succeeded or which fails once no step is
+     *          running anymore after one of them failed
+     */
+    public Future<S> execute(S state) {
+        Map<String, Future<S>> results = new HashMap<>(steps.size());
+        List<Future> all = new ArrayList<>(steps.size());
+
+        for (Step<S> step : steps.values()) {
+            Future<S> result;
+
+            if (step.dependsOn.isEmpty()) {
+                result = run(step, state);
+            } else {
+                List<Future> dependencies = new ArrayList<>(step.dependsOn.size());
+                for (String dependency : step.dependsOn) {
+                    dependencies.add(results.get(dependency));
+                }
+
+                result = CompositeFuture.all(dependencies).compose(ignore -> run(step, state));
+            }
+
+            results.put(step.name, result);
+            all.add(result);
+        }
+
+        Promise<S> promise = Promise.promise();
+
+        CompositeFuture.join(all).onComplete(ignore -> {
+            for (Future result : all) {
+                if (result.failed()) {
+                    promise.fail(result.cause());
+                    return;
+                }
+            }
+
+            promise.complete(state);
+        });
+
+        return promise.future();
+    }
+
+    private Future<S> run(Step<S> step, S state) {
+        long start = System.nanoTime();
+        log.trace("{}: Starting step {}", reconciliation, step.name);
+
+        Future<S> result;
+        try {
+            result = step.step.apply(state);
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        return result.onComplete(res -> {
+            long duration = System.nanoTime() - start;
+            stepTimer(step.name).record(duration, TimeUnit.NANOSECONDS);
+
+            if (res.succeeded()) {
+                log.trace("{}: Step {} succeeded in {}ms", reconciliation, step.name, TimeUnit.NANOSECONDS.toMillis(duration));
+            } else {
+                log.debug("{}: Step {} failed in {}ms", reconciliation, step.name, TimeUnit.NANOSECONDS.toMillis(duration), res.cause());
+            }
+        });
+    }
+
+    private Timer stepTimer(String step) {
+        return metrics.timer(AbstractOperator.METRICS_PREFIX + "reconciliations.step.duration",
+                "The time the reconciliation steps take to complete",
+                Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("step", step)));
+    }
+
+    /**
+     * A single reconciliation step
+     */
+    private static class Step<S> {
+        private final String name;
+        private final Function<S, Future<S>> step;
+        private final List<String> dependsOn;
+
+        private Step(String name, Function<S, Future<S>> step, List<String> dependsOn) {
+            this.name = name;
+            this.step = step;
+            this.dependsOn = dependsOn;
+        }
+    }
+}
@@ -9,6 +9,8 @@ import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -37,6 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -88,55 +91,197 @@ public class Util {
      */
     public static Future<Void> waitFor(Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed,
                                        Predicate<Throwable> failOnError) {
-        Promise<Void> promise = Promise.promise();
+        return waitFor(vertx, logContext, logState, pollIntervalMs, timeoutMs, completed, failOnError, null);
+    }
+
+    /**
+     * Invoke the given {@code completed} supplier on a pooled thread whenever the {@code changes} source signals a
+     * change, until it returns true or {@code timeoutMs} milliseconds have elapsed.
+     * The {@code changes} function is called once on a pooled thread with a handler which the source should call with
+     * {@code true} when the state might have changed, or with {@code false} when it was closed and will not signal any
+     * more changes. It returns the source (which is closed once the wait is over) or null if no source could be opened.
+     * As long as there is no open source, {@code completed} is polled approximately every {@code pollIntervalMs}
+     * milliseconds instead. While the source is open, it is still polled every {@link #WATCH_FALLBACK_POLL_FACTOR}
+     * poll intervals, in case the source stopped signalling changes without being closed.
+     * @param vertx The vertx instance.
+     * @param logContext A string used for context in logging.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param completed Determines when the wait is complete by returning true.
+     * @param failOnError Determine whether a given error thrown by {@code completed},
+     *                    should result in the immediate completion of the returned Future.
+     * @param changes Opens the source of change notifications, or null to poll.
+     * @return A future that completes when the given {@code completed} indicates readiness.
+     */
+    public static Future<Void> waitFor(Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed,
+                                       Predicate<Throwable> failOnError, Function<Handler<Boolean>, AutoCloseable> changes) {
         LOGGER.debug("Waiting for {} to get {}", logContext, logState);
-        long deadline = System.currentTimeMillis() + timeoutMs;
-        Handler<Long> handler = new Handler<Long>() {
-            @Override
-            public void handle(Long timerId) {
-                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
-                    future -> {
-                        try {
-                            if (completed.getAsBoolean())   {
-                                future.complete();
-                            } else {
-                                LOGGER.trace("{} is not {}", logContext, logState);
-                                future.fail("Not " + logState + " yet");
-                            }
-                        } catch (Throwable e) {
-                            LOGGER.warn("Caught exception while waiting for {} to get {}", logContext, logState, e);
-                            future.fail(e);
-                        }
-                    },
+        return new Wait(vertx, logContext, logState, pollIntervalMs, timeoutMs, completed, failOnError).start(changes);
+    }
+
+    /**
+     * How many times longer the poll interval is while a source of change notifications is open
+     */
+    static final int WATCH_FALLBACK_POLL_FACTOR = 10;
+
+    /**
+     * The state of a single {@link #waitFor} call. All the state is only accessed from the Vert.x context on which the
+     * wait was started; notifications from the source of changes are moved onto this context.
+     */
+    private static class Wait {
+        private final Vertx vertx;
+        private final Context context;
+        private final String logContext;
+        private final String logState;
+        private final long pollIntervalMs;
+        private final long timeoutMs;
+        private final long deadline;
+        private final BooleanSupplier completed;
+        private final Predicate<Throwable> failOnError;
+        private final Promise<Void> promise = Promise.promise();
+
+        private AutoCloseable source;
+        private boolean watching = false;
+        private boolean checking = false;
+        private boolean recheck = false;
+        private long timerId = -1;
+
+        Wait(Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed,
+             Predicate<Throwable> failOnError) {
+            this.vertx = vertx;
+            this.context = vertx.getOrCreateContext();
+            this.logContext = logContext;
+            this.logState = logState;
+            this.pollIntervalMs = pollIntervalMs;
+            this.timeoutMs = timeoutMs;
+            this.deadline = System.currentTimeMillis() + timeoutMs;
+            this.completed = completed;
+            this.failOnError = failOnError;
+        }
+
+        Future<Void> start(Function<Handler<Boolean>, AutoCloseable> changes) {
+            if (changes == null) {
+                check();
+            } else {
+                // The source is opened before the first check, so that no change happening after the check is missed
+                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<AutoCloseable>executeBlocking(
+                    future -> future.complete(changes.apply(open -> context.runOnContext(v -> changed(open)))),
                     true,
                     res -> {
-                        if (res.succeeded()) {
-                            LOGGER.debug("{} is {}", logContext, logState);
-                            promise.complete();
+                        if (res.succeeded() && res.result() != null) {
+                            source = res.result();
+                            watching = true;
                         } else {
-                            if (failOnError.test(res.cause())) {
-                                promise.fail(res.cause());
-                            } else {
-                                long timeLeft = deadline - System.currentTimeMillis();
-                                if (timeLeft <= 0) {
-                                    String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
-                                    LOGGER.error(exceptionMessage);
-                                    promise.fail(new TimeoutException(exceptionMessage));
-                                } else {
-                                    // Schedule ourselves to run again
-                                    vertx.setTimer(Math.min(pollIntervalMs, timeLeft), this);
-                                }
-                            }
+                            LOGGER.debug("Could not watch {}, polling for it to get {}", logContext, logState, res.cause());
                         }
+                        check();
+                    });
+            }
+
+            return promise.future();
+        }
+
+        private void changed(boolean open) {
+            if (!open) {
+                LOGGER.debug("Stopped watching {}, polling for it to get {}", logContext, logState);
+                watching = false;
+            }
+            check();
+        }
+
+        private void check() {
+            if (promise.future().isComplete()) {
+                return;
+            } else if (checking) {
+                // Check again once the running check is done, as it might have missed the change
+                recheck = true;
+                return;
+            }
+
+            checking = true;
+            recheck = false;
+            if (timerId != -1) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+
+            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                future -> {
+                    try {
+                        if (completed.getAsBoolean())   {
+                            future.complete();
+                        } else {
+                            LOGGER.trace("{} is not {}", logContext, logState);
+                            future.fail("Not " + logState + " yet");
+                        }
+                    } catch (Throwable e) {
+                        LOGGER.warn("Caught exception while waiting for {} to get {}", logContext, logState, e);
+                        future.fail(e);
                     }
-                );
+                },
+                true,
+                this::checked
+            );
+        }
+
+        private void checked(AsyncResult<Object> res) {
+            checking = false;
+
+            if (res.succeeded()) {
+                LOGGER.debug("{} is {}", logContext, logState);
+                complete(null);
+            } else if (failOnError.test(res.cause())) {
+                complete(res.cause());
+            } else {
+                long timeLeft = deadline - System.currentTimeMillis();
+                if (timeLeft <= 0) {
+                    String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
+                    LOGGER.error(exceptionMessage);
+                    complete(new TimeoutException(exceptionMessage));
+                } else if (recheck) {
+                    check();
+                } else {
+                    // Schedule ourselves to run again. When watching, poll less often, as the source might go silent
+                    // without being closed.
+                    long interval = watching ? pollIntervalMs * WATCH_FALLBACK_POLL_FACTOR : pollIntervalMs;
+                    timerId = vertx.setTimer(Math.min(interval, timeLeft), t -> {
+                        timerId = -1;
+                        check();
+                    });
+                }
             }
-        };
+        }
+
+        private void complete(Throwable cause) {
+            close();
+
+            if (cause == null) {
+                promise.complete();
+            } else {
+                promise.fail(cause);
+            }
+        }
 
-        // Call the handler ourselves the first time
-        handler.handle(null);
+        private void close() {
+            AutoCloseable current = source;
+            source = null;
+            watching = false;
 
-        return promise.future();
+            if (current != null) {
+                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                    future -> {
+                        try {
+                            current.close();
+                        } catch (Exception e) {
+                            LOGGER.debug("Failed to stop watching {}", logContext, e);
+                        }
+                        future.complete();
+                    },
+                    false,
+                    ignore -> { });
+            }
+        }
     }
 
     /**
@@ -8,12 +8,19 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -83,34 +90,15 @@ public class ResourceVisitor {
     }
 
     private static void visit(List<String> path, Object resource, Visitor visitor) throws ReflectiveOperationException {
-        Class<?> cls = resource.getClass();
         visitor.visitObject(path, resource);
-        for (Field field : cls.getFields()) {
-            Object propertyValue = field.get(resource);
-            visitor.visitFieldProperty(path, resource, field, FIELD_PROPERTY, propertyValue);
-            visitProperty(path, field, FIELD_PROPERTY, propertyValue, visitor);
-        }
-        for (Method method : cls.getMethods()) {
-            String name = method.getName();
-            if (!"getClass".equals(name)) {
-                Property<Method> property = null;
-                if (name.length() > 3
-                        && name.startsWith("get")
-                        && !method.getReturnType().equals(Void.class)
-                        && method.getParameterCount() == 0) {
-                    property = GET_METHOD_PROPERTY;
-                } else if (name.length() > 2
-                        && name.startsWith("is")
-                        && method.getReturnType().equals(boolean.class)
-                        && method.getParameterCount() == 0) {
-                    property = IS_METHOD_PROPERTY;
-                }
-                if (property != null) {
-                    Object propertyValue = method.invoke(resource);
-                    visitor.visitMethodProperty(path, resource, method, property, propertyValue);
-                    visitProperty(path, method, property, propertyValue, visitor);
-                }
+        for (Accessor accessor : ACCESSORS.get(resource.getClass())) {
+            Object propertyValue = accessor.get(resource);
+            if (accessor.field != null) {
+                visitor.visitFieldProperty(path, resource, accessor.field, accessor.fieldProperty, propertyValue);
+            } else {
+                visitor.visitMethodProperty(path, resource, accessor.method, accessor.methodProperty, propertyValue);
             }
+            visitProperty(path, accessor, propertyValue, visitor);
         }
     }
 
@@ -128,35 +116,171 @@ public class ResourceVisitor {
                 || isFloat;
     }
 
-    static <M extends AnnotatedElement & Member> void visitProperty(List<String> path, M member,
-                                                                    Property<M> property, Object propertyValue,
-                                                                    Visitor visitor)
+    private static void visitProperty(List<String> path, Accessor accessor, Object propertyValue, Visitor visitor)
             throws ReflectiveOperationException {
-        String propertyName = property.propertyName(member);
-        Class<?> returnType = property.type(member);
         if (propertyValue != null) {
-            if (returnType.isArray()) {
-                path.add(propertyName);
-                if (propertyValue instanceof Object[]) {
-                    for (Object element : (Object[]) propertyValue) {
+            switch (accessor.kind) {
+                case ARRAY:
+                    path.add(accessor.propertyName);
+                    if (propertyValue instanceof Object[]) {
+                        for (Object element : (Object[]) propertyValue) {
+                            visit(path, element, visitor);
+                        }
+                    }
+                    // otherwise it's an array of primitives, in which case there are not further objects to visit
+                    path.remove(path.size() - 1);
+                    break;
+                case COLLECTION:
+                    path.add(accessor.propertyName);
+                    for (Object element : (Collection<?>) propertyValue) {
                         visit(path, element, visitor);
                     }
+                    path.remove(path.size() - 1);
+                    break;
+                case OBJECT:
+                    path.add(accessor.propertyName);
+                    visit(path, propertyValue, visitor);
+                    path.remove(path.size() - 1);
+                    break;
+                case LEAF:
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static final MethodHandles.Lookup PUBLIC_LOOKUP = MethodHandles.publicLookup();
+
+    /**
+     * The properties of each visited class, in the order in which they are visited: public fields first, then
+     * getters. Looking them up with {@code getFields()} and {@code getMethods()} copies the members on every call,
+     * so they are computed once per class and invoked through method handles afterwards.
+     */
+    private static final ClassValue<List<Accessor>> ACCESSORS = new ClassValue<List<Accessor>>() {
+        @Override
+        protected List<Accessor> computeValue(Class<?> cls) {
+            List<Accessor> accessors = new ArrayList<>();
+            for (Field field : cls.getFields()) {
+                accessors.add(new Accessor(field, null, FIELD_PROPERTY, null, field.getType()));
+            }
+            for (Method method : cls.getMethods()) {
+                String name = method.getName();
+                if (!"getClass".equals(name)) {
+                    MethodProperty property = null;
+                    if (name.length() > 3
+                            && name.startsWith("get")
+                            && !method.getReturnType().equals(Void.class)
+                            && method.getParameterCount() == 0) {
+                        property = GET_METHOD_PROPERTY;
+                    } else if (name.length() > 2
+                            && name.startsWith("is")
+                            && method.getReturnType().equals(boolean.class)
+                            && method.getParameterCount() == 0) {
+                        property = IS_METHOD_PROPERTY;
+                    }
+                    if (property != null) {
+                        accessors.add(new Accessor(null, method, null, property, method.getReturnType()));
+                    }
                 }
-                // otherwise it's an array of primitives, in which case there are not further objects to visit
-                path.remove(path.size() - 1);
-            } else if (Collection.class.isAssignableFrom(returnType)) {
-                path.add(propertyName);
-                for (Object element : (Collection<?>) propertyValue) {
-                    visit(path, element, visitor);
+            }
+            return Collections.unmodifiableList(accessors);
+        }
+    };
+
+    /**
+     * How the value of a property is descended into
+     */
+    private enum Kind {
+        ARRAY,
+        COLLECTION,
+        OBJECT,
+        LEAF
+    }
+
+    /**
+     * A property of a class: its field or getter, its name and type and a method handle for reading it.
+     * The {@link Property} instances passed to the visitor return the precomputed name for this member.
+     */
+    private static class Accessor {
+        private final Field field;
+        private final Method method;
+        private final Property<Field> fieldProperty;
+        private final Property<Method> methodProperty;
+        private final String propertyName;
+        private final Kind kind;
+        private final MethodHandle getter;
+
+        Accessor(Field field, Method method, Property<Field> fieldProperty, Property<Method> methodProperty, Class<?> type) {
+            this.field = field;
+            this.method = method;
+            this.propertyName = field != null ? fieldProperty.propertyName(field) : methodProperty.propertyName(method);
+            this.fieldProperty = fieldProperty != null ? new CachedProperty<>(field, propertyName, fieldProperty) : null;
+            this.methodProperty = methodProperty != null ? new CachedProperty<>(method, propertyName, methodProperty) : null;
+
+            if (type.isArray()) {
+                kind = Kind.ARRAY;
+            } else if (Collection.class.isAssignableFrom(type)) {
+                kind = Kind.COLLECTION;
+            } else if (!isScalar(type)
+                    && !Map.class.isAssignableFrom(type)
+                    && !type.isEnum()) {
+                kind = Kind.OBJECT;
+            } else {
+                kind = Kind.LEAF;
+            }
+
+            MethodHandle handle;
+            try {
+                handle = field != null ? PUBLIC_LOOKUP.unreflectGetter(field) : PUBLIC_LOOKUP.unreflect(method);
+                if (Modifier.isStatic(field != null ? field.getModifiers() : method.getModifiers())) {
+                    // Static members don't take the owner, so accept and ignore it
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
                 }
-                path.remove(path.size() - 1);
-            } else if (!isScalar(returnType)
-                    && !Map.class.isAssignableFrom(returnType)
-                    && !returnType.isEnum()) {
-                path.add(propertyName);
-                visit(path, propertyValue, visitor);
-                path.remove(path.size() - 1);
+                handle = handle.asType(MethodType.methodType(Object.class, Object.class));
+            } catch (IllegalAccessException | WrongMethodTypeException e) {
+                // For example public members of non-public classes => fall back to plain reflection
+                handle = null;
+            }
+            this.getter = handle;
+        }
+
+        Object get(Object owner) throws ReflectiveOperationException {
+            if (getter == null) {
+                return field != null ? field.get(owner) : method.invoke(owner);
             }
+
+            try {
+                return getter.invokeExact(owner);
+            } catch (RuntimeException | Error | ReflectiveOperationException e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+    }
+
+    /**
+     * A {@link Property} which returns the precomputed name of its member instead of deriving it on every call.
+     */
+    private static class CachedProperty<M extends Member> implements Property<M> {
+        private final M member;
+        private final String propertyName;
+        private final Property<M> delegate;
+
+        CachedProperty(M member, String propertyName, Property<M> delegate) {
+            this.member = member;
+            this.propertyName = propertyName;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String propertyName(M i) {
+            return i == member ? propertyName : delegate.propertyName(i);
+        }
+
+        @Override
+        public Class<?> type(M i) {
+            return delegate.type(i);
         }
     }
 
@@ -280,6 +280,8 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
     /**
      * Returns a future that completes when the resource identified by the given {@code name}
      * is ready.
+     * The predicate is re-evaluated whenever a watch on the resource reports a change. When the watch cannot be
+     * opened or gets closed, the predicate is polled every {@code pollIntervalMs} instead.
      *
      * @param name The resource name.
      * @param logState The state we are waiting for use in log messages
@@ -294,6 +296,8 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
             logState,
             pollIntervalMs,
             timeoutMs,
-            () -> predicate.test(name));
+            () -> predicate.test(name),
+            error -> false,
+            changed -> ResourceSupport.watchChanges(operation().withName(name), changed));
     }
 }
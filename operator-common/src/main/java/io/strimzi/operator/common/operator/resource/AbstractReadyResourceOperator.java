@@ -27,7 +27,7 @@ public abstract class AbstractReadyResourceOperator<C extends KubernetesClient,
             L extends KubernetesResourceList/*<T>*/,
             D extends Doneable<T>,
             R extends Resource<T, D>>
-        extends AbstractResourceOperator<C, T, L, D, R> {
+        extends AbstractWatchableResourceOperator<C, T, L, D, R> {
 
     /**
      * Constructor.
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 
 /**
@@ -48,6 +49,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
     protected final C client;
     protected final String resourceKind;
 
+    /**
+     * Local caches of the resources per namespace. Reads are served from them (when available and in sync)
+     * instead of the Kubernetes API.
+     */
+    protected final Map<String, ResourceCache<T>> caches = new ConcurrentHashMap<>();
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -167,6 +174,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
         try {
             T result = operation().inNamespace(namespace).withName(name).withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).patch(desired);
             log.debug("{} {} in namespace {} has been patched", resourceKind, name, namespace);
+            updateCache(namespace, result);
             return Future.succeededFuture(wasChanged(current, result) ? ReconcileResult.patched(result) : ReconcileResult.noop(result));
         } catch (Exception e) {
             log.debug("Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -194,6 +202,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
         try {
             ReconcileResult<T> result = ReconcileResult.created(operation().inNamespace(namespace).withName(name).create(desired));
             log.debug("{} {} in namespace {} has been created", resourceKind, name, namespace);
+            updateCache(namespace, result.resource());
             return Future.succeededFuture(result);
         } catch (Exception e) {
             log.debug("Caught exception while creating {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -201,13 +210,53 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
         }
     }
 
+    /**
+     * Returns the local cache which can serve reads in the given {@code namespace}.
+     * @param namespace The namespace.
+     * @return The synced cache, or null if there is none.
+     */
+    protected ResourceCache<T> cache(String namespace) {
+        if (caches.isEmpty()) {
+            return null;
+        }
+
+        ResourceCache<T> cache = caches.get(namespace);
+        if (cache == null) {
+            cache = caches.get(AbstractWatchableResourceOperator.ANY_NAMESPACE);
+        }
+
+        return cache != null && cache.isSynced() ? cache : null;
+    }
+
+    /**
+     * Updates the local cache (if there is any) with the result of an operation done by the operator, so that
+     * subsequent reads see it even before the corresponding watch event arrives.
+     * @param namespace The namespace.
+     * @param resource The resource returned by the Kubernetes API.
+     */
+    protected void updateCache(String namespace, T resource) {
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            cache.update(resource);
+        }
+    }
+
     /**
      * Synchronously gets the resource with the given {@code name} in the given {@code namespace}.
+     * The local cache is used when available, otherwise the resource is read from the Kubernetes API.
      * @param namespace The namespace.
      * @param name The name.
      * @return The resource, or null if it doesn't exist.
      */
     public T get(String namespace, String name) {
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            T cached = cache.get(namespace, name);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         return operation().inNamespace(namespace).withName(name).get();
     }
 
@@ -218,10 +267,19 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      * @return A Future for the result.
      */
     public Future<T> getAsync(String namespace, String name) {
+        ResourceCache<T> cache = cache(namespace);
+        if (cache != null) {
+            T cached = cache.get(namespace, name);
+            if (cached != null) {
+                return Future.succeededFuture(cached);
+            }
+        }
+
         Promise<T> result = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
             future -> {
-                T resource = get(namespace, name);
+                // The cache was already checked above => go directly to the API
+                T resource = cache != null ? operation().inNamespace(namespace).withName(name).get() : get(namespace, name);
                 future.complete(resource);
             }, true, result
         );
@@ -236,6 +294,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      */
     @SuppressWarnings("unchecked")
     public List<T> list(String namespace, Labels selector) {
+        List<T> cached = listFromCache(namespace, selector);
+        if (cached != null) {
+            return cached;
+        }
+
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
             return listInAnyNamespace(selector);
         } else {
@@ -243,6 +306,19 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
         }
     }
 
+    /**
+     * Lists the resources in the given {@code namespace} with the given {@code selector} from the local cache only,
+     * without falling back to the Kubernetes API.
+     *
+     * @param namespace The namespace.
+     * @param selector The selector.
+     * @return A list of matching resources or null if there is no synced cache which can serve the query.
+     */
+    public List<T> listFromCache(String namespace, Labels selector) {
+        ResourceCache<T> cache = cache(namespace);
+        return cache != null ? cache.list(namespace, selector != null ? selector.toMap() : null) : null;
+    }
+
     @SuppressWarnings("unchecked") // due to L extends KubernetesResourceList/*<T>*/
     protected List<T> listInAnyNamespace(Labels selector) {
         FilterWatchListMultiDeletable<T, L, Boolean, Watch, Watcher<T>> operation = operation().inAnyNamespace();
@@ -284,6 +360,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        List<T> cached = listFromCache(namespace, selector);
+        if (cached != null) {
+            return Future.succeededFuture(cached);
+        }
+
         Promise<List<T>> result = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
             future -> {
@@ -303,6 +384,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
 
     @SuppressWarnings("unchecked")
     public Future<List<T>> listAsync(String namespace, Optional<LabelSelector> selector) {
+        ResourceCache<T> cache = cache(namespace);
+        List<T> cached = cache != null ? cache.list(namespace, selector) : null;
+        if (cached != null) {
+            return Future.succeededFuture(cached);
+        }
+
         Promise<List<T>> result = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
             future -> {
@@ -340,6 +427,8 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
     /**
      * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
      * is ready.
+     * The predicate is re-evaluated whenever a watch on the resource reports a change. When the watch cannot be
+     * opened or gets closed, the predicate is polled every {@code pollIntervalMs} instead.
      *
      * @param namespace The namespace.
      * @param name The resource name.
@@ -356,6 +445,8 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient, T ext
             logState,
             pollIntervalMs,
             timeoutMs,
-            () -> predicate.test(namespace, name));
+            () -> predicate.test(namespace, name),
+            error -> false,
+            changed -> ResourceSupport.watchChanges(operation().inNamespace(namespace).withName(name), changed));
     }
 }
@@ -8,11 +8,14 @@ import io.fabric8.kubernetes.api.model.Doneable;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
 import java.util.Optional;
@@ -62,4 +65,76 @@ public abstract class AbstractWatchableResourceOperator<
         }
         return operation.watch(watcher);
     }
+
+    /**
+     * Starts a local cache of the resources in the given namespace. Once the cache is synced, the {@code get} and
+     * {@code list} methods of this operator are served from it instead of the Kubernetes API.
+     *
+     * @param namespace         Namespace which should be cached or {@link #ANY_NAMESPACE}
+     * @param selector          Optional selector narrowing the cached resources
+     * @param resyncIntervalMs  Interval in which the cached resources are relisted to detect drift
+     * @param metrics           Metrics provider
+     *
+     * @return  A future which completes when the cache is synced for the first time
+     */
+    @SuppressWarnings("unchecked") // due to L extends KubernetesResourceList/*<T>*/
+    public Future<Void> startCache(String namespace, Optional<LabelSelector> selector, long resyncIntervalMs, MetricsProvider metrics) {
+        FilterWatchListDeletable<T, L, Boolean, Watch, Watcher<T>> operation
+                = ANY_NAMESPACE.equals(namespace) ? operation().inAnyNamespace() : operation().inNamespace(namespace);
+        if (selector.isPresent()) {
+            operation = operation.withLabelSelector(selector.get());
+        }
+
+        FilterWatchListDeletable<T, L, Boolean, Watch, Watcher<T>> cachedOperation = operation;
+        ResourceCache<T> cache = new ResourceCache<T>(vertx, resourceKind, namespace, selector, resyncIntervalMs,
+            () -> (KubernetesResourceList<T>) cachedOperation.list(),
+            (String resourceVersion, Watcher<T> watcher) -> cachedOperation.watch(new ListOptionsBuilder().withResourceVersion(resourceVersion).build(), watcher),
+            metrics);
+
+        ResourceCache<T> previous = caches.put(namespace, cache);
+        if (previous != null) {
+            previous.stop();
+        }
+
+        return cache.start();
+    }
+
+    /**
+     * Applies a watch event received by the operator itself to the local cache (if there is any). The cache has its
+     * own watch, which can deliver the same event later, so this makes sure that the reconciliation triggered by the
+     * event doesn't read an older copy of the resource from the cache.
+     *
+     * @param action    The watch action
+     * @param resource  The resource from the watch event
+     */
+    public void cacheEvent(Watcher.Action action, T resource) {
+        if (caches.isEmpty() || resource == null || resource.getMetadata() == null) {
+            return;
+        }
+
+        ResourceCache<T> cache = caches.get(resource.getMetadata().getNamespace());
+        if (cache == null) {
+            cache = caches.get(ANY_NAMESPACE);
+        }
+
+        if (cache != null) {
+            if (action == Watcher.Action.DELETED) {
+                cache.delete(resource);
+            } else if (action == Watcher.Action.ADDED || action == Watcher.Action.MODIFIED) {
+                cache.update(resource);
+            }
+        }
+    }
+
+    /**
+     * Stops the local cache of the resources in the given namespace (if there is any).
+     *
+     * @param namespace     Namespace which is cached
+     */
+    public void stopCache(String namespace) {
+        ResourceCache<T> cache = caches.remove(namespace);
+        if (cache != null) {
+            cache.stop();
+        }
+    }
 }
@@ -81,6 +81,7 @@ public class CrdOperator<C extends KubernetesClient,
             try {
                 T result = operation().inNamespace(namespace).withName(name).withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).patch(resource);
                 log.debug("{} {} in namespace {} has been patched", resourceKind, name, namespace);
+                updateCache(namespace, result);
                 future.complete(result);
             } catch (Exception e) {
                 log.debug("Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -142,6 +143,7 @@ public class CrdOperator<C extends KubernetesClient,
                         response.close();
                     }
                 }
+                updateCache(resource.getMetadata().getNamespace(), returnedResource);
                 future.complete(returnedResource);
             } catch (IOException | RuntimeException e) {
                 log.debug("Updating status failed", e);
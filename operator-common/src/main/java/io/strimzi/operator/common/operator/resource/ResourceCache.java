@@ -0,0 +1,505 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * An informer-like, watch-fed local cache of the resources of a single kind in a single namespace
+ * (or in all namespaces when the namespace is {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}).
+ *
+ * <p>The cache is populated by an initial list and then kept current by a watch started from the
+ * {@code resourceVersion} of that list. Every {@code resyncIntervalMs} the list is repeated to detect any drift.
+ * If the watch is closed with an error the cache is marked as not synced and relisted. If a list fails, the cache
+ * stays not synced (so reads go to the Kubernetes API) until the next resync succeeds.
+ * Resources are indexed by namespace, name and label, and updates are only applied when they carry
+ * a newer {@code resourceVersion} than the cached copy.</p>
+ *
+ * <p>Resources returned from the cache are copies, so callers are free to modify them.</p>
+ *
+ * @param <T> The Kubernetes resource type.
+ */
+public class ResourceCache<T extends HasMetadata> implements Watcher<T> {
+
+    private static final Logger log = LogManager.getLogger(ResourceCache.class);
+
+    private final Vertx vertx;
+    private final String resourceKind;
+    private final String namespace;
+    private final Optional<LabelSelector> selector;
+    private final long resyncIntervalMs;
+    private final Supplier<KubernetesResourceList<T>> lister;
+    private final BiFunction<String, Watcher<T>, Watch> watcher;
+
+    private final Map<NamespaceAndName, T> byName = new ConcurrentHashMap<>();
+    private final Map<String, Set<NamespaceAndName>> byNamespace = new ConcurrentHashMap<>();
+    private final Map<String, Set<NamespaceAndName>> byLabel = new ConcurrentHashMap<>();
+
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+    private final AtomicInteger stalenessGauge;
+
+    private volatile boolean synced = false;
+    private volatile boolean stopped = false;
+    private volatile String resourceVersion;
+    private volatile long lastSyncMs;
+    private volatile Watch watch;
+    private long resyncTimer = -1;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             The Vertx instance
+     * @param resourceKind      The kind of the cached resources (used for logging and metrics)
+     * @param namespace         The namespace of the cached resources
+     * @param selector          Optional selector narrowing the cached resources
+     * @param resyncIntervalMs  Interval in which the resources are relisted from the Kubernetes API
+     * @param lister            Blocking supplier listing the resources which should be cached
+     * @param watcher           Blocking function opening a watch from the given resourceVersion
+     * @param metrics           Metrics provider
+     */
+    public ResourceCache(Vertx vertx, String resourceKind, String namespace, Optional<LabelSelector> selector, long resyncIntervalMs,
+                         Supplier<KubernetesResourceList<T>> lister, BiFunction<String, Watcher<T>, Watch> watcher, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.resourceKind = resourceKind;
+        this.namespace = namespace;
+        this.selector = selector;
+        this.resyncIntervalMs = resyncIntervalMs;
+        this.lister = lister;
+        this.watcher = watcher;
+
+        Tags metricTags = Tags.of(Tag.of("kind", resourceKind), Tag.of("namespace", namespace));
+
+        hitsCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.hits",
+                "Number of reads served from the local resource cache",
+                metricTags);
+
+        missesCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.misses",
+                "Number of reads which could not be served from the local resource cache",
+                metricTags);
+
+        stalenessGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "resource.cache.staleness.seconds",
+                "Number of seconds since the content of the local resource cache was last confirmed by a full list from the Kubernetes API",
+                metricTags);
+    }
+
+    /**
+     * Lists the resources, opens the watch and schedules the periodic resync.
+     * The resync is scheduled even when the first list fails, so that the cache is synced later.
+     *
+     * @return  A future which completes once the cache is synced for the first time
+     */
+    public Future<Void> start() {
+        resyncTimer = vertx.setPeriodic(resyncIntervalMs, timer -> relist());
+        return relist();
+    }
+
+    /**
+     * Closes the watch and stops the periodic resync. The cache cannot be used anymore once stopped.
+     */
+    public void stop() {
+        stopped = true;
+        synced = false;
+
+        if (resyncTimer != -1) {
+            vertx.cancelTimer(resyncTimer);
+        }
+
+        closeWatch();
+    }
+
+    /**
+     * @return  True if the cache was populated and its watch is open
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Lists all the resources, replaces the cache content and opens the watch if it is not open.
+     */
+    private Future<Void> relist() {
+        Promise<Void> result = Promise.promise();
+
+        vertx.createSharedWorkerExecutor("kubernetes-ops-tool").executeBlocking(
+            future -> {
+                try {
+                    KubernetesResourceList<T> list = lister.get();
+                    String listVersion = list.getMetadata() != null ? list.getMetadata().getResourceVersion() : null;
+                    replace(list.getItems(), listVersion);
+
+                    if (watch == null && !stopped) {
+                        watch = watcher.apply(listVersion, this);
+                        log.debug("Opened cache watch for {} in namespace {} from resourceVersion {}", resourceKind, namespace, listVersion);
+                    }
+
+                    synced = watch != null;
+                    lastSyncMs = System.currentTimeMillis();
+                    updateStaleness();
+                    future.complete();
+                } catch (Exception e) {
+                    log.warn("Failed to sync cache for {} in namespace {}", resourceKind, namespace, e);
+                    future.fail(e);
+                }
+            }, false, result);
+
+        return result.future();
+    }
+
+    private synchronized void replace(List<T> items, String listVersion) {
+        Set<NamespaceAndName> listed = new HashSet<>(items.size());
+
+        for (T item : items) {
+            listed.add(key(item));
+            put(item);
+        }
+
+        for (NamespaceAndName cached : new ArrayList<>(byName.keySet())) {
+            // Resources which were added after the list was taken will not be in the list but should stay cached
+            if (!listed.contains(cached) && !isNewer(byName.get(cached), listVersion)) {
+                remove(cached);
+            }
+        }
+
+        resourceVersion = listVersion;
+    }
+
+    @Override
+    public void eventReceived(Action action, T resource) {
+        switch (action) {
+            case ADDED:
+            case MODIFIED:
+                update(resource);
+                break;
+            case DELETED:
+                delete(resource);
+                break;
+            case ERROR:
+            default:
+                log.warn("Cache watch for {} in namespace {} received unexpected event {}", resourceKind, namespace, action);
+                synced = false;
+                relist();
+        }
+    }
+
+    @Override
+    public void onClose(KubernetesClientException cause) {
+        watch = null;
+        synced = false;
+
+        if (!stopped) {
+            if (cause != null) {
+                log.warn("Cache watch for {} in namespace {} closed with exception, relisting", resourceKind, namespace, cause);
+            } else {
+                log.info("Cache watch for {} in namespace {} closed, relisting", resourceKind, namespace);
+            }
+
+            relist();
+        }
+    }
+
+    private void closeWatch() {
+        Watch current = watch;
+        watch = null;
+
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    /**
+     * Updates the cache with the given resource if it is newer than the cached copy.
+     * This is used both for watch events and for the results of operations done by the operator itself.
+     *
+     * @param resource  The resource
+     */
+    public synchronized void update(T resource) {
+        if (resource == null || resource.getMetadata() == null || !matchesSelector(resource)) {
+            return;
+        }
+
+        T cached = byName.get(key(resource));
+        if (cached == null || isNewer(resource, cached.getMetadata().getResourceVersion())) {
+            put(resource);
+            resourceVersion = resource.getMetadata().getResourceVersion();
+        }
+    }
+
+    /**
+     * Removes the given resource from the cache, unless the cached copy is newer (e.g. because it was recreated).
+     * This is used both for watch events and for the deletion events seen by the operator itself.
+     *
+     * @param resource  The deleted resource
+     */
+    public synchronized void delete(T resource) {
+        if (resource == null || resource.getMetadata() == null) {
+            return;
+        }
+
+        T cached = byName.get(key(resource));
+        if (cached != null && !isNewer(cached, resource.getMetadata().getResourceVersion())) {
+            remove(key(resource));
+            resourceVersion = resource.getMetadata().getResourceVersion();
+        }
+    }
+
+    private void put(T resource) {
+        NamespaceAndName key = key(resource);
+        T previous = byName.put(key, resource);
+
+        if (previous != null) {
+            unindexLabels(key, previous);
+        }
+
+        byNamespace.computeIfAbsent(key.getNamespace(), ns -> ConcurrentHashMap.newKeySet()).add(key);
+        Map<String, String> labels = resource.getMetadata().getLabels();
+        if (labels != null) {
+            for (Map.Entry<String, String> label : labels.entrySet()) {
+                byLabel.computeIfAbsent(labelKey(label.getKey(), label.getValue()), l -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+        }
+    }
+
+    private void remove(NamespaceAndName key) {
+        T previous = byName.remove(key);
+
+        if (previous != null) {
+            unindexLabels(key, previous);
+            Set<NamespaceAndName> inNamespace = byNamespace.get(key.getNamespace());
+            if (inNamespace != null) {
+                inNamespace.remove(key);
+            }
+        }
+    }
+
+    private void unindexLabels(NamespaceAndName key, T resource) {
+        Map<String, String> labels = resource.getMetadata().getLabels();
+        if (labels != null) {
+            for (Map.Entry<String, String> label : labels.entrySet()) {
+                Set<NamespaceAndName> withLabel = byLabel.get(labelKey(label.getKey(), label.getValue()));
+                if (withLabel != null) {
+                    withLabel.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets a copy of the cached resource.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Copy of the cached resource or null if it is not cached
+     */
+    public T get(String namespace, String name) {
+        T cached = synced ? byName.get(new NamespaceAndName(namespace, name)) : null;
+        updateStaleness();
+
+        if (cached != null) {
+            hitsCounter.increment();
+            return copy(cached);
+        } else {
+            missesCounter.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Lists copies of the cached resources matching the given labels.
+     * When this cache uses a selector, only queries for (at least) the labels of the selector can be served.
+     *
+     * @param namespace     Namespace of the resources or {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}
+     * @param labels        Labels which the resources should have or null to match any resources
+     *
+     * @return  List with the copies of the matching resources or null if the query cannot be served from this cache
+     */
+    public List<T> list(String namespace, Map<String, String> labels) {
+        if (selector.isPresent() && !selectorCovers(labels)) {
+            missesCounter.increment();
+            return null;
+        }
+
+        return listInternal(namespace, labels);
+    }
+
+    /**
+     * Lists copies of the cached resources matching the given label selector.
+     * Only selectors using {@code matchLabels} or the same selector as the one used by this cache can be served
+     * from the cache.
+     *
+     * @param namespace     Namespace of the resources or {@link AbstractWatchableResourceOperator#ANY_NAMESPACE}
+     * @param selector      Optional label selector
+     *
+     * @return  List with the copies of the matching resources or null if the query cannot be served from this cache
+     */
+    public List<T> list(String namespace, Optional<LabelSelector> selector) {
+        if (this.selector.equals(selector)) {
+            // Same selector as the cache => all cached resources match
+            return listInternal(namespace, null);
+        } else if (this.selector.isPresent()
+                || (selector.isPresent() && selector.get().getMatchExpressions() != null && !selector.get().getMatchExpressions().isEmpty())) {
+            missesCounter.increment();
+            return null;
+        }
+
+        return listInternal(namespace, selector.map(LabelSelector::getMatchLabels).orElse(null));
+    }
+
+    private List<T> listInternal(String namespace, Map<String, String> labels) {
+        if (!synced || (!AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(this.namespace) && !this.namespace.equals(namespace))) {
+            missesCounter.increment();
+            updateStaleness();
+            return null;
+        }
+
+        Set<NamespaceAndName> candidates = AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace)
+                ? byName.keySet()
+                : byNamespace.getOrDefault(namespace, Collections.emptySet());
+
+        if (labels != null && !labels.isEmpty()) {
+            for (Map.Entry<String, String> label : labels.entrySet()) {
+                Set<NamespaceAndName> withLabel = byLabel.getOrDefault(labelKey(label.getKey(), label.getValue()), Collections.emptySet());
+                candidates = intersection(candidates, withLabel);
+            }
+        }
+
+        List<T> result = new ArrayList<>(candidates.size());
+        for (NamespaceAndName key : candidates) {
+            T cached = byName.get(key);
+            if (cached != null) {
+                result.add(copy(cached));
+            }
+        }
+
+        hitsCounter.increment();
+        updateStaleness();
+        return result;
+    }
+
+    /**
+     * Checks whether all the resources with the given labels are cached, i.e. whether the labels include all the
+     * labels of the selector of this cache.
+     */
+    private boolean selectorCovers(Map<String, String> labels) {
+        if (selector.get().getMatchExpressions() != null && !selector.get().getMatchExpressions().isEmpty()) {
+            return false;
+        }
+
+        Map<String, String> selectorLabels = selector.get().getMatchLabels() != null ? selector.get().getMatchLabels() : Collections.emptyMap();
+        Map<String, String> queryLabels = labels != null ? labels : Collections.emptyMap();
+        for (Map.Entry<String, String> label : selectorLabels.entrySet()) {
+            if (!Objects.equals(label.getValue(), queryLabels.get(label.getKey()))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean matchesSelector(T resource) {
+        if (!selector.isPresent() || selector.get().getMatchLabels() == null) {
+            return true;
+        }
+
+        Map<String, String> labels = resource.getMetadata().getLabels() != null ? resource.getMetadata().getLabels() : Collections.emptyMap();
+        for (Map.Entry<String, String> label : selector.get().getMatchLabels().entrySet()) {
+            if (!label.getValue().equals(labels.get(label.getKey()))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Updates the staleness gauge with the age of the cached data. Watch events don't reset it: a watch which
+     * delivers events can still have missed some, while a quiet watch doesn't mean the data is old. Only a full list
+     * confirms the content of the cache.
+     */
+    private void updateStaleness() {
+        if (lastSyncMs > 0) {
+            stalenessGauge.set((int) ((System.currentTimeMillis() - lastSyncMs) / 1_000));
+        }
+    }
+
+    /**
+     * @return  The resourceVersion of the last list or watch event applied to this cache
+     */
+    public String resourceVersion() {
+        return resourceVersion;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T copy(T resource) {
+        return Serialization.jsonMapper().convertValue(resource, (Class<T>) resource.getClass());
+    }
+
+    /**
+     * Checks whether the resource is newer than the given resourceVersion. Resource versions should be treated as
+     * opaque, but in practice they are integers. When they cannot be compared, the resource is treated as newer.
+     */
+    private static boolean isNewer(HasMetadata resource, String resourceVersion) {
+        String current = resource.getMetadata().getResourceVersion();
+
+        try {
+            return current == null || resourceVersion == null || Long.parseLong(current) > Long.parseLong(resourceVersion);
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static Set<NamespaceAndName> intersection(Set<NamespaceAndName> first, Set<NamespaceAndName> second) {
+        Set<NamespaceAndName> result = new HashSet<>(Math.min(first.size(), second.size()));
+        Set<NamespaceAndName> smaller = first.size() <= second.size() ? first : second;
+        Set<NamespaceAndName> larger = smaller == first ? second : first;
+
+        for (NamespaceAndName key : smaller) {
+            if (larger.contains(key)) {
+                result.add(key);
+            }
+        }
+
+        return result;
+    }
+
+    private static NamespaceAndName key(HasMetadata resource) {
+        return new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+    }
+
+    private static String labelKey(String key, String value) {
+        return key + "=" + value;
+    }
+}
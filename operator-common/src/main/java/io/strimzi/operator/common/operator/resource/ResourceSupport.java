@@ -11,6 +11,7 @@ import io.fabric8.kubernetes.client.dsl.Watchable;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
@@ -74,6 +75,35 @@ public class ResourceSupport {
         return cause;
     }
 
+    /**
+     * Opens a watch on the given {@code watchable} which calls the given {@code changed} handler with {@code true}
+     * for every event and with {@code false} when the watch is closed. This is a blocking call.
+     * Used as the source of changes for {@link io.strimzi.operator.common.Util#waitFor}.
+     * @param watchable The watchable.
+     * @param changed The handler.
+     * @param <T> The type of watched resource.
+     *
+     * @return The watch or null if it could not be opened.
+     */
+    public static <T> Watch watchChanges(Watchable<Watch, Watcher<T>> watchable, Handler<Boolean> changed) {
+        try {
+            return watchable.watch(new Watcher<T>() {
+                @Override
+                public void eventReceived(Action action, T resource) {
+                    changed.handle(true);
+                }
+
+                @Override
+                public void onClose(KubernetesClientException cause) {
+                    changed.handle(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            LOGGER.debug("Failed to open watch", e);
+            return null;
+        }
+    }
+
     /**
      * Watches the given {@code watchable} using the given
      * {@code watchFn},
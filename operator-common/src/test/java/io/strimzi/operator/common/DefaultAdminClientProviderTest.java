@@ -0,0 +1,197 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.JcaCertManager;
+import io.strimzi.certs.Subject;
+import io.strimzi.operator.cluster.model.Ca;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.config.SslConfigs;
+import org.apache.kafka.common.config.internals.BrokerSecurityConfigs;
+import org.apache.kafka.common.network.Mode;
+import org.apache.kafka.common.security.ssl.SslFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class DefaultAdminClientProviderTest {
+    private static final String PASSWORD = "changeit";
+
+    private static File dir;
+    private static File caCert;
+    private static File serverKeyStore;
+    private static File clientKeyStore;
+
+    @BeforeAll
+    public static void before() throws IOException {
+        dir = Files.createTempDirectory("admin-client-provider").toFile();
+        CertManager certManager = new JcaCertManager();
+
+        File caKey = new File(dir, "ca.key");
+        caCert = new File(dir, "ca.crt");
+        // Without subject alternative names the self-signed certificate is a CA certificate
+        Subject caSubject = new Subject();
+        caSubject.setOrganizationName("io.strimzi");
+        caSubject.setCommonName("cluster-ca");
+        certManager.generateSelfSignedCert(caKey, caCert, caSubject, 1);
+
+        serverKeyStore = signed(certManager, caKey, "localhost");
+        clientKeyStore = signed(certManager, caKey, "cluster-operator");
+    }
+
+    @AfterAll
+    public static void after() {
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+        dir.delete();
+    }
+
+    private static Subject subject(String commonName) {
+        Subject subject = new Subject();
+        subject.setOrganizationName("io.strimzi");
+        subject.setCommonName(commonName);
+        subject.setSubjectAltNames(singletonMap("DNS.1", commonName));
+        return subject;
+    }
+
+    private static File signed(CertManager certManager, File caKey, String commonName) throws IOException {
+        File key = new File(dir, commonName + ".key");
+        File csr = new File(dir, commonName + ".csr");
+        File cert = new File(dir, commonName + ".crt");
+        File keyStore = new File(dir, commonName + ".p12");
+
+        certManager.generateCsr(key, csr, subject(commonName));
+        certManager.generateCert(csr, caKey, caCert, cert, subject(commonName), 1);
+        certManager.addKeyAndCertToKeyStore(key, cert, commonName, keyStore, PASSWORD);
+        return keyStore;
+    }
+
+    private static KeyStore keyStore(File file) throws IOException, GeneralSecurityException {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream is = new FileInputStream(file)) {
+            keyStore.load(is, PASSWORD.toCharArray());
+        }
+        return keyStore;
+    }
+
+    private static KeyStore trustStore() throws IOException, GeneralSecurityException {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        trustStore.load(null, null);
+        try (InputStream is = new FileInputStream(caCert)) {
+            trustStore.setCertificateEntry("ca", java.security.cert.CertificateFactory.getInstance("X.509").generateCertificate(is));
+        }
+        return trustStore;
+    }
+
+    private static String base64(File file) throws IOException {
+        return Base64.getEncoder().encodeToString(Files.readAllBytes(file.toPath()));
+    }
+
+    @Test
+    public void testTlsRoundTrip() throws Exception {
+        SSLContext context = SSLContext.getInstance("TLSv1.2");
+        KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        kmf.init(keyStore(serverKeyStore), PASSWORD.toCharArray());
+        TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        tmf.init(trustStore());
+        context.init(kmf.getKeyManagers(), tmf.getTrustManagers(), null);
+
+        Secret clusterCaCertSecret = new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-cluster-ca-cert")
+                .endMetadata()
+                .withData(singletonMap(Ca.CA_CRT, base64(caCert)))
+                .build();
+        Map<String, String> keyCertData = new HashMap<>();
+        keyCertData.put("cluster-operator.p12", base64(clientKeyStore));
+        keyCertData.put("cluster-operator.password", Base64.getEncoder().encodeToString(PASSWORD.getBytes("US-ASCII")));
+        Secret keyCertSecret = new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-cluster-operator-certs")
+                .endMetadata()
+                .withData(keyCertData)
+                .build();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (SSLServerSocket serverSocket = (SSLServerSocket) context.getServerSocketFactory().createServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            serverSocket.setNeedClientAuth(true);
+
+            Future<String> clientPrincipal = executor.submit(() -> {
+                try (SSLSocket socket = (SSLSocket) serverSocket.accept()) {
+                    socket.startHandshake();
+                    // The first Kafka request is received over the encrypted connection
+                    assertThat(new DataInputStream(socket.getInputStream()).readInt(), is(greaterThan(0)));
+                    return socket.getSession().getPeerPrincipal().getName();
+                }
+            });
+
+            Admin admin = new DefaultAdminClientProvider().createAdminClient("localhost:" + serverSocket.getLocalPort(),
+                    clusterCaCertSecret, keyCertSecret, "cluster-operator");
+            try {
+                admin.describeCluster();
+                assertThat(clientPrincipal.get(30, TimeUnit.SECONDS).contains("CN=cluster-operator"), is(true));
+            } finally {
+                admin.close(Duration.ZERO);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testServerEngineAcceptsClientEngine() throws Exception {
+        String trustStoreLocation = InMemorySslEngineFactory.register(trustStore());
+        String keyStoreLocation = InMemorySslEngineFactory.register(keyStore(serverKeyStore));
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(SslConfigs.SSL_ENGINE_FACTORY_CLASS_CONFIG, InMemorySslEngineFactory.class);
+        config.put(SslConfigs.SSL_TRUSTSTORE_LOCATION_CONFIG, trustStoreLocation);
+        config.put(SslConfigs.SSL_KEYSTORE_LOCATION_CONFIG, keyStoreLocation);
+        config.put(SslConfigs.SSL_KEYSTORE_PASSWORD_CONFIG, PASSWORD);
+        config.put(SslConfigs.SSL_ENDPOINT_IDENTIFICATION_ALGORITHM_CONFIG, "");
+        config.put(BrokerSecurityConfigs.SSL_CLIENT_AUTH_CONFIG, "required");
+
+        // Kafka validates the stores by a handshake between a client and a server engine created by the factory
+        SslFactory sslFactory = new SslFactory(Mode.SERVER, null, true);
+        try {
+            sslFactory.configure(config);
+            assertThat(sslFactory.createSslEngine("localhost", 9093).getNeedClientAuth(), is(true));
+        } finally {
+            sslFactory.close();
+        }
+    }
+}
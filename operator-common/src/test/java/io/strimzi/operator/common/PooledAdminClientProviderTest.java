@@ -0,0 +1,168 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.cluster.model.Ca;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class PooledAdminClientProviderTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static MetricsProvider metrics(MeterRegistry registry) {
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+    }
+
+    private static Secret caCertSecret(String cert) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-cluster-ca-cert")
+                .endMetadata()
+                .withData(singletonMap(Ca.CA_CRT, cert))
+            .build();
+    }
+
+    private static class MockProvider implements AdminClientProvider {
+        private final List<Admin> created = new ArrayList<>();
+
+        @Override
+        public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+            Admin admin = mock(Admin.class);
+            created.add(admin);
+            return admin;
+        }
+    }
+
+    @Test
+    public void testClientIsSharedUntilLastLeaseIsReleased() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MockProvider delegate = new MockProvider();
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(mock(Vertx.class), delegate, metrics(registry), 0);
+
+        Admin first = provider.createAdminClient("my-cluster-kafka-0:9091", caCertSecret("ca1"), null, "cluster-operator");
+        Admin second = provider.createAdminClient("my-cluster-kafka-0:9091", caCertSecret("ca1"), null, "cluster-operator");
+        assertThat(delegate.created.size(), is(1));
+        assertThat(provider.size(), is(1));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "admin.client.pool.size").gauge().value(), is(1.0));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "admin.client.creation").timer().count(), is(1L));
+
+        first.describeCluster();
+        verify(delegate.created.get(0)).describeCluster();
+
+        // Closing a lease twice only releases it once
+        first.close();
+        first.close();
+        second.close(Duration.ofSeconds(5));
+        verify(delegate.created.get(0), never()).close(any(Duration.class));
+
+        // The idle client is evicted on the next use, which then gets a new client
+        Admin third = provider.createAdminClient("my-cluster-kafka-1:9091", caCertSecret("ca1"), null, "cluster-operator");
+        verify(delegate.created.get(0)).close(Duration.ZERO);
+        assertThat(delegate.created.size(), is(2));
+        assertThat(provider.size(), is(1));
+        third.close();
+    }
+
+    @Test
+    public void testClientIsReplacedWhenCredentialsChange() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MockProvider delegate = new MockProvider();
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(mock(Vertx.class), delegate, metrics(registry));
+
+        Admin first = provider.createAdminClient("my-cluster-kafka-bootstrap:9091", caCertSecret("ca1"), null, "cluster-operator");
+        Admin second = provider.createAdminClient("my-cluster-kafka-bootstrap:9091", caCertSecret("ca2"), null, "cluster-operator");
+        assertThat(delegate.created.size(), is(2));
+        assertThat(provider.size(), is(1));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "admin.client.pool.invalidations").counter().count(), is(1.0));
+
+        // The replaced client is only closed once its last lease is released
+        verify(delegate.created.get(0), never()).close(any(Duration.class));
+        first.close();
+        verify(delegate.created.get(0)).close(Duration.ZERO);
+        verify(delegate.created.get(1), never()).close(any(Duration.class));
+
+        second.close();
+        provider.close();
+        verify(delegate.created.get(1)).close(Duration.ZERO);
+        assertThat(provider.size(), is(0));
+    }
+
+    @Test
+    public void testIdleClientIsEvictedWithoutFurtherUse() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MockProvider delegate = new MockProvider();
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(vertx, delegate, metrics(registry), 100);
+
+        Admin first = provider.createAdminClient("my-cluster-kafka-0:9091", caCertSecret("ca1"), null, "cluster-operator");
+        Admin second = provider.createAdminClient("other-cluster-kafka-0:9091", caCertSecret("ca1"), null, "cluster-operator");
+        assertThat(delegate.created.size(), is(2));
+        first.close();
+
+        // The client is closed by the eviction timer even though no other client is created
+        verify(delegate.created.get(0), timeout(5_000)).close(Duration.ZERO);
+        verify(delegate.created.get(1), never()).close(any(Duration.class));
+        assertThat(provider.size(), is(1));
+
+        second.close();
+        verify(delegate.created.get(1), timeout(5_000)).close(Duration.ZERO);
+        assertThat(provider.size(), is(0));
+        assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "admin.client.pool.size").gauge().value(), is(0.0));
+        provider.close();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationQueueTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static MetricsProvider metrics(MeterRegistry registry) {
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+    }
+
+    private static Reconciliation reconciliation(String name) {
+        return new Reconciliation("test", "TestResource", "my-namespace", name);
+    }
+
+    @Test
+    public void testDuplicatesAreMergedAndWorkersAreBounded() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        List<Reconciliation> started = new ArrayList<>();
+        List<Promise<Void>> running = new ArrayList<>();
+
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, "TestResource", 2, r -> {
+            Promise<Void> promise = Promise.promise();
+            started.add(r);
+            running.add(promise);
+            return promise.future();
+        }, BackOff::new, metrics(registry));
+
+        Future<Void> a = queue.enqueue(reconciliation("a"));
+        queue.enqueue(reconciliation("b"));
+        Future<Void> c1 = queue.enqueue(reconciliation("c"));
+        Future<Void> c2 = queue.enqueue(reconciliation("c"));
+
+        // Only two workers => c waits and the duplicate c is merged
+        assertThat(started.size(), is(2));
+        assertThat(queue.size(), is(1));
+        assertThat(c1 == c2, is(true));
+        assertThat(registry.get("strimzi.reconciliations.queue.merged").counter().count(), is(1.0));
+
+        // a enqueued again while running => runs once more after it completes
+        queue.enqueue(reconciliation("a"));
+        assertThat(queue.size(), is(2));
+
+        running.get(0).complete();
+        assertThat(a.succeeded(), is(true));
+        assertThat(started.size(), is(3));
+        assertThat(started.get(2).name(), is("c"));
+
+        running.get(1).complete();
+        assertThat(started.size(), is(4));
+        assertThat(started.get(3).name(), is("a"));
+        assertThat(queue.size(), is(0));
+
+        running.get(2).complete();
+        running.get(3).complete();
+        assertThat(c1.succeeded(), is(true));
+        assertThat(registry.get("strimzi.reconciliations.queue.time").timer().count(), is(4L));
+    }
+
+    @Test
+    public void testFailedReconciliationIsRetried(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AtomicInteger attempts = new AtomicInteger();
+        Checkpoint async = context.checkpoint();
+
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, "TestResource", 1, r -> {
+            int attempt = attempts.incrementAndGet();
+            if (attempt < 3) {
+                return Future.failedFuture(new RuntimeException("failure " + attempt));
+            } else {
+                context.verify(() -> {
+                    assertThat(registry.get("strimzi.reconciliations.queue.retries").counter().count(), is(2.0));
+                    async.flag();
+                });
+                return Future.succeededFuture();
+            }
+        }, () -> new BackOff(10, 2, 4), metrics(registry));
+
+        queue.enqueue(reconciliation("a")).onComplete(context.failing(e -> { }));
+    }
+}
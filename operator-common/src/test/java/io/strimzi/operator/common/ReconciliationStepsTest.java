@@ -0,0 +1,124 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReconciliationStepsTest {
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final List<String> started = new ArrayList<>();
+    private final Map<String, Promise<List<String>>> running = new HashMap<>();
+
+    private MetricsProvider metrics() {
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+    }
+
+    private Function<List<String>, Future<List<String>>> step(String name) {
+        return state -> {
+            started.add(name);
+            state.add(name);
+            Promise<List<String>> promise = Promise.promise();
+            running.put(name, promise);
+            return promise.future();
+        };
+    }
+
+    private ReconciliationSteps<List<String>> steps() {
+        return new ReconciliationSteps<List<String>>(new Reconciliation("test", "TestResource", "my-namespace", "my-name"), metrics())
+                .add("a", step("a"))
+                .add("b", step("b"), "a")
+                .add("c", step("c"), "a")
+                .add("d", step("d"), "b", "c")
+                .add("e", step("e"));
+    }
+
+    @Test
+    public void testIndependentStepsRunConcurrently() {
+        List<String> state = new ArrayList<>();
+        Future<List<String>> result = steps().execute(state);
+
+        assertThat(started, containsInAnyOrder("a", "e"));
+
+        running.get("a").complete(state);
+        assertThat(started, containsInAnyOrder("a", "e", "b", "c"));
+
+        running.get("b").complete(state);
+        assertThat(started.contains("d"), is(false));
+
+        running.get("c").complete(state);
+        running.get("d").complete(state);
+        assertThat(result.isComplete(), is(false));
+
+        running.get("e").complete(state);
+        assertThat(result.succeeded(), is(true));
+        assertThat(registry.get("strimzi.reconciliations.step.duration").tag("step", "d").timer().count(), is(1L));
+    }
+
+    @Test
+    public void testDependentStepsAreSkippedAfterFailure() {
+        List<String> state = new ArrayList<>();
+        Future<List<String>> result = steps().execute(state);
+
+        running.get("a").complete(state);
+        running.get("c").fail(new RuntimeException("c failed"));
+
+        // Independent steps which are already running are allowed to finish
+        assertThat(result.isComplete(), is(false));
+        running.get("b").complete(state);
+        running.get("e").complete(state);
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("c failed"));
+        assertThat(started, contains("a", "e", "b", "c"));
+    }
+
+    @Test
+    public void testUnknownDependencyIsRejected() {
+        ReconciliationSteps<List<String>> steps = steps();
+
+        assertThrows(IllegalArgumentException.class, () -> steps.add("f", step("f"), "g"));
+        assertThrows(IllegalArgumentException.class, () -> steps.add("a", step("a")));
+    }
+}
@@ -10,10 +10,12 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Member;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 
@@ -36,4 +38,22 @@ public class ResourceVisitorTest {
         });
     }
 
+    @Test
+    public void testVisitsStaticMembers() {
+        Kafka k = TestUtils.fromYaml("/example.yaml", Kafka.class, true);
+        List<Object> values = new ArrayList<>();
+        ResourceVisitor.visit(k, new ResourceVisitor.Visitor() {
+            @Override
+            public <M extends AnnotatedElement & Member> void visitProperty(List<String> path, Object owner, M member, ResourceVisitor.Property<M> property, Object propertyValue) {
+                values.add(propertyValue);
+            }
+
+            @Override
+            public void visitObject(List<String> path, Object object) {
+
+            }
+        });
+        // The public static final constants are read like the other properties
+        assertThat(values, hasItem(Kafka.RESOURCE_KIND));
+    }
 }
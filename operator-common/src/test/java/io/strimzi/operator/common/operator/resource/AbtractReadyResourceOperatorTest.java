@@ -8,6 +8,8 @@ import io.fabric8.kubernetes.api.model.Doneable;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
@@ -18,14 +20,18 @@ import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -145,6 +151,88 @@ public abstract class AbtractReadyResourceOperatorTest<C extends KubernetesClien
             }));
     }
 
+    @Test
+    public void testWaitUntilReadyOnWatchEvent(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+
+        Watch mockWatch = mock(Watch.class);
+        AtomicReference<Watcher<T>> watcher = new AtomicReference<>();
+        when(mockResource.watch(any())).then(invocation -> {
+            watcher.set(invocation.getArgument(0));
+            return mockWatch;
+        });
+
+        AtomicInteger count = new AtomicInteger();
+        when(mockResource.isReady()).then(invocation -> {
+            if (count.getAndIncrement() == 0) {
+                // The resource gets ready straight after the first check
+                watcher.get().eventReceived(Watcher.Action.MODIFIED, resource);
+                return Boolean.FALSE;
+            } else {
+                return Boolean.TRUE;
+            }
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractReadyResourceOperator<C, T, L, D, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        // The poll interval is longer than the timeout, so only the watch event can make this succeed
+        op.readiness(NAMESPACE, RESOURCE_NAME, 60_000, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                if (Readiness.isReadinessApplicable(resource.getClass())) {
+                    verify(mockResource, times(2)).isReady();
+                }
+                verify(mockWatch, timeout(1_000)).close();
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testWaitUntilReadyWhenWatchIsSilent(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+
+        // The watch opens, but never delivers any event
+        Watch mockWatch = mock(Watch.class);
+        when(mockResource.watch(any())).thenReturn(mockWatch);
+
+        AtomicInteger count = new AtomicInteger();
+        when(mockResource.isReady()).then(invocation -> count.getAndIncrement() > 0);
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(resource.getMetadata().getName()))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractReadyResourceOperator<C, T, L, D, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        // The slower fallback poll notices the resource long before the timeout
+        long start = System.currentTimeMillis();
+        op.readiness(NAMESPACE, RESOURCE_NAME, 20, 30_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(System.currentTimeMillis() - start < 10_000, is(true));
+                verify(mockWatch, timeout(1_000)).close();
+                async.flag();
+            })));
+    }
+
     @Test
     public void testWaitUntilReadyUnsuccessful(VertxTestContext context) {
         T resource = resource();
@@ -0,0 +1,246 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapListBuilder;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(VertxExtension.class)
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static ConfigMap configMap(String name, String resourceVersion, Map<String, String> labels) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withResourceVersion(resourceVersion)
+                    .withLabels(labels)
+                .endMetadata()
+                .withData(singletonMap("version", resourceVersion))
+                .build();
+    }
+
+    private static MetricsProvider metrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+    }
+
+    private ResourceCache<ConfigMap> cache(List<ConfigMap> items, AtomicReference<Watcher<ConfigMap>> watcherRef, MetricsProvider metrics) {
+        return cache(items, Optional.empty(), watcherRef, metrics);
+    }
+
+    private ResourceCache<ConfigMap> cache(List<ConfigMap> items, Optional<LabelSelector> selector,
+                                           AtomicReference<Watcher<ConfigMap>> watcherRef, MetricsProvider metrics) {
+        return new ResourceCache<>(vertx, "ConfigMap", NAMESPACE, selector, 60_000,
+            () -> new ConfigMapListBuilder().withNewMetadata().withResourceVersion("10").endMetadata().withItems(items).build(),
+            (resourceVersion, watcher) -> {
+                watcherRef.set(watcher);
+                return mock(Watch.class);
+            },
+            metrics);
+    }
+
+    @Test
+    public void testGetAndListAreServedFromCache(VertxTestContext context) {
+        MetricsProvider metrics = metrics();
+        List<ConfigMap> items = new ArrayList<>();
+        items.add(configMap("cm1", "5", singletonMap("app", "a")));
+        items.add(configMap("cm2", "6", singletonMap("app", "b")));
+        ResourceCache<ConfigMap> cache = cache(items, new AtomicReference<>(), metrics);
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(cache.isSynced(), is(true));
+            assertThat(cache.resourceVersion(), is("10"));
+
+            ConfigMap cm1 = cache.get(NAMESPACE, "cm1");
+            assertThat(cm1.getData().get("version"), is("5"));
+            assertThat(cm1, is(not(sameInstance(items.get(0)))));
+            assertThat(cache.get(NAMESPACE, "cm3"), is(nullValue()));
+            assertThat(cache.get("other-namespace", "cm1"), is(nullValue()));
+
+            assertThat(cache.list(NAMESPACE, (Map<String, String>) null), hasSize(2));
+            assertThat(cache.list(NAMESPACE, singletonMap("app", "b")), hasSize(1));
+            assertThat(cache.list(NAMESPACE, singletonMap("app", "c")), hasSize(0));
+            assertThat(cache.list(AbstractWatchableResourceOperator.ANY_NAMESPACE, singletonMap("app", "a")), is(nullValue()));
+            assertThat(cache.list(NAMESPACE, Optional.of(new LabelSelectorBuilder()
+                    .addNewMatchExpression().withKey("app").withOperator("In").withValues("a").endMatchExpression()
+                    .build())), is(nullValue()));
+
+            MeterRegistry registry = metrics.meterRegistry();
+            assertThat(registry.get("strimzi.resource.cache.hits").tag("kind", "ConfigMap").counter().count(), is(4.0));
+            assertThat(registry.get("strimzi.resource.cache.misses").tag("kind", "ConfigMap").counter().count(), is(4.0));
+
+            cache.stop();
+            assertThat(cache.isSynced(), is(false));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testNarrowerListsAreServedFromCacheWithSelector(VertxTestContext context) {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("kind", "Kafka");
+        labels.put("cluster", "a");
+        List<ConfigMap> items = new ArrayList<>();
+        items.add(configMap("cm1", "5", labels));
+        items.add(configMap("cm2", "6", singletonMap("kind", "Kafka")));
+        ResourceCache<ConfigMap> cache = cache(items, Optional.of(new LabelSelectorBuilder().withMatchLabels(singletonMap("kind", "Kafka")).build()),
+                new AtomicReference<>(), metrics());
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(cache.list(NAMESPACE, singletonMap("kind", "Kafka")), hasSize(2));
+            assertThat(cache.list(NAMESPACE, labels), hasSize(1));
+            // Resources which don't match the selector of the cache might exist
+            assertThat(cache.list(NAMESPACE, singletonMap("cluster", "a")), is(nullValue()));
+            assertThat(cache.list(NAMESPACE, (Map<String, String>) null), is(nullValue()));
+
+            cache.stop();
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testWatchEventsUpdateCache(VertxTestContext context) {
+        List<ConfigMap> items = new ArrayList<>();
+        items.add(configMap("cm1", "5", singletonMap("app", "a")));
+        AtomicReference<Watcher<ConfigMap>> watcher = new AtomicReference<>();
+        ResourceCache<ConfigMap> cache = cache(items, watcher, metrics());
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            watcher.get().eventReceived(Watcher.Action.ADDED, configMap("cm2", "11", singletonMap("app", "a")));
+            assertThat(cache.get(NAMESPACE, "cm2"), is(notNullValue()));
+            assertThat(cache.list(NAMESPACE, singletonMap("app", "a")), hasSize(2));
+
+            // Relabelled resource has to move in the label index
+            watcher.get().eventReceived(Watcher.Action.MODIFIED, configMap("cm1", "12", singletonMap("app", "b")));
+            assertThat(cache.list(NAMESPACE, singletonMap("app", "a")), hasSize(1));
+            assertThat(cache.list(NAMESPACE, singletonMap("app", "b")), hasSize(1));
+
+            // Older versions are ignored
+            cache.update(configMap("cm1", "7", singletonMap("app", "a")));
+            assertThat(cache.get(NAMESPACE, "cm1").getData().get("version"), is("12"));
+
+            // Deletion of an older version (e.g. seen before the resource was recreated) is ignored
+            cache.delete(configMap("cm2", "10", singletonMap("app", "a")));
+            assertThat(cache.get(NAMESPACE, "cm2"), is(notNullValue()));
+
+            watcher.get().eventReceived(Watcher.Action.DELETED, configMap("cm2", "13", singletonMap("app", "a")));
+            assertThat(cache.get(NAMESPACE, "cm2"), is(nullValue()));
+            assertThat(cache.list(NAMESPACE, singletonMap("app", "a")), hasSize(0));
+            assertThat(cache.resourceVersion(), is("13"));
+
+            watcher.get().onClose(null);
+            assertThat(cache.isSynced(), is(false));
+            cache.stop();
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testFailedStartIsRetried(VertxTestContext context) {
+        AtomicInteger lists = new AtomicInteger();
+        ResourceCache<ConfigMap> cache = new ResourceCache<>(vertx, "ConfigMap", NAMESPACE, Optional.empty(), 100,
+            () -> {
+                if (lists.incrementAndGet() == 1) {
+                    throw new RuntimeException("List failed");
+                }
+                return new ConfigMapListBuilder().withNewMetadata().withResourceVersion("10").endMetadata()
+                        .withItems(configMap("cm1", "5", null)).build();
+            },
+            (resourceVersion, watcher) -> mock(Watch.class),
+            metrics());
+
+        Checkpoint async = context.checkpoint();
+        cache.start().onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(cache.isSynced(), is(false));
+            assertThat(cache.get(NAMESPACE, "cm1"), is(nullValue()));
+
+            vertx.setPeriodic(50, timer -> {
+                if (cache.isSynced()) {
+                    vertx.cancelTimer(timer);
+                    context.verify(() -> {
+                        assertThat(cache.get(NAMESPACE, "cm1"), is(notNullValue()));
+                        cache.stop();
+                        async.flag();
+                    });
+                }
+            });
+        })));
+    }
+}
@@ -4,15 +4,69 @@
  */
 package io.strimzi.operator.topic;
 
+import io.vertx.core.Vertx;
+
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 public class Config {
 
+    /** The kinds of {@link TopicStore} */
+    public enum TopicStoreType {
+        /** {@link ZkTopicStore} */
+        ZOOKEEPER,
+        /** {@link KafkaTopicStore} */
+        KAFKA
+    }
+
+    /** The ways of detecting changes to topics in ZooKeeper */
+    public enum ChangeDetection {
+        /** {@link TopicConfigsWatcher} and {@link ZkTopicWatcher}, with a ZooKeeper watch per topic */
+        WATCHES {
+            @Override
+            TopicConfigsWatcher topicConfigsWatcher(TopicOperator topicOperator) {
+                return new TopicConfigsWatcher(topicOperator);
+            }
+
+            @Override
+            ZkTopicWatcher topicWatcher(TopicOperator topicOperator, Vertx vertx, Kafka kafka, Config config) {
+                return new ZkTopicWatcher(topicOperator);
+            }
+        },
+        /** {@link ConfigChangeNotificationsWatcher} and {@link TopicPartitionsPoller}, with a fixed number of ZooKeeper watches */
+        NOTIFICATIONS {
+            @Override
+            TopicConfigsWatcher topicConfigsWatcher(TopicOperator topicOperator) {
+                return new ConfigChangeNotificationsWatcher(topicOperator);
+            }
+
+            @Override
+            ZkTopicWatcher topicWatcher(TopicOperator topicOperator, Vertx vertx, Kafka kafka, Config config) {
+                return new TopicPartitionsPoller(topicOperator, vertx, kafka, config.get(PARTITIONS_POLL_INTERVAL_MS));
+            }
+        };
+
+        /**
+         * @param topicOperator Operator instance to notify
+         * @return The watcher for changes to the topic configs
+         */
+        abstract TopicConfigsWatcher topicConfigsWatcher(TopicOperator topicOperator);
+
+        /**
+         * @param topicOperator Operator instance to notify
+         * @param vertx         Vertx instance
+         * @param kafka         Kafka instance
+         * @param config        Operator configuration
+         * @return The watcher for changes to the topic partitions
+         */
+        abstract ZkTopicWatcher topicWatcher(TopicOperator topicOperator, Vertx vertx, Kafka kafka, Config config);
+    }
+
     private static abstract class Type<T> {
 
         abstract T parse(String s);
@@ -57,6 +111,26 @@ public class Config {
         }
     };
 
+    /**
+     * A kind of topic store.
+     */
+    private static final Type<? extends TopicStoreType> TOPIC_STORE_TYPE = new Type<TopicStoreType>() {
+        @Override
+        TopicStoreType parse(String s) {
+            return TopicStoreType.valueOf(s.toUpperCase(Locale.ENGLISH));
+        }
+    };
+
+    /**
+     * A way of detecting topic changes.
+     */
+    private static final Type<? extends ChangeDetection> CHANGE_DETECTION = new Type<ChangeDetection>() {
+        @Override
+        ChangeDetection parse(String s) {
+            return ChangeDetection.valueOf(s.toUpperCase(Locale.ENGLISH));
+        }
+    };
+
     /**
      * A kubernetes selector.
      */
@@ -99,7 +173,18 @@ public class Config {
     public static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
+    public static final String TC_TOPIC_METADATA_BATCH_SIZE = "STRIMZI_TOPIC_METADATA_BATCH_SIZE";
+    public static final String TC_KUBERNETES_MUTATION_CONCURRENCY = "STRIMZI_KUBERNETES_MUTATION_CONCURRENCY";
+    public static final String TC_KUBERNETES_EVENT_CONCURRENCY = "STRIMZI_KUBERNETES_EVENT_CONCURRENCY";
+    public static final String TC_EVENT_RATE_LIMIT_PER_SECOND = "STRIMZI_EVENT_RATE_LIMIT_PER_SECOND";
+    public static final String TC_EVENT_FLUSH_INTERVAL_MS = "STRIMZI_EVENT_FLUSH_INTERVAL_MS";
     public static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
+    public static final String TC_TOPIC_STORE = "STRIMZI_TOPIC_STORE";
+    public static final String TC_STORE_TOPIC = "STRIMZI_STORE_TOPIC";
+    public static final String TC_STORE_TOPIC_REPLICATION_FACTOR = "STRIMZI_STORE_TOPIC_REPLICATION_FACTOR";
+    public static final String TC_STORE_TOPIC_MIN_INSYNC_REPLICAS = "STRIMZI_STORE_TOPIC_MIN_INSYNC_REPLICAS";
+    public static final String TC_CHANGE_DETECTION = "STRIMZI_CHANGE_DETECTION";
+    public static final String TC_PARTITIONS_POLL_INTERVAL_MS = "STRIMZI_PARTITIONS_POLL_INTERVAL_MS";
 
     public static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
     public static final String TC_TLS_TRUSTSTORE_LOCATION = "STRIMZI_TRUSTSTORE_LOCATION";
@@ -143,9 +228,48 @@ public class Config {
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
+    /** The maximum number of topics whose metadata is requested from the Kafka cluster in a single batch during full reconciliations */
+    public static final Value<Integer> TOPIC_METADATA_BATCH_SIZE = new Value<>(TC_TOPIC_METADATA_BATCH_SIZE, POSITIVE_INTEGER, "500");
+
+    /** The maximum number of KafkaTopic creations, updates and deletions sent to Kubernetes in parallel */
+    public static final Value<Integer> KUBERNETES_MUTATION_CONCURRENCY = new Value<>(TC_KUBERNETES_MUTATION_CONCURRENCY, POSITIVE_INTEGER, "10");
+
+    /** The maximum number of Kubernetes Events created in parallel */
+    public static final Value<Integer> KUBERNETES_EVENT_CONCURRENCY = new Value<>(TC_KUBERNETES_EVENT_CONCURRENCY, POSITIVE_INTEGER, "2");
+
+    /** The maximum number of Kubernetes Events written per second on average */
+    public static final Value<Integer> EVENT_RATE_LIMIT_PER_SECOND = new Value<>(TC_EVENT_RATE_LIMIT_PER_SECOND, POSITIVE_INTEGER, "5");
+
+    /** The interval at which repeated and rate limited Kubernetes Events are written */
+    public static final Value<Long> EVENT_FLUSH_INTERVAL_MS = new Value<>(TC_EVENT_FLUSH_INTERVAL_MS, DURATION, "5000");
+
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
+    /**
+     * Where the topic state is stored: {@code zookeeper} (znodes under {@link #TOPICS_PATH})
+     * or {@code kafka} (the compacted {@link #STORE_TOPIC}).
+     */
+    public static final Value<TopicStoreType> TOPIC_STORE = new Value<>(TC_TOPIC_STORE, TOPIC_STORE_TYPE, "zookeeper");
+
+    /** The compacted Kafka topic that stores the topic state when the {@link #TOPIC_STORE} is {@code kafka}. */
+    public static final Value<String> STORE_TOPIC = new Value<>(TC_STORE_TOPIC, STRING, "__strimzi_store_topic");
+
+    /** The replication factor of the {@link #STORE_TOPIC} when the topic operator creates it. */
+    public static final Value<Integer> STORE_TOPIC_REPLICATION_FACTOR = new Value<>(TC_STORE_TOPIC_REPLICATION_FACTOR, POSITIVE_INTEGER, "3");
+
+    /** The {@code min.insync.replicas} of the {@link #STORE_TOPIC} when the topic operator creates it. */
+    public static final Value<Integer> STORE_TOPIC_MIN_INSYNC_REPLICAS = new Value<>(TC_STORE_TOPIC_MIN_INSYNC_REPLICAS, POSITIVE_INTEGER, "2");
+
+    /**
+     * How changes to topic configs and partitions are detected: {@code watches} (a ZooKeeper watch per topic)
+     * or {@code notifications} (the Kafka config change notifications and a periodic comparison of the partition counts).
+     */
+    public static final Value<ChangeDetection> CHANGE_DETECTION_MODE = new Value<>(TC_CHANGE_DETECTION, CHANGE_DETECTION, "watches");
+
+    /** The interval between comparisons of the partition counts when the {@link #CHANGE_DETECTION_MODE} is {@code notifications}. */
+    public static final Value<Long> PARTITIONS_POLL_INTERVAL_MS = new Value<>(TC_PARTITIONS_POLL_INTERVAL_MS, DURATION, "30000");
+
     /** If the connection with Kafka has to be encrypted by TLS protocol */
     public static final Value<String> TLS_ENABLED = new Value<>(TC_TLS_ENABLED, STRING, "false");
     /** The truststore with CA certificate for Kafka broker/server authentication */
@@ -171,7 +295,18 @@ public class Config {
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
+        addConfigValue(configValues, TOPIC_METADATA_BATCH_SIZE);
+        addConfigValue(configValues, KUBERNETES_MUTATION_CONCURRENCY);
+        addConfigValue(configValues, KUBERNETES_EVENT_CONCURRENCY);
+        addConfigValue(configValues, EVENT_RATE_LIMIT_PER_SECOND);
+        addConfigValue(configValues, EVENT_FLUSH_INTERVAL_MS);
         addConfigValue(configValues, TOPICS_PATH);
+        addConfigValue(configValues, TOPIC_STORE);
+        addConfigValue(configValues, STORE_TOPIC);
+        addConfigValue(configValues, STORE_TOPIC_REPLICATION_FACTOR);
+        addConfigValue(configValues, STORE_TOPIC_MIN_INSYNC_REPLICAS);
+        addConfigValue(configValues, CHANGE_DETECTION_MODE);
+        addConfigValue(configValues, PARTITIONS_POLL_INTERVAL_MS);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, TLS_TRUSTSTORE_LOCATION);
         addConfigValue(configValues, TLS_TRUSTSTORE_PASSWORD);
@@ -0,0 +1,187 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.Future;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ZooKeeper watcher for the sequential config change notifications Kafka creates under {@code /config/changes},
+ * calling {@link TopicOperator#onTopicConfigChanged(LogContext, TopicName)} for the topics they refer to.
+ *
+ * Unlike {@link TopicConfigsWatcher} it doesn't watch the config znode of each topic,
+ * so it holds a single ZooKeeper watch however many topics there are.
+ */
+class ConfigChangeNotificationsWatcher extends TopicConfigsWatcher {
+
+    private static final String CHANGES_ZNODE = "/config/changes";
+    private static final String NOTIFICATION_PREFIX = "config_change_";
+    private static final String TOPICS_ENTITY = "topics";
+
+    private volatile Zk zk;
+    /** The sequence number of the last notification which has been processed */
+    private long lastSequence = -1;
+    /** Whether lastSequence has been initialised from the notifications which existed at start */
+    private boolean initialised = false;
+    /** The latest children seen by the watch before the initialisation, processed once it completes */
+    private List<String> pendingChildren = null;
+
+    ConfigChangeNotificationsWatcher(TopicOperator topicOperator) {
+        super(topicOperator);
+    }
+
+    @Override
+    protected void start(Zk zk) {
+        super.start(zk);
+        this.zk = zk;
+        synchronized (this) {
+            lastSequence = -1;
+            initialised = false;
+            pendingChildren = null;
+        }
+        zk.watchChildren(CHANGES_ZNODE, childResult -> {
+            if (!started()) {
+                zk.unwatchChildren(CHANGES_ZNODE);
+                return;
+            }
+            if (childResult.failed()) {
+                log.error("Error on znode {} children", CHANGES_ZNODE, childResult.cause());
+                return;
+            }
+            synchronized (this) {
+                if (!initialised) {
+                    // Processing now would replay all the notifications which existed at start
+                    pendingChildren = childResult.result();
+                    return;
+                }
+            }
+            processNotifications(childResult.result());
+        }).<Void>compose(zk2 -> {
+            zk.children(CHANGES_ZNODE, childResult -> {
+                if (childResult.failed()) {
+                    log.error("Error on znode {} children", CHANGES_ZNODE, childResult.cause());
+                    return;
+                }
+                // Notifications which already exist are covered by the initial reconciliation
+                List<String> pending;
+                synchronized (this) {
+                    for (String child : childResult.result()) {
+                        lastSequence = Math.max(lastSequence, sequence(child));
+                    }
+                    initialised = true;
+                    pending = pendingChildren;
+                    pendingChildren = null;
+                }
+                log.debug("Following config change notifications after sequence {}", lastSequence);
+                if (pending != null) {
+                    processNotifications(pending);
+                }
+            });
+            return Future.succeededFuture();
+        });
+    }
+
+    @Override
+    protected void stop() {
+        super.stop();
+        if (zk != null) {
+            zk.unwatchChildren(CHANGES_ZNODE);
+        }
+    }
+
+    @Override
+    protected void addChild(String child) {
+        // Changes are followed through the notifications, there's nothing to watch per topic
+    }
+
+    @Override
+    protected void removeChild(String child) {
+        // Changes are followed through the notifications, there's nothing to unwatch per topic
+    }
+
+    @Override
+    protected boolean watching(String child) {
+        return false;
+    }
+
+    private void processNotifications(List<String> children) {
+        List<String> notifications = new ArrayList<>();
+        synchronized (this) {
+            long maxSequence = lastSequence;
+            for (String child : children) {
+                long sequence = sequence(child);
+                if (sequence > lastSequence) {
+                    notifications.add(child);
+                    maxSequence = Math.max(maxSequence, sequence);
+                }
+            }
+            lastSequence = maxSequence;
+        }
+        Collections.sort(notifications);
+
+        for (String notification : notifications) {
+            String path = CHANGES_ZNODE + "/" + notification;
+            zk.getData(path, dataResult -> {
+                if (dataResult.failed()) {
+                    // Kafka removes old notifications, so this one might have been removed already
+                    log.debug("While getting znode {}", path, dataResult.cause());
+                    return;
+                }
+                String topicName;
+                try {
+                    topicName = topicName(dataResult.result());
+                } catch (DecodeException e) {
+                    log.warn("Ignoring config change notification {} which is not valid JSON", path, e);
+                    return;
+                }
+                if (topicName != null) {
+                    notifyOperator(topicName);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return The sequence number of the given notification znode, or -1 if it is not a notification
+     */
+    private static long sequence(String child) {
+        if (child.startsWith(NOTIFICATION_PREFIX)) {
+            try {
+                return Long.parseLong(child.substring(NOTIFICATION_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                // Not a notification
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the name of the topic the notification refers to, from either the version 1 format
+     * ({@code {"version":1,"entity_type":"topics","entity_name":"my-topic"}}) or the version 2 format
+     * ({@code {"version":2,"entity_path":"topics/my-topic"}}).
+     *
+     * @param data The notification znode data
+     * @return The topic name, or null if the notification is not about a topic
+     */
+    static String topicName(byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        JsonObject notification = new JsonObject(new String(data, StandardCharsets.UTF_8));
+        String entityPath = notification.getString("entity_path");
+        if (entityPath != null) {
+            int slash = entityPath.indexOf('/');
+            return slash > 0 && TOPICS_ENTITY.equals(entityPath.substring(0, slash)) ? entityPath.substring(slash + 1) : null;
+        }
+        return TOPICS_ENTITY.equals(notification.getString("entity_type")) ? notification.getString("entity_name") : null;
+    }
+}
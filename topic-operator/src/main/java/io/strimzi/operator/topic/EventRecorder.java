@@ -0,0 +1,258 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.EventBuilder;
+import io.fabric8.kubernetes.api.model.ObjectReference;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records Kubernetes Events, aggregating identical ones and limiting the rate at which they are written.
+ *
+ * <p>Events are identical when they have the same involved object, type, reason and message. The first occurrence
+ * of an event creates a new Event object. Further occurrences within the {@link #AGGREGATION_WINDOW_MS} only bump the
+ * {@code count} and {@code lastTimestamp} of that object, and these updates are patched in batches every flush
+ * interval. When the Event object no longer exists, for example because it expired, it is created again.</p>
+ *
+ * <p>Writes are limited by a token bucket. Events which can't be written straight away wait for the next flush,
+ * up to {@link #MAX_PENDING} distinct events; new events beyond that are dropped.</p>
+ *
+ * <p>Recording never waits for the writes, so that throttled events don't hold up the reconciliations
+ * which emit them.</p>
+ */
+class EventRecorder {
+
+    private final static Logger LOGGER = LogManager.getLogger(EventRecorder.class);
+
+    /** For how long further occurrences of an event are aggregated into the same Event object */
+    static final long AGGREGATION_WINDOW_MS = 600_000L;
+    /** The maximum number of distinct events remembered for aggregation */
+    static final int MAX_AGGREGATES = 4096;
+    /** The maximum number of distinct events waiting to be written */
+    static final int MAX_PENDING = 1000;
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    private final Vertx vertx;
+    private final K8s k8s;
+    private final long flushIntervalMs;
+    private final double eventsPerSecond;
+    private final double burst;
+
+    private final Map<List<Object>, Aggregate> aggregates = new LinkedHashMap<List<Object>, Aggregate>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, Aggregate> eldest) {
+            return size() > MAX_AGGREGATES;
+        }
+    };
+    private final Map<List<Object>, Aggregate> pending = new LinkedHashMap<>();
+
+    private double tokens;
+    private long lastRefill;
+    private long sequence = 0;
+    private long timerId = -1;
+
+    private final Counter mergedCounter;
+    private final Counter droppedCounter;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vertx instance
+     * @param k8s               Used for writing the Events
+     * @param metrics           Metrics provider, or null for no metrics
+     * @param flushIntervalMs   Interval at which aggregated and delayed events are written
+     * @param eventsPerSecond   Sustained number of Event writes per second; twice as many can be written in a burst
+     */
+    EventRecorder(Vertx vertx, K8s k8s, MetricsProvider metrics, long flushIntervalMs, int eventsPerSecond) {
+        this.vertx = vertx;
+        this.k8s = k8s;
+        this.flushIntervalMs = flushIntervalMs;
+        this.eventsPerSecond = eventsPerSecond;
+        this.burst = 2.0 * eventsPerSecond;
+        this.tokens = burst;
+        this.lastRefill = System.currentTimeMillis();
+
+        if (metrics != null) {
+            Tags metricTags = Tags.of(Tag.of("kind", "KafkaTopic"));
+
+            mergedCounter = metrics.counter(TopicOperator.METRICS_PREFIX + "events.merged",
+                    "Number of events merged into an earlier identical Event",
+                    metricTags);
+
+            droppedCounter = metrics.counter(TopicOperator.METRICS_PREFIX + "events.dropped",
+                    "Number of events dropped because too many events were waiting to be written",
+                    metricTags);
+        } else {
+            mergedCounter = null;
+            droppedCounter = null;
+        }
+    }
+
+    /**
+     * Record the given event. It is written (or merged into an earlier identical Event) asynchronously.
+     *
+     * @param event The event.
+     * @return A future which completes as soon as the event has been recorded, without waiting for it to be written.
+     */
+    synchronized Future<Void> record(Event event) {
+        List<Object> key = key(event);
+        long now = System.currentTimeMillis();
+        String timestamp = ZonedDateTime.now(ZoneOffset.UTC).format(TIMESTAMP_FORMAT);
+
+        Aggregate aggregate = aggregates.get(key);
+        if (aggregate != null && now - aggregate.lastSeen <= AGGREGATION_WINDOW_MS) {
+            aggregate.lastSeen = now;
+            aggregate.event.setCount(aggregate.event.getCount() + 1);
+            aggregate.event.setLastTimestamp(timestamp);
+            pending.put(key, aggregate);
+            increment(mergedCounter);
+            LOGGER.debug("Merged event into {} (count {})", aggregate.event.getMetadata().getName(), aggregate.event.getCount());
+            scheduleFlush();
+            return Future.succeededFuture();
+        }
+
+        if (pending.size() >= MAX_PENDING) {
+            increment(droppedCounter);
+            LOGGER.warn("Dropping event {}, because too many events are waiting to be written", event.getMessage());
+            return Future.succeededFuture();
+        }
+
+        aggregate = new Aggregate(new EventBuilder(event)
+                .editMetadata()
+                    .withName(name(event))
+                    .withGenerateName(null)
+                .endMetadata()
+                .withCount(1)
+                .withFirstTimestamp(timestamp)
+                .withLastTimestamp(timestamp)
+                .build(), now);
+        aggregates.put(key, aggregate);
+        pending.put(key, aggregate);
+        // New events are written straight away when the rate limit allows it
+        flush();
+        return Future.succeededFuture();
+    }
+
+    private synchronized void flush() {
+        long now = System.currentTimeMillis();
+        tokens = Math.min(burst, tokens + (now - lastRefill) * eventsPerSecond / 1000.0);
+        lastRefill = now;
+
+        Iterator<Map.Entry<List<Object>, Aggregate>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext() && tokens >= 1.0) {
+            Map.Entry<List<Object>, Aggregate> entry = iterator.next();
+            if (entry.getValue().writing) {
+                // Written again once the running write completes
+                continue;
+            }
+            iterator.remove();
+            tokens -= 1.0;
+            write(entry.getKey(), entry.getValue());
+        }
+
+        if (!pending.isEmpty()) {
+            scheduleFlush();
+        }
+    }
+
+    private void write(List<Object> key, Aggregate aggregate) {
+        Event event = new EventBuilder(aggregate.event).build();
+        aggregate.writing = true;
+
+        Future<Void> written = aggregate.created ? k8s.updateEvent(event) : k8s.createEvent(event);
+        written.onComplete(ar -> {
+            synchronized (this) {
+                aggregate.writing = false;
+                if (ar.succeeded()) {
+                    aggregate.created = true;
+                } else if (aggregate.created && isNotFound(ar.cause())) {
+                    LOGGER.debug("Event {} no longer exists, it will be created again", event.getMetadata().getName());
+                    aggregate.created = false;
+                    pending.putIfAbsent(key, aggregate);
+                    scheduleFlush();
+                } else {
+                    LOGGER.warn("Error writing event {}", event.getMetadata().getName(), ar.cause());
+                    if (!aggregate.created) {
+                        // The next occurrence creates the Event under a new name, in case this one is taken
+                        aggregate.event.getMetadata().setName(name(aggregate.event));
+                    }
+                }
+            }
+        });
+    }
+
+    private static boolean isNotFound(Throwable cause) {
+        return cause instanceof KubernetesClientException && ((KubernetesClientException) cause).getCode() == 404;
+    }
+
+    private synchronized void scheduleFlush() {
+        if (timerId == -1) {
+            timerId = vertx.setTimer(flushIntervalMs, id -> {
+                synchronized (this) {
+                    timerId = -1;
+                }
+                flush();
+            });
+        }
+    }
+
+    private String name(Event event) {
+        ObjectReference involvedObject = event.getInvolvedObject();
+        String prefix = involvedObject != null && involvedObject.getName() != null ? involvedObject.getName() : "topic-operator";
+        return prefix + "." + Long.toHexString(System.currentTimeMillis()) + Long.toHexString(sequence++ & 0xfff);
+    }
+
+    private static List<Object> key(Event event) {
+        ObjectReference involvedObject = event.getInvolvedObject();
+        return Arrays.asList(
+                involvedObject != null ? involvedObject.getKind() : null,
+                involvedObject != null ? involvedObject.getNamespace() : null,
+                involvedObject != null ? involvedObject.getName() : null,
+                involvedObject != null ? involvedObject.getUid() : null,
+                event.getType(),
+                event.getReason(),
+                event.getMessage());
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * The Event object for a group of identical events
+     */
+    private static class Aggregate {
+        private final Event event;
+        private long lastSeen;
+        private boolean created = false;
+        private boolean writing = false;
+
+        Aggregate(Event event, long lastSeen) {
+            this.event = event;
+            this.lastSeen = lastSeen;
+        }
+    }
+}
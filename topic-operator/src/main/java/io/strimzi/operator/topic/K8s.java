@@ -59,7 +59,15 @@ public interface K8s {
     /**
      * Create an event.
      * @param event The event.
-     * @return A future which completes when the event has been created.
+     * @return A future which completes when the event has been created, or fails if it could not be created.
      */
     Future<Void> createEvent(Event event);
+
+    /**
+     * Update an existing event, for example with a new count and last timestamp.
+     * @param event The event.
+     * @return A future which completes when the event has been updated, or fails if it could not be updated
+     * (with a {@link io.fabric8.kubernetes.client.KubernetesClientException} with code 404 if it doesn't exist).
+     */
+    Future<Void> updateEvent(Event event);
 }
@@ -7,7 +7,6 @@ package io.strimzi.operator.topic;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.Event;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
@@ -20,6 +19,7 @@ import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -37,18 +37,31 @@ public class K8sImpl implements K8s {
 
     private final Vertx vertx;
 
+    /** Runs the blocking KafkaTopic creations, updates and deletions, in parallel and unordered */
+    private final WorkerExecutor mutationExecutor;
+    /** Runs the blocking Event creations, separately so that they don't hold up the KafkaTopic changes */
+    private final WorkerExecutor eventExecutor;
+
     public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace) {
+        this(vertx, client, labels, namespace,
+                Integer.parseInt(Config.KUBERNETES_MUTATION_CONCURRENCY.defaultValue),
+                Integer.parseInt(Config.KUBERNETES_EVENT_CONCURRENCY.defaultValue));
+    }
+
+    public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace, int mutationConcurrency, int eventConcurrency) {
         this.vertx = vertx;
         this.client = client;
         this.crdOperator = new CrdOperator<>(vertx, client, KafkaTopic.class, KafkaTopicList.class, DoneableKafkaTopic.class, Crds.kafkaTopic());
         this.labels = labels;
         this.namespace = namespace;
+        this.mutationExecutor = vertx.createSharedWorkerExecutor("topic-operator-kubernetes-mutations", mutationConcurrency);
+        this.eventExecutor = vertx.createSharedWorkerExecutor("topic-operator-kubernetes-events", eventConcurrency);
     }
 
     @Override
     public Future<KafkaTopic> createResource(KafkaTopic topicResource) {
         Promise<KafkaTopic> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        mutationExecutor.executeBlocking(future -> {
             try {
                 KafkaTopic kafkaTopic = operation().inNamespace(namespace).create(topicResource);
                 LOGGER.debug("KafkaTopic {} created with version {}->{}",
@@ -59,14 +72,14 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
+        }, false, handler);
         return handler.future();
     }
 
     @Override
     public Future<KafkaTopic> updateResource(KafkaTopic topicResource) {
         Promise<KafkaTopic> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        mutationExecutor.executeBlocking(future -> {
             try {
                 KafkaTopic kafkaTopic = operation().inNamespace(namespace).withName(topicResource.getMetadata().getName()).patch(topicResource);
                 LOGGER.debug("KafkaTopic {} updated with version {}->{}",
@@ -77,7 +90,7 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
+        }, false, handler);
         return handler.future();
     }
 
@@ -88,26 +101,29 @@ public class K8sImpl implements K8s {
 
     @Override
     public Future<Void> deleteResource(ResourceName resourceName) {
-        Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        Promise<Boolean> handler = Promise.promise();
+        mutationExecutor.executeBlocking(future -> {
             try {
                 // Delete the resource by the topic name, because neither ZK nor Kafka know the resource name
-                if (!Boolean.TRUE.equals(operation().inNamespace(namespace).withName(resourceName.toString()).withPropagationPolicy(DeletionPropagation.FOREGROUND).delete())) {
-                    LOGGER.warn("KafkaTopic {} could not be deleted, since it doesn't seem to exist", resourceName.toString());
-                    future.complete();
-                } else {
-                    Util.waitFor(vertx, "sync resource deletion " + resourceName, "deleted", 1000, Long.MAX_VALUE, () -> {
-                        KafkaTopic kafkaTopic = operation().inNamespace(namespace).withName(resourceName.toString()).get();
-                        boolean notExists = kafkaTopic == null;
-                        LOGGER.debug("KafkaTopic {} deleted {}", resourceName.toString(), notExists);
-                        return notExists;
-                    }).onComplete(future);
-                }
+                future.complete(Boolean.TRUE.equals(operation().inNamespace(namespace).withName(resourceName.toString()).withPropagationPolicy(DeletionPropagation.FOREGROUND).delete()));
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
-        return handler.future();
+        }, false, handler);
+        // Wait for the deletion outside of the mutation pool, so that the wait doesn't hold up other changes
+        return handler.future().compose(deleted -> {
+            if (!deleted) {
+                LOGGER.warn("KafkaTopic {} could not be deleted, since it doesn't seem to exist", resourceName.toString());
+                return Future.succeededFuture();
+            } else {
+                return Util.waitFor(vertx, "sync resource deletion " + resourceName, "deleted", 1000, Long.MAX_VALUE, () -> {
+                    KafkaTopic kafkaTopic = operation().inNamespace(namespace).withName(resourceName.toString()).get();
+                    boolean notExists = kafkaTopic == null;
+                    LOGGER.debug("KafkaTopic {} deleted {}", resourceName.toString(), notExists);
+                    return notExists;
+                });
+            }
+        });
     }
 
     private MixedOperation<KafkaTopic, KafkaTopicList, DoneableKafkaTopic, Resource<KafkaTopic, DoneableKafkaTopic>> operation() {
@@ -131,19 +147,33 @@ public class K8sImpl implements K8s {
     @Override
     public Future<Void> createEvent(Event event) {
         Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        eventExecutor.executeBlocking(future -> {
+            try {
+                LOGGER.debug("Creating event {}", event);
+                client.events().inNamespace(namespace).create(event);
+                future.complete();
+            } catch (Exception e) {
+                LOGGER.debug("Error creating event {}", event, e);
+                future.fail(e);
+            }
+        }, false, handler);
+        return handler.future();
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public Future<Void> updateEvent(Event event) {
+        Promise<Void> handler = Promise.promise();
+        eventExecutor.executeBlocking(future -> {
             try {
-                try {
-                    LOGGER.debug("Creating event {}", event);
-                    client.events().inNamespace(namespace).create(event);
-                } catch (KubernetesClientException e) {
-                    LOGGER.error("Error creating event {}", event, e);
-                }
+                LOGGER.debug("Updating event {}", event);
+                client.events().inNamespace(namespace).withName(event.getMetadata().getName()).patch(event);
                 future.complete();
             } catch (Exception e) {
+                LOGGER.debug("Error updating event {}", event, e);
                 future.fail(e);
             }
-        }, handler);
+        }, false, handler);
         return handler.future();
     }
 }
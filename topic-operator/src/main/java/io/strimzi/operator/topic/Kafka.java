@@ -6,6 +6,8 @@ package io.strimzi.operator.topic;
 
 import io.vertx.core.Future;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -65,6 +67,28 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(TopicName topicName);
 
+    /**
+     * Asynchronously fetch the metadata of the given topics in Kafka,
+     * completing the returned Future with the requested metadata.
+     * Topics which do not exist are not present in the resulting map.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A future which is completed with the requested metadata.
+     */
+    Future<Map<TopicName, TopicMetadata>> topicMetadata(Collection<TopicName> topicNames);
+
+    /**
+     * Asynchronously fetch the number of partitions of the given topics in Kafka,
+     * without fetching their configs.
+     * Topics which do not exist are not present in the resulting map.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     * @param topicNames The names of the topics to get the number of partitions of.
+     * @return A future which is completed with the number of partitions of each topic.
+     */
+    Future<Map<TopicName, Integer>> numPartitions(Collection<TopicName> topicNames);
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
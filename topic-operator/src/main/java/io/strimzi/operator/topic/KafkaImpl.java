@@ -4,7 +4,12 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -38,13 +43,29 @@ public class KafkaImpl implements Kafka {
 
     private final static Logger LOGGER = LogManager.getLogger(KafkaImpl.class);
 
+    /**
+     * The default maximum number of topics described in a single AdminClient request
+     * by {@link #topicMetadata(Collection)}.
+     */
+    public static final int DEFAULT_METADATA_BATCH_SIZE = 500;
+
     protected final Admin adminClient;
 
     protected final Vertx vertx;
 
+    private final int metadataBatchSize;
+
     public KafkaImpl(Admin adminClient, Vertx vertx) {
+        this(adminClient, vertx, DEFAULT_METADATA_BATCH_SIZE);
+    }
+
+    public KafkaImpl(Admin adminClient, Vertx vertx, int metadataBatchSize) {
+        if (metadataBatchSize <= 0) {
+            throw new IllegalArgumentException("The metadata batch size has to be positive");
+        }
         this.adminClient = adminClient;
         this.vertx = vertx;
+        this.metadataBatchSize = metadataBatchSize;
     }
 
     /**
@@ -115,6 +136,115 @@ public class KafkaImpl implements Kafka {
             });
     }
 
+    /**
+     * Completes the returned Future on the Vertx event loop
+     * with the metadata of the given topics obtained from the Kafka AdminClient API.
+     * The topics are described in batches of at most {@code metadataBatchSize} topics,
+     * using a single describeTopics and a single describeConfigs request per batch.
+     * Topics which do not exist are not present in the resulting map.
+     */
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicMetadata(Collection<TopicName> topicNames) {
+        List<TopicName> names = new ArrayList<>(new LinkedHashSet<>(topicNames));
+        Map<TopicName, TopicMetadata> result = new HashMap<>(names.size());
+        Future<Void> batches = Future.succeededFuture();
+        for (int start = 0; start < names.size(); start += metadataBatchSize) {
+            List<TopicName> batch = names.subList(start, Math.min(start + metadataBatchSize, names.size()));
+            batches = batches.compose(ignored -> topicMetadataBatch(batch, result));
+        }
+        return batches.map(result);
+    }
+
+    private Future<Void> topicMetadataBatch(List<TopicName> batch, Map<TopicName, TopicMetadata> result) {
+        LOGGER.debug("Getting metadata for {} topics", batch.size());
+        Set<String> names = new LinkedHashSet<>(batch.size());
+        Set<ConfigResource> resources = new LinkedHashSet<>(batch.size());
+        for (TopicName topicName : batch) {
+            names.add(topicName.toString());
+            resources.add(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString()));
+        }
+
+        Map<String, KafkaFuture<TopicDescription>> descriptions;
+        Map<ConfigResource, KafkaFuture<Config>> configs;
+        try {
+            descriptions = adminClient.describeTopics(names).values();
+            configs = adminClient.describeConfigs(resources).values();
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+
+        @SuppressWarnings({ "rawtypes" })
+        List<Future> futures = new ArrayList<>(batch.size());
+        for (TopicName topicName : batch) {
+            ConfigResource resource = new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString());
+            futures.add(CompositeFuture.all(mapFuture(descriptions.get(topicName.toString())), mapFuture(configs.get(resource)))
+                .<Void>map(compositeFuture -> {
+                    result.put(topicName, new TopicMetadata(compositeFuture.resultAt(0), compositeFuture.resultAt(1)));
+                    return null;
+                })
+                .recover(error -> {
+                    if (error instanceof UnknownTopicOrPartitionException) {
+                        return Future.succeededFuture();
+                    } else {
+                        return Future.failedFuture(error);
+                    }
+                }));
+        }
+        return CompositeFuture.all(futures).mapEmpty();
+    }
+
+    /**
+     * Completes the returned Future on the Vertx event loop
+     * with the number of partitions of the given topics obtained from the Kafka AdminClient API.
+     * The topics are described in batches of at most {@code metadataBatchSize} topics,
+     * using a single describeTopics request per batch.
+     * Topics which do not exist are not present in the resulting map.
+     */
+    @Override
+    public Future<Map<TopicName, Integer>> numPartitions(Collection<TopicName> topicNames) {
+        List<TopicName> names = new ArrayList<>(new LinkedHashSet<>(topicNames));
+        Map<TopicName, Integer> result = new HashMap<>(names.size());
+        Future<Void> batches = Future.succeededFuture();
+        for (int start = 0; start < names.size(); start += metadataBatchSize) {
+            List<TopicName> batch = names.subList(start, Math.min(start + metadataBatchSize, names.size()));
+            batches = batches.compose(ignored -> numPartitionsBatch(batch, result));
+        }
+        return batches.map(result);
+    }
+
+    private Future<Void> numPartitionsBatch(List<TopicName> batch, Map<TopicName, Integer> result) {
+        LOGGER.debug("Getting number of partitions for {} topics", batch.size());
+        Set<String> names = new LinkedHashSet<>(batch.size());
+        for (TopicName topicName : batch) {
+            names.add(topicName.toString());
+        }
+
+        Map<String, KafkaFuture<TopicDescription>> descriptions;
+        try {
+            descriptions = adminClient.describeTopics(names).values();
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+
+        @SuppressWarnings({ "rawtypes" })
+        List<Future> futures = new ArrayList<>(batch.size());
+        for (TopicName topicName : batch) {
+            futures.add(mapFuture(descriptions.get(topicName.toString()))
+                .<Void>map(description -> {
+                    result.put(topicName, description.partitions().size());
+                    return null;
+                })
+                .recover(error -> {
+                    if (error instanceof UnknownTopicOrPartitionException) {
+                        return Future.succeededFuture();
+                    } else {
+                        return Future.failedFuture(error);
+                    }
+                }));
+        }
+        return CompositeFuture.all(futures).mapEmpty();
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         try {
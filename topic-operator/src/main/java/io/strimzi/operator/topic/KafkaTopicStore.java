@@ -0,0 +1,289 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.util.Collections.singleton;
+
+/**
+ * <p>Implementation of {@link TopicStore} that stores the topic state in a compacted Kafka topic,
+ * keyed by the topic name, with deleted topics stored as tombstones.</p>
+ *
+ * <p>The store topic is read once when the store is {@linkplain #start() started} to build an in-memory view,
+ * which is then kept current by the writes made through this store. Reads are therefore served from memory.
+ * The writes are sent asynchronously by the producer, which batches the records sent while a request is in flight,
+ * and complete once acknowledged by Kafka.</p>
+ *
+ * <p>The topic operator has to be the only writer of the store topic.</p>
+ *
+ * <p>Once the topics of another store have been {@linkplain #migrateFrom(TopicStore) migrated}, a marker record
+ * is written to the store topic, so that an interrupted migration is resumed and a completed one isn't repeated.</p>
+ */
+public class KafkaTopicStore implements TopicStore {
+
+    private final static Logger LOGGER = LogManager.getLogger(KafkaTopicStore.class);
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    /**
+     * The key of the record written once a migration completed.
+     * It isn't a legal topic name, so it can't clash with the key of a topic.
+     */
+    static final String MIGRATION_MARKER_KEY = "!migration-complete";
+
+    private final Vertx vertx;
+
+    private final Admin adminClient;
+
+    private final String storeTopic;
+
+    private final short replicationFactor;
+
+    private final int minInSyncReplicas;
+
+    private final Producer<String, byte[]> producer;
+
+    private final Supplier<Consumer<String, byte[]>> consumerSupplier;
+
+    private final Map<TopicName, Topic> view = new ConcurrentHashMap<>();
+
+    private volatile boolean migrated = false;
+
+    /**
+     * @param vertx The Vertx instance.
+     * @param adminClient The admin client used to create the store topic.
+     * @param storeTopic The name of the store topic.
+     * @param replicationFactor The replication factor of the store topic, when it's created.
+     * @param minInSyncReplicas The {@code min.insync.replicas} of the store topic, when it's created.
+     * @param producer The producer used for writing to the store topic.
+     * @param consumerSupplier The supplier of the consumer used for reading the store topic on start.
+     */
+    public KafkaTopicStore(Vertx vertx, Admin adminClient, String storeTopic, short replicationFactor, int minInSyncReplicas,
+                           Producer<String, byte[]> producer, Supplier<Consumer<String, byte[]>> consumerSupplier) {
+        this.vertx = vertx;
+        this.adminClient = adminClient;
+        this.storeTopic = storeTopic;
+        this.replicationFactor = replicationFactor;
+        this.minInSyncReplicas = minInSyncReplicas;
+        this.producer = producer;
+        this.consumerSupplier = consumerSupplier;
+    }
+
+    /**
+     * Creates the store topic if it doesn't exist yet and loads its content into memory.
+     * The store must not be used before the returned future completes.
+     * @return A future which completes when the store is ready to be used.
+     */
+    public Future<Void> start() {
+        return createStoreTopic()
+            .compose(ignored -> load())
+            .map(topics -> {
+                view.putAll(topics);
+                LOGGER.info("Loaded {} topics from store topic {}", topics.size(), storeTopic);
+                return null;
+            });
+    }
+
+    private Future<Void> createStoreTopic() {
+        // A single partition, so that all the writes are ordered
+        Map<String, String> configs = new HashMap<>(2);
+        configs.put(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT);
+        configs.put(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, String.valueOf(minInSyncReplicas));
+        NewTopic newTopic = new NewTopic(storeTopic, Optional.of(1), Optional.of(replicationFactor))
+                .configs(configs);
+        Promise<Void> result = Promise.promise();
+        try {
+            KafkaFuture<Void> future = adminClient.createTopics(singleton(newTopic)).all();
+            future.whenComplete((ignored, error) -> vertx.runOnContext(v -> {
+                if (error == null) {
+                    LOGGER.info("Created store topic {}", storeTopic);
+                    result.complete();
+                } else if (error instanceof TopicExistsException) {
+                    result.complete();
+                } else {
+                    result.fail(error);
+                }
+            }));
+        } catch (Exception e) {
+            result.fail(e);
+        }
+        return result.future();
+    }
+
+    private Future<Map<TopicName, Topic>> load() {
+        Promise<Map<TopicName, Topic>> result = Promise.promise();
+        vertx.executeBlocking(future -> {
+            try (Consumer<String, byte[]> consumer = consumerSupplier.get()) {
+                TopicPartition partition = new TopicPartition(storeTopic, 0);
+                consumer.assign(singleton(partition));
+                consumer.seekToBeginning(singleton(partition));
+                long end = consumer.endOffsets(singleton(partition)).get(partition);
+
+                Map<TopicName, Topic> topics = new HashMap<>();
+                while (consumer.position(partition) < end) {
+                    for (ConsumerRecord<String, byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                        if (MIGRATION_MARKER_KEY.equals(record.key())) {
+                            migrated = true;
+                            continue;
+                        }
+                        TopicName topicName = new TopicName(record.key());
+                        if (record.value() == null) {
+                            topics.remove(topicName);
+                        } else {
+                            topics.put(topicName, TopicSerialization.fromJson(record.value()));
+                        }
+                    }
+                }
+                future.complete(topics);
+            } catch (Throwable t) {
+                future.fail(t);
+            }
+        }, result);
+        return result.future();
+    }
+
+    /**
+     * @return Whether a migration into this store has completed.
+     */
+    public boolean isMigrated() {
+        return migrated;
+    }
+
+    /**
+     * Copies the topics from the given {@code source} store which are not in this store yet,
+     * unless a migration has already completed.
+     * This allows migrating from a different kind of store without losing the topic state.
+     * @param source The store to migrate from.
+     * @return A future which completes with the number of migrated topics.
+     */
+    public Future<Integer> migrateFrom(TopicStore source) {
+        if (migrated) {
+            LOGGER.debug("Store topic {} has already been migrated", storeTopic);
+            return Future.succeededFuture(0);
+        }
+        return source.readAll().compose(topics -> {
+            @SuppressWarnings({ "rawtypes" })
+            List<Future> writes = new ArrayList<>(topics.size());
+            for (Topic topic : topics.values()) {
+                // Topics copied by an interrupted migration, or changed since, are kept
+                if (!view.containsKey(topic.getTopicName())) {
+                    writes.add(create(topic));
+                }
+            }
+            LOGGER.info("Migrating {} of {} topics to store topic {}", writes.size(), topics.size(), storeTopic);
+            return CompositeFuture.all(writes)
+                .compose(ignored -> send(MIGRATION_MARKER_KEY, new byte[0]))
+                .map(ignored -> {
+                    migrated = true;
+                    return writes.size();
+                });
+        });
+    }
+
+    @Override
+    public Future<Topic> read(TopicName name) {
+        return Future.succeededFuture(view.get(name));
+    }
+
+    @Override
+    public Future<Map<TopicName, Topic>> readAll() {
+        return Future.succeededFuture(new HashMap<>(view));
+    }
+
+    @Override
+    public Future<Void> create(Topic topic) {
+        if (view.containsKey(topic.getTopicName())) {
+            return Future.failedFuture(new EntityExistsException());
+        }
+        return write(topic.getTopicName(), topic);
+    }
+
+    @Override
+    public Future<Void> update(Topic topic) {
+        if (!view.containsKey(topic.getTopicName())) {
+            return Future.failedFuture(new NoSuchEntityExistsException());
+        }
+        return write(topic.getTopicName(), topic);
+    }
+
+    @Override
+    public Future<Void> delete(TopicName topicName) {
+        if (!view.containsKey(topicName)) {
+            return Future.failedFuture(new NoSuchEntityExistsException());
+        }
+        return write(topicName, null);
+    }
+
+    /**
+     * Produces the given topic (or a tombstone when the topic is null) and updates the view once Kafka
+     * acknowledged it.
+     */
+    private Future<Void> write(TopicName topicName, Topic topic) {
+        LOGGER.debug("{} topic {} in store topic {}", topic == null ? "Deleting" : "Writing", topicName, storeTopic);
+        byte[] value = topic == null ? null : TopicSerialization.toJson(topic);
+        return send(topicName.toString(), value).map(ignored -> {
+            if (topic == null) {
+                view.remove(topicName);
+            } else {
+                view.put(topicName, topic);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Produces the given record, completing on the current context once Kafka acknowledged it.
+     */
+    private Future<Void> send(String key, byte[] value) {
+        Promise<Void> result = Promise.promise();
+        Context context = vertx.getOrCreateContext();
+        try {
+            producer.send(new ProducerRecord<>(storeTopic, key, value), (metadata, error) -> context.runOnContext(v -> {
+                if (error == null) {
+                    result.complete();
+                } else {
+                    result.fail(error);
+                }
+            }));
+        } catch (Exception e) {
+            result.fail(e);
+        }
+        return result.future();
+    }
+
+    /**
+     * Closes the producer, waiting for the pending writes up to the given {@code timeout}.
+     * @param timeout The timeout.
+     */
+    public void close(Duration timeout) {
+        producer.close(timeout);
+    }
+}
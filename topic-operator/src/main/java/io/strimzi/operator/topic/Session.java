@@ -21,8 +21,17 @@ import io.vertx.core.http.HttpServer;
 import io.vertx.micrometer.backends.BackendRegistries;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.config.SslConfigs;
 import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -54,6 +63,7 @@ public class Session extends AbstractVerticle {
     private volatile Long timerId;
     private volatile boolean stopped = false;
     private Zk zk;
+    private KafkaTopicStore kafkaTopicStore;
     private volatile HttpServer healthServer;
 
     public Session(KubernetesClient kubeClient, Config config) {
@@ -113,6 +123,9 @@ public class Session extends AbstractVerticle {
                     long timeoutMs = Math.max(1, deadline - System.currentTimeMillis());
                     LOGGER.debug("Closing AdminClient {} with timeout {}ms", adminClient, timeoutMs);
                     try {
+                        if (kafkaTopicStore != null) {
+                            kafkaTopicStore.close(Duration.ofMillis(timeoutMs));
+                        }
                         adminClient.close(Duration.ofMillis(timeoutMs));
                         HttpServer healthServer = this.healthServer;
                         if (healthServer != null) {
@@ -151,13 +164,14 @@ public class Session extends AbstractVerticle {
 
         this.adminClient = AdminClient.create(adminClientProps);
         LOGGER.debug("Using AdminClient {}", adminClient);
-        this.kafka = new KafkaImpl(adminClient, vertx);
+        this.kafka = new KafkaImpl(adminClient, vertx, config.get(Config.TOPIC_METADATA_BATCH_SIZE));
         LOGGER.debug("Using Kafka {}", kafka);
         Labels labels = config.get(Config.LABELS);
 
         String namespace = config.get(Config.NAMESPACE);
         LOGGER.debug("Using namespace {}", namespace);
-        this.k8s = new K8sImpl(vertx, kubeClient, labels, namespace);
+        this.k8s = new K8sImpl(vertx, kubeClient, labels, namespace,
+                config.get(Config.KUBERNETES_MUTATION_CONCURRENCY), config.get(Config.KUBERNETES_EVENT_CONCURRENCY));
         LOGGER.debug("Using k8s {}", k8s);
 
         Zk.create(vertx, config.get(Config.ZOOKEEPER_CONNECT),
@@ -171,66 +185,110 @@ public class Session extends AbstractVerticle {
                 this.zk = zkResult.result();
                 LOGGER.debug("Using ZooKeeper {}", zk);
 
-                String topicsPath = config.get(Config.TOPICS_PATH);
-                ZkTopicStore topicStore = new ZkTopicStore(zk, topicsPath);
+                createTopicStore(adminClientProps).onComplete(topicStoreResult -> {
+                    if (topicStoreResult.failed()) {
+                        start.fail(topicStoreResult.cause());
+                        return;
+                    }
+                    TopicStore topicStore = topicStoreResult.result();
+                    LOGGER.debug("Using TopicStore {}", topicStore);
 
-                LOGGER.debug("Using TopicStore {}", topicStore);
+                    this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
+                    LOGGER.debug("Using Operator {}", topicOperator);
 
-                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
-                LOGGER.debug("Using Operator {}", topicOperator);
+                    Config.ChangeDetection changeDetection = config.get(Config.CHANGE_DETECTION_MODE);
+                    this.topicConfigsWatcher = changeDetection.topicConfigsWatcher(topicOperator);
+                    this.topicWatcher = changeDetection.topicWatcher(topicOperator, vertx, kafka, config);
+                    LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
+                    LOGGER.debug("Using TopicWatcher {}", topicWatcher);
+                    this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
+                    LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
+                    topicsWatcher.start(zk);
 
-                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
-                LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
-                this.topicWatcher = new ZkTopicWatcher(topicOperator);
-                LOGGER.debug("Using TopicWatcher {}", topicWatcher);
-                this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
-                LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
-                topicsWatcher.start(zk);
+                    Promise<Void> promise = Promise.promise();
+                    Promise<Void> initReconcilePromise = Promise.promise();
+                    K8sTopicWatcher watcher = new K8sTopicWatcher(topicOperator, initReconcilePromise.future());
+                    Thread resourceThread = new Thread(() -> {
+                        try {
+                            LOGGER.debug("Watching KafkaTopics matching {}", labels.labels());
 
-                Promise<Void> promise = Promise.promise();
-                Promise<Void> initReconcilePromise = Promise.promise();
-                K8sTopicWatcher watcher = new K8sTopicWatcher(topicOperator, initReconcilePromise.future());
-                Thread resourceThread = new Thread(() -> {
-                    try {
-                        LOGGER.debug("Watching KafkaTopics matching {}", labels.labels());
+                            Session.this.topicWatch = kubeClient.customResources(Crds.kafkaTopic(), KafkaTopic.class, KafkaTopicList.class, DoneableKafkaTopic.class)
+                                    .inNamespace(namespace).withLabels(labels.labels()).watch(watcher);
+                            LOGGER.debug("Watching setup");
 
-                        Session.this.topicWatch = kubeClient.customResources(Crds.kafkaTopic(), KafkaTopic.class, KafkaTopicList.class, DoneableKafkaTopic.class)
-                                .inNamespace(namespace).withLabels(labels.labels()).watch(watcher);
-                        LOGGER.debug("Watching setup");
+                            // start the HTTP server for healthchecks
+                            healthServer = this.startHealthServer();
+                            promise.complete();
+                        } catch (Throwable t) {
+                            promise.fail(t);
+                        }
 
-                        // start the HTTP server for healthchecks
-                        healthServer = this.startHealthServer();
-                        promise.complete();
-                    } catch (Throwable t) {
-                        promise.fail(t);
-                    }
+                    }, "resource-watcher");
+                    LOGGER.debug("Starting {}", resourceThread);
+                    resourceThread.start();
 
-                }, "resource-watcher");
-                LOGGER.debug("Starting {}", resourceThread);
-                resourceThread.start();
-
-                final Long interval = config.get(Config.FULL_RECONCILIATION_INTERVAL_MS);
-                Handler<Long> periodic = new Handler<Long>() {
-                    @Override
-                    public void handle(Long oldTimerId) {
-                        if (!stopped) {
-                            timerId = null;
-                            boolean isInitialReconcile = oldTimerId == null;
-                            topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ").onComplete(result -> {
-                                topicOperator.getPeriodicReconciliationsCounter().increment();
-                                if (isInitialReconcile) {
-                                    initReconcilePromise.complete();
-                                }
-                                if (!stopped) {
-                                    timerId = vertx.setTimer(interval, this);
-                                }
-                            });
+                    final Long interval = config.get(Config.FULL_RECONCILIATION_INTERVAL_MS);
+                    Handler<Long> periodic = new Handler<Long>() {
+                        @Override
+                        public void handle(Long oldTimerId) {
+                            if (!stopped) {
+                                timerId = null;
+                                boolean isInitialReconcile = oldTimerId == null;
+                                topicOperator.reconcileAllTopics(isInitialReconcile ? "initial " : "periodic ").onComplete(result -> {
+                                    topicOperator.getPeriodicReconciliationsCounter().increment();
+                                    if (isInitialReconcile) {
+                                        initReconcilePromise.complete();
+                                    }
+                                    if (!stopped) {
+                                        timerId = vertx.setTimer(interval, this);
+                                    }
+                                });
+                            }
                         }
-                    }
-                };
-                periodic.handle(null);
-                promise.future().onComplete(start);
-                LOGGER.info("Started");
+                    };
+                    periodic.handle(null);
+                    promise.future().onComplete(start);
+                    LOGGER.info("Started");
+                });
+            });
+    }
+
+    /**
+     * Create the configured {@link TopicStore}.
+     * A {@link KafkaTopicStore} is populated from the znodes of a {@link ZkTopicStore}, until a migration completed.
+     */
+    private Future<TopicStore> createTopicStore(Properties adminClientProps) {
+        if (config.get(Config.TOPIC_STORE) != Config.TopicStoreType.KAFKA) {
+            return Future.succeededFuture(new ZkTopicStore(zk, config.get(Config.TOPICS_PATH)));
+        }
+
+        Properties producerProps = new Properties();
+        producerProps.putAll(adminClientProps);
+        producerProps.setProperty(ProducerConfig.ACKS_CONFIG, "all");
+        producerProps.setProperty(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "true");
+        producerProps.setProperty(ProducerConfig.LINGER_MS_CONFIG, "5");
+        Producer<String, byte[]> producer = new KafkaProducer<>(producerProps, new StringSerializer(), new ByteArraySerializer());
+
+        Properties consumerProps = new Properties();
+        consumerProps.putAll(adminClientProps);
+        consumerProps.setProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+
+        String storeTopic = config.get(Config.STORE_TOPIC);
+        this.kafkaTopicStore = new KafkaTopicStore(vertx, adminClient, storeTopic,
+            config.get(Config.STORE_TOPIC_REPLICATION_FACTOR).shortValue(), config.get(Config.STORE_TOPIC_MIN_INSYNC_REPLICAS),
+            producer, () -> new KafkaConsumer<>(consumerProps, new StringDeserializer(), new ByteArrayDeserializer()));
+        return kafkaTopicStore.start()
+            .compose(ignored -> {
+                if (kafkaTopicStore.isMigrated()) {
+                    return Future.succeededFuture(kafkaTopicStore);
+                }
+                ZkTopicStore zkTopicStore = new ZkTopicStore(zk, config.get(Config.TOPICS_PATH));
+                return kafkaTopicStore.migrateFrom(zkTopicStore)
+                    .onComplete(ignored2 -> zkTopicStore.close())
+                    .map(migrated -> {
+                        LOGGER.info("Migrated {} topics from {} to {}", migrated, config.get(Config.TOPICS_PATH), storeTopic);
+                        return kafkaTopicStore;
+                    });
             });
     }
 
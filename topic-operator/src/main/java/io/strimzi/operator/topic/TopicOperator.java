@@ -46,6 +46,7 @@ import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
 class TopicOperator {
@@ -61,6 +62,12 @@ class TopicOperator {
     private TopicStore topicStore;
     private final Config config;
     private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    /**
+     * The topics written to the topic store since each of the running periodic reconciliations read the whole store,
+     * so that they don't use their copy of those topics
+     */
+    private final Set<Set<TopicName>> storeWrites = ConcurrentHashMap.newKeySet();
+    private final EventRecorder eventRecorder;
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
@@ -123,7 +130,7 @@ class TopicOperator {
                     LOGGER.warn("{}", message);
                     break;
             }
-            k8s.createEvent(event).onComplete(handler);
+            eventRecorder.record(event).onComplete(handler);
         }
 
         public String toString() {
@@ -384,6 +391,9 @@ class TopicOperator {
         this.namespace = namespace;
         this.config = config;
         this.metrics = metrics;
+        this.eventRecorder = new EventRecorder(vertx, k8s, metrics,
+                config.get(Config.EVENT_FLUSH_INTERVAL_MS),
+                config.get(Config.EVENT_RATE_LIMIT_PER_SECOND));
 
         initMetrics();
     }
@@ -762,8 +772,19 @@ class TopicOperator {
     }
 
 
+    /**
+     * Whether the given topic is the topic of the {@link KafkaTopicStore}, which isn't mirrored to a KafkaTopic.
+     */
+    private boolean isStoreTopic(TopicName topicName) {
+        return config.get(Config.TOPIC_STORE) == Config.TopicStoreType.KAFKA
+                && topicName.toString().equals(config.get(Config.STORE_TOPIC));
+    }
+
     /** Called when a topic znode is deleted in ZK */
     Future<Void> onTopicDeleted(LogContext logContext, TopicName topicName) {
+        if (isStoreTopic(topicName)) {
+            return Future.succeededFuture();
+        }
         return executeWithTopicLockHeld(logContext, topicName,
             new Reconciliation("onTopicDeleted") {
                 @Override
@@ -779,6 +800,9 @@ class TopicOperator {
      * Called when ZK watch notifies of change to topic's config
      */
     Future<Void> onTopicConfigChanged(LogContext logContext, TopicName topicName) {
+        if (isStoreTopic(topicName)) {
+            return Future.succeededFuture();
+        }
         return executeWithTopicLockHeld(logContext, topicName,
                 new Reconciliation("onTopicConfigChanged") {
                     @Override
@@ -796,6 +820,9 @@ class TopicOperator {
      * Called when ZK watch notifies of a change to the topic's partitions
      */
     Future<Void> onTopicPartitionsChanged(LogContext logContext, TopicName topicName) {
+        if (isStoreTopic(topicName)) {
+            return Future.succeededFuture();
+        }
         Reconciliation action = new Reconciliation("onTopicPartitionsChanged") {
             @Override
             public Future<Void> execute() {
@@ -864,6 +891,9 @@ class TopicOperator {
 
     /** Called when a topic znode is created in ZK */
     Future<Void> onTopicCreated(LogContext logContext, TopicName topicName) {
+        if (isStoreTopic(topicName)) {
+            return Future.succeededFuture();
+        }
         // XXX currently runs on the ZK thread, requiring a synchronized inFlight
         // is it better to put this check in the topic deleted event?
         Reconciliation action = new Reconciliation("onTopicCreated") {
@@ -1081,6 +1111,7 @@ class TopicOperator {
         @Override
         public void handle(Void v) throws OperatorException {
             topicStore.update(topic).onComplete(ar -> {
+                storeWritten(topic.getTopicName());
                 if (ar.failed()) {
                     enqueue(new Event(involvedObject, ar.cause().toString(), EventType.WARNING, eventResult -> { }));
                 }
@@ -1119,6 +1150,7 @@ class TopicOperator {
             LOGGER.debug("Executing {}", this);
             topicStore.create(topic).onComplete(ar -> {
                 LOGGER.debug("Completing {}", this);
+                storeWritten(topic.getTopicName());
                 if (ar.failed()) {
                     LOGGER.debug("{} failed", this);
                     enqueue(new Event(involvedObject, ar.cause().toString(), EventType.WARNING, eventResult -> { }));
@@ -1159,6 +1191,7 @@ class TopicOperator {
         @Override
         public void handle(Void v) throws OperatorException {
             topicStore.delete(topicName).onComplete(ar -> {
+                storeWritten(topicName);
                 if (ar.failed()) {
                     enqueue(new Event(involvedObject, ar.cause().toString(), EventType.WARNING, eventResult -> { }));
                 }
@@ -1172,6 +1205,12 @@ class TopicOperator {
         }
     }
 
+    private void storeWritten(TopicName topicName) {
+        for (Set<TopicName> written : storeWrites) {
+            written.add(topicName);
+        }
+    }
+
     public boolean isWorkInflight() {
         LOGGER.debug("Outstanding: {}", inflight);
         return inflight.size() > 0;
@@ -1217,7 +1256,10 @@ class TopicOperator {
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
         )).compose(topicNamesFromKafka ->
                 // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
+                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream()
+                        .map(TopicName::new)
+                        .filter(topicName -> !isStoreTopic(topicName))
+                        .collect(Collectors.toList()))
         ).compose(reconcileState -> {
             Future<List<KafkaTopic>> ktFut = k8s.listResources();
             return ktFut.recover(ex -> Future.failedFuture(
@@ -1270,7 +1312,7 @@ class TopicOperator {
                         @Override
                         public Future<Void> execute() {
                             observedTopicFuture(null);
-                            return getKafkaAndReconcile(this, logContext, tn, null, null);
+                            return getKafkaAndReconcile(this, logContext, tn, null, null, null);
                         }
                     }));
                 }
@@ -1292,46 +1334,81 @@ class TopicOperator {
 
         final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
         if (topicsFromKafka.size() > 0) {
-            List<Future<Void>> futures = new ArrayList<>();
-            for (TopicName topicName : topicsFromKafka) {
-                LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName);
-                futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka") {
-                    @Override
-                    public Future<Void> execute() {
-                        return getFromTopicStore(topicName).recover(error -> {
-                            failed.put(topicName,
-                                    new OperatorException("Error getting topic " + topicName + " from topic store during "
-                                            + reconciliationType + " reconciliation", error));
-                            return Future.succeededFuture();
-                        }).compose(topic -> {
-                            if (topic == null) {
-                                LOGGER.debug("{}: No private topic for topic {} in Kafka -> undetermined", logContext, topicName);
-                                undetermined.add(topicName);
-                                return Future.succeededFuture();
-                            } else {
-                                LOGGER.debug("{}: Have private topic for topic {} in Kafka", logContext, topicName);
-                                return reconcileWithPrivateTopic(logContext, topicName, topic, this)
-                                        .<Void>map(ignored -> {
-                                            LOGGER.debug("{} reconcile success -> succeeded", topicName);
-                                            succeeded.add(topicName);
-                                            return null;
-                                        }).recover(error -> {
-                                            LOGGER.debug("{} reconcile error -> failed", topicName);
-                                            failed.put(topicName, error);
-                                            return Future.failedFuture(error);
-                                        });
-                            }
-                        });
-
-                    }
-                }));
-            }
-            return join(futures).map(state);
+            // Describe the topics in bulk rather than one AdminClient round trip per topic
+            Future<Map<TopicName, TopicMetadata>> metadataFuture = kafka.topicMetadata(topicsFromKafka)
+                .recover(error -> {
+                    LOGGER.warn("Error getting metadata of {} topics during {} reconciliation, falling back to getting it per topic",
+                            topicsFromKafka.size(), reconciliationType, error);
+                    return Future.succeededFuture(emptyMap());
+                });
+            // Read the whole topic store at once rather than one read per topic.
+            // The topics written after it was read are still read per topic.
+            Set<TopicName> written = ConcurrentHashMap.newKeySet();
+            storeWrites.add(written);
+            Future<Map<TopicName, Topic>> storeFuture = topicStore.readAll()
+                .recover(error -> {
+                    LOGGER.warn("Error reading the topic store during {} reconciliation, falling back to reading it per topic",
+                            reconciliationType, error);
+                    return Future.succeededFuture(null);
+                });
+            return CompositeFuture.all(metadataFuture, storeFuture)
+                .compose(ignored -> reconcileFromKafka(reconciliationType, topicsFromKafka, metadataFuture.result(),
+                        storeFuture.result(), written, state))
+                .onComplete(ignored -> storeWrites.remove(written));
         } else {
             return Future.succeededFuture(state);
         }
+    }
 
+    /**
+     * Reconcile the given topics using the {@code metadata} fetched from Kafka in bulk, where it is still current,
+     * and the {@code storeTopics} read from the topic store in bulk (which might be null), except for the
+     * {@code written} topics.
+     */
+    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka,
+                                                      Map<TopicName, TopicMetadata> metadata, Map<TopicName, Topic> storeTopics,
+                                                      Set<TopicName> written, ReconcileState state) {
+        Set<TopicName> succeeded = state.succeeded;
+        Set<TopicName> undetermined = state.undetermined;
+        Map<TopicName, Throwable> failed = state.failed;
+        List<Future<Void>> futures = new ArrayList<>();
+        for (TopicName topicName : topicsFromKafka) {
+            LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName);
+            futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation("reconcile-from-kafka") {
+                @Override
+                public Future<Void> execute() {
+                    Future<Topic> storeTopic = storeTopics != null && !written.contains(topicName)
+                            ? Future.succeededFuture(storeTopics.get(topicName))
+                            : getFromTopicStore(topicName);
+                    return storeTopic.recover(error -> {
+                        failed.put(topicName,
+                                new OperatorException("Error getting topic " + topicName + " from topic store during "
+                                        + reconciliationType + " reconciliation", error));
+                        return Future.succeededFuture();
+                    }).compose(topic -> {
+                        if (topic == null) {
+                            LOGGER.debug("{}: No private topic for topic {} in Kafka -> undetermined", logContext, topicName);
+                            undetermined.add(topicName);
+                            return Future.succeededFuture();
+                        } else {
+                            LOGGER.debug("{}: Have private topic for topic {} in Kafka", logContext, topicName);
+                            return reconcileWithPrivateTopic(logContext, topicName, topic, metadata.get(topicName), this)
+                                    .<Void>map(ignored -> {
+                                        LOGGER.debug("{} reconcile success -> succeeded", topicName);
+                                        succeeded.add(topicName);
+                                        return null;
+                                    }).recover(error -> {
+                                        LOGGER.debug("{} reconcile error -> failed", topicName);
+                                        failed.put(topicName, error);
+                                        return Future.failedFuture(error);
+                                    });
+                        }
+                    });
 
+                }
+            }));
+        }
+        return join(futures).map(state);
     }
 
     @SuppressWarnings("unchecked")
@@ -1342,9 +1419,11 @@ class TopicOperator {
 
     /**
      * Reconcile the given topic which has the given {@code privateTopic} in the topic store.
+     * The {@code prefetchedMetadata} (which might be null) is the metadata of the topic fetched from Kafka
+     * before the topic lock was acquired.
      */
     private Future<Void> reconcileWithPrivateTopic(LogContext logContext, TopicName topicName,
-                                                   Topic privateTopic,
+                                                   Topic privateTopic, TopicMetadata prefetchedMetadata,
                                                    Reconciliation reconciliation) {
         return k8s.getFromName(privateTopic.getResourceName())
             .recover(error -> {
@@ -1355,17 +1434,24 @@ class TopicOperator {
             })
             .compose(kafkaTopicResource -> {
                 reconciliation.observedTopicFuture(kafkaTopicResource);
-                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource);
+                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, prefetchedMetadata, kafkaTopicResource);
             });
     }
 
     private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
-                                              Topic privateTopic, KafkaTopic kafkaTopicResource) {
+                                              Topic privateTopic, TopicMetadata prefetchedMetadata, KafkaTopic kafkaTopicResource) {
         logContext.withKubeTopic(kafkaTopicResource);
         Promise<Void> topicPromise = Promise.promise();
         try {
             Topic k8sTopic = kafkaTopicResource != null ? TopicSerialization.fromTopicResource(kafkaTopicResource) : null;
-            kafka.topicMetadata(topicName)
+            Future<TopicMetadata> metadataFuture;
+            if (isInSync(privateTopic, k8sTopic, prefetchedMetadata)) {
+                LOGGER.debug("{}: Using prefetched metadata for topic {}", logContext, topicName);
+                metadataFuture = Future.succeededFuture(prefetchedMetadata);
+            } else {
+                metadataFuture = kafka.topicMetadata(topicName);
+            }
+            metadataFuture
                 .compose(kafkaTopicMeta -> {
                     Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
@@ -1392,6 +1478,23 @@ class TopicOperator {
         return topicPromise.future();
     }
 
+    /**
+     * The metadata prefetched from Kafka might be stale by the time the topic lock is held.
+     * It is used only when it shows the topic unchanged with respect to both the topic store and Kubernetes,
+     * in which case the reconciliation has nothing to change in Kafka.
+     * Otherwise the metadata is fetched again so that no change is based on stale state.
+     */
+    private static boolean isInSync(Topic privateTopic, Topic k8sTopic, TopicMetadata prefetchedMetadata) {
+        if (privateTopic == null || k8sTopic == null || prefetchedMetadata == null) {
+            return false;
+        }
+        Topic kafkaTopic = TopicSerialization.fromTopicMetadata(prefetchedMetadata);
+        return privateTopic.getTopicName().equals(kafkaTopic.getTopicName())
+                && privateTopic.getTopicName().equals(k8sTopic.getTopicName())
+                && TopicDiff.diff(privateTopic, kafkaTopic).isEmpty()
+                && TopicDiff.diff(privateTopic, k8sTopic).isEmpty();
+    }
+
     Future<Topic> getFromKafka(TopicName topicName) {
         return kafka.topicMetadata(topicName).map(TopicSerialization::fromTopicMetadata);
     }
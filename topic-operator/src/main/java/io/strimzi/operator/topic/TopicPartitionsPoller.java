@@ -0,0 +1,140 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detects changes in the number of partitions of topics by periodically comparing the partition counts
+ * reported by the Kafka Admin API with a snapshot of the previous counts,
+ * calling {@link TopicOperator#onTopicPartitionsChanged(LogContext, TopicName)} for changed topics.
+ * Changes to the children of {@code /admin} (such as partition reassignments) trigger an early comparison.
+ *
+ * Unlike {@link ZkTopicWatcher} it doesn't watch the znode of each topic,
+ * so it holds a single ZooKeeper watch however many topics there are.
+ */
+class TopicPartitionsPoller extends ZkTopicWatcher {
+
+    private static final String ADMIN_ZNODE = "/admin";
+
+    private final Vertx vertx;
+    private final Kafka kafka;
+    private final long pollIntervalMs;
+
+    /** The number of partitions of each topic, or -1 when it's not known yet */
+    private final ConcurrentHashMap<TopicName, Integer> snapshot = new ConcurrentHashMap<>();
+
+    private volatile Zk zk;
+    private volatile long timerId = -1;
+    private boolean polling = false;
+    private boolean pollAgain = false;
+
+    /**
+     * Constructor
+     *
+     * @param topicOperator     Operator instance to notify
+     * @param vertx             Vertx instance
+     * @param kafka             Used for getting the partition counts
+     * @param pollIntervalMs    Interval between the comparisons
+     */
+    TopicPartitionsPoller(TopicOperator topicOperator, Vertx vertx, Kafka kafka, long pollIntervalMs) {
+        super(topicOperator);
+        this.vertx = vertx;
+        this.kafka = kafka;
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    @Override
+    protected void start(Zk zk) {
+        super.start(zk);
+        this.zk = zk;
+        zk.watchChildren(ADMIN_ZNODE, childResult -> {
+            if (!started()) {
+                zk.unwatchChildren(ADMIN_ZNODE);
+                return;
+            }
+            if (childResult.failed()) {
+                log.error("Error on znode {} children", ADMIN_ZNODE, childResult.cause());
+                return;
+            }
+            log.debug("znode {} now has children {}", ADMIN_ZNODE, childResult.result());
+            poll();
+        });
+        timerId = vertx.setPeriodic(pollIntervalMs, id -> poll());
+    }
+
+    @Override
+    protected void stop() {
+        super.stop();
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+        }
+        if (zk != null) {
+            zk.unwatchChildren(ADMIN_ZNODE);
+        }
+    }
+
+    @Override
+    protected void addChild(String child) {
+        // The number of partitions is learned on the next comparison
+        snapshot.putIfAbsent(new TopicName(child), -1);
+    }
+
+    @Override
+    protected void removeChild(String child) {
+        snapshot.remove(new TopicName(child));
+    }
+
+    @Override
+    protected boolean watching(String child) {
+        return snapshot.containsKey(new TopicName(child));
+    }
+
+    /**
+     * Compares the current partition counts with the snapshot, notifying the operator about the topics which changed.
+     * When a comparison is already running, another one is done once it completes.
+     *
+     * @return A future which completes when this comparison has completed.
+     */
+    Future<Void> poll() {
+        synchronized (this) {
+            if (polling) {
+                pollAgain = true;
+                return Future.succeededFuture();
+            }
+            polling = true;
+        }
+
+        List<TopicName> topicNames = new ArrayList<>(snapshot.keySet());
+        log.debug("Comparing the partitions of {} topics", topicNames.size());
+        return kafka.numPartitions(topicNames).<Void>map(numPartitions -> {
+            for (Map.Entry<TopicName, Integer> entry : numPartitions.entrySet()) {
+                Integer previous = snapshot.replace(entry.getKey(), entry.getValue());
+                if (previous != null && previous != -1 && !previous.equals(entry.getValue())) {
+                    notifyOperator(entry.getKey().toString());
+                }
+            }
+            return null;
+        }).recover(error -> {
+            log.warn("Error getting the number of partitions of topics", error);
+            return Future.succeededFuture();
+        }).compose(ignored -> {
+            boolean again;
+            synchronized (this) {
+                polling = false;
+                again = pollAgain && started();
+                pollAgain = false;
+            }
+            return again ? poll() : Future.succeededFuture();
+        });
+    }
+}
@@ -6,6 +6,8 @@ package io.strimzi.operator.topic;
 
 import io.vertx.core.Future;
 
+import java.util.Map;
+
 /**
  * Represents a persistent data store where the operator can store its copy of the
  * topic state that won't be modified by either K8S or Kafka.
@@ -30,6 +32,13 @@ interface TopicStore {
      */
     Future<Topic> read(TopicName name);
 
+    /**
+     * Asynchronously get all the topics in the store
+     * completing the returned future when done.
+     * @return A future which completes with the topics, keyed by their name.
+     */
+    Future<Map<TopicName, Topic>> readAll();
+
     /**
      * Asynchronously persist the given topic in the store
      * completing the returned future when done.
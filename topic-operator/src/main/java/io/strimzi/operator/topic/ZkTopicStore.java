@@ -8,29 +8,97 @@ import io.strimzi.operator.topic.zk.AclBuilder;
 import io.strimzi.operator.topic.zk.Zk;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import org.I0Itec.zkclient.exception.ZkNoNodeException;
 import org.I0Itec.zkclient.exception.ZkNodeExistsException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.Op;
 import org.apache.zookeeper.data.ACL;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.emptyMap;
 
 /**
- * Implementation of {@link TopicStore} that stores the topic state in ZooKeeper.
+ * <p>Implementation of {@link TopicStore} that stores the topic state in ZooKeeper.</p>
+ *
+ * <p>The store keeps an in-memory snapshot of the topics. The snapshot is loaded by {@link #readAll()}
+ * (which pipelines the reads, so it takes a constant number of round trips regardless of the number of topics),
+ * updated by the writes made through this store and invalidated by changes to the children of the topics path
+ * made by anyone else. {@link #readAll()} also sets a data watch on each topic: once a topic's watch fires, the topic
+ * is read from ZooKeeper until the next {@link #readAll()}. Reads are served from the snapshot whenever it is known
+ * to be current.</p>
+ *
+ * <p>Writes are pipelined: while a write is in progress, the following writes are queued and then sent
+ * together in a single ZooKeeper {@code multi} request.</p>
  */
 public class ZkTopicStore implements TopicStore {
 
     private final static Logger LOGGER = LogManager.getLogger(ZkTopicStore.class);
 
+    /**
+     * The maximum number of writes sent in a single multi request.
+     * Keeps the request well below the default ZooKeeper {@code jute.maxbuffer}.
+     */
+    static final int MAX_WRITE_BATCH_SIZE = 100;
+
     private final String topicsPath;
 
     private final Zk zk;
 
     private final List<ACL> acl;
 
+    private final Map<TopicName, Topic> snapshot = new ConcurrentHashMap<>();
+
+    /**
+     * The sequence number of the last write of each topic, so that a {@link #readAll()} which started
+     * before a write completed doesn't overwrite the written topic in the snapshot.
+     */
+    private final Map<TopicName, Long> lastWrites = new ConcurrentHashMap<>();
+
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    /**
+     * The topics whose data watch has fired, with the sequence number at the time it fired.
+     * They aren't kept in the snapshot, because changes made to them by anyone else wouldn't be noticed.
+     */
+    private final Map<TopicName, Long> unwatched = new ConcurrentHashMap<>();
+
+    /**
+     * The sequence number at which the data watches of all the topics might have been lost, or -1 if they weren't.
+     * No topic is watched until the next {@link #readAll()} sets the watches again.
+     */
+    private final AtomicLong watchesLost = new AtomicLong(-1);
+
+    /**
+     * The same watcher is passed to every {@link #readAll()}, so that the topics don't get one more watch each time
+     */
+    private final Handler<String> dataWatcher = this::dataChanged;
+
+    /**
+     * Whether the snapshot contains all the topics in the store, in which case a topic missing
+     * from the snapshot doesn't exist.
+     */
+    private volatile boolean snapshotComplete = false;
+
+    private final Deque<Write> pendingWrites = new ArrayDeque<>();
+
+    private boolean writing = false;
+
+    private volatile boolean closed = false;
+
     public ZkTopicStore(Zk zk, String topicsPath) {
         this.zk = zk;
         this.topicsPath = topicsPath;
@@ -53,10 +121,73 @@ public class ZkTopicStore implements TopicStore {
                         throw new RuntimeException(result2.cause());
                     }
                 }
+                watchTopicsPath();
             });
         });
     }
 
+    private void watchTopicsPath() {
+        zk.watchChildren(topicsPath, this::childrenChanged).onComplete(result -> {
+            if (closed) {
+                // Closed while the watch was being set
+                zk.unwatchChildren(topicsPath);
+            } else if (result.succeeded()) {
+                zk.children(topicsPath, children -> {
+                    if (children.failed()) {
+                        LOGGER.warn("Error listing {}", topicsPath, children.cause());
+                    }
+                });
+            } else {
+                LOGGER.warn("Error watching {}, topics will always be read from ZooKeeper", topicsPath, result.cause());
+            }
+        });
+    }
+
+    /**
+     * Stops watching the topics path. The store can still be read, but every read goes to ZooKeeper.
+     */
+    public void close() {
+        closed = true;
+        snapshotComplete = false;
+        zk.unwatchChildren(topicsPath);
+    }
+
+    /**
+     * Topics created or deleted by anyone else make the snapshot incomplete until the next {@link #readAll()}.
+     */
+    private void childrenChanged(AsyncResult<List<String>> result) {
+        if (result.failed() || result.result() == null) {
+            snapshotComplete = false;
+            snapshot.clear();
+            return;
+        }
+        Set<TopicName> children = new HashSet<>(result.result().size());
+        for (String child : result.result()) {
+            children.add(new TopicName(child));
+        }
+        if (!snapshot.keySet().equals(children)) {
+            LOGGER.debug("Children of {} changed, invalidating the snapshot", topicsPath);
+            snapshotComplete = false;
+            snapshot.keySet().retainAll(children);
+        }
+    }
+
+    /**
+     * The data watch of the given topic fired (or the watches of all the topics if the {@code child} is null),
+     * so its data in the snapshot can't be trusted anymore.
+     */
+    private void dataChanged(String child) {
+        if (child == null) {
+            LOGGER.debug("Data watches of {} might have been lost, clearing the snapshot", topicsPath);
+            watchesLost.set(writeSequence.incrementAndGet());
+            snapshot.clear();
+            return;
+        }
+        TopicName topicName = new TopicName(child);
+        LOGGER.debug("Data of {} changed, removing it from the snapshot", getTopicPath(topicName));
+        unwatched.put(topicName, writeSequence.incrementAndGet());
+        snapshot.remove(topicName);
+    }
 
     private String getTopicPath(TopicName name) {
         return topicsPath + "/" + name;
@@ -64,12 +195,23 @@ public class ZkTopicStore implements TopicStore {
 
     @Override
     public Future<Topic> read(TopicName topicName) {
+        Topic cached = snapshot.get(topicName);
+        boolean watched = !unwatched.containsKey(topicName) && watchesLost.get() == -1;
+        if (cached != null || (snapshotComplete && watched)) {
+            return Future.succeededFuture(cached);
+        }
+
         Promise<Topic> handler = Promise.promise();
         String topicPath = getTopicPath(topicName);
+        long sequence = writeSequence.get();
         zk.getData(topicPath, result -> {
             final AsyncResult<Topic> fut;
             if (result.succeeded()) {
-                fut = Future.succeededFuture(TopicSerialization.fromJson(result.result()));
+                Topic topic = TopicSerialization.fromJson(result.result());
+                if (watched && !writtenAfter(topicName, sequence)) {
+                    snapshot.put(topicName, topic);
+                }
+                fut = Future.succeededFuture(topic);
             } else {
                 if (result.cause() instanceof ZkNoNodeException) {
                     fut = Future.succeededFuture(null);
@@ -83,45 +225,212 @@ public class ZkTopicStore implements TopicStore {
     }
 
     @Override
-    public Future<Void> create(Topic topic) {
-        Promise<Void> handler = Promise.promise();
-        byte[] data = TopicSerialization.toJson(topic);
-        String topicPath = getTopicPath(topic.getTopicName());
-        LOGGER.debug("create znode {}", topicPath);
-        zk.create(topicPath, data, acl, CreateMode.PERSISTENT, result -> {
-            if (result.failed() && result.cause() instanceof ZkNodeExistsException) {
-                handler.handle(Future.failedFuture(new EntityExistsException()));
+    public Future<Map<TopicName, Topic>> readAll() {
+        Promise<Map<String, byte[]>> handler = Promise.promise();
+        long sequence = writeSequence.get();
+        zk.childrenData(topicsPath, dataWatcher, handler);
+        return handler.future().recover(error -> {
+            if (error instanceof ZkNoNodeException) {
+                // The topics path has not been created yet
+                return Future.succeededFuture(emptyMap());
             } else {
-                handler.handle(result);
+                return Future.failedFuture(error);
+            }
+        }).map(children -> {
+            Map<TopicName, Topic> topics = new HashMap<>(children.size());
+            for (Map.Entry<String, byte[]> child : children.entrySet()) {
+                topics.put(new TopicName(child.getKey()), TopicSerialization.fromJson(child.getValue()));
             }
+
+            snapshot.keySet().removeIf(topicName -> !topics.containsKey(topicName) && !writtenAfter(topicName, sequence));
+            // The topics read are watched again, unless their watch fired after they were read
+            unwatched.values().removeIf(changed -> changed <= sequence);
+            boolean lost = watchesLost.updateAndGet(lostAt -> lostAt <= sequence ? -1 : lostAt) != -1;
+            for (Map.Entry<TopicName, Topic> topic : topics.entrySet()) {
+                if (!lost && !writtenAfter(topic.getKey(), sequence) && !unwatched.containsKey(topic.getKey())) {
+                    snapshot.put(topic.getKey(), topic.getValue());
+                }
+            }
+            snapshotComplete = true;
+            LOGGER.debug("Read {} topics from {}", topics.size(), topicsPath);
+            return topics;
         });
-        return handler.future();
+    }
+
+    private boolean writtenAfter(TopicName topicName, long sequence) {
+        Long lastWrite = lastWrites.get(topicName);
+        return lastWrite != null && lastWrite > sequence;
+    }
+
+    @Override
+    public Future<Void> create(Topic topic) {
+        return write(new Write(WriteType.CREATE, topic.getTopicName(), topic));
     }
 
     @Override
     public Future<Void> update(Topic topic) {
-        Promise<Void> handler = Promise.promise();
-        byte[] data = TopicSerialization.toJson(topic);
-        // TODO pass a non-zero version
-        String topicPath = getTopicPath(topic.getTopicName());
-        LOGGER.debug("update znode {}", topicPath);
-        zk.setData(topicPath, data, -1, handler);
-        return handler.future();
+        return write(new Write(WriteType.UPDATE, topic.getTopicName(), topic));
     }
 
     @Override
     public Future<Void> delete(TopicName topicName) {
+        return write(new Write(WriteType.DELETE, topicName, null));
+    }
+
+    private Future<Void> write(Write write) {
+        boolean flush;
+        synchronized (pendingWrites) {
+            pendingWrites.add(write);
+            flush = !writing;
+            writing = true;
+        }
+        if (flush) {
+            flushWrites();
+        }
+        return write.promise.future();
+    }
+
+    /**
+     * Sends the queued writes, and once they complete, the writes queued in the meantime.
+     */
+    private void flushWrites() {
+        List<Write> batch = new ArrayList<>();
+        synchronized (pendingWrites) {
+            while (!pendingWrites.isEmpty() && batch.size() < MAX_WRITE_BATCH_SIZE) {
+                batch.add(pendingWrites.poll());
+            }
+            if (batch.isEmpty()) {
+                writing = false;
+                return;
+            }
+        }
+
+        Future<Void> result = batch.size() == 1 ? writeOne(batch.get(0)) : writeBatch(batch);
+        result.onComplete(ignored -> flushWrites());
+    }
+
+    private Future<Void> writeBatch(List<Write> batch) {
         Promise<Void> handler = Promise.promise();
-        // TODO pass a non-zero version
-        String topicPath = getTopicPath(topicName);
-        LOGGER.debug("delete znode {}", topicPath);
-        zk.delete(topicPath, -1, result -> {
-            if (result.failed() && result.cause() instanceof ZkNoNodeException) {
-                handler.handle(Future.failedFuture(new NoSuchEntityExistsException()));
+        List<Op> ops = new ArrayList<>(batch.size());
+        for (Write write : batch) {
+            ops.add(write.op(this));
+        }
+        LOGGER.debug("multi with {} znode writes", ops.size());
+        zk.multi(ops, result -> {
+            if (result.succeeded()) {
+                for (Write write : batch) {
+                    written(write);
+                    write.promise.complete();
+                }
+                handler.complete();
             } else {
-                handler.handle(result);
+                // Nothing has been applied, so write them one by one to find out which one failed
+                LOGGER.debug("multi with {} znode writes failed, retrying them one by one", ops.size(), result.cause());
+                Future<Void> writes = Future.succeededFuture();
+                for (Write write : batch) {
+                    writes = writes.compose(ignored -> writeOne(write).otherwiseEmpty());
+                }
+                writes.onComplete(handler);
             }
         });
         return handler.future();
     }
+
+    private Future<Void> writeOne(Write write) {
+        Promise<Void> handler = Promise.promise();
+        String topicPath = getTopicPath(write.topicName);
+        switch (write.type) {
+            case CREATE:
+                LOGGER.debug("create znode {}", topicPath);
+                zk.create(topicPath, TopicSerialization.toJson(write.topic), acl, CreateMode.PERSISTENT, result -> {
+                    if (result.failed() && result.cause() instanceof ZkNodeExistsException) {
+                        handler.handle(Future.failedFuture(new EntityExistsException()));
+                    } else {
+                        handler.handle(result);
+                    }
+                });
+                break;
+            case UPDATE:
+                // TODO pass a non-zero version
+                LOGGER.debug("update znode {}", topicPath);
+                zk.setData(topicPath, TopicSerialization.toJson(write.topic), -1, handler);
+                break;
+            case DELETE:
+                // TODO pass a non-zero version
+                LOGGER.debug("delete znode {}", topicPath);
+                zk.delete(topicPath, -1, result -> {
+                    if (result.failed() && result.cause() instanceof ZkNoNodeException) {
+                        handler.handle(Future.failedFuture(new NoSuchEntityExistsException()));
+                    } else {
+                        handler.handle(result);
+                    }
+                });
+                break;
+            default:
+                handler.fail(new IllegalStateException("Unknown write " + write.type));
+        }
+
+        return handler.future().onComplete(result -> {
+            if (result.succeeded()) {
+                written(write);
+            } else {
+                failed(write);
+            }
+            write.promise.handle(result);
+        });
+    }
+
+    private void written(Write write) {
+        lastWrites.put(write.topicName, writeSequence.incrementAndGet());
+        if (write.type == WriteType.DELETE || unwatched.containsKey(write.topicName)) {
+            snapshot.remove(write.topicName);
+        } else {
+            snapshot.put(write.topicName, write.topic);
+        }
+    }
+
+    /**
+     * After a failed write we don't know the state of the topic in ZooKeeper anymore.
+     */
+    private void failed(Write write) {
+        lastWrites.put(write.topicName, writeSequence.incrementAndGet());
+        snapshotComplete = false;
+        snapshot.remove(write.topicName);
+    }
+
+    private enum WriteType {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    /**
+     * A write waiting to be sent to ZooKeeper.
+     */
+    private static class Write {
+        private final WriteType type;
+        private final TopicName topicName;
+        private final Topic topic;
+        private final Promise<Void> promise = Promise.promise();
+
+        private Write(WriteType type, TopicName topicName, Topic topic) {
+            this.type = type;
+            this.topicName = topicName;
+            this.topic = topic;
+        }
+
+        private Op op(ZkTopicStore store) {
+            String topicPath = store.getTopicPath(topicName);
+            switch (type) {
+                case CREATE:
+                    return Op.create(topicPath, TopicSerialization.toJson(topic), store.acl, CreateMode.PERSISTENT);
+                case UPDATE:
+                    return Op.setData(topicPath, TopicSerialization.toJson(topic), -1);
+                case DELETE:
+                    return Op.delete(topicPath, -1);
+                default:
+                    throw new IllegalStateException("Unknown write " + type);
+            }
+        }
+    }
 }
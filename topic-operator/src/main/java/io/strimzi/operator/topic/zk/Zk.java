@@ -9,11 +9,14 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.ZkConnection;
 import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.Op;
 import org.apache.zookeeper.data.ACL;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * A vert.X-style ZooKeeper client interface.
@@ -33,9 +36,10 @@ public interface Zk {
     }
 
     static Zk createSync(Vertx vertx, String zkConnectionString, int sessionTimeout, int connectionTimeout) {
+        ZkConnection connection = new ZkConnection(zkConnectionString, sessionTimeout);
         return new ZkImpl(vertx,
-                new ZkClient(zkConnectionString, sessionTimeout, connectionTimeout,
-                        new BytesPushThroughSerializer()));
+                new ZkClient(connection, connectionTimeout, new BytesPushThroughSerializer()),
+                connection, sessionTimeout);
     }
 
     /**
@@ -135,7 +139,34 @@ public interface Zk {
      */
     Zk unwatchData(String path);
 
-    // TODO getAcl(), setAcl(), multi()
+    /**
+     * Asynchronously fetch the data of all the children of the znode at the given {@code path}, calling the given
+     * handler with a map of child name to data.
+     * The data requests are pipelined, so the whole operation takes a round trip for listing the children
+     * and roughly one more for their data, rather than one round trip per child.
+     * Children which are deleted while the operation is in progress are not present in the result.
+     * If a {@code dataWatcher} is given, a one-time data watch is set on each child by the same requests, and the
+     * watcher is called with the name of the child when its data changes or it is deleted, or with null when
+     * the watches of all the children might have been lost. The same {@code dataWatcher} instance should be passed
+     * every time, so that reading the children again doesn't add another watch to each of them.
+     * @param path The path.
+     * @param dataWatcher The data watcher, or null for no data watches.
+     * @param handler The result handler.
+     * @return This instance.
+     */
+    Zk childrenData(String path, Handler<String> dataWatcher, Handler<AsyncResult<Map<String, byte[]>>> handler);
+
+    /**
+     * Asynchronously and atomically execute the given operations in a single transaction,
+     * then invoke the given handler with the result.
+     * Either all the operations succeed or none of them is applied.
+     * @param ops The operations.
+     * @param handler The result handler.
+     * @return This instance.
+     */
+    Zk multi(List<Op> ops, Handler<AsyncResult<Void>> handler);
+
+    // TODO getAcl(), setAcl()
 
 }
 
@@ -13,14 +13,25 @@ import io.vertx.core.WorkerExecutor;
 import org.I0Itec.zkclient.IZkChildListener;
 import org.I0Itec.zkclient.IZkDataListener;
 import org.I0Itec.zkclient.ZkClient;
+import org.I0Itec.zkclient.ZkConnection;
 import org.I0Itec.zkclient.exception.ZkNoNodeException;
+import org.I0Itec.zkclient.exception.ZkTimeoutException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.Watcher;
+import org.apache.zookeeper.ZooKeeper;
 import org.apache.zookeeper.data.ACL;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Implementation of {@link Zk}
@@ -35,15 +46,36 @@ public class ZkImpl implements Zk {
     }
     private final Vertx vertx;
     private final ZkClient zookeeper;
+    private final ZkConnection connection;
+    private final long requestTimeoutMs;
 
     // Only accessed on the vertx context.
 
     private final ConcurrentHashMap<String, IZkDataListener> dataWatches = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, IZkChildListener> childWatches = new ConcurrentHashMap<>();
+    /**
+     * The ZooKeeper watcher of each data watcher passed to {@link #childrenData(String, Handler, Handler)}.
+     * ZooKeeper keeps each watcher instance only once per path, so reading the same children again doesn't add watches.
+     */
+    private final ConcurrentHashMap<Handler<String>, Watcher> childDataWatchers = new ConcurrentHashMap<>();
 
     public ZkImpl(Vertx vertx, ZkClient zkClient) {
+        this(vertx, zkClient, null, 0);
+    }
+
+    /**
+     * @param vertx The Vertx instance.
+     * @param zkClient The ZooKeeper client.
+     * @param connection The connection used by the {@code zkClient}, used for pipelining requests with the
+     *                   asynchronous ZooKeeper API. If null the requests are made one by one
+     *                   and {@link #childrenData(String, Handler, Handler)} doesn't set data watches.
+     * @param requestTimeoutMs How long to wait for the responses to the pipelined requests.
+     */
+    public ZkImpl(Vertx vertx, ZkClient zkClient, ZkConnection connection, long requestTimeoutMs) {
         this.vertx = vertx;
         this.zookeeper = zkClient;
+        this.connection = connection;
+        this.requestTimeoutMs = requestTimeoutMs;
     }
 
 
@@ -206,6 +238,90 @@ public class ZkImpl implements Zk {
 
     }
 
+    @Override
+    public Zk childrenData(String path, Handler<String> dataWatcher, Handler<AsyncResult<Map<String, byte[]>>> handler) {
+        workerPool().executeBlocking(
+            future -> {
+                try {
+                    List<String> children = zookeeper.getChildren(path);
+                    future.complete(connection != null ? pipelinedData(path, children, dataWatcher) : sequentialData(path, children));
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            },
+            handler);
+        return this;
+    }
+
+    private Map<String, byte[]> sequentialData(String path, List<String> children) {
+        Map<String, byte[]> result = new HashMap<>(children.size());
+        for (String child : children) {
+            byte[] data = zookeeper.readData(path + "/" + child, true);
+            if (data != null) {
+                result.put(child, data);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Issues the getData requests for all the children without waiting for the previous responses,
+     * so they are pipelined on the ZooKeeper connection. The data watches, if any, are set by the same requests.
+     */
+    private Map<String, byte[]> pipelinedData(String path, List<String> children, Handler<String> dataWatcher) throws KeeperException, InterruptedException {
+        Map<String, byte[]> result = new ConcurrentHashMap<>(children.size());
+        AtomicReference<KeeperException> error = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(children.size());
+        ZooKeeper zk = connection.getZookeeper();
+        Watcher watcher = dataWatcher == null ? null : childDataWatchers.computeIfAbsent(dataWatcher, ZkImpl::childDataWatcher);
+        for (String child : children) {
+            zk.getData(path + "/" + child, watcher, (rc, childPath, ctx, data, stat) -> {
+                KeeperException.Code code = KeeperException.Code.get(rc);
+                if (code == KeeperException.Code.OK) {
+                    result.put(child, data == null ? new byte[0] : data);
+                } else if (code != KeeperException.Code.NONODE) {
+                    error.compareAndSet(null, KeeperException.create(code, childPath));
+                }
+                latch.countDown();
+            }, null);
+        }
+        if (!latch.await(requestTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new ZkTimeoutException("Timed out after " + requestTimeoutMs + "ms reading the children of " + path);
+        }
+        if (error.get() != null) {
+            throw error.get();
+        }
+        return result;
+    }
+
+    private static Watcher childDataWatcher(Handler<String> dataWatcher) {
+        return event -> {
+            if (event.getType() != Watcher.Event.EventType.None) {
+                // The data changed or the node was deleted
+                String path = event.getPath();
+                dataWatcher.handle(path.substring(path.lastIndexOf('/') + 1));
+            } else if (event.getState() != Watcher.Event.KeeperState.SyncConnected) {
+                // Disconnected or session lost, so the data of any of the children might be unknown
+                dataWatcher.handle(null);
+            }
+        };
+    }
+
+    @Override
+    public Zk multi(List<Op> ops, Handler<AsyncResult<Void>> handler) {
+        workerPool().executeBlocking(
+            future -> {
+                try {
+                    zookeeper.multi(ops);
+                    future.complete();
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            },
+            handler);
+        return this;
+    }
+
     @Override
     public Future<Zk> watchChildren(String path, Handler<AsyncResult<List<String>>> watcher) {
         Promise<Zk> result = Promise.promise();
@@ -75,4 +75,79 @@ public class ConfigTest {
         Config c = new Config(map);
         assertThat(c.get(Config.TOPIC_METADATA_MAX_ATTEMPTS).intValue(), is(3));
     }
+
+    @Test
+    public void testTopicMetadataBatchSize() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.TOPIC_METADATA_BATCH_SIZE).intValue(), is(500));
+
+        map.put(Config.TC_TOPIC_METADATA_BATCH_SIZE, "100");
+        assertThat(new Config(map).get(Config.TOPIC_METADATA_BATCH_SIZE).intValue(), is(100));
+
+        map.put(Config.TC_TOPIC_METADATA_BATCH_SIZE, "0");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
+
+    @Test
+    public void testKubernetesConcurrency() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.KUBERNETES_MUTATION_CONCURRENCY).intValue(), is(10));
+        assertThat(new Config(map).get(Config.KUBERNETES_EVENT_CONCURRENCY).intValue(), is(2));
+
+        map.put(Config.TC_KUBERNETES_MUTATION_CONCURRENCY, "50");
+        map.put(Config.TC_KUBERNETES_EVENT_CONCURRENCY, "5");
+        assertThat(new Config(map).get(Config.KUBERNETES_MUTATION_CONCURRENCY).intValue(), is(50));
+        assertThat(new Config(map).get(Config.KUBERNETES_EVENT_CONCURRENCY).intValue(), is(5));
+
+        map.put(Config.TC_KUBERNETES_MUTATION_CONCURRENCY, "0");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
+
+    @Test
+    public void testEventRateLimit() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.EVENT_RATE_LIMIT_PER_SECOND).intValue(), is(5));
+        assertThat(new Config(map).get(Config.EVENT_FLUSH_INTERVAL_MS).longValue(), is(5000L));
+
+        map.put(Config.TC_EVENT_RATE_LIMIT_PER_SECOND, "20");
+        map.put(Config.TC_EVENT_FLUSH_INTERVAL_MS, "1000");
+        assertThat(new Config(map).get(Config.EVENT_RATE_LIMIT_PER_SECOND).intValue(), is(20));
+        assertThat(new Config(map).get(Config.EVENT_FLUSH_INTERVAL_MS).longValue(), is(1000L));
+
+        map.put(Config.TC_EVENT_RATE_LIMIT_PER_SECOND, "0");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
+
+    @Test
+    public void testTopicStore() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.TOPIC_STORE), is(Config.TopicStoreType.ZOOKEEPER));
+        assertThat(new Config(map).get(Config.STORE_TOPIC_REPLICATION_FACTOR), is(3));
+        assertThat(new Config(map).get(Config.STORE_TOPIC_MIN_INSYNC_REPLICAS), is(2));
+
+        map.put(Config.TC_TOPIC_STORE, "kafka");
+        map.put(Config.TC_STORE_TOPIC_REPLICATION_FACTOR, "1");
+        map.put(Config.TC_STORE_TOPIC_MIN_INSYNC_REPLICAS, "1");
+        assertThat(new Config(map).get(Config.TOPIC_STORE), is(Config.TopicStoreType.KAFKA));
+        assertThat(new Config(map).get(Config.STORE_TOPIC_REPLICATION_FACTOR), is(1));
+        assertThat(new Config(map).get(Config.STORE_TOPIC_MIN_INSYNC_REPLICAS), is(1));
+
+        map.put(Config.TC_TOPIC_STORE, "etcd");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
+
+    @Test
+    public void testChangeDetection() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.CHANGE_DETECTION_MODE), is(Config.ChangeDetection.WATCHES));
+        assertThat(new Config(map).get(Config.PARTITIONS_POLL_INTERVAL_MS).longValue(), is(30000L));
+
+        map.put(Config.TC_CHANGE_DETECTION, "notifications");
+        map.put(Config.TC_PARTITIONS_POLL_INTERVAL_MS, "10000");
+        assertThat(new Config(map).get(Config.CHANGE_DETECTION_MODE), is(Config.ChangeDetection.NOTIFICATIONS));
+        assertThat(new Config(map).get(Config.PARTITIONS_POLL_INTERVAL_MS).longValue(), is(10000L));
+
+        map.put(Config.TC_CHANGE_DETECTION, "polling");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.EventBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Util;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@ExtendWith(VertxExtension.class)
+public class EventRecorderTest {
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static MetricsProvider metrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        return new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).description(description).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+    }
+
+    private static Event event(String topic, String message) {
+        return new EventBuilder()
+                .withNewMetadata()
+                    .withGenerateName("topic-operator")
+                    .withNamespace("default")
+                .endMetadata()
+                .withNewInvolvedObject()
+                    .withKind("KafkaTopic")
+                    .withName(topic)
+                    .withNamespace("default")
+                .endInvolvedObject()
+                .withType("Warning")
+                .withMessage(message)
+                .build();
+    }
+
+    @Test
+    public void testIdenticalEventsAreMerged(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        MockK8s k8s = new MockK8s();
+        MetricsProvider metrics = metrics();
+        EventRecorder recorder = new EventRecorder(vertx, k8s, metrics, 10, 100);
+
+        recorder.record(event("my-topic", "Failure"));
+
+        // The first occurrence is written straight away
+        context.verify(() -> {
+            assertThat(k8s.getEvents().size(), is(1));
+            Event created = k8s.getEvents().get(0);
+            assertThat(created.getCount(), is(1));
+            assertThat(created.getMetadata().getGenerateName(), is(nullValue()));
+            assertThat(created.getMetadata().getName().startsWith("my-topic."), is(true));
+        });
+
+        recorder.record(event("my-topic", "Failure"));
+        recorder.record(event("my-topic", "Failure"));
+
+        Util.waitFor(vertx, "my-topic", "merged", 10, 10_000, () -> k8s.getEvents().get(0).getCount() == 3)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // The repeats only update the count of the same Event
+                assertThat(k8s.getEvents().size(), is(1));
+                Event updated = k8s.getEvents().get(0);
+                assertThat(updated.getCount(), is(3));
+                assertThat(updated.getFirstTimestamp() != null, is(true));
+                assertThat(metrics.meterRegistry().get(TopicOperator.METRICS_PREFIX + "events.merged")
+                        .tag("kind", "KafkaTopic").counter().count(), is(2.0));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testDistinctEventsAreRateLimited(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        MockK8s k8s = new MockK8s();
+        EventRecorder recorder = new EventRecorder(vertx, k8s, null, 50, 1);
+
+        // The burst allows two events to be written straight away
+        recorder.record(event("my-topic", "First"));
+        recorder.record(event("my-topic", "Second"));
+        Future<Void> third = recorder.record(event("other-topic", "First"));
+        context.verify(() -> {
+            assertThat(k8s.getEvents().size(), is(2));
+            // The caller doesn't wait for the rate limited write
+            assertThat(third.succeeded(), is(true));
+        });
+
+        Util.waitFor(vertx, "other-topic", "written", 10, 10_000, () -> k8s.getEvents().size() == 3)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(k8s.getEvents().size(), is(3));
+                assertThat(k8s.getEvents().get(2).getInvolvedObject().getName(), is("other-topic"));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testExpiredEventIsCreatedAgain(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        MockK8s k8s = new MockK8s();
+        EventRecorder recorder = new EventRecorder(vertx, k8s, null, 10, 100);
+
+        recorder.record(event("my-topic", "Failure"));
+        String name = k8s.getEvents().get(0).getMetadata().getName();
+
+        // The Event expires, so the update of its count fails with 404
+        k8s.getEvents().clear();
+        recorder.record(event("my-topic", "Failure"));
+
+        Util.waitFor(vertx, "my-topic", "created again", 10, 10_000, () -> k8s.getEvents().size() == 1)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                Event recreated = k8s.getEvents().get(0);
+                assertThat(recreated.getMetadata().getName(), is(name));
+                assertThat(recreated.getCount(), is(2));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testFailedCreationIsNotUpdated(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        MockK8s k8s = new MockK8s();
+        EventRecorder recorder = new EventRecorder(vertx, k8s, null, 10, 100);
+
+        k8s.setCreateEventResponse(new KubernetesClientException("Forbidden", 403, null));
+        recorder.record(event("my-topic", "Failure"));
+        context.verify(() -> assertThat(k8s.getEvents().size(), is(0)));
+
+        // The next occurrence creates the Event instead of patching one which doesn't exist
+        k8s.setCreateEventResponse(null);
+        recorder.record(event("my-topic", "Failure"));
+
+        Util.waitFor(vertx, "my-topic", "created", 10, 10_000, () -> k8s.getEvents().size() == 1)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(k8s.getEvents().get(0).getCount(), is(2));
+                async.flag();
+            })));
+    }
+}
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 
@@ -24,12 +26,19 @@ import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -213,6 +222,44 @@ public class KafkaImplTest {
         })));
     }
 
+    @Test
+    public void testTopicMetadataInBatches(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        Map<String, Either<TopicDescription, Exception>> firstDescriptions = new HashMap<>();
+        firstDescriptions.put("a", Either.ofLeft(mock(TopicDescription.class)));
+        firstDescriptions.put("b", Either.ofLeft(mock(TopicDescription.class)));
+        Map<ConfigResource, Either<Config, Exception>> firstConfigs = new HashMap<>();
+        firstConfigs.put(new ConfigResource(ConfigResource.Type.TOPIC, "a"), Either.ofLeft(mock(Config.class)));
+        firstConfigs.put(new ConfigResource(ConfigResource.Type.TOPIC, "b"), Either.ofLeft(mock(Config.class)));
+        mockDescribeTopics(admin, firstDescriptions);
+        mockDescribeConfigs(admin, firstConfigs);
+        mockDescribeTopics(admin, singletonMap("c", Either.ofRight(new UnknownTopicOrPartitionException())));
+        mockDescribeConfigs(admin, singletonMap(new ConfigResource(ConfigResource.Type.TOPIC, "c"),
+                Either.ofRight(new UnknownTopicOrPartitionException())));
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx, 2);
+        impl.topicMetadata(asList(new TopicName("a"), new TopicName("b"), new TopicName("c"))).onComplete(testContext.succeeding(metadata -> testContext.verify(() -> {
+            assertThat(metadata.keySet(), is(new HashSet<>(asList(new TopicName("a"), new TopicName("b")))));
+            verify(admin, times(2)).describeTopics(anyCollection());
+            verify(admin, times(2)).describeConfigs(anyCollection());
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    public void testTopicMetadataInBatchesDescribeTimeout(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        mockDescribeTopics(admin, singletonMap("test", Either.ofLeft(mock(TopicDescription.class))));
+        mockDescribeConfigs(admin, singletonMap(new ConfigResource(ConfigResource.Type.TOPIC, "test"),
+                Either.ofRight(new TimeoutException())));
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx, 2);
+        impl.topicMetadata(singletonList(new TopicName("test"))).onComplete(testContext.failing(error -> testContext.verify(() -> {
+            assertTrue(error instanceof TimeoutException);
+            testContext.completeNow();
+        })));
+    }
+
     @Test
     public void testDelete(VertxTestContext testContext) {
         Admin admin = mock(Admin.class);
@@ -0,0 +1,213 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaTopicStoreTest {
+    private static final String STORE_TOPIC = "__strimzi_store_topic";
+    private static final TopicPartition PARTITION = new TopicPartition(STORE_TOPIC, 0);
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Topic topic(String name, int partitions) {
+        return new Topic.Builder(name, partitions, (short) 1, Collections.emptyMap()).build();
+    }
+
+    private static Admin adminWithExistingStoreTopic() {
+        Admin admin = mock(Admin.class);
+        CreateTopicsResult result = mock(CreateTopicsResult.class);
+        KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(new TopicExistsException("exists"));
+        when(result.all()).thenReturn(future);
+        when(admin.createTopics(any())).thenReturn(result);
+        return admin;
+    }
+
+    @SafeVarargs
+    private static MockConsumer<String, byte[]> consumer(ConsumerRecord<String, byte[]>... records) {
+        MockConsumer<String, byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updateBeginningOffsets(singletonMap(PARTITION, 0L));
+        consumer.updateEndOffsets(singletonMap(PARTITION, (long) records.length));
+        consumer.schedulePollTask(() -> {
+            for (ConsumerRecord<String, byte[]> record : records) {
+                consumer.addRecord(record);
+            }
+        });
+        return consumer;
+    }
+
+    @Test
+    public void testStartLoadsTheLatestStateOfEachTopic(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        MockConsumer<String, byte[]> consumer = consumer(
+                new ConsumerRecord<>(STORE_TOPIC, 0, 0, "foo", TopicSerialization.toJson(topic("foo", 1))),
+                new ConsumerRecord<>(STORE_TOPIC, 0, 1, "bar", TopicSerialization.toJson(topic("bar", 1))),
+                new ConsumerRecord<>(STORE_TOPIC, 0, 2, "foo", TopicSerialization.toJson(topic("foo", 3))),
+                new ConsumerRecord<>(STORE_TOPIC, 0, 3, "bar", null));
+
+        KafkaTopicStore store = new KafkaTopicStore(vertx, adminWithExistingStoreTopic(), STORE_TOPIC, (short) 3, 2, producer, () -> consumer);
+
+        store.start()
+            .compose(v -> store.readAll())
+            .onComplete(context.succeeding(topics -> context.verify(() -> {
+                assertThat(topics.size(), is(1));
+                assertThat(topics.get(new TopicName("foo")).getNumPartitions(), is(3));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testCrud(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        KafkaTopicStore store = new KafkaTopicStore(vertx, adminWithExistingStoreTopic(), STORE_TOPIC, (short) 3, 2, producer, () -> consumer());
+        TopicName foo = new TopicName("foo");
+
+        store.start()
+            .compose(v -> store.create(topic("foo", 1)))
+            .compose(v -> store.create(topic("foo", 1)))
+            .onComplete(context.failing(e -> context.verify(() -> assertThat(e, instanceOf(TopicStore.EntityExistsException.class)))))
+            .recover(e -> store.update(topic("foo", 2)))
+            .compose(v -> store.read(foo))
+            .onComplete(context.succeeding(topic -> context.verify(() -> assertThat(topic.getNumPartitions(), is(2)))))
+            .compose(v -> store.delete(foo))
+            .compose(v -> store.read(foo))
+            .onComplete(context.succeeding(topic -> context.verify(() -> {
+                assertThat(topic, is(nullValue()));
+                // create, update and the tombstone
+                assertThat(producer.history().size(), is(3));
+                assertThat(producer.history().get(2).value(), is(nullValue()));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testStoreTopicIsCreated(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        Admin admin = mock(Admin.class);
+        CreateTopicsResult result = mock(CreateTopicsResult.class);
+        when(result.all()).thenReturn(KafkaFuture.completedFuture(null));
+        when(admin.createTopics(any())).thenReturn(result);
+        MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        KafkaTopicStore store = new KafkaTopicStore(vertx, admin, STORE_TOPIC, (short) 3, 2, producer, () -> consumer());
+
+        store.start().onComplete(context.succeeding(v -> context.verify(() -> {
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Collection<NewTopic>> newTopics = ArgumentCaptor.forClass(Collection.class);
+            verify(admin).createTopics(newTopics.capture());
+            NewTopic newTopic = newTopics.getValue().iterator().next();
+            assertThat(newTopic.name(), is(STORE_TOPIC));
+            assertThat(newTopic.numPartitions(), is(1));
+            assertThat(newTopic.replicationFactor(), is((short) 3));
+            assertThat(newTopic.configs().get(TopicConfig.CLEANUP_POLICY_CONFIG), is(TopicConfig.CLEANUP_POLICY_COMPACT));
+            assertThat(newTopic.configs().get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG), is("2"));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testMigration(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        // An interrupted migration copied foo, which has changed since
+        KafkaTopicStore store = new KafkaTopicStore(vertx, adminWithExistingStoreTopic(), STORE_TOPIC, (short) 3, 2, producer, () -> consumer(
+                new ConsumerRecord<>(STORE_TOPIC, 0, 0, "foo", TopicSerialization.toJson(topic("foo", 3)))));
+
+        MockTopicStore source = new MockTopicStore();
+        source.setCreateTopicResponse(new TopicName("foo"), null);
+        source.setCreateTopicResponse(new TopicName("bar"), null);
+
+        store.start()
+            .compose(v -> source.create(topic("foo", 1)))
+            .compose(v -> source.create(topic("bar", 2)))
+            .compose(v -> store.migrateFrom(source))
+            .onComplete(context.succeeding(migrated -> context.verify(() -> {
+                assertThat(migrated, is(1));
+                assertThat(store.isMigrated(), is(true));
+            })))
+            // Not migrated again once completed
+            .compose(v -> store.migrateFrom(source))
+            .compose(migrated -> {
+                context.verify(() -> assertThat(migrated, is(0)));
+                return store.readAll();
+            })
+            .onComplete(context.succeeding(topics -> context.verify(() -> {
+                assertThat(topics.size(), is(2));
+                assertThat(topics.get(new TopicName("foo")).getNumPartitions(), is(3));
+                assertThat(topics.get(new TopicName("bar")).getNumPartitions(), is(2));
+                // bar and the marker
+                assertThat(producer.history().size(), is(2));
+                assertThat(producer.history().get(1).key(), is(KafkaTopicStore.MIGRATION_MARKER_KEY));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testCompletedMigrationIsLoaded(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        KafkaTopicStore store = new KafkaTopicStore(vertx, adminWithExistingStoreTopic(), STORE_TOPIC, (short) 3, 2, producer, () -> consumer(
+                new ConsumerRecord<>(STORE_TOPIC, 0, 0, "foo", TopicSerialization.toJson(topic("foo", 1))),
+                new ConsumerRecord<>(STORE_TOPIC, 0, 1, KafkaTopicStore.MIGRATION_MARKER_KEY, new byte[0])));
+
+        store.start()
+            .compose(v -> {
+                context.verify(() -> assertThat(store.isMigrated(), is(true)));
+                return store.readAll();
+            })
+            .onComplete(context.succeeding(topics -> context.verify(() -> {
+                assertThat(topics.keySet(), is(Collections.singleton(new TopicName("foo"))));
+                async.flag();
+            })));
+    }
+}
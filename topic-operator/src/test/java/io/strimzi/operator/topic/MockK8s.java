@@ -5,6 +5,7 @@
 package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
 import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
@@ -31,11 +32,17 @@ public class MockK8s implements K8s {
 
     private Map<ResourceName, AsyncResult<KafkaTopic>> byName = new HashMap<>();
     private List<Event> events = new ArrayList<>();
+    private Exception createEventException = null;
     private Function<ResourceName, AsyncResult<Void>> createResponse = n -> Future.failedFuture("Unexpected. ");
     private Function<ResourceName, AsyncResult<Void>> modifyResponse = n -> Future.failedFuture("Unexpected. ");
     private Function<ResourceName, AsyncResult<Void>> deleteResponse = n -> Future.failedFuture("Unexpected. ");
     private Supplier<AsyncResult<List<KafkaTopic>>> listResponse = () -> Future.succeededFuture(new ArrayList(byName.values().stream().filter(ar -> ar.succeeded()).map(ar -> ar.result()).collect(Collectors.toList())));
 
+    public MockK8s setCreateEventResponse(Exception exception) {
+        createEventException = exception;
+        return this;
+    }
+
     public MockK8s setCreateResponse(ResourceName resourceName, Exception exception) {
         Function<ResourceName, AsyncResult<Void>> old = createResponse;
         createResponse = n -> {
@@ -177,11 +184,30 @@ public class MockK8s implements K8s {
     @Override
     public Future<Void> createEvent(Event event) {
         Promise<Void> handler = Promise.promise();
-        events.add(event);
-        handler.handle(Future.succeededFuture());
+        if (createEventException != null) {
+            handler.handle(Future.failedFuture(createEventException));
+        } else {
+            events.add(event);
+            handler.handle(Future.succeededFuture());
+        }
         return handler.future();
     }
 
+    @Override
+    public Future<Void> updateEvent(Event event) {
+        boolean existed = events.removeIf(e -> e.getMetadata().getName() != null
+                && e.getMetadata().getName().equals(event.getMetadata().getName()));
+        if (!existed) {
+            return Future.failedFuture(new KubernetesClientException("Event " + event.getMetadata().getName() + " not found", 404, null));
+        }
+        events.add(event);
+        return Future.succeededFuture();
+    }
+
+    public List<Event> getEvents() {
+        return events;
+    }
+
     public void assertExists(VertxTestContext context, ResourceName resourceName) {
         AsyncResult<KafkaTopic> got = byName.get(resourceName);
         context.verify(() -> assertThat(got != null && got.succeeded(), is(true)));
@@ -4,11 +4,14 @@
  */
 package io.strimzi.operator.topic;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.NewTopic;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -191,10 +194,38 @@ public class MockKafka implements Kafka {
         return getTopicNameFutureFunction().apply(topicName);
     }
 
+    @Override
+    public Future<Map<TopicName, TopicMetadata>> topicMetadata(Collection<TopicName> topicNames) {
+        // Peek at the current response so that the bulk prefetch doesn't consume the responses configured per call
+        Function<TopicName, Future<TopicMetadata>> response = topicMetadataRespose.get(min(topicMetadataResposeCall, topicMetadataRespose.size() - 1));
+        Map<TopicName, TopicMetadata> result = new HashMap<>();
+        List<Future> futures = new ArrayList<>();
+        for (TopicName topicName : topicNames) {
+            futures.add(response.apply(topicName).onSuccess(metadata -> {
+                if (metadata != null) {
+                    result.put(topicName, metadata);
+                }
+            }));
+        }
+        return CompositeFuture.all(futures).map(result);
+    }
+
     Function<TopicName, Future<TopicMetadata>> getTopicNameFutureFunction() {
         return topicMetadataRespose.get(min(topicMetadataResposeCall++, topicMetadataRespose.size() - 1));
     }
 
+    @Override
+    public Future<Map<TopicName, Integer>> numPartitions(Collection<TopicName> topicNames) {
+        Map<TopicName, Integer> result = new HashMap<>();
+        for (TopicName topicName : topicNames) {
+            Topic topic = topics.get(topicName);
+            if (topic != null) {
+                result.put(topicName, topic.getNumPartitions());
+            }
+        }
+        return Future.succeededFuture(result);
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         return topicsListResponse;
@@ -9,12 +9,22 @@ import io.strimzi.api.kafka.model.KafkaTopic;
 import io.vertx.core.Future;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 class MockTopicOperator extends TopicOperator {
 
     public MockTopicOperator() {
-        super(null, null, null, null, null, null, null, null);
+        super(null, null, null, null, null, null, config(), null);
+    }
+
+    private static Config config() {
+        Map<String, String> map = new HashMap<>();
+        map.put(Config.ZOOKEEPER_CONNECT.key, "localhost:2181");
+        map.put(Config.KAFKA_BOOTSTRAP_SERVERS.key, "localhost:9092");
+        map.put(Config.NAMESPACE.key, "default");
+        return new Config(map);
     }
 
     static class MockOperatorEvent {
@@ -21,6 +21,7 @@ public class MockTopicStore implements TopicStore {
     private Function<TopicName, Future<Void>> deleteTopicResponse = t -> Future.failedFuture("Unexpected. Your test's MockTopicStore probably needs a deleteTopicResponse configured.");
     private Function<TopicName, Future<Void>> updateTopicResponse = t -> Future.failedFuture("Unexpected. Your test's MockTopicStore probably needs a updateTopicResponse configured.");
     private Function<TopicName, Future<Topic>> getTopicResponse = t -> null;
+    private Future<Map<TopicName, Topic>> readAllResponse = null;
 
     @Override
     public Future<Topic> read(TopicName name) {
@@ -33,6 +34,14 @@ public class MockTopicStore implements TopicStore {
         }
     }
 
+    @Override
+    public Future<Map<TopicName, Topic>> readAll() {
+        if (readAllResponse != null) {
+            return readAllResponse;
+        }
+        return Future.succeededFuture(new HashMap<>(topics));
+    }
+
     @Override
     public Future<Void> create(Topic topic) {
         Future<Void> response = createTopicResponse.apply(topic.getTopicName());
@@ -139,6 +148,11 @@ public class MockTopicStore implements TopicStore {
         return this;
     }
 
+    public MockTopicStore setReadAllResponse(Future<Map<TopicName, Topic>> f) {
+        this.readAllResponse = f;
+        return this;
+    }
+
     public void assertEmpty(VertxTestContext context) {
         context.verify(() -> assertThat(this.topics.isEmpty(), is(true)));
     }
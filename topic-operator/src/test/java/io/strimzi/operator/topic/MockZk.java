@@ -9,6 +9,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.Op;
 import org.apache.zookeeper.data.ACL;
 
 import java.util.HashMap;
@@ -21,10 +22,21 @@ class MockZk implements Zk {
     public AsyncResult<Void> setDataResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".setDataResult");
     public AsyncResult<List<String>> childrenResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".childrenResult");
     public AsyncResult<byte[]> dataResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".dataResult");
-    private Handler<AsyncResult<List<String>>> childrenHandler;
+    public AsyncResult<Map<String, byte[]>> childrenDataResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".childrenDataResult");
+    public AsyncResult<Void> multiResult = Future.failedFuture("Unexpected mock interaction. Configure " + getClass().getSimpleName() + ".multiResult");
+    /** Results of {@link #children(String, Handler)} for specific paths, overriding {@link #childrenResult} */
+    public Map<String, AsyncResult<List<String>>> childrenResults = new HashMap<>();
+    /** Results of {@link #getData(String, Handler)} for specific paths, overriding {@link #dataResult} */
+    public Map<String, AsyncResult<byte[]>> dataResults = new HashMap<>();
+    private Map<String, Handler<AsyncResult<List<String>>>> childrenHandlers = new HashMap<>();
     private Map<String, Handler<AsyncResult<byte[]>>> dataHandlers = new HashMap<>();
 
     public void triggerChildren(AsyncResult<List<String>> childrenResult) {
+        triggerChildren("/brokers/topics", childrenResult);
+    }
+
+    public void triggerChildren(String path, AsyncResult<List<String>> childrenResult) {
+        Handler<AsyncResult<List<String>>> childrenHandler = childrenHandlers.get(path);
         if (childrenHandler != null) {
             childrenHandler.handle(childrenResult);
         }
@@ -57,25 +69,25 @@ class MockZk implements Zk {
 
     @Override
     public Zk children(String path, Handler<AsyncResult<List<String>>> handler) {
-        handler.handle(childrenResult);
+        handler.handle(childrenResults.getOrDefault(path, childrenResult));
         return this;
     }
 
     @Override
     public Future<Zk> watchChildren(String path, Handler<AsyncResult<List<String>>> watcher) {
-        childrenHandler = watcher;
+        childrenHandlers.put(path, watcher);
         return Future.succeededFuture(this);
     }
 
     @Override
     public Zk unwatchChildren(String path) {
-        childrenHandler = null;
+        childrenHandlers.remove(path);
         return this;
     }
 
     @Override
     public Zk getData(String path, Handler<AsyncResult<byte[]>> handler) {
-        handler.handle(dataResult);
+        handler.handle(dataResults.getOrDefault(path, dataResult));
         return this;
     }
 
@@ -95,4 +107,16 @@ class MockZk implements Zk {
     public Zk delete(String path, int version, Handler<AsyncResult<Void>> handler) {
         return null;
     }
+
+    @Override
+    public Zk childrenData(String path, Handler<String> dataWatcher, Handler<AsyncResult<Map<String, byte[]>>> handler) {
+        handler.handle(childrenDataResult);
+        return this;
+    }
+
+    @Override
+    public Zk multi(List<Op> ops, Handler<AsyncResult<Void>> handler) {
+        handler.handle(multiResult);
+        return this;
+    }
 }
@@ -331,6 +331,26 @@ public class TopicOperatorTest {
         });
     }
 
+    @Test
+    public void testStoreTopicIsNotMirrored(VertxTestContext context) {
+        Map<String, String> kafkaStoreConfig = new HashMap<>(MANDATORY_CONFIG);
+        kafkaStoreConfig.put(Config.TOPIC_STORE.key, "kafka");
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace",
+                new Config(kafkaStoreConfig), metrics);
+        TopicName storeTopic = new TopicName(Config.STORE_TOPIC.defaultValue);
+        mockKafka.setTopicMetadataResponse(storeTopic, Utils.getTopicMetadata(storeTopic.toString(),
+                new org.apache.kafka.clients.admin.Config(Collections.emptyList())), null);
+
+        LogContext logContext = LogContext.zkWatch("///", storeTopic.toString());
+        Checkpoint async = context.checkpoint();
+        topicOperator.onTopicCreated(logContext, storeTopic).onComplete(ar -> {
+            assertSucceeded(context, ar);
+            mockK8s.assertNotExists(context, storeTopic.asKubeName());
+            mockTopicStore.assertNotExists(context, storeTopic);
+            async.flag();
+        });
+    }
+
     /**
      * 1. operator is notified that a topic is created
      * 2. operator initially failed querying kafka to get topic metadata
@@ -1051,6 +1071,8 @@ public class TopicOperatorTest {
         mockKafka.setTopicsListResponse(Future.succeededFuture(singleton(topicName.toString())));
         mockKafka.setDeleteTopicResponse(topicName, null);
         mockTopicStore.setGetTopicResponse(topicName, Future.failedFuture(error));
+        // The periodic reconciliation reads the topics one by one when it can't read the whole store
+        mockTopicStore.setReadAllResponse(Future.failedFuture(error));
 
         Future<?> reconcileFuture = topicOperator.reconcileAllTopics("periodic");
 
@@ -1071,6 +1093,26 @@ public class TopicOperatorTest {
         }));
     }
 
+    @Test
+    public void testReconcileAllTopics_usesWholeTopicStore(VertxTestContext context) {
+        TopicMetadata topicMetadata = Utils.getTopicMetadata(topicName.toString(),
+                new org.apache.kafka.clients.admin.Config(Collections.emptyList()));
+        mockKafka.setTopicsListResponse(Future.succeededFuture(singleton(topicName.toString())));
+        mockKafka.setTopicMetadataResponse(topicName, topicMetadata, null);
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockK8s.setCreateResponse(resourceName, null);
+        // The topic isn't read from the store on its own, because the whole store was read already
+        mockTopicStore.setGetTopicResponse(topicName, Future.failedFuture(new RuntimeException("some failure")));
+
+        Future<?> reconcileFuture = topicOperator.reconcileAllTopics("periodic");
+
+        reconcileFuture.onComplete(context.succeeding(v -> {
+            mockK8s.assertExists(context, resourceName);
+            mockTopicStore.assertContains(context, TopicSerialization.fromTopicMetadata(topicMetadata));
+            context.completeNow();
+        }));
+    }
+
     @Test
     public void testReconcileAllTopics_listMapsFails(VertxTestContext context) {
         RuntimeException error = new RuntimeException("some failure");
@@ -6,6 +6,7 @@ package io.strimzi.operator.topic;
 
 import io.strimzi.operator.topic.zk.Zk;
 import io.strimzi.test.EmbeddedZooKeeper;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
@@ -21,7 +22,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashSet;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -134,4 +137,38 @@ public class ZkTopicStoreTest {
             })));
     }
 
+    @Test
+    public void testBatchedWritesAndReadAll(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        Topic foo = new Topic.Builder("foo", 1, (short) 1, Collections.emptyMap()).build();
+        Topic bar = new Topic.Builder("bar", 2, (short) 1, Collections.emptyMap()).build();
+        Topic baz = new Topic.Builder("baz", 3, (short) 1, Collections.emptyMap()).build();
+
+        // The first write is sent on its own and the other two are batched together while it is in progress
+        CompositeFuture.all(store.create(foo), store.create(bar), store.create(baz))
+            .compose(v -> {
+                Promise<Void> written = Promise.promise();
+                CompositeFuture.join(store.create(new Topic.Builder(foo).withNumPartitions(4).build()),
+                        store.delete(bar.getTopicName()),
+                        store.update(new Topic.Builder(baz).withNumPartitions(5).build()))
+                    .onComplete(context.failing(e -> context.verify(() -> {
+                        // Only the failed write fails, even when batched with the others
+                        assertThat(e, instanceOf(TopicStore.EntityExistsException.class));
+                        written.complete();
+                    })));
+                return written.future();
+            })
+            .compose(v -> store.readAll())
+            .onComplete(context.succeeding(topics -> context.verify(() -> {
+                assertThat(topics.keySet(), is(new HashSet<>(asList(foo.getTopicName(), baz.getTopicName()))));
+                assertThat(topics.get(foo.getTopicName()).getNumPartitions(), is(1));
+                assertThat(topics.get(baz.getTopicName()).getNumPartitions(), is(5));
+            })))
+            .compose(v -> store.read(bar.getTopicName()))
+            .onComplete(context.succeeding(deleted -> context.verify(() -> {
+                assertThat(deleted, is(nullValue()));
+                async.flag();
+            })));
+    }
 }
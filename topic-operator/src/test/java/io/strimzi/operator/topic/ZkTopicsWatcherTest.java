@@ -5,13 +5,22 @@
 package io.strimzi.operator.topic;
 
 import io.strimzi.operator.topic.MockTopicOperator.MockOperatorEvent.Type;
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.junit5.VertxExtension;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -81,4 +90,112 @@ public class ZkTopicsWatcherTest {
                 Type.DELETE, new TopicName("bar")))));
         assertThat(topicConfigsWatcher.watching("baz"), is(false));
     }
+
+    @Test
+    public void testConfigChangeNotifications() {
+        operator.topicCreatedResult = Future.succeededFuture();
+        operator.topicModifiedResult = Future.succeededFuture();
+        mockZk.childrenResult = Future.succeededFuture(asList("foo", "bar"));
+        mockZk.childrenResults.put("/config/changes", Future.succeededFuture(singletonList("config_change_0000000007")));
+        mockZk.dataResults.put("/config/changes/config_change_0000000008",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"topics/foo\"}".getBytes(StandardCharsets.UTF_8)));
+        mockZk.dataResults.put("/config/changes/config_change_0000000009",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"brokers/0\"}".getBytes(StandardCharsets.UTF_8)));
+        mockZk.dataResults.put("/config/changes/config_change_0000000010",
+                Future.succeededFuture("{\"version\":1,\"entity_type\":\"topics\",\"entity_name\":\"bar\"}".getBytes(StandardCharsets.UTF_8)));
+
+        ConfigChangeNotificationsWatcher topicConfigsWatcher = new ConfigChangeNotificationsWatcher(operator);
+        ZkTopicWatcher topicWatcher = new ZkTopicWatcher(operator);
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, topicConfigsWatcher, topicWatcher);
+        topicsWatcher.start(mockZk);
+        assertThat(topicConfigsWatcher.watching("foo"), is(false));
+
+        // Notifications which existed at start are ignored
+        mockZk.triggerChildren("/config/changes", Future.succeededFuture(asList("config_change_0000000007",
+                "config_change_0000000008", "config_change_0000000009", "config_change_0000000010")));
+        assertThat(operator.getMockOperatorEvents(), is(asList(
+                new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("foo")),
+                new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("bar")))));
+
+        // Notifications are only processed once, even when Kafka removes older ones
+        operator.clearEvents();
+        mockZk.triggerChildren("/config/changes", Future.succeededFuture(singletonList("config_change_0000000010")));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+
+        topicsWatcher.stop();
+    }
+
+    @Test
+    public void testConfigChangeNotificationBeforeInitialisation() {
+        operator.topicModifiedResult = Future.succeededFuture();
+        mockZk = new MockZk() {
+            @Override
+            public Zk children(String path, Handler<AsyncResult<List<String>>> handler) {
+                if ("/config/changes".equals(path)) {
+                    // A notification arrives between the watch being set and the existing notifications being read
+                    triggerChildren(path, Future.succeededFuture(asList("config_change_0000000007", "config_change_0000000008")));
+                }
+                return super.children(path, handler);
+            }
+        };
+        mockZk.childrenResult = Future.succeededFuture(emptyList());
+        mockZk.childrenResults.put("/config/changes", Future.succeededFuture(singletonList("config_change_0000000007")));
+        mockZk.dataResults.put("/config/changes/config_change_0000000007",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"topics/foo\"}".getBytes(StandardCharsets.UTF_8)));
+        mockZk.dataResults.put("/config/changes/config_change_0000000008",
+                Future.succeededFuture("{\"version\":2,\"entity_path\":\"topics/bar\"}".getBytes(StandardCharsets.UTF_8)));
+
+        ConfigChangeNotificationsWatcher topicConfigsWatcher = new ConfigChangeNotificationsWatcher(operator);
+        ZkTopicWatcher topicWatcher = new ZkTopicWatcher(operator);
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, topicConfigsWatcher, topicWatcher);
+        topicsWatcher.start(mockZk);
+
+        // Only the notification newer than those existing at start is processed
+        assertThat(operator.getMockOperatorEvents(), is(singletonList(
+                new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("bar")))));
+
+        topicsWatcher.stop();
+    }
+
+    @Test
+    public void testPartitionsPoller() {
+        Vertx vertx = Vertx.vertx();
+        try {
+            operator.topicCreatedResult = Future.succeededFuture();
+            operator.topicModifiedResult = Future.succeededFuture();
+            mockZk.childrenResult = Future.succeededFuture(asList("foo", "bar"));
+            MockKafka mockKafka = new MockKafka();
+            mockKafka.setCreateTopicResponse(t -> Future.succeededFuture());
+            mockKafka.setUpdateTopicResponse(t -> Future.succeededFuture());
+            mockKafka.createTopic(new Topic.Builder("foo", 1, (short) 1, emptyMap()).build());
+            mockKafka.createTopic(new Topic.Builder("bar", 1, (short) 1, emptyMap()).build());
+
+            TopicConfigsWatcher topicConfigsWatcher = new TopicConfigsWatcher(operator);
+            TopicPartitionsPoller topicWatcher = new TopicPartitionsPoller(operator, vertx, mockKafka, 3_600_000L);
+            ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, topicConfigsWatcher, topicWatcher);
+            topicsWatcher.start(mockZk);
+            assertThat(topicWatcher.watching("foo"), is(true));
+
+            // The first comparison only takes the snapshot
+            topicWatcher.poll();
+            assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+
+            mockKafka.increasePartitions(new Topic.Builder("bar", 3).build());
+            topicWatcher.poll();
+            assertThat(operator.getMockOperatorEvents(),
+                    is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_PARTITIONS, new TopicName("bar")))));
+
+            // A change of the /admin children triggers a comparison
+            operator.clearEvents();
+            mockKafka.increasePartitions(new Topic.Builder("foo", 2).build());
+            mockZk.triggerChildren("/admin", Future.succeededFuture(singletonList("reassign_partitions")));
+            assertThat(operator.getMockOperatorEvents(),
+                    is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_PARTITIONS, new TopicName("foo")))));
+
+            topicsWatcher.stop();
+            assertThat(topicWatcher.started(), is(false));
+        } finally {
+            vertx.close();
+        }
+    }
 }
@@ -6,12 +6,14 @@ package io.strimzi.operator.topic.zk;
 
 import io.strimzi.test.EmbeddedZooKeeper;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.Op;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -21,7 +23,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
@@ -97,6 +105,43 @@ public class ZkImplTest {
 
     }
 
+    @Test
+    public void testMultiThenChildrenData(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        Promise<Void> fooCreated = Promise.promise();
+        zk.create("/foo", null, AclBuilder.PUBLIC, CreateMode.PERSISTENT, context.succeeding(v -> fooCreated.complete()));
+
+        fooCreated.future().compose(v -> {
+            Promise<Void> created = Promise.promise();
+            List<Op> ops = asList(
+                    Op.create("/foo/bar", "bar".getBytes(StandardCharsets.UTF_8), AclBuilder.PUBLIC, CreateMode.PERSISTENT),
+                    Op.create("/foo/baz", "baz".getBytes(StandardCharsets.UTF_8), AclBuilder.PUBLIC, CreateMode.PERSISTENT));
+            zk.multi(ops, created);
+            return created.future();
+        }).compose(v -> {
+            // The second create fails, so the first one must not be applied either
+            Promise<Void> failed = Promise.promise();
+            List<Op> ops = asList(
+                    Op.create("/foo/qux", null, AclBuilder.PUBLIC, CreateMode.PERSISTENT),
+                    Op.create("/foo/bar", null, AclBuilder.PUBLIC, CreateMode.PERSISTENT));
+            zk.multi(ops, ar -> {
+                context.verify(() -> assertThat(ar.failed(), is(true)));
+                failed.complete();
+            });
+            return failed.future();
+        }).compose(v -> {
+            Promise<Map<String, byte[]>> children = Promise.promise();
+            zk.childrenData("/foo", null, children);
+            return children.future();
+        }).onComplete(context.succeeding(children -> context.verify(() -> {
+            assertThat(children.keySet(), is(new HashSet<>(asList("bar", "baz"))));
+            assertThat(new String(children.get("bar"), StandardCharsets.UTF_8), is("bar"));
+            assertThat(new String(children.get("baz"), StandardCharsets.UTF_8), is("baz"));
+            async.flag();
+        })));
+    }
+
     @Test
     public void testWatchThenUnwatchChildren(VertxTestContext context) {
         Checkpoint async = context.checkpoint(2);
@@ -150,4 +195,68 @@ public class ZkImplTest {
             });
         });
     }
+
+    @Test
+    public void testChildrenDataWatch(VertxTestContext context) {
+        Checkpoint async = context.checkpoint(2);
+
+        Promise<Void> fooCreated = Promise.promise();
+        zk.create("/foo", null, AclBuilder.PUBLIC, CreateMode.PERSISTENT, context.succeeding(v -> fooCreated.complete()));
+
+        fooCreated.future().compose(v -> {
+            Promise<Void> created = Promise.promise();
+            zk.multi(asList(
+                    Op.create("/foo/bar", "bar".getBytes(StandardCharsets.UTF_8), AclBuilder.PUBLIC, CreateMode.PERSISTENT),
+                    Op.create("/foo/baz", "baz".getBytes(StandardCharsets.UTF_8), AclBuilder.PUBLIC, CreateMode.PERSISTENT)), created);
+            return created.future();
+        }).compose(v -> {
+            Promise<Map<String, byte[]>> children = Promise.promise();
+            // Only the changed child is reported
+            zk.childrenData("/foo", child -> {
+                context.verify(() -> assertThat(child, is("bar")));
+                async.flag();
+            }, children);
+            return children.future();
+        }).onComplete(context.succeeding(children -> {
+            context.verify(() -> assertThat(children.keySet(), is(new HashSet<>(asList("bar", "baz")))));
+            zk.setData("/foo/bar", "changed".getBytes(StandardCharsets.UTF_8), -1, context.succeeding(v -> async.flag()));
+        }));
+    }
+
+    @Test
+    public void testChildrenDataWatchIsSetOnce(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+        Map<String, Integer> changes = new ConcurrentHashMap<>();
+        Handler<String> dataWatcher = child -> {
+            changes.merge(child, 1, Integer::sum);
+            if ("baz".equals(child)) {
+                // The watch of bar fired before the one of baz
+                context.verify(() -> assertThat(changes.get("bar"), is(1)));
+                async.flag();
+            }
+        };
+
+        Promise<Void> fooCreated = Promise.promise();
+        zk.create("/foo", null, AclBuilder.PUBLIC, CreateMode.PERSISTENT, context.succeeding(v -> fooCreated.complete()));
+
+        fooCreated.future().compose(v -> {
+            Promise<Void> created = Promise.promise();
+            zk.multi(asList(
+                    Op.create("/foo/bar", "bar".getBytes(StandardCharsets.UTF_8), AclBuilder.PUBLIC, CreateMode.PERSISTENT),
+                    Op.create("/foo/baz", "baz".getBytes(StandardCharsets.UTF_8), AclBuilder.PUBLIC, CreateMode.PERSISTENT)), created);
+            return created.future();
+        }).compose(v -> {
+            Promise<Map<String, byte[]>> children = Promise.promise();
+            zk.childrenData("/foo", dataWatcher, children);
+            return children.future();
+        }).compose(v -> {
+            // Reading the children again with the same watcher doesn't add another watch
+            Promise<Map<String, byte[]>> children = Promise.promise();
+            zk.childrenData("/foo", dataWatcher, children);
+            return children.future();
+        }).onComplete(context.succeeding(children -> {
+            zk.setData("/foo/bar", "changed".getBytes(StandardCharsets.UTF_8), -1, context.succeeding(v ->
+                    zk.setData("/foo/baz", "changed".getBytes(StandardCharsets.UTF_8), -1, context.succeeding())));
+        }));
+    }
 }
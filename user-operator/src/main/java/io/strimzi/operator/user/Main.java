@@ -5,16 +5,19 @@
 package io.strimzi.operator.user;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.DoneableKafkaUser;
+import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
@@ -23,6 +26,7 @@ import io.strimzi.operator.user.operator.KafkaUserQuotasOperator;
 import io.strimzi.operator.user.operator.ScramShaCredentials;
 import io.strimzi.operator.user.operator.ScramShaCredentialsOperator;
 import io.strimzi.operator.user.operator.SimpleAclOperator;
+import io.strimzi.operator.user.operator.ZkUserConfigStore;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -35,6 +39,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.security.Security;
+import java.util.Optional;
 
 @SuppressFBWarnings("DM_EXIT")
 @SuppressWarnings("deprecation")
@@ -80,12 +85,15 @@ public class Main {
         OpenSslCertManager certManager = new OpenSslCertManager();
         SecretOperator secretOperations = new SecretOperator(vertx, client);
         CrdOperator<KubernetesClient, KafkaUser, KafkaUserList, DoneableKafkaUser> crdOperations = new CrdOperator<>(vertx, client, KafkaUser.class, KafkaUserList.class, DoneableKafkaUser.class, Crds.kafkaUser());
-        return createAdminClient(adminClientProvider, config, secretOperations)
+        return startCaSecretCache(config, secretOperations)
+                .compose(ignored -> createAdminClient(adminClientProvider, config, secretOperations))
                 .compose(adminClient -> {
                     SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, adminClient);
-                    ScramShaCredentials scramShaCredentials = new ScramShaCredentials(config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
+                    // A single ZooKeeper session and cache of the user configurations is shared by SCRAM-SHA credentials and quotas
+                    ZkUserConfigStore zkUserConfigStore = new ZkUserConfigStore(config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
+                    ScramShaCredentials scramShaCredentials = new ScramShaCredentials(zkUserConfigStore);
                     ScramShaCredentialsOperator scramShaCredentialsOperator = new ScramShaCredentialsOperator(vertx, scramShaCredentials);
-                    KafkaUserQuotasOperator quotasOperator = new KafkaUserQuotasOperator(vertx, config.getZookeperConnect(), (int) config.getZookeeperSessionTimeoutMs());
+                    KafkaUserQuotasOperator quotasOperator = new KafkaUserQuotasOperator(vertx, zkUserConfigStore);
 
                     KafkaUserOperator kafkaUserOperations = new KafkaUserOperator(vertx,
                             certManager, crdOperations,
@@ -111,6 +119,21 @@ public class Main {
                 });
     }
 
+    /**
+     * Starts the cache of the Secrets of the Kafka cluster, which include the clients CA Secrets. These are then
+     * served from the cache instead of being read from the Kubernetes API for every KafkaUser reconciliation.
+     * When the cache cannot be started, the Secrets are read from the Kubernetes API.
+     */
+    private static Future<Void> startCaSecretCache(UserOperatorConfig config, SecretOperator secretOperations) {
+        LabelSelector selector = new LabelSelector(null, config.getLabels().withStrimziKind(Kafka.RESOURCE_KIND).toMap());
+        return secretOperations.startCache(config.getCaNamespace(), Optional.of(selector), config.getReconciliationIntervalMs(), new MicrometerMetricsProvider())
+                .recover(error -> {
+                    log.warn("Failed to start the cache of the clients CA Secrets, they will be read from the Kubernetes API", error);
+                    secretOperations.stopCache(config.getCaNamespace());
+                    return Future.succeededFuture();
+                });
+    }
+
     private static Future<Admin> createAdminClient(AdminClientProvider adminClientProvider, UserOperatorConfig config, SecretOperator secretOperations) {
         Promise<Admin> promise = Promise.promise();
 
@@ -27,8 +27,10 @@ import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
@@ -113,6 +115,18 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
                 });
     }
 
+    /**
+     * Reconciles all users. The ACLs snapshot taken while listing the users in {@link #allResourceNames(String)}
+     * is used by the reconciliations of this sweep only.
+     */
+    @Override
+    public void reconcileAll(String trigger, String namespace, Handler<AsyncResult<Void>> handler) {
+        super.reconcileAll(trigger, namespace, result -> {
+            aclOperations.clearSnapshot();
+            handler.handle(result);
+        });
+    }
+
     List<NamespaceAndName> toResourceRef(String namespace, Collection<String> names) {
         return names.stream()
                 .map(name -> new NamespaceAndName(namespace, name))
@@ -143,11 +157,18 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser,
      */
     @Override
     protected Future<Void> createOrUpdate(Reconciliation reconciliation, KafkaUser resource) {
-        Promise<Void> handler = Promise.promise();
-        Secret clientsCaCert = secretOperations.get(caNamespace, caCertName);
-        Secret clientsCaKey = secretOperations.get(caNamespace, caKeyName);
-        Secret userSecret = secretOperations.get(reconciliation.namespace(), KafkaUserModel.getSecretName(reconciliation.name()));
+        // The CA Secrets are normally served from the Secret cache started in Main, so only the user Secret is read
+        // from the Kubernetes API
+        Future<Secret> clientsCaCert = secretOperations.getAsync(caNamespace, caCertName);
+        Future<Secret> clientsCaKey = secretOperations.getAsync(caNamespace, caKeyName);
+        Future<Secret> userSecret = secretOperations.getAsync(reconciliation.namespace(), KafkaUserModel.getSecretName(reconciliation.name()));
 
+        return CompositeFuture.join(clientsCaCert, clientsCaKey, userSecret)
+                .compose(secrets -> createOrUpdate(reconciliation, resource, clientsCaCert.result(), clientsCaKey.result(), userSecret.result()));
+    }
+
+    private Future<Void> createOrUpdate(Reconciliation reconciliation, KafkaUser resource, Secret clientsCaCert, Secret clientsCaKey, Secret userSecret) {
+        Promise<Void> handler = Promise.promise();
         Promise<Void> createOrUpdatePromise = Promise.promise();
         String namespace = reconciliation.namespace();
         String userName = reconciliation.name();
@@ -13,8 +13,6 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
-import org.I0Itec.zkclient.ZkClient;
-import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -26,13 +24,19 @@ import java.nio.charset.StandardCharsets;
 public class KafkaUserQuotasOperator {
     private static final Logger log = LogManager.getLogger(KafkaUserQuotasOperator.class.getName());
 
-    private final static int CONNECTION_TIMEOUT = 30_000;
-
-    private ZkClient zkClient;
+    private ZkUserConfigStore configStore;
     private Vertx vertx;
 
     public KafkaUserQuotasOperator(Vertx vertx, String zookeeperUrl, int zookeeperSessionTimeout) {
-        this.zkClient = new ZkClient(zookeeperUrl, zookeeperSessionTimeout, CONNECTION_TIMEOUT, new BytesPushThroughSerializer());
+        this(vertx, new ZkUserConfigStore(zookeeperUrl, zookeeperSessionTimeout));
+    }
+
+    /**
+     * @param vertx         Vertx instance
+     * @param configStore   The user configurations, which can be shared with the {@link ScramShaCredentials}
+     */
+    public KafkaUserQuotasOperator(Vertx vertx, ZkUserConfigStore configStore) {
+        this.configStore = configStore;
         this.vertx = vertx;
     }
 
@@ -73,7 +77,7 @@ public class KafkaUserQuotasOperator {
     public void createOrUpdate(String username, KafkaUserQuotas quotas) {
         String encodedUsername = encodeUsername(username);
 
-        byte[] data = zkClient.readData("/config/users/" + encodedUsername, true);
+        byte[] data = configStore.read(encodedUsername);
 
         if (data != null)   {
             log.debug("Checking quota updates for user {}", username);
@@ -88,15 +92,14 @@ public class KafkaUserQuotasOperator {
 
             if (diff != null && diff.size() > 0) {
                 log.debug("Updating quotas for user {}", username);
-                zkClient.writeData("/config/users/" + encodedUsername, createOrUpdateUserJson(data, quotas));
+                configStore.update(encodedUsername, createOrUpdateUserJson(data, quotas));
                 notifyChanges(username);
             } else {
                 log.debug("Nothing to update in quotas for user {}", username);
             }
         } else {
             log.debug("Creating quotas for user {}", username);
-            ensurePath("/config/users");
-            zkClient.createPersistent("/config/users/" + encodedUsername, createUserJson(quotas));
+            configStore.create(encodedUsername, createUserJson(quotas));
             notifyChanges(username);
         }
     }
@@ -172,27 +175,13 @@ public class KafkaUserQuotasOperator {
 
         log.debug("Notifying changes for user {}", username);
 
-        ensurePath("/config/changes");
-
         JsonObject json = new JsonObject().put("version", 2).put("entity_path", "users/" + encodedUsername);
-        zkClient.createPersistentSequential("/config/changes/config_change_", json.encode().getBytes(StandardCharsets.UTF_8));
-    }
-
-    /**
-     * Ensures that the path in Zookeeper exists.
-     * It checks whether it already exists and in case it doesn't, it will create the path.
-     *
-     * @param path The Zookeeper path which should exist
-     */
-    private void ensurePath(String path)    {
-        if (!zkClient.exists(path))   {
-            zkClient.createPersistent(path, true);
-        }
+        configStore.notifyChanges("users/" + encodedUsername, json.encode().getBytes(StandardCharsets.UTF_8));
     }
 
     /* test */
     boolean isPathExist(String path)    {
-        return zkClient.exists(path);
+        return configStore.exists(path);
     }
 
     /**
@@ -205,7 +194,7 @@ public class KafkaUserQuotasOperator {
     boolean exists(String username) {
         String encodedUsername = encodeUsername(username);
 
-        byte[] data = zkClient.readData("/config/users/" + encodedUsername, true);
+        byte[] data = configStore.read(encodedUsername);
 
         if (data != null)   {
             String jsonString = new String(data, StandardCharsets.UTF_8);
@@ -241,16 +230,16 @@ public class KafkaUserQuotasOperator {
     public void delete(String username) {
         String encodedUsername = encodeUsername(username);
 
-        byte[] data = zkClient.readData("/config/users/" + encodedUsername, true);
+        byte[] data = configStore.read(encodedUsername);
 
         if (data != null)   {
             log.debug("Deleting quotas for user {}", username);
             JsonObject deleteJson = removeQuotasFromJsonUser(data);
             if (configJsonIsEmpty(deleteJson)) {
-                zkClient.deleteRecursive("/config/users/" + encodedUsername);
+                configStore.delete(encodedUsername);
                 log.debug("User {} deleted from ZK store", username);
             } else {
-                zkClient.writeData("/config/users/" + encodedUsername, deleteJson.toBuffer().getBytes());
+                configStore.update(encodedUsername, deleteJson.toBuffer().getBytes());
             }
             notifyChanges(username);
         } else {
@@ -295,7 +284,7 @@ public class KafkaUserQuotasOperator {
     protected JsonObject getQuotas(String username) {
         String encodedUsername = encodeUsername(username);
 
-        byte[] data = zkClient.readData("/config/users/" + encodedUsername, true);
+        byte[] data = configStore.read(encodedUsername);
 
         if (data != null) {
             String jsonString = new String(data, StandardCharsets.UTF_8);
@@ -5,8 +5,6 @@
 package io.strimzi.operator.user.operator;
 
 import io.vertx.core.json.JsonObject;
-import org.I0Itec.zkclient.ZkClient;
-import org.I0Itec.zkclient.serialize.BytesPushThroughSerializer;
 import org.apache.kafka.common.security.scram.ScramCredential;
 import org.apache.kafka.common.security.scram.internals.ScramCredentialUtils;
 import org.apache.kafka.common.security.scram.internals.ScramFormatter;
@@ -26,13 +24,19 @@ public class ScramShaCredentials {
     private static final Logger log = LogManager.getLogger(ScramShaCredentials.class.getName());
 
     private final static int ITERATIONS = 4096;
-    private final static int CONNECTION_TIMEOUT = 30_000;
 
     private final ScramMechanism mechanism = ScramMechanism.SCRAM_SHA_512;
-    private ZkClient zkClient;
+    private final ZkUserConfigStore configStore;
 
     public ScramShaCredentials(String zookeeperUrl, int zookeeperSessionTimeout) {
-        zkClient = new ZkClient(zookeeperUrl, zookeeperSessionTimeout, CONNECTION_TIMEOUT, new BytesPushThroughSerializer());
+        this(new ZkUserConfigStore(zookeeperUrl, zookeeperSessionTimeout));
+    }
+
+    /**
+     * @param configStore   The user configurations, which can be shared with the {@link KafkaUserQuotasOperator}
+     */
+    public ScramShaCredentials(ZkUserConfigStore configStore) {
+        this.configStore = configStore;
     }
 
     /**
@@ -42,15 +46,14 @@ public class ScramShaCredentials {
      * @param password The desired user password
      */
     public void createOrUpdate(String username, String password) {
-        byte[] data = zkClient.readData("/config/users/" + username, true);
+        byte[] data = configStore.read(username);
 
         if (data != null)   {
             log.debug("Updating {} credentials for user {}", mechanism.mechanismName(), username);
-            zkClient.writeData("/config/users/" + username, updateUserJson(data, password));
+            configStore.update(username, updateUserJson(data, password));
         } else {
             log.debug("Creating {} credentials for user {}", mechanism.mechanismName(), username);
-            ensurePath("/config/users");
-            zkClient.createPersistent("/config/users/" + username, createUserJson(password));
+            configStore.create(username, createUserJson(password));
         }
 
         notifyChanges(username);
@@ -69,15 +72,15 @@ public class ScramShaCredentials {
      * @param username Name of the user
      */
     public void delete(String username) {
-        byte[] data = zkClient.readData("/config/users/" + username, true);
+        byte[] data = configStore.read(username);
 
         if (data != null)   {
             log.debug("Deleting {} credentials for user {}", mechanism.mechanismName(), username);
             JsonObject deletedJson = removeScramCredentialsFromUserJson(data);
             if (configJsonIsEmpty(deletedJson)) {
-                zkClient.deleteRecursive("/config/users/" + username);
+                configStore.delete(username);
             } else {
-                zkClient.writeData("/config/users/" + username, deletedJson.toBuffer().getBytes());
+                configStore.update(username, deletedJson.toBuffer().getBytes());
             }
             notifyChanges(username);
         } else {
@@ -93,7 +96,7 @@ public class ScramShaCredentials {
      * @return True if the user exists and is configured for given mechanism
      */
     public boolean exists(String username) {
-        byte[] data = zkClient.readData("/config/users/" + username, true);
+        byte[] data = configStore.read(username);
 
         if (data != null)   {
             String jsonString = new String(data, Charset.defaultCharset());
@@ -126,13 +129,9 @@ public class ScramShaCredentials {
     public List<String> list() {
         List<String> result = new ArrayList<>();
 
-        if (zkClient.exists("/config/users"))   {
-            List<String> nodes = zkClient.getChildren("/config/users");
-
-            for (String node : nodes)   {
-                if (exists(node))   {
-                    result.add(node);
-                }
+        for (String node : configStore.list())   {
+            if (exists(node))   {
+                result.add(node);
             }
         }
 
@@ -147,27 +146,13 @@ public class ScramShaCredentials {
     private void notifyChanges(String username) {
         log.debug("Notifying changes for user {}", username);
 
-        ensurePath("/config/changes");
-
         JsonObject json = new JsonObject().put("version", 2).put("entity_path", "users/" + username);
-        zkClient.createPersistentSequential("/config/changes/config_change_", json.encode().getBytes(Charset.defaultCharset()));
-    }
-
-    /**
-     * Ensures that the path in Zookeeper exists.
-     * It checks whether it already exists and in case it doesn't, it will create the path.
-     *
-     * @param path The Zookeeper path which should exist
-     */
-    private void ensurePath(String path)    {
-        if (!zkClient.exists(path))   {
-            zkClient.createPersistent(path, true);
-        }
+        configStore.notifyChanges("users/" + username, json.encode().getBytes(Charset.defaultCharset()));
     }
 
     /* test */
     boolean isPathExist(String path)    {
-        return zkClient.exists(path);
+        return configStore.exists(path);
     }
 
     /**
@@ -8,11 +8,12 @@ import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
-import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -29,9 +30,13 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -50,6 +55,10 @@ public class SimpleAclOperator {
     private final Vertx vertx;
     private final Admin adminClient;
 
+    private final List<AclChange> pendingChanges = new ArrayList<>();
+    private boolean batchInProgress = false;
+    private volatile AclSnapshot snapshot;
+
     /**
      * Constructor
      *
@@ -62,54 +71,64 @@ public class SimpleAclOperator {
     }
 
     /**
-     * Reconciles Acl rules for given user
+     * Reconciles Acl rules for given user.
+     * The current rules are taken from the snapshot of the last {@link #getUsersWithAcls()} sweep when available,
+     * otherwise they are described from the Kafka cluster.
      *
      * @param username  User name of the reconciled user. When using TLS client auth, the username should be already in the Kafka format, e.g. CN=my-user
      * @param desired   The list of desired Acl rules
      * @return the Future with reconcile result
      */
     public Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(String username, Set<SimpleAclRule> desired) {
-        Promise<ReconcileResult<Set<SimpleAclRule>>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
-            future -> {
-                Set<SimpleAclRule> current;
-
-                try {
-                    current = getAcls(username);
-                } catch (Exception e)   {
-                    // if authorization is not enabled in the Kafka resource, but the KafkaUser resource doesn't
-                    // have ACLs, the UO can just ignore the corresponding exception
-                    if (e instanceof InvalidResourceException && (desired == null || desired.isEmpty())) {
-                        future.complete();
-                        return;
-                    } else {
-                        log.error("Reconciliation failed for user {}", username, e);
-                        future.fail(e);
-                        return;
-                    }
-                }
-
-                if (desired == null || desired.isEmpty()) {
-                    if (current.size() == 0)    {
-                        log.debug("User {}: No expected Acl rules and no existing Acl rules -> NoOp", username);
-                        future.complete(ReconcileResult.noop(desired));
-                    } else {
-                        log.debug("User {}: No expected Acl rules, but {} existing Acl rules -> Deleting rules", username, current.size());
-                        internalDelete(username, current).onComplete(future);
-                    }
+        return currentAcls(username).compose(current -> {
+            if (desired == null || desired.isEmpty()) {
+                if (current.size() == 0)    {
+                    log.debug("User {}: No expected Acl rules and no existing Acl rules -> NoOp", username);
+                    return Future.succeededFuture(ReconcileResult.noop(desired));
                 } else {
-                    if (current.isEmpty())  {
-                        log.debug("User {}: {} expected Acl rules, but no existing Acl rules -> Adding rules", username, desired.size());
-                        internalCreate(username, desired).onComplete(future);
-                    } else  {
-                        log.debug("User {}: {} expected Acl rules and {} existing Acl rules -> Reconciling rules", username, desired.size(), current.size());
-                        internalUpdate(username, desired, current).onComplete(future);
-                    }
+                    log.debug("User {}: No expected Acl rules, but {} existing Acl rules -> Deleting rules", username, current.size());
+                    return internalDelete(username, current);
                 }
-            },
+            } else {
+                if (current.isEmpty())  {
+                    log.debug("User {}: {} expected Acl rules, but no existing Acl rules -> Adding rules", username, desired.size());
+                    return internalCreate(username, desired);
+                } else  {
+                    log.debug("User {}: {} expected Acl rules and {} existing Acl rules -> Reconciling rules", username, desired.size(), current.size());
+                    return internalUpdate(username, desired, current);
+                }
+            }
+        }, error -> failedToGetAcls(username, desired, error));
+    }
+
+    private Future<ReconcileResult<Set<SimpleAclRule>>> failedToGetAcls(String username, Set<SimpleAclRule> desired, Throwable error) {
+        // if authorization is not enabled in the Kafka resource, but the KafkaUser resource doesn't
+        // have ACLs, the UO can just ignore the corresponding exception
+        if (error instanceof InvalidResourceException && (desired == null || desired.isEmpty())) {
+            return Future.succeededFuture();
+        } else {
+            log.error("Reconciliation failed for user {}", username, error);
+            return Future.failedFuture(error);
+        }
+    }
+
+    /**
+     * Gets the current ACLs of given user from the snapshot, or from the Kafka cluster if the snapshot doesn't have them.
+     */
+    private Future<Set<SimpleAclRule>> currentAcls(String username) {
+        AclSnapshot snapshot = this.snapshot;
+        Set<SimpleAclRule> snapshotAcls = snapshot != null ? snapshot.take(username) : null;
+
+        if (snapshotAcls != null) {
+            log.debug("User {}: Using {} Acl rules from the snapshot", username, snapshotAcls.size());
+            return Future.succeededFuture(snapshotAcls);
+        }
+
+        Promise<Set<SimpleAclRule>> promise = Promise.promise();
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            future -> future.complete(getAcls(username)),
             false,
-            promise
-        );
+            promise);
         return promise.future();
     }
 
@@ -117,22 +136,16 @@ public class SimpleAclOperator {
      * Create all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(String username, Set<SimpleAclRule> desired) {
-        try {
-            Collection<AclBinding> aclBindings = getAclBindings(username, desired);
-            adminClient.createAcls(aclBindings).all().get();
-        } catch (Exception e) {
-            log.error("Adding Acl rules for user {} failed", username, e);
-            return Future.failedFuture(e);
-        }
-
-        return Future.succeededFuture(ReconcileResult.created(desired));
+        return submit(username, desired, Collections.emptySet())
+                .<ReconcileResult<Set<SimpleAclRule>>>map(ignored -> ReconcileResult.created(desired))
+                .onFailure(e -> log.error("Adding Acl rules for user {} failed", username, e));
     }
 
     /**
      * Update all ACLs for given user.
      * SimpleAclAuthorizer doesn't support modification of existing rules.
      * This class is using Sets to decide which rules need to be added and which need to be deleted.
-     * It delagates to {@link #internalCreate internalCreate} and {@link #internalDelete internalDelete} methods for the actual addition or deletion.
+     * The additions and deletions are submitted together, in the same batch.
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalUpdate(String username, Set<SimpleAclRule> desired, Set<SimpleAclRule> current) {
         Set<SimpleAclRule> toBeDeleted = new HashSet<>(current);
@@ -141,22 +154,9 @@ public class SimpleAclOperator {
         Set<SimpleAclRule> toBeAdded = new HashSet<>(desired);
         toBeAdded.removeAll(current);
 
-        List<Future> updates = new ArrayList<>(2);
-        updates.add(internalDelete(username, toBeDeleted));
-        updates.add(internalCreate(username, toBeAdded));
-
-        Promise<ReconcileResult<Set<SimpleAclRule>>> promise = Promise.promise();
-
-        CompositeFuture.all(updates).onComplete(res -> {
-            if (res.succeeded())    {
-                promise.complete(ReconcileResult.patched(desired));
-            } else  {
-                log.error("Updating Acl rules for user {} failed", username, res.cause());
-                promise.fail(res.cause());
-            }
-        });
-
-        return promise.future();
+        return submit(username, toBeAdded, toBeDeleted)
+                .<ReconcileResult<Set<SimpleAclRule>>>map(ignored -> ReconcileResult.patched(desired))
+                .onFailure(e -> log.error("Updating Acl rules for user {} failed", username, e));
     }
 
     private Collection<AclBindingFilter> getAclBindingFilters(String username, Set<SimpleAclRule> aclRules) {
@@ -181,15 +181,100 @@ public class SimpleAclOperator {
      * Deletes all ACLs for given user
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(String username, Set<SimpleAclRule> current) {
+        return submit(username, Collections.emptySet(), current)
+                .<ReconcileResult<Set<SimpleAclRule>>>map(ignored -> ReconcileResult.deleted())
+                .onFailure(e -> log.error("Deleting Acl rules for user {} failed", username, e));
+    }
+
+    /**
+     * Queues the ACL changes of given user. The changes queued by all users while a batch is being applied are
+     * applied together in the next batch, with a single createAcls and a single deleteAcls call.
+     *
+     * @param username      Name of the user.
+     * @param toBeAdded     The rules to create.
+     * @param toBeDeleted   The rules to delete.
+     * @return Future which completes when the changes of this user have been applied.
+     */
+    private Future<Void> submit(String username, Set<SimpleAclRule> toBeAdded, Set<SimpleAclRule> toBeDeleted) {
+        AclChange change = new AclChange(getAclBindings(username, toBeAdded), getAclBindingFilters(username, toBeDeleted));
+        boolean startBatch;
+
+        synchronized (pendingChanges) {
+            pendingChanges.add(change);
+            startBatch = !batchInProgress;
+            batchInProgress = true;
+        }
+
+        if (startBatch) {
+            applyPendingChanges();
+        }
+
+        return change.promise.future();
+    }
+
+    private void applyPendingChanges() {
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+            future -> {
+                List<AclChange> batch;
+                synchronized (pendingChanges) {
+                    batch = new ArrayList<>(pendingChanges);
+                    pendingChanges.clear();
+                }
+                applyBatch(batch);
+                future.complete();
+            },
+            false,
+            res -> {
+                boolean nextBatch;
+                synchronized (pendingChanges) {
+                    nextBatch = !pendingChanges.isEmpty();
+                    batchInProgress = nextBatch;
+                }
+
+                if (nextBatch) {
+                    applyPendingChanges();
+                }
+            });
+    }
+
+    private void applyBatch(List<AclChange> batch) {
+        List<AclBinding> aclBindings = new ArrayList<>();
+        List<AclBindingFilter> aclBindingFilters = new ArrayList<>();
+        for (AclChange change : batch) {
+            aclBindings.addAll(change.toBeCreated);
+            aclBindingFilters.addAll(change.toBeDeleted);
+        }
 
+        log.debug("Applying Acl changes of {} users: creating {} and deleting {} Acl rules", batch.size(), aclBindings.size(), aclBindingFilters.size());
+
+        Map<AclBinding, KafkaFuture<Void>> creations;
+        Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> deletions;
         try {
-            Collection<AclBindingFilter> aclBindingFilters = getAclBindingFilters(username, current);
-            adminClient.deleteAcls(aclBindingFilters).all().get();
+            creations = aclBindings.isEmpty() ? Collections.emptyMap() : adminClient.createAcls(aclBindings).values();
+            deletions = aclBindingFilters.isEmpty() ? Collections.emptyMap() : adminClient.deleteAcls(aclBindingFilters).values();
         } catch (Exception e) {
-            log.error("Deleting Acl rules for user {} failed", username, e);
-            return Future.failedFuture(e);
+            batch.forEach(change -> change.promise.fail(e));
+            return;
+        }
+
+        for (AclChange change : batch) {
+            try {
+                for (AclBinding aclBinding : change.toBeCreated) {
+                    creations.get(aclBinding).get();
+                }
+                for (AclBindingFilter aclBindingFilter : change.toBeDeleted) {
+                    // The deletion of each matching ACL can fail on its own
+                    for (DeleteAclsResult.FilterResult filterResult : deletions.get(aclBindingFilter).get().values()) {
+                        if (filterResult.exception() != null) {
+                            throw filterResult.exception();
+                        }
+                    }
+                }
+                change.promise.complete();
+            } catch (Exception e) {
+                change.promise.fail(e);
+            }
         }
-        return Future.succeededFuture(ReconcileResult.deleted());
     }
 
     /**
@@ -231,6 +316,8 @@ public class SimpleAclOperator {
 
     /**
      * Returns set with all usernames which have some ACLs.
+     * The ACLs described for this are kept as a snapshot, so that the reconciliations of the users which follow
+     * don't need to describe their ACLs one by one.
      *
      * @return The set with all usernames which have some ACLs.
      */
@@ -244,9 +331,12 @@ public class SimpleAclOperator {
         try {
             aclBindings = adminClient.describeAcls(AclBindingFilter.ANY).values().get();
         } catch (InterruptedException | ExecutionException e) {
+            snapshot = null;
             return result;
         }
 
+        snapshot = new AclSnapshot(aclBindings);
+
         for (AclBinding aclBinding : aclBindings) {
             KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
 
@@ -272,4 +362,63 @@ public class SimpleAclOperator {
 
         return result;
     }
+
+    /**
+     * Drops the snapshot of the ACLs taken by {@link #getUsersWithAcls()}, so that the following reconciliations
+     * describe the current ACLs from the Kafka cluster again.
+     */
+    public void clearSnapshot() {
+        snapshot = null;
+    }
+
+    /**
+     * The ACL rules of all users, indexed by the username in the Kafka format. The rules of each user are handed out
+     * only once, since they are not up to date anymore once the user has been reconciled.
+     */
+    private static class AclSnapshot {
+        private final Map<String, Set<SimpleAclRule>> aclsByUsername = new HashMap<>();
+        private final Set<String> unknownUsers = new HashSet<>();
+        private final Set<String> takenUsers = ConcurrentHashMap.newKeySet();
+
+        AclSnapshot(Collection<AclBinding> aclBindings) {
+            for (AclBinding aclBinding : aclBindings) {
+                KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
+
+                if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
+                    try {
+                        aclsByUsername.computeIfAbsent(principal.getName(), name -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
+                    } catch (IllegalArgumentException e) {
+                        // Users with rules which cannot be represented are left to getAcls()
+                        unknownUsers.add(principal.getName());
+                    }
+                }
+            }
+        }
+
+        /**
+         * @param username  Name of the user.
+         * @return The ACL rules of the user, or null when the snapshot cannot be used for it.
+         */
+        Set<SimpleAclRule> take(String username) {
+            if (unknownUsers.contains(username) || !takenUsers.add(username)) {
+                return null;
+            }
+
+            return aclsByUsername.getOrDefault(username, Collections.emptySet());
+        }
+    }
+
+    /**
+     * The ACL changes of a single user, waiting to be applied in a batch.
+     */
+    private static class AclChange {
+        private final Collection<AclBinding> toBeCreated;
+        private final Collection<AclBindingFilter> toBeDeleted;
+        private final Promise<Void> promise = Promise.promise();
+
+        AclChange(Collection<AclBinding> toBeCreated, Collection<AclBindingFilter> toBeDeleted) {
+            this.toBeCreated = toBeCreated;
+            this.toBeDeleted = toBeDeleted;
+        }
+    }
 }
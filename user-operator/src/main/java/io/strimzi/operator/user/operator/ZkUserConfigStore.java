@@ -0,0 +1,406 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
+import org.apache.zookeeper.ZooDefs;
+import org.apache.zookeeper.ZooKeeper;
+import org.apache.zookeeper.data.Stat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Keeps the user configurations which Kafka stores under /config/users in ZooKeeper in memory.
+ * A single ZooKeeper session is shared by the {@link ScramShaCredentials} and the {@link KafkaUserQuotasOperator}.
+ * The configurations are loaded with pipelined asynchronous reads and kept up to date by ZooKeeper watches,
+ * so listing and reading them doesn't need any round trip to ZooKeeper. The changes are written to ZooKeeper
+ * and then to the cache, so they are visible to the next read straight away.
+ */
+public class ZkUserConfigStore implements AutoCloseable {
+    private static final Logger log = LogManager.getLogger(ZkUserConfigStore.class.getName());
+
+    static final String USERS_PATH = "/config/users";
+    private static final String CHANGES_PATH = "/config/changes";
+    private final static int CONNECTION_TIMEOUT = 30_000;
+
+    private final String zookeeperUrl;
+    private final ZooKeeperFactory zooKeeperFactory;
+    private final Map<String, UserConfig> configs = new ConcurrentHashMap<>();
+    private final Watcher usersWatcher = this::usersChanged;
+    private final Watcher userWatcher = this::userChanged;
+
+    private final Object connectionLock = new Object();
+    private volatile ZooKeeper zk;
+    private volatile boolean connected = false;
+    private volatile boolean reloadOnConnect = false;
+
+    public ZkUserConfigStore(String zookeeperUrl, int zookeeperSessionTimeout) {
+        this(zookeeperUrl, watcher -> new ZooKeeper(zookeeperUrl, zookeeperSessionTimeout, watcher));
+    }
+
+    /**
+     * @param zookeeperUrl      The ZooKeeper connection string, used in error messages
+     * @param zooKeeperFactory  Creates the ZooKeeper sessions, notifying the given watcher about their state
+     */
+    ZkUserConfigStore(String zookeeperUrl, ZooKeeperFactory zooKeeperFactory) {
+        this.zookeeperUrl = zookeeperUrl;
+        this.zooKeeperFactory = zooKeeperFactory;
+
+        connect();
+        waitUntilConnected();
+
+        try {
+            loadUsers(true).get(CONNECTION_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            close();
+            throw new RuntimeException("Failed to load the user configurations from ZooKeeper", e);
+        }
+
+        log.debug("Loaded the configurations of {} users from ZooKeeper", configs.size());
+    }
+
+    /**
+     * @param name  Name of the user node, i.e. the username in the format used by Kafka
+     *
+     * @return The configuration of the user, or null if the user doesn't have any
+     */
+    public byte[] read(String name) {
+        UserConfig config = configs.get(name);
+        return config != null ? config.data : null;
+    }
+
+    /**
+     * @return The names of all users with a configuration
+     */
+    public List<String> list() {
+        return new ArrayList<>(configs.keySet());
+    }
+
+    /**
+     * Creates the configuration of a user which doesn't have any yet.
+     *
+     * @param name  Name of the user node
+     * @param data  The configuration
+     */
+    public void create(String name, byte[] data) {
+        ensurePath(USERS_PATH);
+        Stat stat = new Stat();
+        retryUntilConnected(() -> zk.create(USERS_PATH + "/" + name, data, ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT, stat));
+        updateConfig(name, data, stat.getMzxid());
+        // The users watch skips the children which are cached already, so the new node is read back to watch it
+        loadUser(name).whenComplete(this::reloadOnFailure);
+    }
+
+    /**
+     * Replaces the configuration of a user.
+     *
+     * @param name  Name of the user node
+     * @param data  The configuration
+     */
+    public void update(String name, byte[] data) {
+        Stat stat = retryUntilConnected(() -> zk.setData(USERS_PATH + "/" + name, data, -1));
+        updateConfig(name, data, stat.getMzxid());
+    }
+
+    /**
+     * Deletes the configuration of a user. It is not an error if the user doesn't have any.
+     *
+     * @param name  Name of the user node
+     */
+    public void delete(String name) {
+        String path = USERS_PATH + "/" + name;
+        retryUntilConnected(() -> {
+            try {
+                for (String child : zk.getChildren(path, false)) {
+                    zk.delete(path + "/" + child, -1);
+                }
+                zk.delete(path, -1);
+            } catch (KeeperException.NoNodeException e) {
+                // Already deleted
+            }
+            return null;
+        });
+        configs.remove(name);
+    }
+
+    /**
+     * Creates the change notification which makes Kafka pick up the changed configuration.
+     *
+     * @param entityPath    The path of the changed entity relatively to /config, e.g. users/my-user
+     * @param data          The change notification
+     */
+    public void notifyChanges(String entityPath, byte[] data) {
+        log.debug("Notifying changes of {}", entityPath);
+        ensurePath(CHANGES_PATH);
+        retryUntilConnected(() -> zk.create(CHANGES_PATH + "/config_change_", data, ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT_SEQUENTIAL));
+    }
+
+    /**
+     * Checks the path in ZooKeeper, bypassing the cache.
+     *
+     * @param path  The ZooKeeper path
+     *
+     * @return True if the path exists
+     */
+    public boolean exists(String path) {
+        return retryUntilConnected(() -> zk.exists(path, false)) != null;
+    }
+
+    @Override
+    public void close() {
+        try {
+            zk.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Ensures that the path in Zookeeper exists, including its parents.
+     *
+     * @param path The Zookeeper path which should exist
+     */
+    private void ensurePath(String path) {
+        if (!exists(path)) {
+            int index = path.lastIndexOf('/');
+            if (index > 0) {
+                ensurePath(path.substring(0, index));
+            }
+
+            retryUntilConnected(() -> {
+                try {
+                    return zk.create(path, null, ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT);
+                } catch (KeeperException.NodeExistsException e) {
+                    return path;
+                }
+            });
+        }
+    }
+
+    private void updateConfig(String name, byte[] data, long mzxid) {
+        // Keeps the more recent configuration in case a write races with a read triggered by a watch
+        configs.merge(name, new UserConfig(data, mzxid), (current, updated) -> updated.mzxid >= current.mzxid ? updated : current);
+    }
+
+    /**
+     * Lists the users and reads the configurations which are not cached yet, or all of them.
+     * The reads are pipelined asynchronously.
+     *
+     * @param all   Whether the configurations which are cached already should be read again as well
+     *
+     * @return A future which completes when the configurations have been read
+     */
+    private CompletableFuture<Void> loadUsers(boolean all) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        zk.getChildren(USERS_PATH, usersWatcher, (rc, path, ctx, children) -> {
+            KeeperException.Code code = KeeperException.Code.get(rc);
+
+            if (code == KeeperException.Code.OK) {
+                configs.keySet().retainAll(children);
+
+                List<CompletableFuture<Void>> reads = new ArrayList<>(children.size());
+                for (String child : children) {
+                    if (all || !configs.containsKey(child)) {
+                        reads.add(loadUser(child));
+                    }
+                }
+
+                CompletableFuture.allOf(reads.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> complete(result, error));
+            } else if (code == KeeperException.Code.NONODE) {
+                configs.clear();
+                // Watches the path to be notified once it is created
+                zk.exists(USERS_PATH, usersWatcher, (existsRc, existsPath, existsCtx, stat) -> {
+                    if (stat != null) {
+                        loadUsers(all).whenComplete((ignored, error) -> complete(result, error));
+                    } else if (KeeperException.Code.get(existsRc) == KeeperException.Code.NONODE) {
+                        result.complete(null);
+                    } else {
+                        complete(result, failure(existsRc, existsPath));
+                    }
+                }, null);
+            } else {
+                complete(result, failure(rc, path));
+            }
+        }, null);
+
+        return result;
+    }
+
+    private CompletableFuture<Void> loadUser(String name) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        zk.getData(USERS_PATH + "/" + name, userWatcher, (rc, path, ctx, data, stat) -> {
+            KeeperException.Code code = KeeperException.Code.get(rc);
+
+            if (code == KeeperException.Code.OK) {
+                updateConfig(name, data, stat.getMzxid());
+                result.complete(null);
+            } else if (code == KeeperException.Code.NONODE) {
+                configs.remove(name);
+                result.complete(null);
+            } else {
+                result.completeExceptionally(failure(rc, path));
+            }
+        }, null);
+
+        return result;
+    }
+
+    private void usersChanged(WatchedEvent event) {
+        if (event.getType() == Watcher.Event.EventType.NodeChildrenChanged
+                || event.getType() == Watcher.Event.EventType.NodeCreated
+                || event.getType() == Watcher.Event.EventType.NodeDeleted) {
+            loadUsers(false).whenComplete(this::reloadOnFailure);
+        }
+    }
+
+    private void userChanged(WatchedEvent event) {
+        String name = event.getPath() != null ? event.getPath().substring(USERS_PATH.length() + 1) : null;
+
+        if (event.getType() == Watcher.Event.EventType.NodeDataChanged) {
+            loadUser(name).whenComplete(this::reloadOnFailure);
+        } else if (event.getType() == Watcher.Event.EventType.NodeDeleted) {
+            configs.remove(name);
+        }
+    }
+
+    private void reloadOnFailure(Void ignored, Throwable error) {
+        if (error != null) {
+            // The watch might not be set anymore, so everything is read again once connected
+            log.warn("Failed to refresh the user configurations from ZooKeeper", error);
+            reloadOnConnect = true;
+            if (connected) {
+                reload();
+            }
+        }
+    }
+
+    private void reload() {
+        reloadOnConnect = false;
+        loadUsers(true).whenComplete(this::reloadOnFailure);
+    }
+
+    private void connect() {
+        try {
+            zk = zooKeeperFactory.create(this::sessionChanged);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to connect to ZooKeeper", e);
+        }
+    }
+
+    private void sessionChanged(WatchedEvent event) {
+        synchronized (connectionLock) {
+            switch (event.getState()) {
+                case SyncConnected:
+                    connected = true;
+                    if (reloadOnConnect) {
+                        reload();
+                    }
+                    break;
+                case Disconnected:
+                    connected = false;
+                    break;
+                case Expired:
+                    // The watches are gone with the session, so a new session is created and everything is read again
+                    log.warn("ZooKeeper session expired, reconnecting");
+                    connected = false;
+                    reloadOnConnect = true;
+                    connect();
+                    break;
+                default:
+                    break;
+            }
+            connectionLock.notifyAll();
+        }
+    }
+
+    private void waitUntilConnected() {
+        long deadline = System.currentTimeMillis() + CONNECTION_TIMEOUT;
+
+        synchronized (connectionLock) {
+            while (!connected) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new RuntimeException("Timed out connecting to ZooKeeper " + zookeeperUrl);
+                }
+
+                try {
+                    connectionLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while connecting to ZooKeeper", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the ZooKeeper operation, retrying it when the connection was lost until it is connected again.
+     */
+    private <T> T retryUntilConnected(ZkOperation<T> operation) {
+        while (true) {
+            try {
+                return operation.run();
+            } catch (KeeperException.ConnectionLossException | KeeperException.SessionExpiredException e) {
+                log.debug("Lost connection to ZooKeeper, retrying once connected", e);
+                waitUntilConnected();
+            } catch (KeeperException e) {
+                throw new RuntimeException("ZooKeeper operation failed", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted during ZooKeeper operation", e);
+            }
+        }
+    }
+
+    private static Throwable failure(int rc, String path) {
+        return KeeperException.create(KeeperException.Code.get(rc), path);
+    }
+
+    private static void complete(CompletableFuture<Void> future, Throwable error) {
+        if (error != null) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(null);
+        }
+    }
+
+    @FunctionalInterface
+    interface ZooKeeperFactory {
+        ZooKeeper create(Watcher watcher) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ZkOperation<T> {
+        T run() throws KeeperException, InterruptedException;
+    }
+
+    /**
+     * The configuration of a user, with the ZooKeeper transaction which last modified it.
+     */
+    private static class UserConfig {
+        private final byte[] data;
+        private final long mzxid;
+
+        UserConfig(byte[] data, long mzxid) {
+            this.data = data;
+            this.mzxid = mzxid;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import io.strimzi.api.kafka.model.AclRuleType;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -24,6 +25,8 @@ import org.apache.kafka.common.acl.AccessControlEntry;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.errors.ApiException;
+import org.apache.kafka.common.errors.ClusterAuthorizationException;
 import org.apache.kafka.common.resource.PatternType;
 import org.apache.kafka.common.resource.ResourcePattern;
 import org.apache.kafka.common.resource.ResourcePatternFilter;
@@ -35,10 +38,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
@@ -53,6 +58,8 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -228,6 +235,82 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testReconcileInternalDeleteFailsWhenAclDeletionFails(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+
+        KafkaPrincipal foo = new KafkaPrincipal("User", "CN=foo");
+        AclBinding readAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor = ArgumentCaptor.forClass(Collection.class);
+        ApiException exception = new ClusterAuthorizationException("Not authorized to delete the ACL");
+        assertDoesNotThrow(() -> {
+            mockDescribeAcls(mockAdminClient, null, Collections.singleton(readAclBinding));
+            mockDeleteAcls(mockAdminClient, Collections.singleton(readAclBinding), aclBindingFiltersCaptor, exception);
+        });
+
+        Checkpoint async = context.checkpoint();
+        aclOp.reconcile("CN=foo", null)
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    // The failure of a single matching ACL fails the reconciliation of the user
+                    assertThat(e, is(exception));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconcileUsesSnapshotOfUsersWithAcls(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource1 = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        ResourcePattern resource2 = new ResourcePattern(ResourceType.TOPIC, "my-topic2", PatternType.LITERAL);
+
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding fooReadAclBinding = new AclBinding(resource1, new AccessControlEntry(foo.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        AclBinding fooWriteAclBinding = new AclBinding(resource2, new AccessControlEntry(foo.toString(), "*", org.apache.kafka.common.acl.AclOperation.WRITE, AclPermissionType.ALLOW));
+        KafkaPrincipal bar = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "bar");
+        AclBinding barReadAclBinding = new AclBinding(resource1, new AccessControlEntry(bar.toString(), "*", org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic2", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule writeRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.WRITE);
+
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor = ArgumentCaptor.forClass(Collection.class);
+        assertDoesNotThrow(() -> {
+            mockDescribeAcls(mockAdminClient, null, emptyList());
+            mockDescribeAcls(mockAdminClient, AclBindingFilter.ANY, asList(fooReadAclBinding, barReadAclBinding));
+            mockCreateAcls(mockAdminClient, aclBindingsCaptor);
+            mockDeleteAcls(mockAdminClient, asList(fooReadAclBinding, barReadAclBinding), aclBindingFiltersCaptor);
+        });
+
+        assertThat(aclOp.getUsersWithAcls(), is(new HashSet<>(asList("foo", "bar"))));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(aclOp.reconcile("CN=foo", Collections.singleton(writeRule)), aclOp.reconcile("bar", null))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // The current ACLs of both the TLS and the SCRAM user came from the snapshot
+                    verify(mockAdminClient, times(1)).describeAcls(any());
+
+                    Set<AclBinding> capturedAclBindings = aclBindingsCaptor.getAllValues().stream()
+                            .flatMap(Collection::stream).collect(Collectors.toSet());
+                    assertThat(capturedAclBindings, is(Collections.singleton(fooWriteAclBinding)));
+
+                    Set<AclBindingFilter> capturedAclBindingFilters = aclBindingFiltersCaptor.getAllValues().stream()
+                            .flatMap(Collection::stream).collect(Collectors.toSet());
+                    assertThat(capturedAclBindingFilters, is(new HashSet<>(asList(fooReadAclBinding.toFilter(), barReadAclBinding.toFilter()))));
+                })))
+                .compose(ignored -> aclOp.reconcile("CN=foo", Collections.singleton(writeRule)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // The snapshot is used only once per user
+                    verify(mockAdminClient, times(2)).describeAcls(any());
+                    async.flag();
+                })));
+    }
+
     private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings)
             throws InterruptedException, ExecutionException {
         DescribeAclsResult result = mock(DescribeAclsResult.class);
@@ -240,18 +323,34 @@ public class SimpleAclOperatorTest {
     private void mockCreateAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor)
             throws InterruptedException, ExecutionException {
         CreateAclsResult result = mock(CreateAclsResult.class);
-        KafkaFuture<Void> future = mock(KafkaFuture.class);
-        when(future.get()).thenReturn(null);
-        when(result.all()).thenReturn(future);
+        when(result.values()).thenAnswer(invocation -> aclBindingsCaptor.getValue().stream()
+                .collect(Collectors.toMap(aclBinding -> aclBinding, aclBinding -> KafkaFuture.completedFuture(null))));
         when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenReturn(result);
     }
 
     private void mockDeleteAcls(Admin mockAdminClient, Collection<AclBinding> aclBindings, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor)
             throws InterruptedException, ExecutionException {
+        mockDeleteAcls(mockAdminClient, aclBindings, aclBindingFiltersCaptor, null);
+    }
+
+    private void mockDeleteAcls(Admin mockAdminClient, Collection<AclBinding> aclBindings, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor,
+                                ApiException exception) {
         DeleteAclsResult result = mock(DeleteAclsResult.class);
-        KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);
-        when(future.get()).thenReturn(aclBindings);
-        when(result.all()).thenReturn(future);
+        when(result.values()).thenAnswer(invocation -> aclBindingFiltersCaptor.getValue().stream()
+                .collect(Collectors.toMap(aclBindingFilter -> aclBindingFilter, aclBindingFilter -> {
+                    List<DeleteAclsResult.FilterResult> filterResults = new ArrayList<>();
+                    for (AclBinding aclBinding : aclBindings) {
+                        if (aclBindingFilter.matches(aclBinding)) {
+                            DeleteAclsResult.FilterResult filterResult = mock(DeleteAclsResult.FilterResult.class);
+                            when(filterResult.binding()).thenReturn(exception == null ? aclBinding : null);
+                            when(filterResult.exception()).thenReturn(exception);
+                            filterResults.add(filterResult);
+                        }
+                    }
+                    DeleteAclsResult.FilterResults results = mock(DeleteAclsResult.FilterResults.class);
+                    when(results.values()).thenReturn(filterResults);
+                    return KafkaFuture.completedFuture(results);
+                })));
         when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenReturn(result);
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.test.EmbeddedZooKeeper;
+import io.strimzi.test.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+
+public class ZkUserConfigStoreIT {
+
+    private EmbeddedZooKeeper zkServer;
+
+    private ZkUserConfigStore store;
+    private ZkUserConfigStore otherStore;
+
+    @BeforeEach
+    public void setup() throws IOException, InterruptedException {
+        zkServer = new EmbeddedZooKeeper();
+        store = new ZkUserConfigStore(zkServer.getZkConnectString(), 6_000);
+        otherStore = new ZkUserConfigStore(zkServer.getZkConnectString(), 6_000);
+    }
+
+    @AfterEach
+    public void teardown() {
+        store.close();
+        otherStore.close();
+        zkServer.close();
+    }
+
+    @Test
+    public void testWritesAreVisibleStraightAway() {
+        assertThat(store.list(), is(empty()));
+        assertThat(store.read("my-user"), is(nullValue()));
+
+        store.create("my-user", bytes("created"));
+        assertThat(store.read("my-user"), is(bytes("created")));
+        assertThat(store.list(), containsInAnyOrder("my-user"));
+        assertThat(store.exists("/config/users/my-user"), is(true));
+
+        store.update("my-user", bytes("updated"));
+        assertThat(store.read("my-user"), is(bytes("updated")));
+
+        store.delete("my-user");
+        assertThat(store.read("my-user"), is(nullValue()));
+        assertThat(store.list(), is(empty()));
+        assertThat(store.exists("/config/users/my-user"), is(false));
+
+        // Deleting a user without configuration is not an error
+        store.delete("my-user");
+    }
+
+    @Test
+    public void testExistingConfigurationsAreLoaded() {
+        store.create("my-user", bytes("my-config"));
+        store.create("my-other-user", bytes("my-other-config"));
+
+        try (ZkUserConfigStore newStore = new ZkUserConfigStore(zkServer.getZkConnectString(), 6_000)) {
+            assertThat(newStore.list(), containsInAnyOrder("my-user", "my-other-user"));
+            assertThat(newStore.read("my-user"), is(bytes("my-config")));
+            assertThat(newStore.read("my-other-user"), is(bytes("my-other-config")));
+        }
+    }
+
+    @Test
+    public void testChangesAreWatched() {
+        otherStore.create("my-user", bytes("created"));
+        TestUtils.waitFor("user to be created", 100, 10_000,
+            () -> Arrays.equals(store.read("my-user"), bytes("created")));
+        assertThat(store.list(), containsInAnyOrder("my-user"));
+
+        otherStore.update("my-user", bytes("updated"));
+        TestUtils.waitFor("user to be updated", 100, 10_000,
+            () -> Arrays.equals(store.read("my-user"), bytes("updated")));
+
+        otherStore.delete("my-user");
+        TestUtils.waitFor("user to be deleted", 100, 10_000,
+            () -> store.read("my-user") == null);
+        assertThat(store.list(), is(empty()));
+
+        otherStore.create("my-user", bytes("recreated"));
+        TestUtils.waitFor("user to be recreated", 100, 10_000,
+            () -> Arrays.equals(store.read("my-user"), bytes("recreated")));
+    }
+
+    @Test
+    public void testNotifyChanges() {
+        store.notifyChanges("users/my-user", bytes("{}"));
+        assertThat(store.exists("/config/changes/config_change_0000000000"), is(true));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import org.apache.zookeeper.AsyncCallback;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
+import org.apache.zookeeper.ZooKeeper;
+import org.apache.zookeeper.data.Stat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ZkUserConfigStoreTest {
+
+    private static final String USER_PATH = ZkUserConfigStore.USERS_PATH + "/my-user";
+
+    /** The znodes under /config/users and their data */
+    private final Map<String, byte[]> znodes = new ConcurrentHashMap<>();
+    private final AtomicLong zxid = new AtomicLong();
+    private ZooKeeper zk;
+
+    @BeforeEach
+    public void setup() throws KeeperException, InterruptedException {
+        znodes.clear();
+        zk = mock(ZooKeeper.class);
+
+        when(zk.exists(anyString(), anyBoolean())).thenReturn(new Stat());
+
+        doAnswer(invocation -> {
+            String path = invocation.getArgument(0);
+            znodes.put(path.substring(ZkUserConfigStore.USERS_PATH.length() + 1), invocation.getArgument(1));
+            invocation.<Stat>getArgument(4).setMzxid(zxid.incrementAndGet());
+            return path;
+        }).when(zk).create(anyString(), any(byte[].class), anyList(), any(CreateMode.class), any(Stat.class));
+
+        doAnswer(invocation -> {
+            invocation.<AsyncCallback.ChildrenCallback>getArgument(2)
+                    .processResult(KeeperException.Code.OK.intValue(), invocation.getArgument(0), null, new ArrayList<>(znodes.keySet()));
+            return null;
+        }).when(zk).getChildren(anyString(), any(Watcher.class), any(AsyncCallback.ChildrenCallback.class), isNull());
+
+        doAnswer(invocation -> {
+            String path = invocation.getArgument(0);
+            byte[] data = znodes.get(path.substring(ZkUserConfigStore.USERS_PATH.length() + 1));
+            Stat stat = new Stat();
+            stat.setMzxid(zxid.incrementAndGet());
+            invocation.<AsyncCallback.DataCallback>getArgument(2)
+                    .processResult(data != null ? KeeperException.Code.OK.intValue() : KeeperException.Code.NONODE.intValue(), path, null, data, stat);
+            return null;
+        }).when(zk).getData(anyString(), any(Watcher.class), any(AsyncCallback.DataCallback.class), isNull());
+    }
+
+    private ZkUserConfigStore store() {
+        return new ZkUserConfigStore("my-zookeeper:2181", watcher -> {
+            watcher.process(new WatchedEvent(Watcher.Event.EventType.None, Watcher.Event.KeeperState.SyncConnected, null));
+            return zk;
+        });
+    }
+
+    @Test
+    public void testCreatedUserIsWatched() {
+        ZkUserConfigStore store = store();
+
+        store.create("my-user", bytes("created"));
+        assertThat(store.read("my-user"), is(bytes("created")));
+
+        // The users watch skips the cached users, so the created one has to be watched on its own
+        ArgumentCaptor<Watcher> watcher = ArgumentCaptor.forClass(Watcher.class);
+        verify(zk).getData(eq(USER_PATH), watcher.capture(), any(AsyncCallback.DataCallback.class), isNull());
+        assertThat(watcher.getValue(), is(notNullValue()));
+
+        // A change made by someone else is picked up
+        znodes.put("my-user", bytes("updated"));
+        watcher.getValue().process(new WatchedEvent(Watcher.Event.EventType.NodeDataChanged, Watcher.Event.KeeperState.SyncConnected, USER_PATH));
+        assertThat(store.read("my-user"), is(bytes("updated")));
+
+        znodes.remove("my-user");
+        watcher.getValue().process(new WatchedEvent(Watcher.Event.EventType.NodeDeleted, Watcher.Event.KeeperState.SyncConnected, USER_PATH));
+        assertThat(store.list().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testExistingUsersAreLoaded() {
+        znodes.put("my-user", bytes("my-config"));
+        znodes.put("my-other-user", bytes("my-other-config"));
+
+        ZkUserConfigStore store = store();
+
+        assertThat(store.list(), containsInAnyOrder("my-user", "my-other-user"));
+        assertThat(store.read("my-user"), is(bytes("my-config")));
+        assertThat(store.read("my-other-user"), is(bytes("my-other-config")));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}